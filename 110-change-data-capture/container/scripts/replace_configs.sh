@@ -67,3 +67,11 @@ fi
 if [[ "" != "$NG_HARNESS_MONGO_URI" ]]; then
   yq write -i $CONFIG_FILE ng-harness.uri  "$NG_HARNESS_MONGO_URI"
 fi
+
+if [[ "" != "$CHANGE_EVENT_BATCH_ENABLED" ]]; then
+  yq write -i $CONFIG_FILE change-event-batch.enabled "$CHANGE_EVENT_BATCH_ENABLED"
+fi
+
+if [[ "" != "$CHANGE_EVENT_BATCH_MAX_SIZE" ]]; then
+  yq write -i $CONFIG_FILE change-event-batch.maxBatchSize "$CHANGE_EVENT_BATCH_MAX_SIZE"
+fi
@@ -17,6 +17,7 @@ import io.harness.delegate.beans.DelegateTaskProgressResponse;
 import io.harness.govern.ProviderModule;
 import io.harness.health.HealthService;
 import io.harness.maintenance.MaintenanceController;
+import io.harness.metrics.MetricRegistryModule;
 import io.harness.mongo.AbstractMongoModule;
 import io.harness.mongo.MongoConfig;
 import io.harness.morphia.MorphiaModule;
@@ -28,6 +29,7 @@ import io.harness.serializer.PersistenceRegistrars;
 import io.harness.threading.ExecutorModule;
 import io.harness.threading.ThreadPool;
 
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
@@ -55,6 +57,7 @@ public class ChangeDataCaptureApplication extends Application<ChangeDataCaptureS
   public static final Store EVENTS_STORE = Store.builder().name(EVENTS_DB).build();
   public static final String CDC_DB = "change-data-capture";
   public static final Store CDC_STORE = Store.builder().name(CDC_DB).build();
+  private final MetricRegistry metricRegistry = new MetricRegistry();
 
   public static void main(String[] args) throws Exception {
     log.info("Starting Change Data Capture Application...");
@@ -112,10 +115,12 @@ public class ChangeDataCaptureApplication extends Application<ChangeDataCaptureS
     });
 
     modules.add(MorphiaModule.getInstance());
+    modules.add(new MetricRegistryModule(metricRegistry));
     modules.add(new ChangeDataCaptureModule(changeDataCaptureServiceConfig));
 
     Injector injector = Guice.createInjector(modules);
     registerStores(changeDataCaptureServiceConfig, injector);
+    injector.getInstance(ChangeEventMetrics.class).register();
     registerManagedBeans(environment, injector);
     registerResources(environment, injector);
     registerHealthCheck(environment, injector);
@@ -36,6 +36,8 @@ public class ChangeDataCaptureServiceConfig extends Configuration {
   @JsonProperty("timescaledb") private TimeScaleDBConfig timeScaleDBConfig;
   @JsonProperty("mongotags") private MongoTagsConfig mongoTagsConfig = MongoTagsConfig.builder().build();
   @JsonProperty("gcp-project-id") private String gcpProjectId;
+  @JsonProperty("change-event-batch")
+  private ChangeEventBatchConfig changeEventBatchConfig = ChangeEventBatchConfig.builder().build();
 
   public static Collection<Class<?>> getResourceClasses() {
     Reflections reflections = new Reflections(RESOURCE_PACKAGE);
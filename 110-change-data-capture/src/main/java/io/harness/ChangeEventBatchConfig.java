@@ -0,0 +1,31 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness;
+
+import static io.harness.annotations.dev.HarnessTeam.CE;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Micro-batching of the change events. When enabled the events are taken off the queue in batches, the events of a
+ * batch are grouped per entity class and partitioned by document id, and the resume token of an entity class is saved
+ * once per batch.
+ */
+@OwnedBy(CE)
+@Value
+@Builder
+public class ChangeEventBatchConfig {
+  @JsonProperty(defaultValue = "false") @Builder.Default private boolean enabled = false;
+  @JsonProperty(defaultValue = "500") @Builder.Default private int maxBatchSize = 500;
+  @JsonProperty(defaultValue = "100") @Builder.Default private long maxBatchWaitMillis = 100;
+  @JsonProperty(defaultValue = "8") @Builder.Default private int partitions = 8;
+}
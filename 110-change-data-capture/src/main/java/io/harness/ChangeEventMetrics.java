@@ -0,0 +1,42 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.metrics.HarnessMetricRegistry;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+@Singleton
+@OwnedBy(HarnessTeam.CE)
+public class ChangeEventMetrics {
+  static final String BATCH_SIZE = "cdc_change_event_batch_size";
+  static final String LAG_MILLIS = "cdc_change_event_lag_millis";
+  private static final String[] LABELS = {"entity"};
+
+  @Inject private HarnessMetricRegistry metricRegistry;
+
+  void register() {
+    metricRegistry.registerGaugeMetric(BATCH_SIZE, LABELS, "Change events of the entity in the last processed batch");
+    metricRegistry.registerGaugeMetric(
+        LAG_MILLIS, LABELS, "Time between the last processed change of the entity and its processing");
+  }
+
+  /**
+   * @param clusterTimeMillis time the last change of the batch happened, 0 if not known
+   */
+  void recordBatch(Class<?> entityClass, int batchSize, long clusterTimeMillis) {
+    String[] labelValues = {entityClass.getSimpleName()};
+    metricRegistry.recordGaugeValue(BATCH_SIZE, labelValues, batchSize);
+    if (clusterTimeMillis > 0) {
+      metricRegistry.recordGaugeValue(LAG_MILLIS, labelValues, System.currentTimeMillis() - clusterTimeMillis);
+    }
+  }
+}
@@ -29,6 +29,8 @@ import lombok.extern.slf4j.Slf4j;
 class ChangeEventProcessor {
   @Inject private Set<CDCEntity<?>> subscribedClasses;
   @Inject private WingsPersistence wingsPersistence;
+  @Inject private ChangeDataCaptureServiceConfig config;
+  @Inject private ChangeEventMetrics changeEventMetrics;
   private BlockingQueue<ChangeEvent<?>> changeEventQueue = new LinkedBlockingQueue<>(1000);
   private ExecutorService changeEventExecutorService =
       Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("primary-change-processor").build());
@@ -36,7 +38,8 @@ class ChangeEventProcessor {
 
   void startProcessingChangeEvents() {
     ChangeEventProcessorTask changeEventProcessorTask =
-        new ChangeEventProcessorTask(subscribedClasses, changeEventQueue, wingsPersistence);
+        new ChangeEventProcessorTask(subscribedClasses, changeEventQueue, wingsPersistence,
+            config.getChangeEventBatchConfig(), changeEventMetrics);
     changeEventProcessorTaskFuture = changeEventExecutorService.submit(changeEventProcessorTask);
   }
 
@@ -21,7 +21,11 @@ import software.wings.dl.WingsPersistence;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
@@ -30,6 +34,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.bouncycastle.util.Strings;
 import org.mongodb.morphia.query.Query;
@@ -42,12 +47,16 @@ public class ChangeEventProcessorTask implements Runnable {
   private Set<CDCEntity<?>> cdcEntities;
   private BlockingQueue<ChangeEvent<?>> changeEventQueue;
   private WingsPersistence wingsPersistence;
+  private ChangeEventBatchConfig batchConfig;
+  private ChangeEventMetrics changeEventMetrics;
 
   ChangeEventProcessorTask(Set<CDCEntity<?>> cdcEntities, BlockingQueue<ChangeEvent<?>> changeEventQueue,
-      WingsPersistence wingsPersistence) {
+      WingsPersistence wingsPersistence, ChangeEventBatchConfig batchConfig, ChangeEventMetrics changeEventMetrics) {
     this.cdcEntities = cdcEntities;
     this.changeEventQueue = changeEventQueue;
     this.wingsPersistence = wingsPersistence;
+    this.batchConfig = batchConfig;
+    this.changeEventMetrics = changeEventMetrics;
   }
 
   @Override
@@ -59,7 +68,8 @@ public class ChangeEventProcessorTask implements Runnable {
       while (isRunningSuccessfully) {
         ChangeEvent<?> changeEvent = changeEventQueue.poll(Integer.MAX_VALUE, TimeUnit.MINUTES);
         if (changeEvent != null) {
-          isRunningSuccessfully = processChange(changeEvent);
+          isRunningSuccessfully =
+              batchConfig.isEnabled() ? processChanges(takeBatch(changeEvent)) : processChange(changeEvent);
         }
       }
     } catch (InterruptedException e) {
@@ -78,6 +88,13 @@ public class ChangeEventProcessorTask implements Runnable {
                    changeEvent, Strings.toLowerCase(changeDataCapture.table()), changeDataCapture.fields());
   }
 
+  private Callable<Boolean> getProcessChangeEventsTask(
+      ChangeHandler changeHandler, List<ChangeEvent<?>> changeEvents, ChangeDataCapture changeDataCapture) {
+    return ()
+               -> changeHandler.handleChanges(
+                   changeEvents, Strings.toLowerCase(changeDataCapture.table()), changeDataCapture.fields());
+  }
+
   private boolean processChange(ChangeEvent<?> changeEvent) {
     List<Future<Boolean>> processChangeEventTaskFutures = new ArrayList<>();
     Class<? extends PersistentEntity> clazz = changeEvent.getEntityType();
@@ -94,6 +111,95 @@ public class ChangeEventProcessorTask implements Runnable {
       }
     }
 
+    if (!allHandled(processChangeEventTaskFutures)) {
+      log.error("Could not process changeEvent {}", changeEvent.toString());
+      return false;
+    }
+
+    boolean isSaved = saveCDCStateEntityToken(clazz, changeEvent.getToken());
+    if (!isSaved) {
+      log.error("Could not save token. ChangeEvent {} could not be processed for entity {}", changeEvent.toString(),
+          clazz.getCanonicalName());
+    } else {
+      changeEventMetrics.recordBatch(clazz, 1, changeEvent.getClusterTimeMillis());
+    }
+    return isSaved;
+  }
+
+  /**
+   * Takes the events queued after the first one, waiting up to the max batch wait for the batch to fill up.
+   */
+  private List<ChangeEvent<?>> takeBatch(ChangeEvent<?> first) throws InterruptedException {
+    List<ChangeEvent<?>> batch = new ArrayList<>(batchConfig.getMaxBatchSize());
+    batch.add(first);
+    long deadline = System.currentTimeMillis() + batchConfig.getMaxBatchWaitMillis();
+    while (batch.size() < batchConfig.getMaxBatchSize()) {
+      changeEventQueue.drainTo(batch, batchConfig.getMaxBatchSize() - batch.size());
+      long waitMillis = deadline - System.currentTimeMillis();
+      if (batch.size() >= batchConfig.getMaxBatchSize() || waitMillis <= 0) {
+        break;
+      }
+      ChangeEvent<?> changeEvent = changeEventQueue.poll(waitMillis, TimeUnit.MILLISECONDS);
+      if (changeEvent == null) {
+        break;
+      }
+      batch.add(changeEvent);
+    }
+    return batch;
+  }
+
+  /**
+   * Hands the events of each entity class to its handlers partitioned by the partition key of the handler, so the
+   * changes of a row are applied in order while the partitions are applied concurrently. The token of an entity class
+   * is saved once all the events of the batch are handled.
+   */
+  private boolean processChanges(List<ChangeEvent<?>> changeEvents) {
+    Map<Class<? extends PersistentEntity>, List<ChangeEvent<?>>> changeEventsByClass = changeEvents.stream().collect(
+        Collectors.groupingBy(ChangeEvent::getEntityType, LinkedHashMap::new, Collectors.toList()));
+
+    List<Future<Boolean>> processChangeEventTaskFutures = new ArrayList<>();
+    changeEventsByClass.forEach((clazz, classChangeEvents) -> {
+      ChangeDataCapture[] dataCaptures = clazz.getAnnotationsByType(ChangeDataCapture.class);
+      for (CDCEntity<?> cdcEntity : cdcEntities) {
+        if (cdcEntity.getSubscriptionEntity().equals(clazz)) {
+          for (ChangeDataCapture changeDataCapture : dataCaptures) {
+            ChangeHandler changeHandler = cdcEntity.getChangeHandler(changeDataCapture.handler());
+            for (List<ChangeEvent<?>> partition : partition(classChangeEvents, changeHandler)) {
+              processChangeEventTaskFutures.add(
+                  executorService.submit(getProcessChangeEventsTask(changeHandler, partition, changeDataCapture)));
+            }
+          }
+        }
+      }
+    });
+
+    if (!allHandled(processChangeEventTaskFutures)) {
+      log.error("Could not process batch of {} change events", changeEvents.size());
+      return false;
+    }
+
+    for (Map.Entry<Class<? extends PersistentEntity>, List<ChangeEvent<?>>> entry : changeEventsByClass.entrySet()) {
+      ChangeEvent<?> lastChangeEvent = entry.getValue().get(entry.getValue().size() - 1);
+      if (!saveCDCStateEntityToken(entry.getKey(), lastChangeEvent.getToken())) {
+        log.error("Could not save token. Batch of {} change events could not be processed for entity {}",
+            entry.getValue().size(), entry.getKey().getCanonicalName());
+        return false;
+      }
+      changeEventMetrics.recordBatch(entry.getKey(), entry.getValue().size(), lastChangeEvent.getClusterTimeMillis());
+    }
+    return true;
+  }
+
+  private Collection<List<ChangeEvent<?>>> partition(List<ChangeEvent<?>> changeEvents, ChangeHandler changeHandler) {
+    return changeEvents.stream()
+        .collect(Collectors.groupingBy(changeEvent
+            -> Math.floorMod(
+                Objects.hashCode(changeHandler.getPartitionKey(changeEvent)), batchConfig.getPartitions()),
+            LinkedHashMap::new, Collectors.toList()))
+        .values();
+  }
+
+  private boolean allHandled(List<Future<Boolean>> processChangeEventTaskFutures) {
     for (Future<Boolean> processChangeEventFuture : processChangeEventTaskFutures) {
       boolean isChangeHandled = false;
       try {
@@ -105,17 +211,10 @@ public class ChangeEventProcessorTask implements Runnable {
         log.error("Change event thread interrupted due to exception", e.getCause());
       }
       if (!isChangeHandled) {
-        log.error("Could not process changeEvent {}", changeEvent.toString());
         return false;
       }
     }
-
-    boolean isSaved = saveCDCStateEntityToken(clazz, changeEvent.getToken());
-    if (!isSaved) {
-      log.error("Could not save token. ChangeEvent {} could not be processed for entity {}", changeEvent.toString(),
-          clazz.getCanonicalName());
-    }
-    return isSaved;
+    return true;
   }
 
   private boolean saveCDCStateEntityToken(Class<? extends PersistentEntity> sourceClass, String token) {
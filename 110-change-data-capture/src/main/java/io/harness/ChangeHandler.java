@@ -11,7 +11,31 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.changestreamsframework.ChangeEvent;
 
+import java.util.List;
+
 @OwnedBy(HarnessTeam.CE)
 public interface ChangeHandler {
   boolean handleChange(ChangeEvent<?> changeEvent, String tableName, String[] fields);
+
+  /**
+   * Handles changes of a single entity class. The changes with the same {@link #getPartitionKey} are in the order they
+   * happened and are never split across concurrent calls.
+   */
+  default boolean handleChanges(List<ChangeEvent<?>> changeEvents, String tableName, String[] fields) {
+    for (ChangeEvent<?> changeEvent : changeEvents) {
+      if (!handleChange(changeEvent, tableName, fields)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Changes of an entity class with the same key are handled in order by one call of {@link #handleChanges}. Handlers
+   * writing rows keyed by something else than the document id return that key, changes of different entity classes
+   * are handled concurrently whatever their keys.
+   */
+  default String getPartitionKey(ChangeEvent<?> changeEvent) {
+    return changeEvent.getUuid();
+  }
 }
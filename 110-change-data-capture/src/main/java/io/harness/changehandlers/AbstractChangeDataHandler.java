@@ -11,17 +11,23 @@ import io.harness.ChangeHandler;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.changestreamsframework.ChangeEvent;
+import io.harness.changestreamsframework.ChangeType;
 import io.harness.timescaledb.TimeScaleDBService;
 
 import com.google.inject.Inject;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 
 @OwnedBy(HarnessTeam.CDC)
@@ -33,19 +39,8 @@ public abstract class AbstractChangeDataHandler implements ChangeHandler {
   @Override
   public boolean handleChange(ChangeEvent<?> changeEvent, String tableName, String[] fields) {
     log.info("In TimeScale Change Handler: {}, {}, {}", changeEvent, tableName, fields);
-    Map<String, String> columnValueMapping = null;
-    List<String> primaryKeys = null;
-    try {
-      primaryKeys = getPrimaryKeys();
-      columnValueMapping = getColumnValueMapping(changeEvent, fields);
-    } catch (Exception e) {
-      log.info(String.format("Not able to parse this event %s", changeEvent));
-    }
-
-    if (!tableName.equals("pipeline_execution_summary_ci") && columnValueMapping != null) {
-      columnValueMapping.remove("moduleinfo_is_private");
-      columnValueMapping.remove("pr");
-    }
+    List<String> primaryKeys = getPrimaryKeys();
+    Map<String, String> columnValueMapping = columnValueMapping(changeEvent, tableName, fields);
 
     switch (changeEvent.getChangeType()) {
       case INSERT:
@@ -75,12 +70,118 @@ public abstract class AbstractChangeDataHandler implements ChangeHandler {
     return str.replace("'", "''");
   }
 
+  /**
+   * Applies the changes run by run, a run being consecutive changes of the same type. The rows of a run are written
+   * with a statement per set of columns, the rows of a statement that fails are written one by one.
+   */
+  @Override
+  public boolean handleChanges(List<ChangeEvent<?>> changeEvents, String tableName, String[] fields) {
+    log.info("In TimeScale Change Handler: {} changes, {}, {}", changeEvents.size(), tableName, fields);
+    int start = 0;
+    while (start < changeEvents.size()) {
+      ChangeType changeType = changeEvents.get(start).getChangeType();
+      int end = start + 1;
+      while (end < changeEvents.size() && changeEvents.get(end).getChangeType() == changeType) {
+        end++;
+      }
+      List<ChangeEvent<?>> run = changeEvents.subList(start, end);
+      switch (changeType) {
+        case INSERT:
+          insertRows(tableName, rows(run, tableName, fields, true));
+          break;
+        case UPDATE:
+          upsertRows(tableName, rows(run, tableName, fields, false));
+          break;
+        case DELETE:
+          deleteRows(tableName, run.stream().map(ChangeEvent::getUuid).collect(Collectors.toList()));
+          break;
+        default:
+          run.forEach(changeEvent -> handleChange(changeEvent, tableName, fields));
+      }
+      start = end;
+    }
+    return true;
+  }
+
+  /**
+   * @param firstWins true to keep the first change of a row, as a later insert of the row fails
+   * @return rows without blank values grouped by their set of columns, a single row per primary key
+   */
+  private Collection<List<Map<String, String>>> rows(
+      List<ChangeEvent<?>> changeEvents, String tableName, String[] fields, boolean firstWins) {
+    List<String> primaryKeys = getPrimaryKeys();
+    Map<Object, Map<String, String>> rowsByKey = new LinkedHashMap<>();
+    for (ChangeEvent<?> changeEvent : changeEvents) {
+      Map<String, String> row = columnValueMapping(changeEvent, tableName, fields);
+      if (row == null) {
+        continue;
+      }
+      row.values().removeIf(value -> value == null || value.equals(""));
+      if (row.isEmpty()) {
+        continue;
+      }
+      List<String> primaryKey = primaryKeys.stream().map(row::get).collect(Collectors.toList());
+      // rows without a complete primary key are kept apart
+      Object key = primaryKey.contains(null) ? new Object() : primaryKey;
+      if (!firstWins) {
+        rowsByKey.remove(key);
+      }
+      rowsByKey.putIfAbsent(key, row);
+    }
+    return rowsByKey.values()
+        .stream()
+        .collect(Collectors.groupingBy(row -> new TreeSet<>(row.keySet()), LinkedHashMap::new, Collectors.toList()))
+        .values();
+  }
+
+  private void insertRows(String tableName, Collection<List<Map<String, String>>> rowGroups) {
+    for (List<Map<String, String>> rows : rowGroups) {
+      if (rows.size() == 1 || !dbOperation(insertSQL(tableName, rows), 1)) {
+        rows.forEach(row -> dbOperation(insertSQL(tableName, row)));
+      }
+    }
+  }
+
+  private void upsertRows(String tableName, Collection<List<Map<String, String>>> rowGroups) {
+    List<String> primaryKeys = getPrimaryKeys();
+    for (List<Map<String, String>> rows : rowGroups) {
+      if (!dbOperation(upsertSQL(tableName, rows, primaryKeys), 1)) {
+        rows.forEach(row -> dbOperation(upsertSQL(tableName, Collections.singletonList(row), primaryKeys)));
+      }
+    }
+  }
+
+  private void deleteRows(String tableName, List<String> ids) {
+    if (!dbOperation(deleteSQL(tableName, "id", ids), 1)) {
+      ids.forEach(id -> dbOperation(deleteSQL(tableName, Collections.singletonMap("id", id))));
+    }
+  }
+
+  private Map<String, String> columnValueMapping(ChangeEvent<?> changeEvent, String tableName, String[] fields) {
+    Map<String, String> columnValueMapping = null;
+    try {
+      columnValueMapping = getColumnValueMapping(changeEvent, fields);
+    } catch (Exception e) {
+      log.info(String.format("Not able to parse this event %s", changeEvent));
+    }
+
+    if (!tableName.equals("pipeline_execution_summary_ci") && columnValueMapping != null) {
+      columnValueMapping.remove("moduleinfo_is_private");
+      columnValueMapping.remove("pr");
+    }
+    return columnValueMapping;
+  }
+
   public boolean dbOperation(String query) {
+    return dbOperation(query, MAX_RETRY_COUNT);
+  }
+
+  private boolean dbOperation(String query, int maxRetryCount) {
     boolean successfulOperation = false;
     log.info("In dbOperation, Query: {}", query);
     if (timeScaleDBService.isValid()) {
       int retryCount = 0;
-      while (!successfulOperation && retryCount < MAX_RETRY_COUNT) {
+      while (!successfulOperation && retryCount < maxRetryCount) {
         try (Connection dbConnection = timeScaleDBService.getDBConnection();
              PreparedStatement statement = dbConnection.prepareStatement(query)) {
           statement.execute();
@@ -238,4 +339,44 @@ public abstract class AbstractChangeDataHandler implements ChangeHandler {
     // Returning the generated DELETE SQL Query as a String...
     return deleteSQLBuilder.toString();
   }
+
+  /**
+   * @param rows rows without blank values, all with the same columns
+   */
+  public static String insertSQL(String tableName, List<Map<String, String>> rows) {
+    List<String> columns = new ArrayList<>(rows.get(0).keySet());
+    StringBuilder insertSQLBuilder = new StringBuilder(2048);
+    insertSQLBuilder.append(String.format("INSERT INTO %s (%s) VALUES", tableName, String.join(",", columns)));
+    for (Map<String, String> row : rows) {
+      insertSQLBuilder.append('(');
+      for (String column : columns) {
+        insertSQLBuilder.append(String.format("'%s',", escapeSql(row.get(column))));
+      }
+      insertSQLBuilder.setCharAt(insertSQLBuilder.length() - 1, ')');
+      insertSQLBuilder.append(',');
+    }
+    return insertSQLBuilder.substring(0, insertSQLBuilder.length() - 1);
+  }
+
+  /**
+   * @param rows rows without blank values, all with the same columns and each with a different primary key
+   */
+  public static String upsertSQL(String tableName, List<Map<String, String>> rows, List<String> primaryKeys) {
+    StringBuilder upsertSQLBuilder = new StringBuilder(insertSQL(tableName, rows));
+    upsertSQLBuilder.append(" ON CONFLICT (").append(String.join(",", primaryKeys)).append(") Do UPDATE SET ");
+    for (String column : rows.get(0).keySet()) {
+      upsertSQLBuilder.append(String.format("%s=EXCLUDED.%s,", column, column));
+    }
+    return upsertSQLBuilder.substring(0, upsertSQLBuilder.length() - 1);
+  }
+
+  public static String deleteSQL(String tableName, String column, Collection<String> values) {
+    StringBuilder deleteSQLBuilder = new StringBuilder(2048);
+    deleteSQLBuilder.append(String.format("DELETE FROM %s WHERE %s IN (", tableName, column));
+    for (String value : values) {
+      deleteSQLBuilder.append(String.format("'%s',", escapeSql(value)));
+    }
+    deleteSQLBuilder.setCharAt(deleteSQLBuilder.length() - 1, ')');
+    return deleteSQLBuilder.toString();
+  }
 }
@@ -63,6 +63,16 @@ public class TagsInfoCDChangeDataHandler extends AbstractChangeDataHandler {
     return asList("id");
   }
 
+  /**
+   * The rows are keyed by the identifier of the tagged entity, deletes have no document and keep the document id.
+   */
+  @Override
+  public String getPartitionKey(ChangeEvent<?> changeEvent) {
+    DBObject dbObject = changeEvent.getFullDocument();
+    String parentIdentifier = dbObject == null ? null : getParentIdentifier(changeEvent, dbObject);
+    return parentIdentifier == null ? changeEvent.getUuid() : parentIdentifier;
+  }
+
   private String getParentIdentifier(ChangeEvent<?> changeEvent, DBObject dbObject) {
     if (changeEvent.getEntityType() == PipelineEntity.class && dbObject.get(PipelineEntityKeys.identifier) != null) {
       return dbObject.get(PipelineEntityKeys.identifier).toString();
@@ -11,6 +11,7 @@ import io.harness.ChangeHandler;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.changestreamsframework.ChangeEvent;
+import io.harness.changestreamsframework.ChangeType;
 import io.harness.timescaledb.TimeScaleDBService;
 
 import com.google.inject.Inject;
@@ -19,9 +20,15 @@ import com.mongodb.DBObject;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.bouncycastle.util.Strings;
 
@@ -52,12 +59,60 @@ public class TimeScaleDBChangeHandler implements ChangeHandler {
     return true;
   }
 
+  /**
+   * Inserts and deletes the rows of consecutive inserts or deletes with a single statement, updates are applied one by
+   * one. The rows of a statement that fails are written one by one.
+   */
+  @Override
+  public boolean handleChanges(List<ChangeEvent<?>> changeEvents, String tableName, String[] fields) {
+    log.info("In TimeScale Change Handler: {} changes, {}, {}", changeEvents.size(), tableName, fields);
+    int start = 0;
+    while (start < changeEvents.size()) {
+      ChangeType changeType = changeEvents.get(start).getChangeType();
+      int end = start + 1;
+      while (end < changeEvents.size() && changeEvents.get(end).getChangeType() == changeType) {
+        end++;
+      }
+      List<ChangeEvent<?>> run = changeEvents.subList(start, end);
+      if (changeType == ChangeType.INSERT && run.size() > 1) {
+        insertRows(tableName, run, fields);
+      } else if (changeType == ChangeType.DELETE && run.size() > 1) {
+        List<String> uuids = run.stream().map(ChangeEvent::getUuid).collect(Collectors.toList());
+        if (!dbOperation(AbstractChangeDataHandler.deleteSQL(tableName, "UUID", uuids), 1)) {
+          run.forEach(changeEvent -> handleChange(changeEvent, tableName, fields));
+        }
+      } else {
+        run.forEach(changeEvent -> handleChange(changeEvent, tableName, fields));
+      }
+      start = end;
+    }
+    return true;
+  }
+
+  private void insertRows(String tableName, List<ChangeEvent<?>> changeEvents, String[] fields) {
+    Map<Set<String>, List<Map<String, String>>> rowsByColumns = new LinkedHashMap<>();
+    for (ChangeEvent<?> changeEvent : changeEvents) {
+      Map<String, String> row = getColumnValueMapping(changeEvent, fields);
+      row.values().removeIf(value -> value == null || value.equals(""));
+      rowsByColumns.computeIfAbsent(new TreeSet<>(row.keySet()), columns -> new ArrayList<>()).add(row);
+    }
+    for (List<Map<String, String>> rows : rowsByColumns.values()) {
+      if (rows.size() == 1 || !dbOperation(AbstractChangeDataHandler.insertSQL(tableName, rows), 1)) {
+        rows.forEach(row -> dbOperation(insertSQL(tableName, row)));
+      }
+    }
+  }
+
   public boolean dbOperation(String query) {
+    return dbOperation(query, MAX_RETRY_COUNT);
+  }
+
+  private boolean dbOperation(String query, int maxRetryCount) {
     boolean successfulOperation = false;
     log.info("In dbOperation, Query: {}", query);
     if (timeScaleDBService.isValid()) {
       int retryCount = 0;
-      while (!successfulOperation && retryCount < MAX_RETRY_COUNT) {
+      while (!successfulOperation && retryCount < maxRetryCount) {
         try (Connection dbConnection = timeScaleDBService.getDBConnection();
              PreparedStatement statement = dbConnection.prepareStatement(query)) {
           statement.execute();
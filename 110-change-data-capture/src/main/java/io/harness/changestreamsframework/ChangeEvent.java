@@ -30,6 +30,8 @@ public class ChangeEvent<T extends PersistentEntity> {
   @NonNull private String uuid;
   private DBObject fullDocument;
   private DBObject changes;
+  // time the change happened on the source cluster, 0 if not known
+  private long clusterTimeMillis;
 
   public boolean isChangeFor(Class<? extends PersistentEntity> entityClass) {
     return this.entityType.isAssignableFrom(entityClass);
@@ -17,6 +17,7 @@ import com.mongodb.BasicDBObject;
 import com.mongodb.DBObject;
 import com.mongodb.MongoClient;
 import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import java.util.concurrent.TimeUnit;
 import org.bson.BsonDocument;
 import org.bson.BsonDocumentReader;
 import org.bson.Document;
@@ -92,6 +93,9 @@ class ChangeEventFactory {
     changeEventBuilder.changeType(changeType);
     changeEventBuilder.token(getResumeTokenAsJson(changeStreamDocument));
     changeEventBuilder.uuid(getUuidfromChangeStream(changeStreamDocument));
+    if (changeStreamDocument.getClusterTime() != null) {
+      changeEventBuilder.clusterTimeMillis(TimeUnit.SECONDS.toMillis(changeStreamDocument.getClusterTime().getTime()));
+    }
 
     ChangeEvent<T> changeEvent;
     switch (changeType) {
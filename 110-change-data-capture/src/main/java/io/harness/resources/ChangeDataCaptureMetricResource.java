@@ -0,0 +1,48 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.resources;
+
+import static io.harness.annotations.dev.HarnessTeam.CE;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.metrics.HarnessMetricRegistry;
+import io.harness.security.annotations.PublicApi;
+
+import com.codahale.metrics.annotation.ExceptionMetered;
+import com.codahale.metrics.annotation.Timed;
+import com.google.inject.Inject;
+import io.prometheus.client.exporter.common.TextFormat;
+import io.swagger.annotations.Api;
+import java.io.IOException;
+import java.io.StringWriter;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+/**
+ * Exposes the metrics of the change data capture service to Prometheus.
+ */
+@Api("metrics")
+@Path("/metrics")
+@Produces(MediaType.TEXT_PLAIN)
+@PublicApi
+@OwnedBy(CE)
+public class ChangeDataCaptureMetricResource {
+  @Inject private HarnessMetricRegistry metricRegistry;
+
+  @GET
+  @Timed
+  @ExceptionMetered
+  public String get() throws IOException {
+    try (StringWriter writer = new StringWriter()) {
+      TextFormat.write004(writer, metricRegistry.getMetric());
+      return writer.toString();
+    }
+  }
+}
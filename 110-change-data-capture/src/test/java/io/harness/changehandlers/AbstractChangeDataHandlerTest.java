@@ -0,0 +1,58 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.changehandlers;
+
+import static io.harness.rule.OwnerRule.ATHARVA;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Collections;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.CDC)
+public class AbstractChangeDataHandlerTest extends CategoryTest {
+  @Test
+  @Owner(developers = ATHARVA)
+  @Category(UnitTests.class)
+  public void testInsertSQLWritesAllRows() {
+    assertThat(AbstractChangeDataHandler.insertSQL("services",
+                   asList(ImmutableMap.of("id", "s1", "name", "first"), ImmutableMap.of("id", "s2", "name", "it's"))))
+        .isEqualTo("INSERT INTO services (id,name) VALUES('s1','first'),('s2','it''s')");
+  }
+
+  @Test
+  @Owner(developers = ATHARVA)
+  @Category(UnitTests.class)
+  public void testUpsertSQLUpdatesAllColumnsOnConflict() {
+    assertThat(AbstractChangeDataHandler.upsertSQL("executions",
+                   asList(ImmutableMap.of("id", "e1", "startts", "10", "status", "RUNNING"),
+                       ImmutableMap.of("id", "e2", "startts", "20", "status", "SUCCESS")),
+                   asList("id", "startts")))
+        .isEqualTo("INSERT INTO executions (id,startts,status) VALUES('e1','10','RUNNING'),('e2','20','SUCCESS')"
+            + " ON CONFLICT (id,startts) Do UPDATE SET id=EXCLUDED.id,startts=EXCLUDED.startts,status=EXCLUDED.status");
+  }
+
+  @Test
+  @Owner(developers = ATHARVA)
+  @Category(UnitTests.class)
+  public void testDeleteSQLDeletesAllValues() {
+    assertThat(AbstractChangeDataHandler.deleteSQL("services", "id", asList("s1", "s'2")))
+        .isEqualTo("DELETE FROM services WHERE id IN ('s1','s''2')");
+    assertThat(AbstractChangeDataHandler.deleteSQL("services", "id", Collections.singletonList("s1")))
+        .isEqualTo("DELETE FROM services WHERE id IN ('s1')");
+  }
+}
@@ -727,6 +727,30 @@ public class DelegateModule extends AbstractModule {
         4, new ThreadFactoryBuilder().setNameFormat("task-poll-%d").setPriority(Thread.MAX_PRIORITY).build());
   }
 
+  /*
+   * Creates and return ScheduledExecutorService object, which checks all the log streams of the delegate tasks for
+   * lines to ship. The log lines are pushed to the log service by logStreamingPushExecutor.
+   */
+  @Provides
+  @Singleton
+  @Named("logStreamingExecutor")
+  public ScheduledExecutorService logStreamingExecutor() {
+    return new ScheduledThreadPoolExecutor(
+        1, new ThreadFactoryBuilder().setNameFormat("log-streaming-%d").setPriority(Thread.NORM_PRIORITY).build());
+  }
+
+  /*
+   * Creates and return ExecutorService object, which is used for pushing the log lines of the delegate tasks to the
+   * log service.
+   */
+  @Provides
+  @Singleton
+  @Named("logStreamingPushExecutor")
+  public ExecutorService logStreamingPushExecutor() {
+    return ThreadPool.create(1, 20, 5, TimeUnit.SECONDS,
+        new ThreadFactoryBuilder().setNameFormat("log-streaming-push-%d").setPriority(Thread.NORM_PRIORITY).build());
+  }
+
   /*
    * Creates and return ExecutorService object, which can be used for performing low priority activities.
    * Currently, this is being used for performing graceful stop.
@@ -7,12 +7,14 @@
 
 package io.harness.delegate.metrics;
 
+import static io.harness.delegate.metrics.DelegateMetricsConstants.DELEGATE_AGENT_COUNTER_METRIC_MAP;
 import static io.harness.delegate.metrics.DelegateMetricsConstants.DELEGATE_AGENT_METRIC_MAP;
 
 import io.harness.metrics.HarnessMetricRegistry;
 
 import com.codahale.metrics.annotation.ExceptionMetered;
 import com.codahale.metrics.annotation.Timed;
+import com.google.common.collect.Sets;
 import com.google.inject.Inject;
 import io.prometheus.client.exporter.common.TextFormat;
 import io.swagger.annotations.Api;
@@ -38,7 +40,9 @@ public class DelegateAgentMetricResource {
   @ExceptionMetered
   public String get() throws IOException {
     try (StringWriter writer = new StringWriter()) {
-      TextFormat.write004(writer, metricRegistry.getMetric(DELEGATE_AGENT_METRIC_MAP.keySet()));
+      TextFormat.write004(writer,
+          metricRegistry.getMetric(
+              Sets.union(DELEGATE_AGENT_METRIC_MAP.keySet(), DELEGATE_AGENT_COUNTER_METRIC_MAP.keySet())));
       writer.flush();
       return writer.getBuffer().toString();
     }
@@ -7,6 +7,7 @@
 
 package io.harness.delegate.metrics;
 
+import static io.harness.delegate.metrics.DelegateMetricsConstants.DELEGATE_AGENT_COUNTER_METRIC_MAP;
 import static io.harness.delegate.metrics.DelegateMetricsConstants.DELEGATE_AGENT_METRIC_MAP;
 
 import io.harness.delegate.service.DelegateAgentService;
@@ -47,5 +48,8 @@ public class DelegateAgentMetrics {
     DELEGATE_AGENT_METRIC_MAP.forEach((metricName, metricDetails)
                                           -> metricRegistry.registerGaugeMetric(
                                               metricName, metricDetails.getLabels(), metricDetails.getDescription()));
+    DELEGATE_AGENT_COUNTER_METRIC_MAP.forEach((metricName, metricDetails)
+                                                  -> metricRegistry.registerCounterMetric(metricName,
+                                                      metricDetails.getLabels(), metricDetails.getDescription()));
   }
 }
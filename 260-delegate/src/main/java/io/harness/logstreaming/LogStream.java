@@ -0,0 +1,197 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+import static java.lang.System.currentTimeMillis;
+
+import io.harness.annotations.dev.HarnessModule;
+import io.harness.annotations.dev.TargetModule;
+import io.harness.network.SafeHttpCall;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded buffer of the log lines written to a single log key. Lines are added without locking, once the buffer is
+ * full further lines are dropped and counted. At most one flush of the stream runs at a time so the lines are pushed
+ * in the order they were written.
+ * <p/>
+ * The stream is registered with the {@link LogStreamingShipper} while it has lines to ship, the shipper drops it once
+ * it stays drained and idle.
+ */
+@Slf4j
+@TargetModule(HarnessModule._420_DELEGATE_AGENT)
+class LogStream {
+  static final int MAX_BATCH_SIZE = 500;
+  static final long MAX_BATCH_AGE_MS = 100;
+  static final int CAPACITY = 10000;
+
+  private final LogStreamingClient logStreamingClient;
+  private final String token;
+  private final String accountId;
+  @Getter private final String logKey;
+
+  private final Queue<LogLine> lines = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger size = new AtomicInteger();
+  private final AtomicBoolean flushing = new AtomicBoolean();
+  private final AtomicBoolean registered = new AtomicBoolean();
+  private final AtomicLong dropped = new AtomicLong();
+  private volatile long pendingSince;
+  private volatile long lastOfferAt;
+
+  LogStream(LogStreamingClient logStreamingClient, String token, String accountId, String logKey) {
+    this.logStreamingClient = logStreamingClient;
+    this.token = token;
+    this.accountId = accountId;
+    this.logKey = logKey;
+  }
+
+  /**
+   * @return false if the buffer is full and the line was dropped
+   */
+  boolean offer(LogLine logLine) {
+    int pending = size.incrementAndGet();
+    if (pending > CAPACITY) {
+      size.decrementAndGet();
+      dropped.incrementAndGet();
+      return false;
+    }
+    long now = currentTimeMillis();
+    if (pending == 1) {
+      pendingSince = now;
+    }
+    lastOfferAt = now;
+    lines.add(logLine);
+    return true;
+  }
+
+  boolean isBatchFull() {
+    return size.get() >= MAX_BATCH_SIZE;
+  }
+
+  /**
+   * A stream is due once it has a full batch or its oldest pending line waited for longer than the max batch age.
+   */
+  boolean isDue(long now) {
+    int pending = size.get();
+    return pending >= MAX_BATCH_SIZE || (pending > 0 && now - pendingSince >= MAX_BATCH_AGE_MS);
+  }
+
+  boolean isDrained() {
+    return size.get() == 0 && !flushing.get();
+  }
+
+  boolean isIdle(long now, long idleMillis) {
+    return isDrained() && now - lastOfferAt >= idleMillis;
+  }
+
+  /**
+   * @return false if the stream is already registered
+   */
+  boolean markRegistered() {
+    return !registered.get() && registered.compareAndSet(false, true);
+  }
+
+  void markUnregistered() {
+    registered.set(false);
+  }
+
+  /**
+   * @return number of lines dropped since the previous call
+   */
+  long takeDropped() {
+    return dropped.getAndSet(0);
+  }
+
+  /**
+   * Claims the stream for flushing, a claimed stream has to be flushed with {@link #flushClaimed()}.
+   *
+   * @return false if the stream is already being flushed
+   */
+  boolean claim() {
+    return flushing.compareAndSet(false, true);
+  }
+
+  void flush() {
+    if (claim()) {
+      flushClaimed();
+    }
+  }
+
+  /**
+   * Pushes all the pending lines in batches of at most {@link #MAX_BATCH_SIZE} lines.
+   */
+  void flushClaimed() {
+    try {
+      List<LogLine> batch;
+      while (!(batch = drain()).isEmpty()) {
+        try {
+          SafeHttpCall.executeWithExceptions(logStreamingClient.pushMessage(token, accountId, logKey, batch));
+        } catch (Exception ex) {
+          log.error("Unable to push message to log stream for account {} and key {}", accountId, logKey, ex);
+        }
+      }
+    } finally {
+      flushing.set(false);
+      synchronized (this) {
+        notifyAll();
+      }
+    }
+  }
+
+  /**
+   * Pushes the pending lines on the calling thread. A flush already running on another thread is waited for, and the
+   * lines written meanwhile are pushed after it.
+   *
+   * @return false if the lines were not pushed within the timeout
+   */
+  boolean drain(long timeoutMillis) {
+    long deadline = currentTimeMillis() + timeoutMillis;
+    while (true) {
+      flush();
+      synchronized (this) {
+        long remaining = deadline - currentTimeMillis();
+        if (isDrained() || remaining <= 0) {
+          return isDrained();
+        }
+        if (flushing.get()) {
+          log.debug("for {} the logs are not drained yet. sleeping...", logKey);
+          try {
+            wait(Math.min(100, remaining));
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return isDrained();
+          }
+        }
+      }
+    }
+  }
+
+  int pending() {
+    return size.get();
+  }
+
+  private List<LogLine> drain() {
+    List<LogLine> batch = new ArrayList<>(Math.min(size.get(), MAX_BATCH_SIZE));
+    LogLine logLine;
+    while (batch.size() < MAX_BATCH_SIZE && (logLine = lines.poll()) != null) {
+      batch.add(logLine);
+    }
+    if (!batch.isEmpty() && size.addAndGet(-batch.size()) > 0) {
+      pendingSince = currentTimeMillis();
+    }
+    return batch;
+  }
+}
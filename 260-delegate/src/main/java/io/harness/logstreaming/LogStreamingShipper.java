@@ -0,0 +1,143 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+import static io.harness.delegate.metrics.DelegateMetricsConstants.LOG_LINES_DROPPED;
+
+import static java.lang.System.currentTimeMillis;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+import io.harness.annotations.dev.HarnessModule;
+import io.harness.annotations.dev.TargetModule;
+import io.harness.metrics.HarnessMetricRegistry;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Ships the log lines of all the open log streams of the delegate from shared pools instead of a thread per task.
+ * A stream is flushed as soon as it has a full batch, otherwise once its oldest line waited for the max batch age.
+ * <p/>
+ * A single thread checks the streams every tick, the pushes to the log service block on the network so they run on a
+ * separate pool and never delay the tick. Streams which stay drained for {@link #IDLE_MS} are unregistered, the next
+ * line written to them registers them again.
+ */
+@Singleton
+@Slf4j
+@TargetModule(HarnessModule._420_DELEGATE_AGENT)
+public class LogStreamingShipper {
+  private static final long TICK_MS = 20;
+  private static final long IDLE_MS = TimeUnit.MINUTES.toMillis(1);
+  private static final String DELEGATE_NAME =
+      isNotBlank(System.getenv().get("DELEGATE_NAME")) ? System.getenv().get("DELEGATE_NAME") : "";
+
+  private final ScheduledExecutorService logStreamingExecutor;
+  private final ExecutorService logStreamingPushExecutor;
+  private final HarnessMetricRegistry metricRegistry;
+
+  private final Set<LogStream> streams = ConcurrentHashMap.newKeySet();
+  private final AtomicBoolean started = new AtomicBoolean();
+  private final AtomicLong droppedLines = new AtomicLong();
+
+  @Inject
+  public LogStreamingShipper(@Named("logStreamingExecutor") ScheduledExecutorService logStreamingExecutor,
+      @Named("logStreamingPushExecutor") ExecutorService logStreamingPushExecutor,
+      HarnessMetricRegistry metricRegistry) {
+    this.logStreamingExecutor = logStreamingExecutor;
+    this.logStreamingPushExecutor = logStreamingPushExecutor;
+    this.metricRegistry = metricRegistry;
+  }
+
+  /**
+   * Registers the stream unless it is registered already, cheap enough to be called for every written line.
+   */
+  void register(LogStream stream) {
+    if (!stream.markRegistered()) {
+      return;
+    }
+    streams.add(stream);
+    if (started.compareAndSet(false, true)) {
+      logStreamingExecutor.scheduleWithFixedDelay(this::ship, TICK_MS, TICK_MS, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  void unregister(LogStream stream) {
+    streams.remove(stream);
+    stream.markUnregistered();
+    recordDropped(stream.takeDropped());
+  }
+
+  /**
+   * Schedules a flush of the stream unless one is already running or scheduled.
+   */
+  void flushSoon(LogStream stream) {
+    if (stream.claim()) {
+      logStreamingPushExecutor.execute(stream::flushClaimed);
+    }
+  }
+
+  private void ship() {
+    ship(currentTimeMillis());
+  }
+
+  @VisibleForTesting
+  void ship(long now) {
+    try {
+      long dropped = 0;
+      for (LogStream stream : streams) {
+        dropped += stream.takeDropped();
+        if (stream.isDue(now)) {
+          flushSoon(stream);
+        } else if (stream.isIdle(now, IDLE_MS)) {
+          unregisterIdle(stream);
+        }
+      }
+      recordDropped(dropped);
+    } catch (Exception ex) {
+      log.error("Unable to ship log streams", ex);
+    }
+  }
+
+  @VisibleForTesting
+  long droppedLines() {
+    return droppedLines.get();
+  }
+
+  @VisibleForTesting
+  int registeredStreams() {
+    return streams.size();
+  }
+
+  private void unregisterIdle(LogStream stream) {
+    streams.remove(stream);
+    stream.markUnregistered();
+    // a line written meanwhile saw the stream still registered, so it is registered again here
+    if (!stream.isDrained()) {
+      register(stream);
+    }
+  }
+
+  private void recordDropped(long dropped) {
+    if (dropped == 0) {
+      return;
+    }
+    log.warn("Dropped {} log lines because the log stream buffers were full", dropped);
+    droppedLines.addAndGet(dropped);
+    metricRegistry.recordCounterInc(LOG_LINES_DROPPED, new String[] {DELEGATE_NAME}, dropped);
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+import static io.harness.delegate.metrics.DelegateMetricsConstants.LOG_LINES_DROPPED;
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyList;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.logging.LogLevel;
+import io.harness.metrics.HarnessMetricRegistry;
+import io.harness.rule.Owner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import retrofit2.Call;
+import retrofit2.Response;
+
+public class LogStreamingShipperTest extends CategoryTest {
+  private static final String ACCOUNT_ID = "ACCOUNT_ID";
+  private static final String TOKEN = "TOKEN";
+
+  private final LogStreamingClient logStreamingClient = mock(LogStreamingClient.class);
+  private final HarnessMetricRegistry metricRegistry = mock(HarnessMetricRegistry.class);
+  private final Map<String, List<LogLine>> pushedLines = new ConcurrentHashMap<>();
+  private final AtomicInteger pushes = new AtomicInteger();
+
+  private ScheduledExecutorService logStreamingExecutor;
+  private ExecutorService logStreamingPushExecutor;
+  private LogStreamingShipper logStreamingShipper;
+
+  @Before
+  public void setUp() throws Exception {
+    Call<Void> call = mock(Call.class);
+    when(call.execute()).thenReturn(Response.success(null));
+    when(logStreamingClient.openLogStream(eq(TOKEN), eq(ACCOUNT_ID), anyString())).thenReturn(call);
+    when(logStreamingClient.closeLogStream(eq(TOKEN), eq(ACCOUNT_ID), anyString(), eq(true))).thenReturn(call);
+    when(logStreamingClient.pushMessage(eq(TOKEN), eq(ACCOUNT_ID), anyString(), anyList())).thenAnswer(invocation -> {
+      pushes.incrementAndGet();
+      pushedLines.computeIfAbsent(invocation.getArgument(2), key -> Collections.synchronizedList(new ArrayList<>()))
+          .addAll(invocation.getArgument(3));
+      return call;
+    });
+    logStreamingExecutor = new ScheduledThreadPoolExecutor(1);
+    logStreamingPushExecutor = Executors.newFixedThreadPool(4);
+    logStreamingShipper = new LogStreamingShipper(logStreamingExecutor, logStreamingPushExecutor, metricRegistry);
+  }
+
+  @After
+  public void tearDown() {
+    logStreamingExecutor.shutdownNow();
+    logStreamingPushExecutor.shutdownNow();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldShipConcurrentStreamsInOrder() throws Exception {
+    int streams = 2000;
+    int linesPerStream = 600;
+    ExecutorService tasks = Executors.newFixedThreadPool(16);
+    try {
+      for (int i = 0; i < streams; i++) {
+        String suffix = "stream-" + i;
+        tasks.submit(() -> {
+          LogStreamingTaskClient client = taskClient();
+          client.openStream(suffix);
+          for (int line = 0; line < linesPerStream; line++) {
+            client.writeLogLine(LogLine.builder().level(LogLevel.INFO).message(String.valueOf(line)).build(), suffix);
+          }
+          client.closeStream(suffix);
+        });
+      }
+      tasks.shutdown();
+      assertThat(tasks.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+    } finally {
+      tasks.shutdownNow();
+    }
+
+    List<String> expected = IntStream.range(0, linesPerStream).mapToObj(String::valueOf).collect(Collectors.toList());
+    assertThat(pushedLines).hasSize(streams);
+    pushedLines.values().forEach(
+        lines -> assertThat(lines.stream().map(LogLine::getMessage)).containsExactlyElementsOf(expected));
+    // lines of a stream are batched instead of pushed one by one
+    assertThat(pushes.get()).isLessThan(streams * linesPerStream / 10);
+    assertThat(logStreamingShipper.droppedLines()).isZero();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldDropLinesOfFullStreamAndRecordThem() {
+    LogStream logStream = new LogStream(logStreamingClient, TOKEN, ACCOUNT_ID, "key");
+    logStreamingShipper.register(logStream);
+    logStreamingExecutor.shutdownNow();
+    logStreamingPushExecutor.shutdownNow();
+
+    for (int line = 0; line < LogStream.CAPACITY + 10; line++) {
+      logStream.offer(LogLine.builder().level(LogLevel.INFO).message(String.valueOf(line)).build());
+    }
+    assertThat(logStream.pending()).isEqualTo(LogStream.CAPACITY);
+    assertThat(logStream.isDue(System.currentTimeMillis())).isTrue();
+
+    logStreamingShipper.unregister(logStream);
+    assertThat(logStreamingShipper.droppedLines()).isEqualTo(10);
+    verify(metricRegistry).recordCounterInc(eq(LOG_LINES_DROPPED), any(String[].class), eq(10.0));
+
+    logStream.flush();
+    assertThat(logStream.isDrained()).isTrue();
+    assertThat(pushedLines.get("key")).hasSize(LogStream.CAPACITY);
+    assertThat(pushes.get()).isEqualTo(LogStream.CAPACITY / LogStream.MAX_BATCH_SIZE);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldUnregisterIdleStreamUntilNextLine() {
+    LogStreamingTaskClient client = taskClient();
+    client.writeLogLine(LogLine.builder().level(LogLevel.INFO).message("first").build(), "idle");
+    assertThat(logStreamingShipper.registeredStreams()).isEqualTo(1);
+
+    client.dispatchLogs();
+    logStreamingShipper.ship(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(2));
+    assertThat(logStreamingShipper.registeredStreams()).isZero();
+
+    client.writeLogLine(LogLine.builder().level(LogLevel.INFO).message("second").build(), "idle");
+    assertThat(logStreamingShipper.registeredStreams()).isEqualTo(1);
+    client.closeStream("idle");
+    assertThat(logStreamingShipper.registeredStreams()).isZero();
+    assertThat(pushedLines.get("base-commandUnit:idle").stream().map(LogLine::getMessage))
+        .containsExactly("first", "second");
+  }
+
+  private LogStreamingTaskClient taskClient() {
+    return LogStreamingTaskClient.builder()
+        .logStreamingClient(logStreamingClient)
+        .logStreamingSanitizer(LogStreamingSanitizer.builder().secrets(Collections.emptySet()).build())
+        .logStreamingShipper(logStreamingShipper)
+        .accountId(ACCOUNT_ID)
+        .token(TOKEN)
+        .baseLogKey("base")
+        .build();
+  }
+}
@@ -68,6 +68,59 @@ public class EventPublisherServerImpl extends EventPublisherGrpc.EventPublisherI
   @Override
   public void publish(PublishRequest request, StreamObserver<PublishResponse> responseObserver) {
     String accountId = requireNonNull(ACCOUNT_ID_CTX_KEY.get(Context.current()));
+    try {
+      persist(accountId, request);
+    } catch (Exception e) {
+      responseObserver.onError(Status.INTERNAL.withCause(e).asException());
+      return;
+    }
+    responseObserver.onNext(PublishResponse.newBuilder().build());
+    responseObserver.onCompleted();
+  }
+
+  /**
+   * Persists the batches of the stream in the order they are received and acknowledges each of them with its batch
+   * id. The stream is failed on the first batch that can not be persisted, the client resends from there.
+   */
+  @Override
+  public StreamObserver<PublishRequest> publishStream(StreamObserver<PublishResponse> responseObserver) {
+    String accountId = requireNonNull(ACCOUNT_ID_CTX_KEY.get(Context.current()));
+    return new StreamObserver<PublishRequest>() {
+      private boolean failed;
+
+      @Override
+      public void onNext(PublishRequest request) {
+        if (failed) {
+          return;
+        }
+        try {
+          persist(accountId, request);
+        } catch (Exception e) {
+          failed = true;
+          responseObserver.onError(Status.INTERNAL.withCause(e).asException());
+          return;
+        }
+        responseObserver.onNext(PublishResponse.newBuilder().setBatchId(request.getBatchId()).build());
+      }
+
+      @Override
+      public void onError(Throwable t) {
+        log.warn("Publish stream failed on the client side with status {}", Status.fromThrowable(t));
+      }
+
+      @Override
+      public void onCompleted() {
+        if (!failed) {
+          responseObserver.onCompleted();
+        }
+      }
+    };
+  }
+
+  /**
+   * Fails if the messages without category could not be persisted, failures of the other steps are only logged.
+   */
+  private void persist(String accountId, PublishRequest request) {
     String delegateId = request.getMessages(0).getAttributesMap().getOrDefault(DELEGATE_ID, "");
     try (AutoLogContext ignore = new AccountLogContext(accountId, OVERRIDE_ERROR);
          AutoLogContext ignore1 = new DelegateLogContext(delegateId, OVERRIDE_ERROR)) {
@@ -92,8 +145,7 @@ public class EventPublisherServerImpl extends EventPublisherGrpc.EventPublisherI
           hPersistence.saveIgnoringDuplicateKeys(withoutCategory);
         } catch (Exception e) {
           log.warn("Encountered error while persisting messages", e);
-          responseObserver.onError(Status.INTERNAL.withCause(e).asException());
-          return;
+          throw e;
         }
       }
 
@@ -114,8 +166,6 @@ public class EventPublisherServerImpl extends EventPublisherGrpc.EventPublisherI
       }
       log.info("Published messages persisted. withCategory:{}, withoutCategory:{}", withCategory.size(),
           withoutCategory.size());
-      responseObserver.onNext(PublishResponse.newBuilder().build());
-      responseObserver.onCompleted();
 
       withoutCategory.forEach(this::publishMetric);
       withCategory.forEach(this::publishMetric);
@@ -16,8 +16,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import io.harness.CategoryTest;
@@ -144,6 +146,32 @@ public class EventPublisherServerImplTest extends CategoryTest {
     });
   }
 
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldAckStreamedBatchesUntilPersistFails() {
+    doNothing()
+        .doThrow(new RuntimeException("Persistence error"))
+        .when(hPersistence)
+        .saveIgnoringDuplicateKeys(anyListOf(PublishedMessage.class));
+    Context.current().withValue(DelegateAuthServerInterceptor.ACCOUNT_ID_CTX_KEY, TEST_ACC_ID).run(() -> {
+      List<PublishMessage> messages = testMessages()
+                                          .stream()
+                                          .map(x -> PublishMessage.newBuilder().setPayload(Any.pack(x)).build())
+                                          .collect(toList());
+      StreamObserver<PublishRequest> requestObserver = publisherServer.publishStream(observer);
+      for (long batchId = 1; batchId <= 3; batchId++) {
+        requestObserver.onNext(PublishRequest.newBuilder().setBatchId(batchId).addAllMessages(messages).build());
+      }
+      requestObserver.onCompleted();
+      verify(observer).onNext(PublishResponse.newBuilder().setBatchId(1).build());
+      verify(observer).onNext(any());
+      verify(observer).onError(any());
+      verify(observer, never()).onCompleted();
+      verify(hPersistence, times(2)).saveIgnoringDuplicateKeys(anyListOf(PublishedMessage.class));
+    });
+  }
+
   private List<Message> testMessages() {
     return Arrays.asList(Lifecycle.newBuilder().setType(EVENT_TYPE_START).setInstanceId("instance-1").build(),
         Lifecycle.newBuilder().setType(EVENT_TYPE_START).setInstanceId("instance-2").build(),
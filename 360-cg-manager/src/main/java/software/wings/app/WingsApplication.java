@@ -56,6 +56,7 @@ import io.harness.config.WorkersConfiguration;
 import io.harness.configuration.DeployMode;
 import io.harness.cvng.core.services.api.VerificationServiceSecretManager;
 import io.harness.dataretention.AccountDataRetentionEntity;
+import io.harness.delay.DelayEvent;
 import io.harness.delay.DelayEventListener;
 import io.harness.delegate.beans.DelegateAsyncTaskResponse;
 import io.harness.delegate.beans.DelegateSyncTaskResponse;
@@ -103,9 +104,13 @@ import io.harness.metrics.jobs.RecordMetricsJob;
 import io.harness.metrics.service.api.MetricService;
 import io.harness.migrations.MigrationModule;
 import io.harness.mongo.AbstractMongoModule;
+import io.harness.mongo.MongoConfig;
 import io.harness.mongo.QuartzCleaner;
 import io.harness.mongo.QueryFactory;
+import io.harness.mongo.changestreams.ChangeEventFactory;
+import io.harness.mongo.changestreams.ChangeTracker;
 import io.harness.mongo.iterator.IteratorConfig;
+import io.harness.mongo.queue.QueueInsertTracker;
 import io.harness.mongo.tracing.TraceMode;
 import io.harness.morphia.MorphiaRegistrar;
 import io.harness.ng.core.CorrelationFilter;
@@ -137,6 +142,7 @@ import io.harness.perpetualtask.k8s.watch.K8sWatchPerpetualTaskServiceClient;
 import io.harness.persistence.HPersistence;
 import io.harness.persistence.Store;
 import io.harness.persistence.UserProvider;
+import io.harness.queue.QueueConsumer;
 import io.harness.queue.QueueListener;
 import io.harness.queue.QueueListenerController;
 import io.harness.queue.QueuePublisher;
@@ -1186,6 +1192,13 @@ public class WingsApplication extends Application<MainConfiguration> {
     if (configuration.isSearchEnabled()) {
       environment.lifecycle().manage(injector.getInstance(ElasticsearchSyncService.class));
     }
+
+    if (configuration.isQueueInsertTrackingEnabled()) {
+      QueueInsertTracker queueInsertTracker = new QueueInsertTracker(new ChangeTracker(
+          injector.getInstance(MongoConfig.class), injector.getInstance(ChangeEventFactory.class), null));
+      queueInsertTracker.register(injector.getInstance(Key.get(new TypeLiteral<QueueConsumer<DelayEvent>>() {})));
+      environment.lifecycle().manage(queueInsertTracker);
+    }
   }
 
   private void registerWaitEnginePublishers(Injector injector) {
@@ -42,6 +42,8 @@ import lombok.extern.slf4j.Slf4j;
 public class DelegateTaskExpiryCheckIterator implements MongoPersistenceIterator.Handler<Delegate> {
   private static final long TASK_EXPIRY_TIMEOUT = 3L;
   private static final long TASK_EXPIRY_CHECK_INTERVAL_IN_MINUTES = 5L;
+  // Every enabled delegate is due every interval and most checks return right away, claim them in batches
+  private static final int CLAIM_BATCH_SIZE = 10;
 
   @Inject private io.harness.iterator.PersistenceIteratorFactory persistenceIteratorFactory;
   @Inject private MorphiaPersistenceProvider<Delegate> persistenceProvider;
@@ -69,6 +71,7 @@ public class DelegateTaskExpiryCheckIterator implements MongoPersistenceIterator
             .acceptableNoAlertDelay(Duration.ofMinutes(TASK_EXPIRY_CHECK_INTERVAL_IN_MINUTES + 2))
             .handler(this)
             .schedulingType(REGULAR)
+            .batchSize(CLAIM_BATCH_SIZE)
             .persistenceProvider(persistenceProvider)
             .redistribute(true));
   }
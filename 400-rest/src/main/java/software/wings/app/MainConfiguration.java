@@ -129,6 +129,8 @@ public class MainConfiguration extends Configuration implements AssetsBundleConf
   @JsonProperty @ConfigSecret private PortalConfig portal = new PortalConfig();
   @JsonProperty("disableResourceValidation") private boolean disableResourceValidation;
   @JsonProperty(defaultValue = "true") private boolean enableIterators = true;
+  @JsonProperty(value = "redisIteratorsEnabled") private boolean isRedisIteratorsEnabled;
+  @JsonProperty(value = "queueInsertTrackingEnabled") private boolean isQueueInsertTrackingEnabled;
   @JsonProperty(defaultValue = "true") private boolean enableAuth = true;
   @JsonProperty(defaultValue = "50") private int jenkinsBuildQuerySize = 50;
   @JsonProperty("iteratorsConfig") private IteratorsConfig iteratorsConfig;
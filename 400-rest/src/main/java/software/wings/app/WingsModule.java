@@ -124,6 +124,7 @@ import io.harness.event.reconciliation.service.DeploymentReconService;
 import io.harness.event.reconciliation.service.DeploymentReconServiceImpl;
 import io.harness.event.timeseries.processor.instanceeventprocessor.instancereconservice.IInstanceReconService;
 import io.harness.event.timeseries.processor.instanceeventprocessor.instancereconservice.InstanceReconServiceImpl;
+import io.harness.eventsframework.impl.redis.RedisUtils;
 import io.harness.exception.ExplanationException;
 import io.harness.exception.InvalidArgumentsException;
 import io.harness.ff.FeatureFlagModule;
@@ -810,6 +811,7 @@ import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.jetbrains.annotations.NotNull;
+import org.redisson.api.RedissonClient;
 
 /**
  * Guice Module for initializing all beans.
@@ -854,6 +856,13 @@ public class WingsModule extends AbstractModule implements ServersModule {
     return configuration.getRedisLockConfig();
   }
 
+  @Provides
+  @Named("iterators")
+  @Singleton
+  RedissonClient iteratorsRedissonClient() {
+    return RedisUtils.getClient(configuration.getRedisLockConfig());
+  }
+
   @Provides
   @Named("atmosphere")
   @Singleton
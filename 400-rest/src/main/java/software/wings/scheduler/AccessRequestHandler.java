@@ -17,18 +17,24 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.annotations.dev.TargetModule;
 import io.harness.iterator.PersistenceIterator;
 import io.harness.iterator.PersistenceIteratorFactory;
+import io.harness.iterator.PersistenceIteratorFactory.PumpExecutorOptions;
 import io.harness.iterator.PersistentIterable;
 import io.harness.mongo.iterator.MongoPersistenceIterator;
 import io.harness.mongo.iterator.MongoPersistenceIterator.Handler;
 import io.harness.mongo.iterator.filter.MorphiaFilterExpander;
 import io.harness.mongo.iterator.provider.MorphiaPersistenceProvider;
+import io.harness.redis.iterator.RedisPersistenceIterator;
 
+import software.wings.app.MainConfiguration;
 import software.wings.beans.security.AccessRequest;
 import software.wings.beans.security.AccessRequest.AccessRequestKeys;
 import software.wings.service.intfc.AccessRequestService;
 import software.wings.service.intfc.AccountService;
 
 import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.name.Named;
+import org.redisson.api.RedissonClient;
 
 @OwnedBy(HarnessTeam.PL)
 @TargetModule(_970_RBAC_CORE)
@@ -39,16 +45,28 @@ public class AccessRequestHandler implements Handler<AccessRequest> {
   @Inject private AccessRequestService accessRequestService;
   @Inject private MorphiaPersistenceProvider<AccessRequest> persistenceProvider;
   @Inject private AccountService accountService;
+  @Inject private MainConfiguration mainConfiguration;
+  @Inject @Named("iterators") private Provider<RedissonClient> redissonClientProvider;
   private PersistenceIterator<PersistentIterable> accessRequestHandler;
 
   public void registerIterators() {
-    persistenceIteratorFactory.createPumpIteratorWithDedicatedThreadPool(
-        PersistenceIteratorFactory.PumpExecutorOptions.builder()
-            .name("AccessRequestHandler")
-            .poolSize(2)
-            .interval(ofSeconds(5))
-            .build(),
-        AccessRequest.class,
+    PumpExecutorOptions options =
+        PumpExecutorOptions.builder().name("AccessRequestHandler").poolSize(2).interval(ofSeconds(5)).build();
+    if (mainConfiguration.isRedisIteratorsEnabled()) {
+      persistenceIteratorFactory.createRedisPumpIteratorWithDedicatedThreadPool(options, AccessRequest.class,
+          RedisPersistenceIterator.<AccessRequest>builder()
+              .redissonClient(redissonClientProvider.get())
+              .clazz(AccessRequest.class)
+              .filterExpander(query -> query.filter(AccessRequestKeys.accessActive, Boolean.TRUE))
+              .fieldName(AccessRequestKeys.nextIteration)
+              .targetInterval(ofSeconds(15))
+              .acceptableNoAlertDelay(ofSeconds(15))
+              .acceptableExecutionTime(ofSeconds(10))
+              .handler(this));
+      return;
+    }
+
+    persistenceIteratorFactory.createPumpIteratorWithDedicatedThreadPool(options, AccessRequest.class,
         MongoPersistenceIterator.<AccessRequest, MorphiaFilterExpander<AccessRequest>>builder()
             .clazz(AccessRequest.class)
             .filterExpander(query -> query.filter(AccessRequestKeys.accessActive, Boolean.TRUE))
@@ -68,6 +68,7 @@ import software.wings.beans.InfrastructureMapping;
 import software.wings.beans.TaskType;
 import software.wings.delegatetasks.validation.DelegateConnectionResult;
 import software.wings.delegatetasks.validation.DelegateConnectionResult.DelegateConnectionResultKeys;
+import software.wings.service.impl.DelegateEligibilityIndex.AccountIndex;
 import software.wings.service.intfc.AssignDelegateService;
 import software.wings.service.intfc.DelegateSelectionLogsService;
 import software.wings.service.intfc.DelegateService;
@@ -145,6 +146,7 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
   @Inject private InfrastructureMappingService infrastructureMappingService;
   @Inject private DelegateCache delegateCache;
   @Inject private DelegateTaskServiceClassic delegateTaskServiceClassic;
+  @Inject private DelegateEligibilityIndex eligibilityIndex;
 
   private LoadingCache<ImmutablePair<String, String>, Optional<DelegateConnectionResult>>
       delegateConnectionResultCache =
@@ -202,7 +204,7 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
       log.debug("can not assign canAssignCgNg {}", canAssignCgNg);
       return false;
     }
-    boolean canAssignOwner = canAssignOwner(delegate, task.getSetupAbstractions());
+    boolean canAssignOwner = canAssignOwner(delegate.getOwner(), task.getSetupAbstractions());
     if (!canAssignOwner) {
       log.debug("can not assign canAssignOwner {}", canAssignOwner);
       return false;
@@ -268,9 +270,7 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
     return false;
   }
 
-  private boolean canAssignOwner(Delegate delegate, Map<String, String> taskSetupAbstractions) {
-    DelegateEntityOwner delegateOwner = delegate.getOwner();
-
+  private boolean canAssignOwner(DelegateEntityOwner delegateOwner, Map<String, String> taskSetupAbstractions) {
     // Account level delegate can handle anything. This is equivalent to CG behavior.
     if (delegateOwner == null) {
       return true;
@@ -453,13 +453,8 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
     if (isEmpty(executionCapabilities)) {
       return true;
     }
-    List<SelectorCapability> selectorsCapabilityList = executionCapabilities.stream()
-                                                           .filter(c -> c instanceof SelectorCapability)
-                                                           .map(c -> (SelectorCapability) c)
-                                                           .collect(Collectors.toList());
-    if (featureFlagService.isEnabled(FeatureName.OVERRIDE_CONNECTOR_SELECTOR, delegate.getAccountId())) {
-      selectorsCapabilityList = selectorCapabilitiesWithHierarchyApplied(selectorsCapabilityList);
-    }
+    List<SelectorCapability> selectorsCapabilityList =
+        applicableSelectorCapabilities(delegate.getAccountId(), executionCapabilities);
 
     if (isEmpty(selectorsCapabilityList)) {
       return true;
@@ -483,6 +478,21 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
     return canAssignSelector;
   }
 
+  private List<SelectorCapability> applicableSelectorCapabilities(
+      String accountId, List<ExecutionCapability> executionCapabilities) {
+    if (isEmpty(executionCapabilities)) {
+      return emptyList();
+    }
+    List<SelectorCapability> selectorsCapabilityList = executionCapabilities.stream()
+                                                           .filter(c -> c instanceof SelectorCapability)
+                                                           .map(c -> (SelectorCapability) c)
+                                                           .collect(Collectors.toList());
+    if (featureFlagService.isEnabled(FeatureName.OVERRIDE_CONNECTOR_SELECTOR, accountId)) {
+      selectorsCapabilityList = selectorCapabilitiesWithHierarchyApplied(selectorsCapabilityList);
+    }
+    return selectorsCapabilityList;
+  }
+
   private ScopeMatchResult scopeMatch(
       DelegateScope scope, String appId, String envId, String infraMappingId, TaskGroup taskGroup, String accountId) {
     if (!scope.isValid()) {
@@ -833,28 +843,31 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
     List<String> eligibleDelegateIds = new ArrayList<>();
     task.setNonAssignableDelegates(new HashMap<>());
     try {
-      List<Delegate> accountDelegates = fetchActiveDelegates(task.getAccountId());
+      List<Delegate> activeDelegates = fetchActiveDelegates(task.getAccountId());
       boolean isTaskNg = task.isNGTask(task.getSetupAbstractions());
-      accountDelegates = accountDelegates.stream().filter(delegate -> delegate.isNg() == isTaskNg).collect(toList());
+      List<Delegate> accountDelegates =
+          activeDelegates.stream().filter(delegate -> delegate.isNg() == isTaskNg).collect(toList());
       if (isEmpty(accountDelegates)) {
         task.getNonAssignableDelegates().putIfAbsent(NO_ACTIVE_DELEGATES, Collections.emptyList());
         delegateTaskServiceClassic.addToTaskActivityLog(task, NO_ACTIVE_DELEGATES);
         return eligibleDelegateIds;
       }
 
-      List<Delegate> delegates = getDelegatesWithOwnerShipCriteriaMatch(task, accountDelegates);
+      AccountIndex accountIndex = refreshEligibilityIndex(task.getAccountId(), activeDelegates);
+      List<Delegate> delegates = getDelegatesWithOwnerShipCriteriaMatch(task, accountDelegates, accountIndex);
       if (isEmpty(delegates)) {
         task.getNonAssignableDelegates().put(CAN_NOT_ASSIGN_OWNER, Collections.emptyList());
         delegateTaskServiceClassic.addToTaskActivityLog(task, CAN_NOT_ASSIGN_OWNER);
         return eligibleDelegateIds;
       }
 
-      eligibleDelegateIds =
-          delegates.stream()
-              .filter(delegate
-                  -> delegate.getStatus() != DelegateInstanceStatus.DELETED && canAssignTask(delegate.getUuid(), task))
-              .map(Delegate::getUuid)
-              .collect(Collectors.toList());
+      Set<String> candidates = accountIndex.candidates(task.getData().getTaskType(), requiredSelectors(task));
+      eligibleDelegateIds = delegates.stream()
+                                .filter(delegate
+                                    -> delegate.getStatus() != DelegateInstanceStatus.DELETED
+                                        && canAssignTask(delegate.getUuid(), task, accountIndex, candidates))
+                                .map(Delegate::getUuid)
+                                .collect(Collectors.toList());
       delegateSelectionLogsService.logNonSelectedDelegates(task, task.getNonAssignableDelegates());
       List<String> nonAssignables =
           task.getNonAssignableDelegates()
@@ -879,13 +892,38 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
     return delegates.stream().filter(connectedDelegates::contains).collect(Collectors.toList());
   }
 
+  /**
+   * Only the candidates of the eligibility index have their selectors matched. The other delegates still run the
+   * checks up to the one that fails, so they are reported under the same reason as before. When the index supports the
+   * task type of such a delegate, its selectors are known not to match.
+   */
+  private boolean canAssignTask(
+      String delegateId, DelegateTask task, AccountIndex accountIndex, Set<String> candidates) {
+    Delegate delegate = delegateCache.get(task.getAccountId(), delegateId, false);
+    if (delegate == null) {
+      return false;
+    }
+    Boolean selectorsMatch = candidates.contains(delegateId)
+            || !accountIndex.supportsTaskType(delegateId, task.getData().getTaskType())
+        ? null
+        : Boolean.FALSE;
+    return canAssignTask(delegate, task, selectorsMatch);
+  }
+
   @Override
   public boolean canAssignTask(String delegateId, DelegateTask task) {
     Delegate delegate = delegateCache.get(task.getAccountId(), delegateId, false);
     if (delegate == null) {
       return false;
     }
+    return canAssignTask(delegate, task, null);
+  }
 
+  /**
+   * @param selectorsMatch whether the delegate has all the selectors of the task, null to check it here
+   */
+  private boolean canAssignTask(Delegate delegate, DelegateTask task, Boolean selectorsMatch) {
+    String delegateId = delegate.getUuid();
     String delegateName = isNotEmpty(delegate.getHostName()) ? delegate.getHostName() : delegate.getUuid();
 
     boolean canAssignTaskToDelegate =
@@ -917,7 +955,8 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
       return canAssignDelegateProfileScopes;
     }
 
-    boolean canAssignSelectors = canAssignSelectors(delegate, task.getExecutionCapabilities());
+    boolean canAssignSelectors =
+        selectorsMatch != null ? selectorsMatch : canAssignSelectors(delegate, task.getExecutionCapabilities());
     if (!canAssignSelectors) {
       task.getNonAssignableDelegates().putIfAbsent(CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP, new ArrayList<>());
       task.getNonAssignableDelegates().get(CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP).add(delegateName);
@@ -938,12 +977,45 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
         .collect(toList());
   }
 
-  private List<Delegate> getDelegatesWithOwnerShipCriteriaMatch(DelegateTask task, List<Delegate> delegates) {
+  private List<Delegate> getDelegatesWithOwnerShipCriteriaMatch(
+      DelegateTask task, List<Delegate> delegates, AccountIndex accountIndex) {
+    Set<String> ownerMatchingDelegateIds =
+        accountIndex.delegatesWithOwner(owner -> canAssignOwner(owner, task.getSetupAbstractions()));
     return delegates.stream()
-        .filter(delegate -> canAssignOwner(delegate, task.getSetupAbstractions()))
+        .filter(delegate
+            -> accountIndex.contains(delegate.getUuid())
+                ? ownerMatchingDelegateIds.contains(delegate.getUuid())
+                : canAssignOwner(delegate.getOwner(), task.getSetupAbstractions()))
         .collect(toList());
   }
 
+  /**
+   * Indexes again the active delegates whose index entry is missing or too old, each delegate is fetched from the
+   * delegate cache at most once per {@link DelegateEligibilityIndex#MAX_INDEX_AGE_MILLIS} instead of once per task.
+   */
+  private AccountIndex refreshEligibilityIndex(String accountId, List<Delegate> activeDelegates) {
+    AccountIndex accountIndex = eligibilityIndex.get(accountId);
+    accountIndex.retainAll(activeDelegates.stream().map(Delegate::getUuid).collect(Collectors.toSet()));
+    for (Delegate activeDelegate : activeDelegates) {
+      if (accountIndex.contains(activeDelegate.getUuid())) {
+        continue;
+      }
+      Delegate delegate = delegateCache.get(accountId, activeDelegate.getUuid(), false);
+      if (delegate != null) {
+        accountIndex.index(delegate, trimmedLowercaseSet(delegateService.retrieveDelegateSelectors(delegate, true)));
+      }
+    }
+    return accountIndex;
+  }
+
+  private Set<String> requiredSelectors(DelegateTask task) {
+    return applicableSelectorCapabilities(task.getAccountId(), task.getExecutionCapabilities())
+        .stream()
+        .filter(selectorCapability -> selectorCapability.getSelectors() != null)
+        .flatMap(selectorCapability -> trimmedLowercaseSet(selectorCapability.getSelectors()).stream())
+        .collect(Collectors.toSet());
+  }
+
   @Override
   public List<Delegate> getAccountDelegates(String accountId) {
     try {
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import static java.lang.System.currentTimeMillis;
+
+import io.harness.annotations.dev.HarnessModule;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.annotations.dev.TargetModule;
+import io.harness.delegate.beans.Delegate;
+import io.harness.delegate.beans.DelegateEntityOwner;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Active delegates of an account indexed by supported task type, owner and selector, so the delegates which can not
+ * take a task are found by set lookups instead of checking every delegate.
+ * <p/>
+ * An indexed delegate is trusted for {@link #MAX_INDEX_AGE_MILLIS}, after that it is indexed again from the delegate
+ * cache when a task is assigned. Registration, updates, new connections and deletion drop the delegate from the index
+ * of the manager handling them. Every manager keeps its own index, so the short age bounds how long the changes made
+ * through another manager take to show up, on top of the delegate and delegate group caches.
+ */
+@Singleton
+@OwnedBy(HarnessTeam.DEL)
+@TargetModule(HarnessModule._420_DELEGATE_SERVICE)
+class DelegateEligibilityIndex {
+  static final long MAX_INDEX_AGE_MILLIS = TimeUnit.SECONDS.toMillis(5);
+  private static final int MAX_ACCOUNTS = 1000;
+  private static final long ACCOUNT_IDLE_MINUTES = 30;
+
+  private final Cache<String, AccountIndex> accountIndexes =
+      CacheBuilder.newBuilder()
+          .maximumSize(MAX_ACCOUNTS)
+          .expireAfterAccess(ACCOUNT_IDLE_MINUTES, TimeUnit.MINUTES)
+          .build();
+
+  AccountIndex get(String accountId) {
+    return accountIndexes.asMap().computeIfAbsent(accountId, key -> new AccountIndex());
+  }
+
+  void remove(String accountId, String delegateId) {
+    AccountIndex accountIndex = accountIndexes.getIfPresent(accountId);
+    if (accountIndex != null) {
+      accountIndex.remove(delegateId);
+    }
+  }
+
+  static class AccountIndex {
+    private final Map<String, Delegate> delegates = new HashMap<>();
+    private final Map<String, Long> indexedAt = new HashMap<>();
+    private final Map<String, Set<String>> selectorsByDelegate = new HashMap<>();
+    private final Map<String, Set<String>> delegatesByTaskType = new HashMap<>();
+    private final Map<String, Set<String>> delegatesBySelector = new HashMap<>();
+    private final Map<DelegateEntityOwner, Set<String>> delegatesByOwner = new HashMap<>();
+
+    /**
+     * @param selectors trimmed lowercase selectors of the delegate
+     */
+    synchronized void index(Delegate delegate, Set<String> selectors) {
+      String delegateId = delegate.getUuid();
+      remove(delegateId);
+      delegates.put(delegateId, delegate);
+      indexedAt.put(delegateId, currentTimeMillis());
+      if (delegate.getSupportedTaskTypes() != null) {
+        delegate.getSupportedTaskTypes().forEach(taskType -> addTo(delegatesByTaskType, taskType, delegateId));
+      }
+      Set<String> delegateSelectors = selectors == null ? Collections.emptySet() : new HashSet<>(selectors);
+      selectorsByDelegate.put(delegateId, delegateSelectors);
+      delegateSelectors.forEach(selector -> addTo(delegatesBySelector, selector, delegateId));
+      addTo(delegatesByOwner, delegate.getOwner(), delegateId);
+    }
+
+    synchronized void remove(String delegateId) {
+      Delegate delegate = delegates.remove(delegateId);
+      if (delegate == null) {
+        return;
+      }
+      indexedAt.remove(delegateId);
+      if (delegate.getSupportedTaskTypes() != null) {
+        delegate.getSupportedTaskTypes().forEach(taskType -> removeFrom(delegatesByTaskType, taskType, delegateId));
+      }
+      selectorsByDelegate.remove(delegateId).forEach(
+          selector -> removeFrom(delegatesBySelector, selector, delegateId));
+      removeFrom(delegatesByOwner, delegate.getOwner(), delegateId);
+    }
+
+    /**
+     * Drops the delegates which stopped heart beating.
+     */
+    synchronized void retainAll(Set<String> activeDelegateIds) {
+      for (String delegateId : new ArrayList<>(delegates.keySet())) {
+        if (!activeDelegateIds.contains(delegateId)) {
+          remove(delegateId);
+        }
+      }
+    }
+
+    /**
+     * @return the delegate if it was indexed less than {@link #MAX_INDEX_AGE_MILLIS} ago, null otherwise
+     */
+    synchronized Delegate get(String delegateId) {
+      Long delegateIndexedAt = indexedAt.get(delegateId);
+      if (delegateIndexedAt == null || currentTimeMillis() - delegateIndexedAt >= MAX_INDEX_AGE_MILLIS) {
+        return null;
+      }
+      return delegates.get(delegateId);
+    }
+
+    synchronized boolean contains(String delegateId) {
+      return get(delegateId) != null;
+    }
+
+    synchronized boolean supportsTaskType(String delegateId, String taskType) {
+      return taskType != null
+          && delegatesByTaskType.getOrDefault(taskType, Collections.emptySet()).contains(delegateId);
+    }
+
+    /**
+     * @return ids of the delegates whose owner matches, the predicate is evaluated once per distinct owner
+     */
+    synchronized Set<String> delegatesWithOwner(Predicate<DelegateEntityOwner> ownerMatches) {
+      Set<String> delegateIds = new HashSet<>();
+      delegatesByOwner.forEach((owner, ownedDelegateIds) -> {
+        if (ownerMatches.test(owner)) {
+          delegateIds.addAll(ownedDelegateIds);
+        }
+      });
+      return delegateIds;
+    }
+
+    /**
+     * @param selectors trimmed lowercase selectors the delegate must all have, no restriction if empty
+     * @return ids of the delegates supporting the task type and having all the selectors
+     */
+    synchronized Set<String> candidates(String taskType, Set<String> selectors) {
+      Set<String> candidates = new HashSet<>(delegatesByTaskType.getOrDefault(taskType, Collections.emptySet()));
+      if (isEmpty(selectors)) {
+        return candidates;
+      }
+      for (String selector : selectors) {
+        candidates.retainAll(delegatesBySelector.getOrDefault(selector, Collections.emptySet()));
+        if (candidates.isEmpty()) {
+          break;
+        }
+      }
+      return candidates;
+    }
+
+    private static <K> void addTo(Map<K, Set<String>> index, K key, String delegateId) {
+      index.computeIfAbsent(key, k -> new HashSet<>()).add(delegateId);
+    }
+
+    private static <K> void removeFrom(Map<K, Set<String>> index, K key, String delegateId) {
+      Set<String> delegateIds = index.get(key);
+      if (delegateIds != null && delegateIds.remove(delegateId) && delegateIds.isEmpty()) {
+        index.remove(key);
+      }
+    }
+  }
+}
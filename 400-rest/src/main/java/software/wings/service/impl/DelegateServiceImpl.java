@@ -402,6 +402,7 @@ public class DelegateServiceImpl implements DelegateService {
   @Inject private RemoteObserverInformer remoteObserverInformer;
   @Inject private DelegateMetricsService delegateMetricsService;
   @Inject private DelegateVersionService delegateVersionService;
+  @Inject private DelegateEligibilityIndex delegateEligibilityIndex;
 
   private final LoadingCache<String, String> delegateVersionCache =
       CacheBuilder.newBuilder()
@@ -1140,6 +1141,7 @@ public class DelegateServiceImpl implements DelegateService {
         updateOperations);
     delegateTaskService.touchExecutingTasks(
         delegate.getAccountId(), delegate.getUuid(), delegate.getCurrentlyExecutingDelegateTasks());
+    delegateEligibilityIndex.remove(delegate.getAccountId(), delegate.getUuid());
 
     eventEmitter.send(Channel.DELEGATES,
         anEvent().withOrgId(delegate.getAccountId()).withUuid(delegate.getUuid()).withType(Type.UPDATE).build());
@@ -2133,6 +2135,7 @@ public class DelegateServiceImpl implements DelegateService {
     persistence.delete(persistence.createQuery(Delegate.class)
                            .filter(DelegateKeys.accountId, accountId)
                            .filter(DelegateKeys.uuid, delegateId));
+    delegateEligibilityIndex.remove(accountId, delegateId);
     sendDelegateDeleteAuditEvent(existingDelegate, accountId);
     log.info("Delegate: {} deleted.", delegateId);
   }
@@ -2587,6 +2590,7 @@ public class DelegateServiceImpl implements DelegateService {
         registeredDelegate = update(delegate);
       }
     }
+    delegateEligibilityIndex.remove(delegate.getAccountId(), delegate.getUuid());
 
     // Not needed to be done when polling is enabled for delegate
     if (isDelegateWithoutPollingEnabled(delegate)) {
@@ -3025,6 +3029,8 @@ public class DelegateServiceImpl implements DelegateService {
 
     Delegate delegate = delegateCache.get(accountId, delegateId, false);
     if (previousDelegateConnection == null) {
+      // A new connection may come from a restarted delegate supporting other task types
+      delegateEligibilityIndex.remove(accountId, delegateId);
       DelegateConnection existingConnection = delegateConnectionDao.findAndDeletePreviousConnections(
           accountId, delegateId, heartbeat.getDelegateConnectionId(), heartbeat.getVersion());
       if (existingConnection != null) {
@@ -37,6 +37,9 @@ import static software.wings.service.impl.AssignDelegateServiceImpl.SCOPE_WILDCA
 import static software.wings.service.impl.AssignDelegateServiceImpl.WHITELIST_TTL;
 import static software.wings.service.impl.AssignDelegateServiceImplTest.CriteriaType.MATCHING_CRITERIA;
 import static software.wings.service.impl.AssignDelegateServiceImplTest.CriteriaType.NOT_MATCHING_CRITERIA;
+import static software.wings.service.impl.DelegateSelectionLogsServiceImpl.CAN_NOT_ASSIGN_DELEGATE_SCOPE_GROUP;
+import static software.wings.service.impl.DelegateSelectionLogsServiceImpl.CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP;
+import static software.wings.service.impl.DelegateSelectionLogsServiceImpl.CAN_NOT_ASSIGN_TASK_GROUP;
 import static software.wings.utils.WingsTestConstants.ACCOUNT_ID;
 import static software.wings.utils.WingsTestConstants.DELEGATE_ID;
 
@@ -2002,6 +2005,76 @@ public class AssignDelegateServiceImplTest extends WingsBaseTest {
     assertThat(assignDelegateService.getEligibleDelegatesToExecuteTask(task)).contains(delegate.getUuid());
   }
 
+  @Test
+  @Owner(developers = JENNY)
+  @Category(UnitTests.class)
+  public void testGetEligibleDelegatesReportsIndexedMismatches() throws ExecutionException {
+    Delegate matching = createAccountDelegate();
+    Delegate withoutTaskType = createAccountDelegate();
+    withoutTaskType.setSupportedTaskTypes(Collections.singletonList(TaskType.SCRIPT.name()));
+    Delegate withoutSelector = createAccountDelegate();
+    List<Delegate> delegates = asList(matching, withoutTaskType, withoutSelector);
+    when(accountDelegatesCache.get(ACCOUNT_ID)).thenReturn(delegates);
+    for (Delegate delegate : delegates) {
+      when(delegateCache.get(ACCOUNT_ID, delegate.getUuid(), false)).thenReturn(delegate);
+    }
+    when(delegateService.retrieveDelegateSelectors(matching, true)).thenReturn(ImmutableSet.of("Sel "));
+    when(delegateService.retrieveDelegateSelectors(withoutTaskType, true)).thenReturn(ImmutableSet.of("sel"));
+    when(delegateService.retrieveDelegateSelectors(withoutSelector, true)).thenReturn(ImmutableSet.of("other"));
+
+    DelegateTask task = constructDelegateTask(false, Collections.emptySet(), DelegateTask.Status.QUEUED);
+    task.setExecutionCapabilities(
+        Collections.singletonList(SelectorCapability.builder().selectors(ImmutableSet.of("sel")).build()));
+
+    for (int i = 0; i < 2; i++) {
+      assertThat(assignDelegateService.getEligibleDelegatesToExecuteTask(task)).containsExactly(matching.getUuid());
+      assertThat(task.getNonAssignableDelegates())
+          .containsOnlyKeys(CAN_NOT_ASSIGN_TASK_GROUP, CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP);
+      assertThat(task.getNonAssignableDelegates().get(CAN_NOT_ASSIGN_TASK_GROUP)).hasSize(1);
+      assertThat(task.getNonAssignableDelegates().get(CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP)).hasSize(1);
+    }
+  }
+
+  @Test
+  @Owner(developers = JENNY)
+  @Category(UnitTests.class)
+  public void testGetEligibleDelegatesChecksDelegateFromCache() throws ExecutionException {
+    Delegate delegate = createAccountDelegate();
+    delegate.setSupportedTaskTypes(Collections.singletonList(TaskType.SCRIPT.name()));
+    when(accountDelegatesCache.get(ACCOUNT_ID)).thenReturn(Collections.singletonList(delegate));
+    when(delegateCache.get(ACCOUNT_ID, delegate.getUuid(), false)).thenReturn(delegate);
+    DelegateTask task = constructDelegateTask(false, Collections.emptySet(), DelegateTask.Status.QUEUED);
+    assertThat(assignDelegateService.getEligibleDelegatesToExecuteTask(task)).isEmpty();
+    assertThat(task.getNonAssignableDelegates()).containsOnlyKeys(CAN_NOT_ASSIGN_TASK_GROUP);
+
+    // the index still has the old task types, the checks run against the delegate of the cache
+    Delegate updatedDelegate = createAccountDelegate();
+    updatedDelegate.setUuid(delegate.getUuid());
+    when(delegateCache.get(ACCOUNT_ID, delegate.getUuid(), false)).thenReturn(updatedDelegate);
+    assertThat(assignDelegateService.getEligibleDelegatesToExecuteTask(task)).containsExactly(delegate.getUuid());
+  }
+
+  @Test
+  @Owner(developers = JENNY)
+  @Category(UnitTests.class)
+  public void testGetEligibleDelegatesReportsScopeBeforeSelectors() throws ExecutionException {
+    Delegate delegate = createAccountDelegate();
+    delegate.setExcludeScopes(
+        Collections.singletonList(DelegateScope.builder().applications(ImmutableList.of("APP_ID")).build()));
+    when(accountDelegatesCache.get(ACCOUNT_ID)).thenReturn(Collections.singletonList(delegate));
+    when(delegateCache.get(ACCOUNT_ID, delegate.getUuid(), false)).thenReturn(delegate);
+    when(delegateService.retrieveDelegateSelectors(delegate, true)).thenReturn(ImmutableSet.of("other"));
+
+    DelegateTask task = constructDelegateTask(false, Collections.emptySet(), DelegateTask.Status.QUEUED);
+    task.setExecutionCapabilities(
+        Collections.singletonList(SelectorCapability.builder().selectors(ImmutableSet.of("sel")).build()));
+
+    for (int i = 0; i < 2; i++) {
+      assertThat(assignDelegateService.getEligibleDelegatesToExecuteTask(task)).isEmpty();
+      assertThat(task.getNonAssignableDelegates()).containsOnlyKeys(CAN_NOT_ASSIGN_DELEGATE_SCOPE_GROUP);
+    }
+  }
+
   private DelegateTask constructDelegateTask(boolean async, Set<String> validatingTaskIds, DelegateTask.Status status) {
     DelegateTask delegateTask =
         DelegateTask.builder()
@@ -136,6 +136,8 @@ public class PipelineServiceConfiguration extends Configuration {
   @JsonProperty("allowedParallelStages") private int allowedParallelStages;
   @JsonProperty("orchestrationLogConfiguration") private OrchestrationLogConfiguration orchestrationLogConfiguration;
   @JsonProperty("planCreatorMergeServiceDependencyBatch") private Integer planCreatorMergeServiceDependencyBatch;
+  @JsonProperty("nodeExecutionBatchSize") private Integer nodeExecutionBatchSize;
+  @JsonProperty("useLocalWaitCorrelationIndex") private boolean useLocalWaitCorrelationIndex;
   @JsonProperty("jsonExpansionPoolConfig") private ThreadPoolConfig jsonExpansionPoolConfig;
   @JsonProperty("jsonExpansionRequestBatchSize") private Integer jsonExpansionBatchSize;
 
@@ -246,6 +246,10 @@ public class PipelineServiceModule extends AbstractModule {
             .useFeatureFlagService(true)
             .orchestrationRedisEventsConfig(configuration.getOrchestrationRedisEventsConfig())
             .orchestrationLogConfiguration(configuration.getOrchestrationLogConfiguration())
+            .nodeExecutionBatchSize(configuration.getNodeExecutionBatchSize() != null
+                    ? configuration.getNodeExecutionBatchSize()
+                    : OrchestrationModuleConfig.DEFAULT_NODE_EXECUTION_BATCH_SIZE)
+            .useLocalWaitCorrelationIndex(configuration.isUseLocalWaitCorrelationIndex())
             .build()));
     install(OrchestrationStepsModule.getInstance(configuration.getOrchestrationStepConfig()));
     install(OrchestrationVisualizationModule.getInstance(configuration.getEventsFrameworkConfiguration(),
@@ -10,15 +10,67 @@ package io.harness.monitoring;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.engine.executions.plan.PlanExecutionMonitorService;
+import io.harness.expression.CompiledExpressionCache;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.metrics.service.api.MetricsPublisher;
+import io.harness.pms.merger.YamlConfig;
+import io.harness.pms.yaml.YamlContentCache;
+import io.harness.pms.yaml.YamlUtils;
 
+import com.google.common.cache.CacheStats;
 import com.google.inject.Inject;
 
 @OwnedBy(HarnessTeam.PIPELINE)
 public class PipelineMetricsPublisher implements MetricsPublisher {
+  private static final String EXPRESSION_CACHE_HIT_RATE = "expression_cache_hit_rate";
+  private static final String EXPRESSION_CACHE_SIZE = "expression_cache_size";
+  private static final String YAML_CACHE_HIT_RATE = "yaml_cache_hit_rate";
+  private static final String YAML_CACHE_SIZE = "yaml_cache_size";
+
   @Inject PlanExecutionMonitorService planExecutionMonitorService;
+  @Inject MetricService metricService;
+
+  private CacheStats lastExpressionStats = new CacheStats(0, 0, 0, 0, 0, 0);
+  private CacheStats lastScriptStats = new CacheStats(0, 0, 0, 0, 0, 0);
+  private CacheStats lastYamlTreeStats = new CacheStats(0, 0, 0, 0, 0, 0);
+  private CacheStats lastYamlConfigStats = new CacheStats(0, 0, 0, 0, 0, 0);
+
   @Override
   public void recordMetrics() {
     planExecutionMonitorService.registerActiveExecutionMetrics();
+    recordExpressionCacheMetrics();
+    recordYamlCacheMetrics();
+  }
+
+  private synchronized void recordExpressionCacheMetrics() {
+    CacheStats expressionStats = CompiledExpressionCache.expressionStats();
+    recordExpressionCacheMetrics(
+        "expression", expressionStats.minus(lastExpressionStats), CompiledExpressionCache.expressionCount());
+    lastExpressionStats = expressionStats;
+
+    CacheStats scriptStats = CompiledExpressionCache.scriptStats();
+    recordExpressionCacheMetrics("script", scriptStats.minus(lastScriptStats), CompiledExpressionCache.scriptCount());
+    lastScriptStats = scriptStats;
+  }
+
+  private void recordExpressionCacheMetrics(String cacheType, CacheStats stats, long size) {
+    try (ExpressionCacheMetricContext ignore = new ExpressionCacheMetricContext(cacheType)) {
+      metricService.recordMetric(EXPRESSION_CACHE_HIT_RATE, stats.hitRate());
+      metricService.recordMetric(EXPRESSION_CACHE_SIZE, size);
+    }
+  }
+
+  private synchronized void recordYamlCacheMetrics() {
+    lastYamlTreeStats = recordYamlCacheMetrics("yaml_tree", YamlUtils.treeCache(), lastYamlTreeStats);
+    lastYamlConfigStats = recordYamlCacheMetrics("yaml_config", YamlConfig.configCache(), lastYamlConfigStats);
+  }
+
+  private CacheStats recordYamlCacheMetrics(String cacheType, YamlContentCache<?> cache, CacheStats lastStats) {
+    CacheStats stats = cache.stats();
+    try (YamlCacheMetricContext ignore = new YamlCacheMetricContext(cacheType)) {
+      metricService.recordMetric(YAML_CACHE_HIT_RATE, stats.minus(lastStats).hitRate());
+      metricService.recordMetric(YAML_CACHE_SIZE, cache.size());
+    }
+    return stats;
   }
 }
@@ -46,6 +46,7 @@ import io.harness.pms.contracts.ambiance.Ambiance;
 import io.harness.pms.contracts.steps.StepCategory;
 import io.harness.pms.contracts.steps.StepType;
 import io.harness.pms.execution.utils.AmbianceUtils;
+import io.harness.pms.execution.utils.NodeProjectionUtils;
 import io.harness.pms.execution.utils.StatusUtils;
 import io.harness.pms.notification.NotificationInstrumentationHelper;
 import io.harness.pms.pipeline.observer.OrchestrationObserverUtils;
@@ -59,6 +60,7 @@ import io.harness.telemetry.TelemetryReporter;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -67,6 +69,7 @@ import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.util.CloseableIterator;
 
 @Slf4j
 @OwnedBy(HarnessTeam.PIPELINE)
@@ -88,29 +91,28 @@ public class InstrumentationPipelineEndEventHandler implements OrchestrationEndO
     String accountName = accountDTO.getName();
     String projectId = AmbianceUtils.getProjectIdentifier(ambiance);
     String orgId = AmbianceUtils.getOrgIdentifier(ambiance);
-    // TODO : Optimize this query to use projections
-    List<NodeExecution> nodeExecutionList = nodeExecutionService.fetchNodeExecutions(planExecutionId);
     Set<String> allSdkSteps = sdkStepHelper.getAllStepVisibleInUI();
 
-    List<String> stepTypes =
-        nodeExecutionList.stream()
-            .map(nodeExecution -> AmbianceUtils.getCurrentStepType(nodeExecution.getAmbiance()))
-            .filter(stepType -> stepType != null && stepType.getStepCategory() == StepCategory.STEP)
-            .map(StepType::getType)
-            .filter(allSdkSteps::contains)
-            .collect(Collectors.toList());
-    List<String> failedSteps =
-        nodeExecutionList.stream()
-            .filter(o -> allSdkSteps.contains(AmbianceUtils.getCurrentStepType(o.getAmbiance()).getType()))
-            .filter(o -> StatusUtils.brokeStatuses().contains(o.getStatus()))
-            .map(o -> AmbianceUtils.obtainCurrentLevel(o.getAmbiance()).getIdentifier())
-            .collect(Collectors.toList());
-    List<String> failedStepTypes =
-        nodeExecutionList.stream()
-            .filter(o -> allSdkSteps.contains(AmbianceUtils.getCurrentStepType(o.getAmbiance()).getType()))
-            .filter(o -> StatusUtils.brokeStatuses().contains(o.getStatus()))
-            .map(o -> AmbianceUtils.getCurrentStepType(o.getAmbiance()).getType())
-            .collect(Collectors.toList());
+    List<String> stepTypes = new ArrayList<>();
+    List<String> failedSteps = new ArrayList<>();
+    List<String> failedStepTypes = new ArrayList<>();
+    try (CloseableIterator<NodeExecution> iterator = nodeExecutionService.fetchNodeExecutionsIterator(
+             planExecutionId, NodeProjectionUtils.withAmbianceAndStatus)) {
+      while (iterator.hasNext()) {
+        NodeExecution nodeExecution = iterator.next();
+        StepType stepType = AmbianceUtils.getCurrentStepType(nodeExecution.getAmbiance());
+        if (stepType == null || !allSdkSteps.contains(stepType.getType())) {
+          continue;
+        }
+        if (stepType.getStepCategory() == StepCategory.STEP) {
+          stepTypes.add(stepType.getType());
+        }
+        if (StatusUtils.brokeStatuses().contains(nodeExecution.getStatus())) {
+          failedSteps.add(AmbianceUtils.obtainCurrentLevel(nodeExecution.getAmbiance()).getIdentifier());
+          failedStepTypes.add(stepType.getType());
+        }
+      }
+    }
     String pipelineId = ambiance.getMetadata().getPipelineIdentifier();
     PipelineExecutionSummaryEntity pipelineExecutionSummaryEntity =
         pmsExecutionService.getPipelineExecutionSummaryEntity(accountId, orgId, projectId, planExecutionId, false);
@@ -20,6 +20,8 @@ import io.harness.exception.UnexpectedException;
 import io.harness.exception.YamlException;
 import io.harness.execution.PlanExecutionMetadata;
 import io.harness.logging.AutoLogContext;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.monitoring.PlanCreationMetricContext;
 import io.harness.pms.async.plan.PartialPlanResponseCallback;
 import io.harness.pms.contracts.plan.CreatePartialPlanEvent;
 import io.harness.pms.contracts.plan.Dependencies;
@@ -63,6 +65,8 @@ import lombok.extern.slf4j.Slf4j;
 @OwnedBy(HarnessTeam.PIPELINE)
 public class PlanCreatorMergeService {
   private static final int MAX_DEPTH = 10;
+  private static final String PLAN_CREATION_TIME = "plan_creation_time";
+  private static final String PLAN_CREATION_NODES = "plan_creation_nodes";
 
   private final Executor executor;
 
@@ -70,17 +74,19 @@ public class PlanCreatorMergeService {
   private final WaitNotifyEngine waitNotifyEngine;
   PmsEventSender pmsEventSender;
   PlanCreationValidator planCreationValidator;
+  private final MetricService metricService;
   private final Integer planCreatorMergeServiceDependencyBatch;
 
   @Inject
   public PlanCreatorMergeService(PmsSdkHelper pmsSdkHelper, PmsEventSender pmsEventSender,
-      WaitNotifyEngine waitNotifyEngine, PlanCreationValidator planCreationValidator,
+      WaitNotifyEngine waitNotifyEngine, PlanCreationValidator planCreationValidator, MetricService metricService,
       @Named("PlanCreatorMergeExecutorService") Executor executor,
       @Named("planCreatorMergeServiceDependencyBatch") Integer planCreatorMergeServiceDependencyBatch) {
     this.pmsSdkHelper = pmsSdkHelper;
     this.pmsEventSender = pmsEventSender;
     this.waitNotifyEngine = waitNotifyEngine;
     this.planCreationValidator = planCreationValidator;
+    this.metricService = metricService;
     this.executor = executor;
     this.planCreatorMergeServiceDependencyBatch = planCreatorMergeServiceDependencyBatch;
   }
@@ -123,6 +129,7 @@ public class PlanCreatorMergeService {
     try (AutoLogContext ignore =
              PlanCreatorUtils.autoLogContext(metadata, accountId, orgIdentifier, projectIdentifier)) {
       log.info("[PMS_PlanCreatorMergeService] Starting plan creation");
+      long start = System.currentTimeMillis();
       Map<String, PlanCreatorServiceInfo> services = pmsSdkHelper.getServices();
 
       YamlField pipelineField = YamlUtils.extractPipelineField(planExecutionMetadata.getProcessedYaml());
@@ -137,10 +144,18 @@ public class PlanCreatorMergeService {
       PlanCreationBlobResponse finalResponse = createPlanForDependenciesRecursive(accountId, orgIdentifier,
           projectIdentifier, services, dependencies, metadata, planExecutionMetadata.getTriggerPayload());
       planCreationValidator.validate(accountId, finalResponse);
+      recordPlanCreationMetrics(metadata, System.currentTimeMillis() - start, finalResponse.getNodesCount());
       return finalResponse;
     }
   }
 
+  private void recordPlanCreationMetrics(ExecutionMetadata metadata, long timeTaken, int nodes) {
+    try (PlanCreationMetricContext ignore = new PlanCreationMetricContext(metadata.getModuleType())) {
+      metricService.recordDuration(PLAN_CREATION_TIME, Duration.ofMillis(timeTaken));
+      metricService.recordMetric(PLAN_CREATION_NODES, nodes);
+    }
+  }
+
   @VisibleForTesting
   Map<String, PlanCreationContextValue> createInitialPlanCreationContext(String accountId, String orgIdentifier,
       String projectIdentifier, ExecutionMetadata metadata, TriggerPayload triggerPayload) {
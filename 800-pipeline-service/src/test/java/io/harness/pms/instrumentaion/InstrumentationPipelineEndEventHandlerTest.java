@@ -56,6 +56,7 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import org.junit.Before;
@@ -65,6 +66,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.util.CloseableIterator;
 
 @OwnedBy(HarnessTeam.PIPELINE)
 public class InstrumentationPipelineEndEventHandlerTest extends CategoryTest {
@@ -130,7 +132,9 @@ public class InstrumentationPipelineEndEventHandlerTest extends CategoryTest {
             .build();
     List<NodeExecution> nodeExecutionList =
         Arrays.asList(NodeExecution.builder().ambiance(ambiance).planNode(planNode).build());
-    doReturn(nodeExecutionList).when(nodeExecutionService).fetchNodeExecutions(any());
+    doReturn(closeableIterator(nodeExecutionList))
+        .when(nodeExecutionService)
+        .fetchNodeExecutionsIterator(any(), any());
     doReturn(new HashSet() {
       { add("Http"); }
     })
@@ -183,4 +187,22 @@ public class InstrumentationPipelineEndEventHandlerTest extends CategoryTest {
     assertEquals(eventTypes.size(), 1);
     assertTrue(eventTypes.contains(PipelineEventType.PIPELINE_END));
   }
+
+  private static <T> CloseableIterator<T> closeableIterator(List<T> list) {
+    Iterator<T> iterator = list.iterator();
+    return new CloseableIterator<T>() {
+      @Override
+      public boolean hasNext() {
+        return iterator.hasNext();
+      }
+
+      @Override
+      public T next() {
+        return iterator.next();
+      }
+
+      @Override
+      public void close() {}
+    };
+  }
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.beans;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.internal.EdgeListInternal;
+import io.harness.beans.internal.OrchestrationAdjacencyListInternal;
+import io.harness.cache.Distributable;
+import io.harness.cache.Nominal;
+import io.harness.pms.contracts.execution.Status;
+
+import java.io.ObjectStreamClass;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Vertices of an {@link OrchestrationGraph} changed since the graph was last cached in full. The delta is only valid
+ * on top of the cached graph it was built from, identified by that graph's lastUpdatedAt.
+ */
+@OwnedBy(PIPELINE)
+@Value
+@Builder
+public class OrchestrationGraphDelta implements Distributable, Nominal {
+  public static final long STRUCTURE_HASH =
+      ObjectStreamClass.lookup(OrchestrationGraphDelta.class).getSerialVersionUID();
+  public static final long ALGORITHM_ID = 1;
+
+  // cache variables
+  long cacheContextOrder;
+  String cacheKey;
+  List<String> cacheParams;
+
+  long baseLastUpdatedAt;
+  long lastUpdatedAt;
+
+  Long endTs;
+  Status status;
+  List<String> rootNodeIds;
+
+  Map<String, GraphVertex> graphVertexMap;
+  Map<String, EdgeListInternal> adjacencyMap;
+  Set<String> removedVertexIds;
+
+  /**
+   * Builds the delta of the given graph on top of the cached one, carrying over the vertices of the previous delta.
+   *
+   * @param previous  delta of the same cached graph or null
+   * @param changedIds ids of the vertices added, updated or removed since the previous delta
+   */
+  public static OrchestrationGraphDelta of(OrchestrationGraphDelta previous, OrchestrationGraph graph,
+      long baseLastUpdatedAt, Collection<String> changedIds) {
+    Map<String, GraphVertex> graphVertexMap = new HashMap<>();
+    Map<String, EdgeListInternal> adjacencyMap = new HashMap<>();
+    Set<String> removedVertexIds = new HashSet<>();
+    if (previous != null && previous.getBaseLastUpdatedAt() == baseLastUpdatedAt) {
+      graphVertexMap.putAll(previous.getGraphVertexMap());
+      adjacencyMap.putAll(previous.getAdjacencyMap());
+      removedVertexIds.addAll(previous.getRemovedVertexIds());
+    }
+
+    OrchestrationAdjacencyListInternal adjacencyList = graph.getAdjacencyList();
+    for (String id : changedIds) {
+      GraphVertex graphVertex = adjacencyList.getGraphVertexMap().get(id);
+      if (graphVertex == null) {
+        graphVertexMap.remove(id);
+        adjacencyMap.remove(id);
+        removedVertexIds.add(id);
+      } else {
+        graphVertexMap.put(id, graphVertex);
+        adjacencyMap.put(id, adjacencyList.getAdjacencyMap().get(id));
+        removedVertexIds.remove(id);
+      }
+    }
+
+    return OrchestrationGraphDelta.builder()
+        .cacheKey(graph.getPlanExecutionId())
+        .cacheContextOrder(System.currentTimeMillis())
+        .baseLastUpdatedAt(baseLastUpdatedAt)
+        .lastUpdatedAt(graph.getLastUpdatedAt())
+        .endTs(graph.getEndTs())
+        .status(graph.getStatus())
+        .rootNodeIds(new ArrayList<>(graph.getRootNodeIds()))
+        .graphVertexMap(graphVertexMap)
+        .adjacencyMap(adjacencyMap)
+        .removedVertexIds(removedVertexIds)
+        .build();
+  }
+
+  public boolean isApplicableTo(OrchestrationGraph base) {
+    return base != null && base.getLastUpdatedAt() == baseLastUpdatedAt;
+  }
+
+  /**
+   * Applies the delta to the cached graph it was built from, the maps of the given graph are modified in place.
+   */
+  public OrchestrationGraph applyTo(OrchestrationGraph base) {
+    Map<String, GraphVertex> baseGraphVertexMap = base.getAdjacencyList().getGraphVertexMap();
+    Map<String, EdgeListInternal> baseAdjacencyMap = base.getAdjacencyList().getAdjacencyMap();
+    baseGraphVertexMap.keySet().removeAll(removedVertexIds);
+    baseAdjacencyMap.keySet().removeAll(removedVertexIds);
+    baseGraphVertexMap.putAll(graphVertexMap);
+    baseAdjacencyMap.putAll(adjacencyMap);
+
+    return OrchestrationGraph.builder()
+        .cacheKey(base.getCacheKey())
+        .cacheContextOrder(base.getCacheContextOrder())
+        .cacheParams(base.getCacheParams())
+        .lastUpdatedAt(lastUpdatedAt)
+        .planExecutionId(base.getPlanExecutionId())
+        .startTs(base.getStartTs())
+        .endTs(endTs)
+        .status(status)
+        .rootNodeIds(rootNodeIds)
+        .adjacencyList(base.getAdjacencyList())
+        .build();
+  }
+
+  public int size() {
+    return graphVertexMap.size() + removedVertexIds.size();
+  }
+
+  @Override
+  public long structureHash() {
+    return STRUCTURE_HASH;
+  }
+
+  @Override
+  public long algorithmId() {
+    return ALGORITHM_ID;
+  }
+
+  @Override
+  public String key() {
+    return cacheKey;
+  }
+
+  @Override
+  public List<String> parameters() {
+    return cacheParams;
+  }
+
+  @Override
+  public long contextHash() {
+    return cacheContextOrder;
+  }
+}
@@ -15,7 +15,9 @@ import io.harness.beans.EphemeralOrchestrationGraph;
 import io.harness.beans.GraphVertex;
 import io.harness.beans.OrchestrationEventLog;
 import io.harness.beans.OrchestrationGraph;
+import io.harness.beans.OrchestrationGraphDelta;
 import io.harness.beans.converter.EphemeralOrchestrationGraphConverter;
+import io.harness.beans.internal.EdgeListInternal;
 import io.harness.beans.internal.OrchestrationAdjacencyListInternal;
 import io.harness.cache.SpringCacheEntity;
 import io.harness.cache.SpringMongoStore;
@@ -39,6 +41,7 @@ import io.harness.lock.PersistentLocker;
 import io.harness.plan.NodeType;
 import io.harness.pms.contracts.execution.events.OrchestrationEventType;
 import io.harness.pms.contracts.steps.StepCategory;
+import io.harness.pms.execution.utils.NodeProjectionUtils;
 import io.harness.pms.execution.utils.StatusUtils;
 import io.harness.pms.plan.execution.ExecutionSummaryUpdateUtils;
 import io.harness.pms.plan.execution.service.PmsExecutionSummaryService;
@@ -51,11 +54,14 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.mongodb.core.query.Update;
@@ -66,6 +72,10 @@ import org.springframework.data.mongodb.core.query.Update;
 public class GraphGenerationServiceImpl implements GraphGenerationService {
   private static final long THRESHOLD_LOG = 50;
   private static final String GRAPH_LOCK = "GRAPH_LOCK_";
+  private static final int DELTA_COMPACTION_THRESHOLD = 200;
+  private static final Set<OrchestrationEventType> NODE_EXECUTION_LESS_EVENTS =
+      EnumSet.of(OrchestrationEventType.PLAN_EXECUTION_STATUS_UPDATE, OrchestrationEventType.STEP_DETAILS_UPDATE,
+          OrchestrationEventType.STEP_INPUTS_UPDATE);
 
   @Inject private PlanExecutionService planExecutionService;
   @Inject private NodeExecutionService nodeExecutionService;
@@ -123,19 +133,19 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
 
   // This must always be called after acquiring the lock
   private boolean updateGraphUnderLock(String planExecutionId) {
-    OrchestrationGraph orchestrationGraph = getCachedOrchestrationGraph(planExecutionId);
-    if (orchestrationGraph == null) {
+    OrchestrationGraph cachedOrchestrationGraph = getCachedBaseOrchestrationGraph(planExecutionId);
+    if (cachedOrchestrationGraph == null) {
       log.warn("[PMS_GRAPH] Graph not yet generated. Passing on to next iteration");
       return true;
     }
-    return updateGraphUnderLock(orchestrationGraph);
+    OrchestrationGraphDelta delta = getCachedOrchestrationGraphDelta(cachedOrchestrationGraph);
+    return updateGraphUnderLock(cachedOrchestrationGraph, delta);
   }
 
   // This must always be called after acquiring the lock
-  private boolean updateGraphUnderLock(OrchestrationGraph orchestrationGraph) {
-    if (orchestrationGraph == null) {
-      return false;
-    }
+  private boolean updateGraphUnderLock(OrchestrationGraph cachedOrchestrationGraph, OrchestrationGraphDelta delta) {
+    OrchestrationGraph orchestrationGraph =
+        delta == null ? cachedOrchestrationGraph : delta.applyTo(cachedOrchestrationGraph);
     String planExecutionId = orchestrationGraph.getPlanExecutionId();
     long startTs = System.currentTimeMillis();
     long lastUpdatedAt = orchestrationGraph.getLastUpdatedAt();
@@ -151,6 +161,8 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
 
     Update executionSummaryUpdate = new Update();
     Set<String> processedNodeExecutionIds = new HashSet<>();
+    Set<String> changedVertexIds = new HashSet<>();
+    Map<String, NodeExecution> nodeExecutions = fetchNodeExecutions(unprocessedEventLogs);
     for (OrchestrationEventLog orchestrationEventLog : unprocessedEventLogs) {
       String nodeExecutionId = orchestrationEventLog.getNodeExecutionId();
       OrchestrationEventType orchestrationEventType = orchestrationEventLog.getOrchestrationEventType();
@@ -161,17 +173,22 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
         case STEP_DETAILS_UPDATE:
           orchestrationGraph = stepDetailsUpdateEventHandler.handleEvent(
               planExecutionId, nodeExecutionId, orchestrationGraph, executionSummaryUpdate);
+          changedVertexIds.add(nodeExecutionId);
           break;
         case STEP_INPUTS_UPDATE:
           orchestrationGraph =
               stepDetailsUpdateEventHandler.handleStepInputEvent(planExecutionId, nodeExecutionId, orchestrationGraph);
+          changedVertexIds.add(nodeExecutionId);
           break;
         default:
           if (processedNodeExecutionIds.contains(nodeExecutionId)) {
             continue;
           }
           processedNodeExecutionIds.add(nodeExecutionId);
-          NodeExecution nodeExecution = nodeExecutionService.get(nodeExecutionId);
+          NodeExecution nodeExecution = nodeExecutions.get(nodeExecutionId);
+          if (nodeExecution == null) {
+            throw new InvalidRequestException("Node Execution is null for id: " + nodeExecutionId);
+          }
           if (OrchestrationUtils.isStageNode(nodeExecution)
               && nodeExecution.getNodeType() == NodeType.IDENTITY_PLAN_NODE
               && StatusUtils.isFinalStatus(nodeExecution.getStatus())) {
@@ -182,28 +199,100 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
           }
           orchestrationGraph = graphStatusUpdateHelper.handleEventV2(
               planExecutionId, nodeExecution, orchestrationEventType, orchestrationGraph);
+          addChangedVertexIds(changedVertexIds, orchestrationGraph, nodeExecution);
       }
       lastUpdatedAt = orchestrationEventLog.getCreatedAt();
     }
-    cachePartialOrchestrationGraph(orchestrationGraph.withLastUpdatedAt(lastUpdatedAt), lastUpdatedAt);
+    // A handler rebuilding the graph (e.g. for an ERRORED plan) replaces the cached graph, a delta of this pass would be
+    // keyed to the old one
+    boolean graphReplaced = orchestrationGraph.getAdjacencyList() != cachedOrchestrationGraph.getAdjacencyList();
+    cachePartialOrchestrationGraph(orchestrationGraph.withLastUpdatedAt(lastUpdatedAt), cachedOrchestrationGraph, delta,
+        changedVertexIds, graphReplaced);
     pmsExecutionSummaryService.update(planExecutionId, executionSummaryUpdate);
     log.info("[PMS_GRAPH] Processing of [{}] orchestration event logs completed in [{}ms]", unprocessedEventLogs.size(),
         System.currentTimeMillis() - startTs);
     return true;
   }
 
+  /**
+   * Adding or removing a vertex also changes the edges of its parent or of the vertex preceding it.
+   */
+  private void addChangedVertexIds(
+      Set<String> changedVertexIds, OrchestrationGraph orchestrationGraph, NodeExecution nodeExecution) {
+    changedVertexIds.add(nodeExecution.getUuid());
+    if (EmptyPredicate.isNotEmpty(nodeExecution.getParentId())) {
+      changedVertexIds.add(nodeExecution.getParentId());
+    }
+    if (EmptyPredicate.isNotEmpty(nodeExecution.getPreviousId())) {
+      changedVertexIds.add(nodeExecution.getPreviousId());
+    }
+    EdgeListInternal edgeList = orchestrationGraph.getAdjacencyList().getAdjacencyMap().get(nodeExecution.getUuid());
+    if (edgeList != null && edgeList.getPrevIds() != null) {
+      changedVertexIds.addAll(edgeList.getPrevIds());
+    }
+  }
+
+  /**
+   * Node executions of the events processed through the graph status update handler, fetched together instead of one
+   * query per event.
+   */
+  private Map<String, NodeExecution> fetchNodeExecutions(List<OrchestrationEventLog> eventLogs) {
+    Set<String> nodeExecutionIds =
+        eventLogs.stream()
+            .filter(eventLog -> !NODE_EXECUTION_LESS_EVENTS.contains(eventLog.getOrchestrationEventType()))
+            .map(OrchestrationEventLog::getNodeExecutionId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+    return nodeExecutionService.getAllWithFieldsIncluded(nodeExecutionIds, NodeProjectionUtils.fieldsForGraph)
+        .stream()
+        .collect(Collectors.toMap(NodeExecution::getUuid, Function.identity()));
+  }
+
   @Override
   public OrchestrationGraph getCachedOrchestrationGraph(String planExecutionId) {
+    OrchestrationGraph cachedOrchestrationGraph = getCachedBaseOrchestrationGraph(planExecutionId);
+    if (cachedOrchestrationGraph == null) {
+      return null;
+    }
+    OrchestrationGraphDelta delta = getCachedOrchestrationGraphDelta(cachedOrchestrationGraph);
+    return delta == null ? cachedOrchestrationGraph : delta.applyTo(cachedOrchestrationGraph);
+  }
+
+  private OrchestrationGraph getCachedBaseOrchestrationGraph(String planExecutionId) {
     return mongoStore.get(OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
   }
 
+  private OrchestrationGraphDelta getCachedOrchestrationGraphDelta(OrchestrationGraph cachedOrchestrationGraph) {
+    OrchestrationGraphDelta delta = mongoStore.get(OrchestrationGraphDelta.ALGORITHM_ID,
+        OrchestrationGraphDelta.STRUCTURE_HASH, cachedOrchestrationGraph.getPlanExecutionId(), null);
+    return delta != null && delta.isApplicableTo(cachedOrchestrationGraph) ? delta : null;
+  }
+
   @Override
   public void cacheOrchestrationGraph(OrchestrationGraph orchestrationGraph) {
     mongoStore.upsert(orchestrationGraph, SpringCacheEntity.TTL);
   }
 
-  private void cachePartialOrchestrationGraph(OrchestrationGraph orchestrationGraph, long entityUpdatedAt) {
-    mongoStore.upsert(orchestrationGraph, SpringCacheEntity.TTL, entityUpdatedAt);
+  /**
+   * Only the vertices changed since the graph was last cached in full are written. The whole graph is cached again
+   * when the pass replaced it or once the delta grows past {@link #DELTA_COMPACTION_THRESHOLD} vertices, either way
+   * the delta left in the cache is stale.
+   */
+  private void cachePartialOrchestrationGraph(OrchestrationGraph orchestrationGraph,
+      OrchestrationGraph cachedOrchestrationGraph, OrchestrationGraphDelta previousDelta, Set<String> changedVertexIds,
+      boolean graphReplaced) {
+    long entityUpdatedAt = orchestrationGraph.getLastUpdatedAt();
+    if (graphReplaced) {
+      mongoStore.upsert(orchestrationGraph, SpringCacheEntity.TTL, entityUpdatedAt);
+      return;
+    }
+    OrchestrationGraphDelta delta = OrchestrationGraphDelta.of(
+        previousDelta, orchestrationGraph, cachedOrchestrationGraph.getLastUpdatedAt(), changedVertexIds);
+    if (delta.size() > DELTA_COMPACTION_THRESHOLD) {
+      mongoStore.upsert(orchestrationGraph, SpringCacheEntity.TTL, entityUpdatedAt);
+      return;
+    }
+    mongoStore.upsert(delta, SpringCacheEntity.TTL, entityUpdatedAt);
   }
 
   @Override
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.beans;
+
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.beans.internal.EdgeListInternal;
+import io.harness.beans.internal.OrchestrationAdjacencyListInternal;
+import io.harness.category.element.UnitTests;
+import io.harness.pms.contracts.execution.Status;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class OrchestrationGraphDeltaTest extends CategoryTest {
+  private static final String PLAN_EXECUTION_ID = "PLAN_EXECUTION_ID";
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldCarryOverChangedVerticesAndApplyThem() {
+    OrchestrationGraph base = graph(10L, "a", "b", "c");
+    OrchestrationGraph current = graph(10L, "a", "b", "c");
+    current.getAdjacencyList().getGraphVertexMap().get("a").setStatus(Status.SUCCEEDED);
+
+    OrchestrationGraphDelta first = OrchestrationGraphDelta.of(
+        null, current.withLastUpdatedAt(20L), base.getLastUpdatedAt(), Collections.singletonList("a"));
+    assertThat(first.size()).isEqualTo(1);
+
+    current.getAdjacencyList().getGraphVertexMap().remove("b");
+    current.getAdjacencyList().getAdjacencyMap().remove("b");
+    OrchestrationGraphDelta second = OrchestrationGraphDelta.of(first,
+        current.withLastUpdatedAt(30L).withStatus(Status.SUCCEEDED), base.getLastUpdatedAt(),
+        Collections.singletonList("b"));
+    assertThat(second.getGraphVertexMap()).containsOnlyKeys("a");
+    assertThat(second.getRemovedVertexIds()).containsExactly("b");
+    assertThat(second.isApplicableTo(base)).isTrue();
+
+    OrchestrationGraph applied = second.applyTo(base);
+    assertThat(applied.getLastUpdatedAt()).isEqualTo(30L);
+    assertThat(applied.getStatus()).isEqualTo(Status.SUCCEEDED);
+    assertThat(applied.getAdjacencyList().getGraphVertexMap()).containsOnlyKeys("a", "c");
+    assertThat(applied.getAdjacencyList().getAdjacencyMap()).containsOnlyKeys("a", "c");
+    assertThat(applied.getAdjacencyList().getGraphVertexMap().get("a").getStatus()).isEqualTo(Status.SUCCEEDED);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldDropDeltaOfAnotherCachedGraph() {
+    OrchestrationGraph current = graph(30L, "a");
+    OrchestrationGraphDelta stale =
+        OrchestrationGraphDelta.of(null, current, 10L, Collections.singletonList("removed"));
+
+    assertThat(stale.isApplicableTo(graph(20L, "a"))).isFalse();
+    OrchestrationGraphDelta delta = OrchestrationGraphDelta.of(stale, current, 20L, Collections.singletonList("a"));
+    assertThat(delta.getRemovedVertexIds()).isEmpty();
+    assertThat(delta.getGraphVertexMap()).containsOnlyKeys("a");
+  }
+
+  private OrchestrationGraph graph(long lastUpdatedAt, String... vertexIds) {
+    Map<String, GraphVertex> graphVertexMap = new HashMap<>();
+    Map<String, EdgeListInternal> adjacencyMap = new HashMap<>();
+    for (String vertexId : vertexIds) {
+      graphVertexMap.put(vertexId, GraphVertex.builder().uuid(vertexId).status(Status.RUNNING).build());
+      adjacencyMap.put(vertexId,
+          EdgeListInternal.builder().prevIds(new ArrayList<>()).nextIds(new ArrayList<>()).build());
+    }
+    return OrchestrationGraph.builder()
+        .cacheKey(PLAN_EXECUTION_ID)
+        .planExecutionId(PLAN_EXECUTION_ID)
+        .lastUpdatedAt(lastUpdatedAt)
+        .status(Status.RUNNING)
+        .rootNodeIds(Lists.newArrayList(vertexIds[0]))
+        .adjacencyList(OrchestrationAdjacencyListInternal.builder()
+                           .graphVertexMap(graphVertexMap)
+                           .adjacencyMap(adjacencyMap)
+                           .build())
+        .build();
+  }
+}
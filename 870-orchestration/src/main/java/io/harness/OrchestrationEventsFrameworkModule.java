@@ -23,6 +23,8 @@ import static io.harness.eventsframework.EventsFrameworkConstants.PIPELINE_SDK_R
 import static io.harness.eventsframework.EventsFrameworkConstants.SDK_RESPONSE_EVENT_BATCH_SIZE;
 import static io.harness.pms.events.PmsEventFrameworkConstants.MAX_PROCESSING_TIME_SECONDS;
 
+import io.harness.engine.expressions.NodeExecutionsInvalidationChannel;
+import io.harness.engine.expressions.RedisNodeExecutionsInvalidationChannel;
 import io.harness.events.PmsRedissonClientFactory;
 import io.harness.eventsframework.EventsFrameworkConfiguration;
 import io.harness.eventsframework.EventsFrameworkConstants;
@@ -32,6 +34,7 @@ import io.harness.eventsframework.impl.noop.NoOpConsumer;
 import io.harness.eventsframework.impl.noop.NoOpProducer;
 import io.harness.eventsframework.impl.redis.RedisConsumer;
 import io.harness.eventsframework.impl.redis.RedisProducer;
+import io.harness.eventsframework.impl.redis.RedisStreamEncoding;
 import io.harness.redis.RedisConfig;
 
 import com.google.inject.AbstractModule;
@@ -82,21 +85,26 @@ public class OrchestrationEventsFrameworkModule extends AbstractModule {
               Duration.ofSeconds(MAX_PROCESSING_TIME_SECONDS), PARTIAL_PLAN_EVENT_BATCH_SIZE,
               redisConfig.getEnvNamespace()));
 
-      // Trigger Node Consumer and producer
+      // Trigger Node Consumer and producer. The consumer reads both encodings, the producer switches to BINARY once
+      // the topic is listed in binaryEncodedTopics after every instance runs a BINARY consumer.
       bind(Producer.class)
           .annotatedWith(Names.named(INITIATE_NODE_EVENT_PRODUCER))
           .toInstance(RedisProducer.of(INITIATE_NODE_EVENT_TOPIC, redissonClient, INITIATE_NODE_EVENT_MAX_TOPIC_SIZE,
-              PIPELINE_SERVICE.getServiceId(), redisConfig.getEnvNamespace()));
+              PIPELINE_SERVICE.getServiceId(), redisConfig.getEnvNamespace(),
+              eventsFrameworkConfiguration.getProducerEncoding(INITIATE_NODE_EVENT_TOPIC)));
 
       bind(Consumer.class)
           .annotatedWith(Names.named(INITIATE_NODE_EVENT_CONSUMER))
           .toInstance(RedisConsumer.of(INITIATE_NODE_EVENT_TOPIC, PIPELINE_SERVICE.getServiceId(), redissonClient,
               Duration.ofSeconds(MAX_PROCESSING_TIME_SECONDS), INITIATE_NODE_EVENT_BATCH_SIZE,
-              redisConfig.getEnvNamespace()));
+              redisConfig.getEnvNamespace(), RedisStreamEncoding.BINARY));
       bind(Producer.class)
           .annotatedWith(Names.named(ORCHESTRATION_LOG))
           .toInstance(RedisProducer.of(ORCHESTRATION_LOG, redissonClient, ORCHESTRATION_LOG_MAX_TOPIC_SIZE,
               PIPELINE_SERVICE.getServiceId(), redisConfig.getEnvNamespace()));
+
+      bind(NodeExecutionsInvalidationChannel.class)
+          .toInstance(new RedisNodeExecutionsInvalidationChannel(redissonClient, redisConfig.getEnvNamespace()));
     }
   }
 }
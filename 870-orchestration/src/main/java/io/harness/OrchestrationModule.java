@@ -118,7 +118,10 @@ public class OrchestrationModule extends AbstractModule implements ServersModule
     install(new AbstractWaiterModule() {
       @Override
       public WaiterConfiguration waiterConfiguration() {
-        return WaiterConfiguration.builder().persistenceLayer(PersistenceLayer.SPRING).build();
+        return WaiterConfiguration.builder()
+            .persistenceLayer(PersistenceLayer.SPRING)
+            .localCorrelationIndex(config.isUseLocalWaitCorrelationIndex())
+            .build();
       }
     });
     install(new AbstractOrchestrationDelayModule() {
@@ -26,6 +26,8 @@ import lombok.Value;
 @Builder
 @OwnedBy(HarnessTeam.PIPELINE)
 public class OrchestrationModuleConfig {
+  public static final int DEFAULT_NODE_EXECUTION_BATCH_SIZE = 1000;
+
   @NonNull String serviceName;
   @NonNull ExpressionEvaluatorProvider expressionEvaluatorProvider;
   @Default int corePoolSize = 1;
@@ -47,4 +49,6 @@ public class OrchestrationModuleConfig {
   OrchestrationRedisEventsConfig orchestrationRedisEventsConfig = OrchestrationRedisEventsConfig.builder().build();
   @Default
   OrchestrationLogConfiguration orchestrationLogConfiguration = OrchestrationLogConfiguration.builder().build();
+  @Default int nodeExecutionBatchSize = DEFAULT_NODE_EXECUTION_BATCH_SIZE;
+  boolean useLocalWaitCorrelationIndex;
 }
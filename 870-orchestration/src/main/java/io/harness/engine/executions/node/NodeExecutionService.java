@@ -28,6 +28,7 @@ import java.util.function.Consumer;
 import lombok.NonNull;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.CloseableIterator;
 
 @OwnedBy(PIPELINE)
 public interface NodeExecutionService {
@@ -35,6 +36,14 @@ public interface NodeExecutionService {
 
   NodeExecution getWithFieldsIncluded(String nodeExecutionId, Set<String> fieldsToInclude);
 
+  /**
+   * Fetches the given node executions with as many queries as needed for the configured batch size. Ids which are not
+   * found are left out of the result.
+   */
+  List<NodeExecution> getAll(Set<String> nodeExecutionIds);
+
+  List<NodeExecution> getAllWithFieldsIncluded(Set<String> nodeExecutionIds, Set<String> fieldsToInclude);
+
   NodeExecution getByPlanNodeUuid(String planNodeUuid, String planExecutionId);
 
   List<NodeExecution> fetchNodeExecutions(String planExecutionId);
@@ -45,6 +54,19 @@ public interface NodeExecutionService {
 
   List<NodeExecution> fetchNodeExecutionsWithoutOldRetries(String planExecutionId);
 
+  /**
+   * Iterates over the node executions of a plan execution with a cursor fetching the configured batch size at a time.
+   * The fields to be included are mandatory and the returned iterator must be closed.
+   */
+  CloseableIterator<NodeExecution> fetchNodeExecutionsIterator(
+      String planExecutionId, @NonNull Set<String> fieldsToBeIncluded);
+
+  CloseableIterator<NodeExecution> fetchNodeExecutionsWithoutOldRetriesIterator(
+      String planExecutionId, EnumSet<Status> statuses, @NonNull Set<String> fieldsToBeIncluded);
+
+  CloseableIterator<NodeExecution> fetchChildrenNodeExecutionsIterator(
+      String planExecutionId, String parentId, @NonNull Set<String> fieldsToBeIncluded);
+
   List<NodeExecution> fetchNodeExecutionsWithoutOldRetriesAndStatusIn(
       String planExecutionId, EnumSet<Status> statuses, boolean shouldUseProjections, Set<String> fieldsToBeIncluded);
 
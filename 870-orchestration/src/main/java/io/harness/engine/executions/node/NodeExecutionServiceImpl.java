@@ -21,10 +21,12 @@ import static org.springframework.data.domain.Sort.by;
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 import static org.springframework.data.mongodb.core.query.Query.query;
 
+import io.harness.OrchestrationModuleConfig;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.engine.events.OrchestrationEventEmitter;
 import io.harness.engine.executions.plan.PlanExecutionMetadataService;
 import io.harness.engine.executions.retry.RetryStageInfo;
+import io.harness.engine.expressions.SharedNodeExecutionsCache;
 import io.harness.engine.observers.NodeExecutionStartObserver;
 import io.harness.engine.observers.NodeStartInfo;
 import io.harness.engine.observers.NodeStatusUpdateObserver;
@@ -57,6 +59,8 @@ import io.harness.springdata.TransactionHelper;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Sets;
 import com.google.inject.Inject;
 import com.mongodb.client.result.UpdateResult;
 import java.util.ArrayList;
@@ -64,11 +68,14 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.NonNull;
@@ -81,6 +88,7 @@ import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.CloseableIterator;
 
 @Slf4j
 @OwnedBy(PIPELINE)
@@ -95,6 +103,8 @@ public class NodeExecutionServiceImpl implements NodeExecutionService {
   @Inject private TransactionHelper transactionHelper;
   @Inject private OrchestrationLogPublisher orchestrationLogPublisher;
   @Inject private OrchestrationLogConfiguration orchestrationLogConfiguration;
+  @Inject private SharedNodeExecutionsCache sharedNodeExecutionsCache;
+  @Inject private OrchestrationModuleConfig moduleConfig;
 
   @Getter private final Subject<NodeStatusUpdateObserver> stepStatusUpdateSubject = new Subject<>();
   @Getter private final Subject<NodeExecutionStartObserver> nodeExecutionStartSubject = new Subject<>();
@@ -129,6 +139,27 @@ public class NodeExecutionServiceImpl implements NodeExecutionService {
     return nodeExecution;
   }
 
+  @Override
+  public List<NodeExecution> getAll(Set<String> nodeExecutionIds) {
+    return getAllWithFieldsIncluded(nodeExecutionIds, Collections.emptySet());
+  }
+
+  @Override
+  public List<NodeExecution> getAllWithFieldsIncluded(Set<String> nodeExecutionIds, Set<String> fieldsToInclude) {
+    if (isEmpty(nodeExecutionIds)) {
+      return Collections.emptyList();
+    }
+    List<NodeExecution> nodeExecutions = new ArrayList<>(nodeExecutionIds.size());
+    for (List<String> batch : Iterables.partition(nodeExecutionIds, moduleConfig.getNodeExecutionBatchSize())) {
+      Query query = query(where(NodeExecutionKeys.uuid).in(batch));
+      for (String field : fieldsToInclude) {
+        query.fields().include(field);
+      }
+      nodeExecutions.addAll(mongoTemplate.find(query, NodeExecution.class));
+    }
+    return nodeExecutions;
+  }
+
   // TODO (alexi) : Handle the case where multiple instances are returned
   @Override
   public NodeExecution getByPlanNodeUuid(String planNodeUuid, String planExecutionId) {
@@ -179,6 +210,44 @@ public class NodeExecutionServiceImpl implements NodeExecutionService {
         planExecutionId, EnumSet.noneOf(Status.class), false, new HashSet<>());
   }
 
+  @Override
+  public CloseableIterator<NodeExecution> fetchNodeExecutionsIterator(
+      String planExecutionId, @NonNull Set<String> fieldsToBeIncluded) {
+    Query query = query(where(NodeExecutionKeys.planExecutionId).is(planExecutionId));
+    return stream(query, fieldsToBeIncluded);
+  }
+
+  @Override
+  public CloseableIterator<NodeExecution> fetchNodeExecutionsWithoutOldRetriesIterator(
+      String planExecutionId, EnumSet<Status> statuses, @NonNull Set<String> fieldsToBeIncluded) {
+    Query query = query(where(NodeExecutionKeys.planExecutionId).is(planExecutionId))
+                      .addCriteria(where(NodeExecutionKeys.oldRetry).is(false));
+    if (isNotEmpty(statuses)) {
+      query.addCriteria(where(NodeExecutionKeys.status).in(statuses));
+    }
+    return stream(query, fieldsToBeIncluded);
+  }
+
+  @Override
+  public CloseableIterator<NodeExecution> fetchChildrenNodeExecutionsIterator(
+      String planExecutionId, String parentId, @NonNull Set<String> fieldsToBeIncluded) {
+    Query query = query(where(NodeExecutionKeys.planExecutionId).is(planExecutionId))
+                      .addCriteria(where(NodeExecutionKeys.parentId).is(parentId))
+                      .with(Sort.by(Direction.DESC, NodeExecutionKeys.createdAt));
+    return stream(query, fieldsToBeIncluded);
+  }
+
+  private CloseableIterator<NodeExecution> stream(Query query, Set<String> fieldsToBeIncluded) {
+    if (isEmpty(fieldsToBeIncluded)) {
+      throw new InvalidRequestException("Fields to be included are required to iterate over node executions");
+    }
+    for (String field : fieldsToBeIncluded) {
+      query.fields().include(field);
+    }
+    query.cursorBatchSize(moduleConfig.getNodeExecutionBatchSize());
+    return mongoTemplate.stream(query, NodeExecution.class);
+  }
+
   @Override
   public List<NodeExecution> fetchWithoutRetriesAndStatusIn(String planExecutionId, EnumSet<Status> statuses) {
     Query query = query(where(NodeExecutionKeys.planExecutionId).is(planExecutionId))
@@ -481,6 +550,8 @@ public class NodeExecutionServiceImpl implements NodeExecutionService {
       log.error("Failed to mark node as retry");
       return false;
     }
+    // Retried nodes are not reported to the update observers
+    sharedNodeExecutionsCache.invalidate(nodeExecution);
     orchestrationLogPublisher.onNodeUpdate(NodeUpdateInfo.builder().nodeExecution(nodeExecution).build());
     return true;
   }
@@ -548,10 +619,16 @@ public class NodeExecutionServiceImpl implements NodeExecutionService {
         throw new InvalidRequestException("Excluding nodeExecutionId is not allowed, as its a required field");
       }
     }
-    List<NodeExecution> finalList = new ArrayList<>();
-    List<NodeExecution> allExecutions = fetchNodeExecutionsWithoutOldRetriesAndStatusIn(
-        planExecutionId, flowingStatuses, true, fieldsToBeIncluded, fieldsToBeExcluded);
-    return extractChildExecutions(parentId, includeParent, finalList, allExecutions);
+    // The iterator takes included fields only, exclusions still go through the list
+    if (isEmpty(fieldsToBeIncluded) || isNotEmpty(fieldsToBeExcluded)) {
+      List<NodeExecution> allExecutions = fetchNodeExecutionsWithoutOldRetriesAndStatusIn(
+          planExecutionId, flowingStatuses, true, fieldsToBeIncluded, fieldsToBeExcluded);
+      return extractChildExecutions(parentId, includeParent, new ArrayList<>(), allExecutions.iterator());
+    }
+    try (CloseableIterator<NodeExecution> allExecutions =
+             fetchNodeExecutionsWithoutOldRetriesIterator(planExecutionId, flowingStatuses, fieldsToBeIncluded)) {
+      return extractChildExecutions(parentId, includeParent, new ArrayList<>(), allExecutions);
+    }
   }
 
   @Override
@@ -560,13 +637,18 @@ public class NodeExecutionServiceImpl implements NodeExecutionService {
     List<NodeExecution> finalList = new ArrayList<>();
     List<NodeExecution> allExecutions =
         fetchNodeExecutionsWithoutOldRetriesAndStatusIn(planExecutionId, flowingStatuses, false, new HashSet<>());
-    return extractChildExecutions(parentId, includeParent, finalList, allExecutions);
+    return extractChildExecutions(parentId, includeParent, finalList, allExecutions.iterator());
   }
 
   private List<NodeExecution> extractChildExecutions(
-      String parentId, boolean includeParent, List<NodeExecution> finalList, List<NodeExecution> allExecutions) {
+      String parentId, boolean includeParent, List<NodeExecution> finalList, Iterator<NodeExecution> allExecutions) {
     Map<String, List<NodeExecution>> parentChildrenMap = new HashMap<>();
-    for (NodeExecution execution : allExecutions) {
+    NodeExecution parent = null;
+    while (allExecutions.hasNext()) {
+      NodeExecution execution = allExecutions.next();
+      if (parent == null && execution.getUuid().equals(parentId)) {
+        parent = execution;
+      }
       if (execution.getParentId() == null) {
         parentChildrenMap.put(execution.getUuid(), new ArrayList<>());
       } else if (parentChildrenMap.containsKey(execution.getParentId())) {
@@ -579,10 +661,10 @@ public class NodeExecutionServiceImpl implements NodeExecutionService {
     }
     extractChildList(parentChildrenMap, parentId, finalList);
     if (includeParent) {
-      finalList.add(allExecutions.stream()
-                        .filter(ne -> ne.getUuid().equals(parentId))
-                        .findFirst()
-                        .orElseThrow(() -> new UnexpectedException("Expected parent to be in list")));
+      if (parent == null) {
+        throw new UnexpectedException("Expected parent to be in list");
+      }
+      finalList.add(parent);
     }
     return finalList;
   }
@@ -713,7 +795,6 @@ public class NodeExecutionServiceImpl implements NodeExecutionService {
     return mongoTemplate.find(query, NodeExecution.class);
   }
 
-  // TODO optimize this to remove n+1 queries
   public List<RetryStageInfo> fetchStageDetailFromNodeExecution(List<NodeExecution> nodeExecutionList) {
     List<RetryStageInfo> stageDetails = new ArrayList<>();
 
@@ -721,6 +802,16 @@ public class NodeExecutionServiceImpl implements NodeExecutionService {
       throw new InvalidRequestException("No stage to retry");
     }
 
+    Set<String> parentIds = nodeExecutionList.stream()
+                                .filter(nodeExecution -> nodeExecution.getNextId() == null)
+                                .map(NodeExecution::getParentId)
+                                .filter(Objects::nonNull)
+                                .collect(Collectors.toSet());
+    Map<String, NodeExecution> parents =
+        getAllWithFieldsIncluded(parentIds, Sets.newHashSet(NodeExecutionKeys.uuid, NodeExecutionKeys.nextId))
+            .stream()
+            .collect(Collectors.toMap(NodeExecution::getUuid, Function.identity()));
+
     for (NodeExecution nodeExecution : nodeExecutionList) {
       String nextId = nodeExecution.getNextId();
       String parentId = nodeExecution.getParentId();
@@ -730,13 +821,21 @@ public class NodeExecutionServiceImpl implements NodeExecutionService {
                                        .parentId(parentId)
                                        .createdAt(nodeExecution.getCreatedAt())
                                        .status(ExecutionStatus.getExecutionStatus(nodeExecution.getStatus()))
-                                       .nextId(nextId != null ? nextId : get(parentId).getNextId())
+                                       .nextId(nextId != null ? nextId : getParent(parents, parentId).getNextId())
                                        .build();
       stageDetails.add(stageDetail);
     }
     return stageDetails;
   }
 
+  private NodeExecution getParent(Map<String, NodeExecution> parents, String parentId) {
+    NodeExecution parent = parents.get(parentId);
+    if (parent == null) {
+      throw new InvalidRequestException("Node Execution is null for id: " + parentId);
+    }
+    return parent;
+  }
+
   @Override
   public List<String> fetchStageFqnFromStageIdentifiers(String planExecutionId, List<String> stageIdentifiers) {
     Query query = query(where(NodeExecutionKeys.planExecutionId).is(planExecutionId))
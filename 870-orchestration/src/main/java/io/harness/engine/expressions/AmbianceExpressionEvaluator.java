@@ -71,6 +71,7 @@ public class AmbianceExpressionEvaluator extends EngineExpressionEvaluator {
   @Inject private NodeExecutionService nodeExecutionService;
   @Inject private PlanExecutionService planExecutionService;
   @Inject private PlanService planService;
+  @Inject private SharedNodeExecutionsCache sharedNodeExecutionsCache;
   @Inject private InputSetValidatorFactory inputSetValidatorFactory;
 
   protected final Ambiance ambiance;
@@ -120,7 +121,8 @@ public class AmbianceExpressionEvaluator extends EngineExpressionEvaluator {
       return;
     }
 
-    nodeExecutionsCache = new NodeExecutionsCache(nodeExecutionService, planService, ambiance);
+    nodeExecutionsCache =
+        new NodeExecutionsCache(nodeExecutionService, planService, ambiance, sharedNodeExecutionsCache);
     // Access StepParameters and Outcomes of self and children.
     addToContext("child",
         NodeExecutionChildFunctor.builder()
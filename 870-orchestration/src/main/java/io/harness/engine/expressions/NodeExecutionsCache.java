@@ -22,6 +22,7 @@ import io.harness.pms.execution.utils.NodeProjectionUtils;
 import io.harness.pms.execution.utils.StatusUtils;
 
 import com.google.common.collect.Sets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -42,12 +43,23 @@ public class NodeExecutionsCache {
   Map<String, NodeExecution> map;
   Map<String, List<String>> childrenMap;
   Map<String, Node> nodeMap;
+  SharedNodeExecutionsCache sharedCache;
 
-  @Builder
   public NodeExecutionsCache(NodeExecutionService nodeExecutionService, PlanService planService, Ambiance ambiance) {
+    this(nodeExecutionService, planService, ambiance, null);
+  }
+
+  /**
+   * @param sharedCache cache shared with the other evaluators of the plan execution, consulted when an entry is not
+   *                    found in this one. Can be null
+   */
+  @Builder
+  public NodeExecutionsCache(NodeExecutionService nodeExecutionService, PlanService planService, Ambiance ambiance,
+      SharedNodeExecutionsCache sharedCache) {
     this.nodeExecutionService = nodeExecutionService;
     this.planService = planService;
     this.ambiance = ambiance;
+    this.sharedCache = sharedCache;
     this.nodeMap = new HashMap<>();
     this.map = new HashMap<>();
     this.childrenMap = new HashMap<>();
@@ -61,8 +73,14 @@ public class NodeExecutionsCache {
       return map.get(nodeExecutionId);
     }
 
-    NodeExecution nodeExecution =
-        nodeExecutionService.getWithFieldsIncluded(nodeExecutionId, NodeProjectionUtils.fieldsForExpressionEngine);
+    NodeExecution nodeExecution = sharedCache == null ? null : sharedCache.getNodeExecution(ambiance, nodeExecutionId);
+    if (nodeExecution == null) {
+      nodeExecution =
+          nodeExecutionService.getWithFieldsIncluded(nodeExecutionId, NodeProjectionUtils.fieldsForExpressionEngine);
+      if (sharedCache != null) {
+        sharedCache.putNodeExecution(ambiance, nodeExecution);
+      }
+    }
     map.put(nodeExecutionId, nodeExecution);
     return nodeExecution;
   }
@@ -76,6 +94,8 @@ public class NodeExecutionsCache {
    * Adds all the children to the {@link NodeExecutionsCache#map} and populates
    * {@link NodeExecutionsCache#childrenMap} with parentId => List#childIds
    *
+   * Children of finished parents are looked up in and added to the {@link NodeExecutionsCache#sharedCache} too
+   *
    */
   public synchronized List<NodeExecution> fetchChildren(String parentId) {
     String childrenMapKey = parentId == null ? NULL_PARENT_ID : parentId;
@@ -88,15 +108,22 @@ public class NodeExecutionsCache {
       return ids.stream().map(map::get).filter(Objects::nonNull).collect(Collectors.toList());
     }
 
-    List<NodeExecution> childExecutions = nodeExecutionService.fetchChildrenNodeExecutions(
-        ambiance.getPlanExecutionId(), parentId, NodeProjectionUtils.fieldsForExpressionEngine);
+    List<NodeExecution> sharedChildExecutions =
+        sharedCache == null || parentId == null ? null : sharedCache.getChildren(ambiance, parentId);
+    List<NodeExecution> childExecutions = sharedChildExecutions != null
+        ? new ArrayList<>(sharedChildExecutions)
+        : nodeExecutionService.fetchChildrenNodeExecutions(
+            ambiance.getPlanExecutionId(), parentId, NodeProjectionUtils.fieldsForExpressionEngine);
+    if (sharedChildExecutions == null && sharedCache != null && parentId != null && childExecutions != null) {
+      sharedCache.putChildren(ambiance, map.get(parentId), childExecutions);
+    }
     if (EmptyPredicate.isEmpty(childExecutions)) {
-      childrenMap.put(parentId, Collections.emptyList());
+      childrenMap.put(childrenMapKey, Collections.emptyList());
       return Collections.emptyList();
     }
 
     childExecutions.forEach(childExecution -> map.put(childExecution.getUuid(), childExecution));
-    childrenMap.put(parentId, childExecutions.stream().map(NodeExecution::getUuid).collect(Collectors.toList()));
+    childrenMap.put(childrenMapKey, childExecutions.stream().map(NodeExecution::getUuid).collect(Collectors.toList()));
     return childExecutions;
   }
 
@@ -120,7 +147,13 @@ public class NodeExecutionsCache {
       return nodeMap.get(nodeId);
     }
 
-    Node node = planService.fetchNode(ambiance.getPlanId(), nodeId);
+    Node node = sharedCache == null ? null : sharedCache.getNode(ambiance, nodeId);
+    if (node == null) {
+      node = planService.fetchNode(ambiance.getPlanId(), nodeId);
+      if (sharedCache != null) {
+        sharedCache.putNode(ambiance, nodeId, node);
+      }
+    }
     nodeMap.put(nodeId, node);
     return node;
   }
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.engine.expressions;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.List;
+
+/**
+ * Delivers the invalidations of the shared node executions to every instance of the service, the publishing one
+ * included.
+ */
+@OwnedBy(PIPELINE)
+public interface NodeExecutionsInvalidationChannel {
+  void publish(String planExecutionId, List<String> nodeExecutionIds);
+
+  /**
+   * The listener is also told to invalidate everything whenever invalidations may have been missed, for example after
+   * the instance reconnected to the channel.
+   */
+  void subscribe(Listener listener);
+
+  interface Listener {
+    void invalidate(String planExecutionId, List<String> nodeExecutionIds);
+
+    void invalidateAll();
+  }
+}
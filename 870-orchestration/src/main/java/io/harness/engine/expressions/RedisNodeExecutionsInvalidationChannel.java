@@ -0,0 +1,64 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.engine.expressions;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.BaseStatusListener;
+import org.redisson.client.codec.StringCodec;
+
+/**
+ * Publishes the invalidations on a redis pub/sub topic which every instance of the service subscribes to. A message is
+ * the plan execution id followed by the node execution ids. Messages published while an instance is disconnected are
+ * lost, so the instance drops everything when it subscribes again.
+ */
+@OwnedBy(PIPELINE)
+@Slf4j
+public class RedisNodeExecutionsInvalidationChannel implements NodeExecutionsInvalidationChannel {
+  private static final String TOPIC_NAME = "nodeExecutionsInvalidations";
+  private static final String SEPARATOR = "\n";
+
+  private final RTopic topic;
+
+  public RedisNodeExecutionsInvalidationChannel(RedissonClient redissonClient, String envNamespace) {
+    String topicName = isEmpty(envNamespace) ? TOPIC_NAME : envNamespace + ":" + TOPIC_NAME;
+    this.topic = redissonClient.getTopic(topicName, StringCodec.INSTANCE);
+  }
+
+  @Override
+  public void publish(String planExecutionId, List<String> nodeExecutionIds) {
+    List<String> parts = new ArrayList<>(nodeExecutionIds.size() + 1);
+    parts.add(planExecutionId);
+    parts.addAll(nodeExecutionIds);
+    topic.publish(String.join(SEPARATOR, parts));
+  }
+
+  @Override
+  public void subscribe(Listener listener) {
+    topic.addListener(String.class, (channel, message) -> {
+      List<String> parts = Arrays.asList(message.split(SEPARATOR));
+      listener.invalidate(parts.get(0), parts.subList(1, parts.size()));
+    });
+    topic.addListener(new BaseStatusListener() {
+      @Override
+      public void onSubscribe(String channel) {
+        log.info("Subscribed to {}, invalidations published before are not received", channel);
+        listener.invalidateAll();
+      }
+    });
+  }
+}
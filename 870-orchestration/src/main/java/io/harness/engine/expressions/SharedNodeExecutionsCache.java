@@ -0,0 +1,251 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.engine.expressions;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.engine.observers.NodeStatusUpdateObserver;
+import io.harness.engine.observers.NodeUpdateInfo;
+import io.harness.engine.observers.NodeUpdateObserver;
+import io.harness.engine.observers.OrchestrationEndObserver;
+import io.harness.execution.NodeExecution;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.plan.Node;
+import io.harness.pms.contracts.ambiance.Ambiance;
+import io.harness.pms.events.PmsEventMonitoringConstants;
+import io.harness.pms.events.base.PmsMetricContextGuard;
+import io.harness.pms.execution.utils.AmbianceUtils;
+import io.harness.pms.execution.utils.StatusUtils;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.collect.ImmutableList;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Node executions and plan nodes read by the expression engine, shared by all the evaluators of a plan execution in
+ * this process. Only node executions in a final status and the children of such node executions are kept, as they do
+ * not change unless the node is retried or its status is changed by an interrupt. Those updates invalidate the entries
+ * here and reach the other instances through a {@link NodeExecutionsInvalidationChannel}. Without one, or when an
+ * invalidation could not be published, entries are still served for at most {@link #ENTRY_EXPIRY_MINUTES} after they
+ * were written.
+ *
+ * The entries of a plan execution are dropped when it ends, at which point its hits and misses are published.
+ */
+@OwnedBy(PIPELINE)
+@Singleton
+@Slf4j
+public class SharedNodeExecutionsCache
+    implements NodeStatusUpdateObserver, NodeUpdateObserver, OrchestrationEndObserver {
+  private static final String CACHE_HITS_METRIC_NAME = "node_execution_cache_hits";
+  private static final String CACHE_MISSES_METRIC_NAME = "node_execution_cache_misses";
+
+  private static final int MAX_PLAN_EXECUTIONS = 1000;
+  private static final int MAX_ENTRIES_PER_PLAN_EXECUTION = 2000;
+  private static final long PLAN_EXECUTION_IDLE_MINUTES = 30;
+  private static final long ENTRY_EXPIRY_MINUTES = 2;
+
+  @Inject(optional = true) private MetricService metricService;
+  private volatile NodeExecutionsInvalidationChannel invalidationChannel;
+
+  private final Cache<String, PlanExecutionEntries> planExecutions =
+      CacheBuilder.newBuilder()
+          .maximumSize(MAX_PLAN_EXECUTIONS)
+          .expireAfterAccess(PLAN_EXECUTION_IDLE_MINUTES, TimeUnit.MINUTES)
+          .<String, PlanExecutionEntries>removalListener(this::onPlanExecutionRemoval)
+          .build();
+
+  @Inject(optional = true)
+  void setInvalidationChannel(NodeExecutionsInvalidationChannel invalidationChannel) {
+    invalidationChannel.subscribe(new NodeExecutionsInvalidationChannel.Listener() {
+      @Override
+      public void invalidate(String planExecutionId, List<String> nodeExecutionIds) {
+        invalidateLocally(planExecutionId, nodeExecutionIds);
+      }
+
+      @Override
+      public void invalidateAll() {
+        log.info("Invalidating all the shared node executions");
+        planExecutions.invalidateAll();
+      }
+    });
+    this.invalidationChannel = invalidationChannel;
+  }
+
+  public NodeExecution getNodeExecution(Ambiance ambiance, String nodeExecutionId) {
+    PlanExecutionEntries entries = entries(ambiance);
+    return entries.record(entries.nodeExecutions.getIfPresent(nodeExecutionId));
+  }
+
+  public void putNodeExecution(Ambiance ambiance, NodeExecution nodeExecution) {
+    if (nodeExecution != null && StatusUtils.isFinalStatus(nodeExecution.getStatus())) {
+      entries(ambiance).nodeExecutions.put(nodeExecution.getUuid(), nodeExecution);
+    }
+  }
+
+  public List<NodeExecution> getChildren(Ambiance ambiance, String parentId) {
+    PlanExecutionEntries entries = entries(ambiance);
+    return entries.record(entries.children.getIfPresent(parentId));
+  }
+
+  /**
+   * The children are kept only if the parent is in a final status, while it runs new children can still be started.
+   */
+  public void putChildren(Ambiance ambiance, NodeExecution parent, List<NodeExecution> children) {
+    if (parent == null || !StatusUtils.isFinalStatus(parent.getStatus())
+        || !children.stream().allMatch(child -> StatusUtils.isFinalStatus(child.getStatus()))) {
+      return;
+    }
+    entries(ambiance).children.put(parent.getUuid(), ImmutableList.copyOf(children));
+  }
+
+  public Node getNode(Ambiance ambiance, String nodeId) {
+    PlanExecutionEntries entries = entries(ambiance);
+    return entries.record(entries.nodes.getIfPresent(nodeId));
+  }
+
+  public void putNode(Ambiance ambiance, String nodeId, Node node) {
+    if (node != null) {
+      entries(ambiance).nodes.put(nodeId, node);
+    }
+  }
+
+  public void invalidate(NodeExecution nodeExecution) {
+    if (nodeExecution == null || nodeExecution.getAmbiance() == null) {
+      return;
+    }
+    String planExecutionId = nodeExecution.getAmbiance().getPlanExecutionId();
+    List<String> nodeExecutionIds = new ArrayList<>();
+    nodeExecutionIds.add(nodeExecution.getUuid());
+    String parentId = AmbianceUtils.obtainParentRuntimeId(nodeExecution.getAmbiance());
+    if (parentId != null) {
+      nodeExecutionIds.add(parentId);
+    }
+    invalidateLocally(planExecutionId, nodeExecutionIds);
+
+    NodeExecutionsInvalidationChannel channel = invalidationChannel;
+    if (channel != null) {
+      try {
+        channel.publish(planExecutionId, nodeExecutionIds);
+      } catch (Exception ex) {
+        log.error("Unable to publish the invalidation of node execution {}, other instances may serve it for up to {} "
+                + "minutes",
+            nodeExecution.getUuid(), ENTRY_EXPIRY_MINUTES, ex);
+      }
+    }
+  }
+
+  /**
+   * Drops the node executions and the children of the given ids, the parent of an updated node is passed for its
+   * children.
+   */
+  private void invalidateLocally(String planExecutionId, List<String> nodeExecutionIds) {
+    PlanExecutionEntries entries = planExecutions.getIfPresent(planExecutionId);
+    if (entries == null) {
+      return;
+    }
+    entries.nodeExecutions.invalidateAll(nodeExecutionIds);
+    entries.children.invalidateAll(nodeExecutionIds);
+  }
+
+  @Override
+  public void onNodeStatusUpdate(NodeUpdateInfo nodeUpdateInfo) {
+    invalidate(nodeUpdateInfo.getNodeExecution());
+  }
+
+  @Override
+  public void onNodeUpdate(NodeUpdateInfo nodeUpdateInfo) {
+    invalidate(nodeUpdateInfo.getNodeExecution());
+  }
+
+  @Override
+  public void onEnd(Ambiance ambiance) {
+    planExecutions.invalidate(ambiance.getPlanExecutionId());
+  }
+
+  @VisibleForTesting
+  long hits(String planExecutionId) {
+    PlanExecutionEntries entries = planExecutions.getIfPresent(planExecutionId);
+    return entries == null ? 0 : entries.hits.get();
+  }
+
+  @VisibleForTesting
+  long misses(String planExecutionId) {
+    PlanExecutionEntries entries = planExecutions.getIfPresent(planExecutionId);
+    return entries == null ? 0 : entries.misses.get();
+  }
+
+  private PlanExecutionEntries entries(Ambiance ambiance) {
+    return planExecutions.asMap().computeIfAbsent(
+        ambiance.getPlanExecutionId(), planExecutionId -> new PlanExecutionEntries(ambiance));
+  }
+
+  private void onPlanExecutionRemoval(RemovalNotification<String, PlanExecutionEntries> notification) {
+    PlanExecutionEntries entries = notification.getValue();
+    if (entries == null || entries.hits.get() + entries.misses.get() == 0) {
+      return;
+    }
+    log.info("NodeExecutions cache for planExecutionId {} had {} hits and {} misses", notification.getKey(),
+        entries.hits.get(), entries.misses.get());
+    if (metricService == null) {
+      return;
+    }
+    try (PmsMetricContextGuard ignore = new PmsMetricContextGuard(entries.metricContextMap())) {
+      metricService.recordMetric(CACHE_HITS_METRIC_NAME, entries.hits.get());
+      metricService.recordMetric(CACHE_MISSES_METRIC_NAME, entries.misses.get());
+    } catch (Exception e) {
+      log.error("Failed to record NodeExecutions cache metrics for planExecutionId {}", notification.getKey(), e);
+    }
+  }
+
+  private static class PlanExecutionEntries {
+    private final Ambiance ambiance;
+    private final Cache<String, NodeExecution> nodeExecutions = newEntryCache();
+    private final Cache<String, List<NodeExecution>> children = newEntryCache();
+    private final Cache<String, Node> nodes = newEntryCache();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    PlanExecutionEntries(Ambiance ambiance) {
+      this.ambiance = ambiance;
+    }
+
+    private static <T> Cache<String, T> newEntryCache() {
+      return CacheBuilder.newBuilder()
+          .maximumSize(MAX_ENTRIES_PER_PLAN_EXECUTION)
+          .expireAfterWrite(ENTRY_EXPIRY_MINUTES, TimeUnit.MINUTES)
+          .build();
+    }
+
+    <T> T record(T value) {
+      (value == null ? misses : hits).incrementAndGet();
+      return value;
+    }
+
+    Map<String, String> metricContextMap() {
+      Map<String, String> metricContextMap = new HashMap<>();
+      metricContextMap.put(PmsEventMonitoringConstants.ACCOUNT_ID, AmbianceUtils.getAccountId(ambiance));
+      metricContextMap.put(PmsEventMonitoringConstants.ORG_ID, AmbianceUtils.getOrgIdentifier(ambiance));
+      metricContextMap.put(PmsEventMonitoringConstants.PROJECT_ID, AmbianceUtils.getProjectIdentifier(ambiance));
+      metricContextMap.put(
+          PmsEventMonitoringConstants.PIPELINE_IDENTIFIER, ambiance.getMetadata().getPipelineIdentifier());
+      return metricContextMap;
+    }
+  }
+}
@@ -9,10 +9,13 @@ package io.harness.execution.consumers;
 
 import static io.harness.OrchestrationEventsFrameworkConstants.SDK_RESPONSE_EVENT_CONSUMER;
 import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+import static io.harness.pms.events.PmsEventFrameworkConstants.PLAN_EXECUTION_ID;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.eventsframework.api.Consumer;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.pms.events.base.PmsAbstractRedisConsumer;
+import io.harness.pms.events.base.PmsPartitionedMessageProcessor;
 import io.harness.queue.QueueController;
 
 import com.google.inject.Inject;
@@ -25,10 +28,19 @@ import lombok.extern.slf4j.Slf4j;
 @OwnedBy(PIPELINE)
 @Singleton
 public class SdkResponseEventRedisConsumer extends PmsAbstractRedisConsumer<SdkResponseEventMessageListener> {
+  private static final int PARTITION_WORKERS = 10;
+
+  /**
+   * The responses of an execution are handled in the order they were published, responses of different executions in
+   * parallel.
+   */
   @Inject
   public SdkResponseEventRedisConsumer(@Named(SDK_RESPONSE_EVENT_CONSUMER) Consumer redisConsumer,
       SdkResponseEventMessageListener sdkResponseMessageListener,
-      @Named("pmsEventsCache") Cache<String, Integer> eventsCache, QueueController queueController) {
-    super(redisConsumer, sdkResponseMessageListener, eventsCache, queueController);
+      @Named("pmsEventsCache") Cache<String, Integer> eventsCache, QueueController queueController,
+      MetricService metricService) {
+    super(redisConsumer, sdkResponseMessageListener, eventsCache, queueController,
+        new PmsPartitionedMessageProcessor(
+            SdkResponseEventRedisConsumer.class.getSimpleName(), PLAN_EXECUTION_ID, PARTITION_WORKERS, metricService));
   }
 }
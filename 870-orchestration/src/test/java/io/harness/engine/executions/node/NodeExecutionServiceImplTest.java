@@ -45,8 +45,11 @@ import io.harness.rule.Owner;
 import io.harness.utils.AmbianceTestUtils;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Sets;
 import com.google.inject.Inject;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
@@ -58,6 +61,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.CloseableIterator;
 
 @OwnedBy(HarnessTeam.PIPELINE)
 public class NodeExecutionServiceImplTest extends OrchestrationTestBase {
@@ -361,6 +365,45 @@ public class NodeExecutionServiceImplTest extends OrchestrationTestBase {
         .containsExactlyInAnyOrder(nodeExecution.getUuid(), nodeExecution1.getUuid());
   }
 
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldTestIterateAndGetAllWithProjections() {
+    String planExecutionUuid = generateUuid();
+    String parentId = generateUuid();
+    List<String> ids = Arrays.asList(generateUuid(), generateUuid(), generateUuid());
+    for (String id : ids) {
+      nodeExecutionService.save(NodeExecution.builder()
+                                    .uuid(id)
+                                    .parentId(parentId)
+                                    .ambiance(Ambiance.newBuilder().setPlanExecutionId(planExecutionUuid).build())
+                                    .name("name")
+                                    .identifier(generateUuid())
+                                    .module("CD")
+                                    .startTs(System.currentTimeMillis())
+                                    .status(Status.SUCCEEDED)
+                                    .build());
+    }
+
+    List<NodeExecution> iterated = new ArrayList<>();
+    try (CloseableIterator<NodeExecution> iterator = nodeExecutionService.fetchChildrenNodeExecutionsIterator(
+             planExecutionUuid, parentId, Sets.newHashSet(NodeExecutionKeys.status))) {
+      iterator.forEachRemaining(iterated::add);
+    }
+    assertThat(iterated).extracting(NodeExecution::getUuid).containsExactlyInAnyOrderElementsOf(ids);
+    assertThat(iterated).extracting(NodeExecution::getStatus).containsOnly(Status.SUCCEEDED);
+    assertThat(iterated).extracting(NodeExecution::getName).containsOnlyNulls();
+
+    List<NodeExecution> fetched = nodeExecutionService.getAllWithFieldsIncluded(
+        Sets.newHashSet(ids.get(0), ids.get(2), generateUuid()), Sets.newHashSet(NodeExecutionKeys.name));
+    assertThat(fetched).extracting(NodeExecution::getUuid).containsExactlyInAnyOrder(ids.get(0), ids.get(2));
+    assertThat(fetched).extracting(NodeExecution::getName).containsOnly("name");
+
+    assertThatThrownBy(()
+                           -> nodeExecutionService.fetchNodeExecutionsIterator(planExecutionUuid, Collections.emptySet()))
+        .isInstanceOf(InvalidRequestException.class);
+  }
+
   @Test
   @Owner(developers = ALEXEI)
   @Category(UnitTests.class)
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.engine.expressions;
+
+import static io.harness.rule.OwnerRule.ARCHIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.engine.executions.node.NodeExecutionService;
+import io.harness.engine.executions.plan.PlanService;
+import io.harness.engine.observers.NodeUpdateInfo;
+import io.harness.execution.NodeExecution;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.pms.contracts.ambiance.Ambiance;
+import io.harness.pms.contracts.ambiance.Level;
+import io.harness.pms.contracts.execution.Status;
+import io.harness.pms.execution.utils.NodeProjectionUtils;
+import io.harness.rule.Owner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class SharedNodeExecutionsCacheTest extends CategoryTest {
+  private static final String PLAN_EXECUTION_ID = "PLAN_EXECUTION_ID";
+
+  @Mock NodeExecutionService nodeExecutionService;
+  @Mock PlanService planService;
+  @Mock MetricService metricService;
+  @InjectMocks SharedNodeExecutionsCache sharedCache;
+
+  private Ambiance ambiance;
+
+  @Before
+  public void setup() {
+    MockitoAnnotations.initMocks(this);
+    ambiance = Ambiance.newBuilder().setPlanExecutionId(PLAN_EXECUTION_ID).build();
+  }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void shouldShareFinishedNodeExecutionsAcrossEvaluators() {
+    NodeExecution finished = nodeExecution("FINISHED", Status.SUCCEEDED);
+    NodeExecution running = nodeExecution("RUNNING", Status.RUNNING);
+    when(nodeExecutionService.getWithFieldsIncluded("FINISHED", NodeProjectionUtils.fieldsForExpressionEngine))
+        .thenReturn(finished);
+    when(nodeExecutionService.getWithFieldsIncluded("RUNNING", NodeProjectionUtils.fieldsForExpressionEngine))
+        .thenReturn(running);
+
+    for (int i = 0; i < 2; i++) {
+      NodeExecutionsCache cache = new NodeExecutionsCache(nodeExecutionService, planService, ambiance, sharedCache);
+      assertThat(cache.fetch("FINISHED")).isSameAs(finished);
+      assertThat(cache.fetch("RUNNING")).isSameAs(running);
+    }
+
+    verify(nodeExecutionService, times(1))
+        .getWithFieldsIncluded("FINISHED", NodeProjectionUtils.fieldsForExpressionEngine);
+    verify(nodeExecutionService, times(2))
+        .getWithFieldsIncluded("RUNNING", NodeProjectionUtils.fieldsForExpressionEngine);
+    assertThat(sharedCache.hits(PLAN_EXECUTION_ID)).isEqualTo(1);
+    assertThat(sharedCache.misses(PLAN_EXECUTION_ID)).isEqualTo(3);
+  }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void shouldShareChildrenOnlyOnceTheParentFinished() {
+    NodeExecution child = nodeExecution("CHILD", Status.SUCCEEDED);
+    when(nodeExecutionService.getWithFieldsIncluded("PARENT", NodeProjectionUtils.fieldsForExpressionEngine))
+        .thenReturn(nodeExecution("PARENT", Status.RUNNING), nodeExecution("PARENT", Status.SUCCEEDED));
+    when(nodeExecutionService.fetchChildrenNodeExecutions(
+             PLAN_EXECUTION_ID, "PARENT", NodeProjectionUtils.fieldsForExpressionEngine))
+        .thenReturn(Collections.singletonList(child));
+
+    NodeExecutionsCache cache = new NodeExecutionsCache(nodeExecutionService, planService, ambiance, sharedCache);
+    cache.fetch("PARENT");
+    cache.fetchChildren("PARENT");
+    assertThat(sharedCache.getChildren(ambiance, "PARENT")).isNull();
+
+    cache = new NodeExecutionsCache(nodeExecutionService, planService, ambiance, sharedCache);
+    cache.fetch("PARENT");
+    cache.fetchChildren("PARENT");
+    assertThat(sharedCache.getChildren(ambiance, "PARENT")).containsExactly(child);
+  }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void shouldInvalidateOnStatusUpdateAndPublishOnEnd() {
+    Ambiance nodeAmbiance = ambiance.toBuilder()
+                                .addLevels(Level.newBuilder().setRuntimeId("PARENT").build())
+                                .addLevels(Level.newBuilder().setRuntimeId("FINISHED").build())
+                                .build();
+    NodeExecution finished =
+        NodeExecution.builder().uuid("FINISHED").ambiance(nodeAmbiance).status(Status.FAILED).build();
+    sharedCache.putNodeExecution(ambiance, finished);
+    sharedCache.putChildren(ambiance, nodeExecution("PARENT", Status.FAILED), Collections.singletonList(finished));
+    assertThat(sharedCache.getNodeExecution(ambiance, "FINISHED")).isSameAs(finished);
+
+    sharedCache.onNodeStatusUpdate(NodeUpdateInfo.builder().nodeExecution(finished).build());
+    assertThat(sharedCache.getNodeExecution(ambiance, "FINISHED")).isNull();
+    assertThat(sharedCache.getChildren(ambiance, "PARENT")).isNull();
+
+    sharedCache.onEnd(ambiance);
+    verify(metricService).recordMetric(eq("node_execution_cache_hits"), eq(1.0));
+    verify(metricService).recordMetric(eq("node_execution_cache_misses"), eq(2.0));
+    assertThat(sharedCache.hits(PLAN_EXECUTION_ID)).isZero();
+  }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void shouldInvalidateNodeExecutionsCachedByOtherInstances() {
+    List<NodeExecutionsInvalidationChannel.Listener> listeners = new ArrayList<>();
+    NodeExecutionsInvalidationChannel channel = new NodeExecutionsInvalidationChannel() {
+      @Override
+      public void publish(String planExecutionId, List<String> nodeExecutionIds) {
+        listeners.forEach(listener -> listener.invalidate(planExecutionId, nodeExecutionIds));
+      }
+
+      @Override
+      public void subscribe(Listener listener) {
+        listeners.add(listener);
+      }
+    };
+    SharedNodeExecutionsCache otherInstanceCache = new SharedNodeExecutionsCache();
+    otherInstanceCache.setInvalidationChannel(channel);
+    sharedCache.setInvalidationChannel(channel);
+    NodeExecution finished = nodeExecution("FINISHED", Status.SUCCEEDED);
+    otherInstanceCache.putNodeExecution(ambiance, finished);
+    otherInstanceCache.putNodeExecution(ambiance, nodeExecution("OTHER", Status.SUCCEEDED));
+
+    sharedCache.onNodeStatusUpdate(NodeUpdateInfo.builder().nodeExecution(finished).build());
+    assertThat(otherInstanceCache.getNodeExecution(ambiance, "FINISHED")).isNull();
+    assertThat(otherInstanceCache.getNodeExecution(ambiance, "OTHER")).isNotNull();
+
+    listeners.forEach(NodeExecutionsInvalidationChannel.Listener::invalidateAll);
+    assertThat(otherInstanceCache.getNodeExecution(ambiance, "OTHER")).isNull();
+  }
+
+  private NodeExecution nodeExecution(String uuid, Status status) {
+    return NodeExecution.builder().uuid(uuid).ambiance(ambiance).status(status).build();
+  }
+}
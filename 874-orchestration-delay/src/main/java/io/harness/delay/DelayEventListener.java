@@ -20,11 +20,15 @@ import lombok.extern.slf4j.Slf4j;
 @OwnedBy(CDC)
 @Slf4j
 public class DelayEventListener extends QueueListener<DelayEvent> {
+  // Delays scheduled together expire together, and notifying is a single insert, so they are claimed in batches
+  private static final int BATCH_SIZE = 20;
+
   @Inject private WaitNotifyEngine waitNotifyEngine;
 
   @Inject
   public DelayEventListener(QueueConsumer<DelayEvent> queueConsumer) {
     super(queueConsumer, false);
+    setBatchSize(BATCH_SIZE);
   }
 
   @Override
@@ -40,6 +40,17 @@ public class NodeProjectionUtils {
       NodeExecutionKeys.ambiance, NodeExecutionKeys.mode, NodeExecutionKeys.startTs, NodeExecutionKeys.endTs,
       NodeExecutionKeys.parentId, NodeExecutionKeys.resolvedParams, NodeExecutionKeys.oldRetry);
 
+  public static final Set<String> fieldsForGraph = Sets.newHashSet(NodeExecutionKeys.ambiance,
+      NodeExecutionKeys.planNode, NodeExecutionKeys.mode, NodeExecutionKeys.createdAt, NodeExecutionKeys.startTs,
+      NodeExecutionKeys.endTs, NodeExecutionKeys.initialWaitDuration, NodeExecutionKeys.lastUpdatedAt,
+      NodeExecutionKeys.status, NodeExecutionKeys.failureInfo, NodeExecutionKeys.skipInfo, NodeExecutionKeys.nodeRunInfo,
+      NodeExecutionKeys.executableResponses, NodeExecutionKeys.interruptHistories, NodeExecutionKeys.retryIds,
+      NodeExecutionKeys.oldRetry, NodeExecutionKeys.unitProgresses, NodeExecutionKeys.progressData,
+      NodeExecutionKeys.resolvedInputs, NodeExecutionKeys.parentId, NodeExecutionKeys.previousId,
+      NodeExecutionKeys.nextId, NodeExecutionKeys.originalNodeExecutionId, NodeExecutionKeys.skipGraphType,
+      NodeExecutionKeys.name, NodeExecutionKeys.stepType, NodeExecutionKeys.identifier, NodeExecutionKeys.nodeId,
+      NodeExecutionKeys.module, NodeExecutionKeys.group);
+
   public static Set<String> forFacilitation = Sets.newHashSet(NodeExecutionKeys.ambiance,
       NodeExecutionKeys.originalNodeExecutionId, NodeExecutionKeys.module, NodeExecutionKeys.resolvedParams);
 }
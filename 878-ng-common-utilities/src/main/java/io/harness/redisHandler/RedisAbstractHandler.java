@@ -10,6 +10,7 @@ package io.harness.redisHandler;
 import static io.serializer.HObjectMapper.NG_DEFAULT_OBJECT_MAPPER;
 
 import io.harness.debezium.DebeziumChangeEvent;
+import io.harness.debezium.DebeziumChangeEventValues;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -29,7 +30,7 @@ public abstract class RedisAbstractHandler {
   public boolean handleEvent(DebeziumChangeEvent event) {
     String optype = event.getOptype();
     String id = getId(event.getKey());
-    String value = event.getValue();
+    String value = DebeziumChangeEventValues.getValue(event);
     switch (optype) {
       case "SNAPSHOT":
       case "CREATE":
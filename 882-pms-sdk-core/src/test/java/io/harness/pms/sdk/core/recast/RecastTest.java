@@ -260,6 +260,35 @@ public class RecastTest extends PmsSdkCoreTestBase {
     assertThat(objectNode1).isEqualTo(wrapperConfigListi);
   }
 
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldStreamSameJsonAsMap() {
+    ObjectMapper objectMapper = new ObjectMapper();
+    YamlNodeWrapperConfig yamlNodeWrapperConfig = YamlNodeWrapperConfig.builder()
+                                                      .step(objectMapper.createArrayNode().add("step"))
+                                                      .nullNode(NullNode.getInstance())
+                                                      .intNode(IntNode.valueOf(Integer.MAX_VALUE))
+                                                      .textNode(TextNode.valueOf(ALEXEI))
+                                                      .build();
+    YamlNodeWrapperConfigList wrapperConfigList = new YamlNodeWrapperConfigList();
+    wrapperConfigList.setList(ImmutableList.of(yamlNodeWrapperConfig, YamlNodeWrapperConfig.builder().build()));
+
+    String json = RecastOrchestrationUtils.toJson(wrapperConfigList);
+    assertThat(json).isEqualTo(RecastOrchestrationUtils.toJson(RecastOrchestrationUtils.toMap(wrapperConfigList)));
+    assertThat(RecastOrchestrationUtils.fromJson(json, YamlNodeWrapperConfigList.class)).isEqualTo(wrapperConfigList);
+    assertThat(RecastOrchestrationUtils.fromBytes(
+                   RecastOrchestrationUtils.toBytes(wrapperConfigList), YamlNodeWrapperConfigList.class))
+        .isEqualTo(wrapperConfigList);
+
+    ProtoAsAFieldClass protoAsAFieldClass =
+        ProtoAsAFieldClass.builder()
+            .executionErrorInfo(ExecutionErrorInfo.newBuilder().setMessage("some-message").build())
+            .build();
+    assertThat(RecastOrchestrationUtils.toJson(protoAsAFieldClass))
+        .isEqualTo(RecastOrchestrationUtils.toJson(RecastOrchestrationUtils.toMap(protoAsAFieldClass)));
+  }
+
   @Builder
   @NoArgsConstructor
   @AllArgsConstructor
@@ -10,5 +10,6 @@ package io.harness.pms.events;
 public class PmsEventFrameworkConstants {
   public static final String SERVICE_NAME = "SERVICE_NAME";
   public static final String PIPELINE_MONITORING_ENABLED = "PIPELINE_MONITORING_ENABLED";
+  public static final String PLAN_EXECUTION_ID = "planExecutionId";
   public static final int MAX_PROCESSING_TIME_SECONDS = 10;
 }
@@ -19,9 +19,11 @@ import io.harness.eventsframework.api.Consumer;
 import io.harness.eventsframework.api.EventsFrameworkDownException;
 import io.harness.eventsframework.consumer.Message;
 import io.harness.logging.AutoLogContext;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.queue.QueueController;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.inject.Inject;
 import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -33,19 +35,31 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public abstract class PmsAbstractRedisConsumer<T extends PmsAbstractMessageListener> implements PmsRedisConsumer {
   private static final int WAIT_TIME_IN_SECONDS = 10;
-  private static final String CACHE_KEY = "%s_%s";
   private final Consumer redisConsumer;
   private final T messageListener;
   private final QueueController queueController;
   private AtomicBoolean shouldStop = new AtomicBoolean(false);
-  private Cache<String, Integer> eventsCache;
+  private final PmsMessageDedupeStore dedupeStore;
+  // When present messages are handled in parallel across partitions and acknowledged per partition
+  private final PmsPartitionedMessageProcessor partitionedMessageProcessor;
 
   public PmsAbstractRedisConsumer(
       Consumer redisConsumer, T messageListener, Cache<String, Integer> eventsCache, QueueController queueController) {
+    this(redisConsumer, messageListener, eventsCache, queueController, null);
+  }
+
+  public PmsAbstractRedisConsumer(Consumer redisConsumer, T messageListener, Cache<String, Integer> eventsCache,
+      QueueController queueController, PmsPartitionedMessageProcessor partitionedMessageProcessor) {
     this.redisConsumer = redisConsumer;
     this.messageListener = messageListener;
-    this.eventsCache = eventsCache;
+    this.dedupeStore = new PmsMessageDedupeStore(this.getClass().getSimpleName(), eventsCache);
     this.queueController = queueController;
+    this.partitionedMessageProcessor = partitionedMessageProcessor;
+  }
+
+  @Inject(optional = true)
+  public void setMetricService(MetricService metricService) {
+    dedupeStore.setMetricService(metricService);
   }
 
   @Override
@@ -88,19 +102,25 @@ public abstract class PmsAbstractRedisConsumer<T extends PmsAbstractMessageListe
     String messageId;
     boolean messageProcessed;
     messages = redisConsumer.read(Duration.ofSeconds(WAIT_TIME_IN_SECONDS));
+    if (partitionedMessageProcessor != null) {
+      // The handler runs inside the partition task so that the messages of a partition are processed in order
+      partitionedMessageProcessor.process(
+          messages, message -> handleMessage(message, true), redisConsumer::acknowledgeBatch);
+      return;
+    }
     for (Message message : messages) {
       messageId = message.getId();
-      messageProcessed = handleMessage(message);
+      messageProcessed = handleMessage(message, false);
       if (messageProcessed) {
         redisConsumer.acknowledge(messageId);
       }
     }
   }
 
-  private boolean handleMessage(Message message) {
+  private boolean handleMessage(Message message, boolean sync) {
     try (AutoLogContext autoLogContext = new AutoLogContext(
              message.getMessage().getMetadataMap(), AutoLogContext.OverrideBehavior.OVERRIDE_NESTS)) {
-      return processMessage(message);
+      return processMessage(message, sync);
     } catch (Exception ex) {
       // This is not evicted from events framework so that it can be processed
       // by other consumer if the error is a runtime error
@@ -109,12 +129,13 @@ public abstract class PmsAbstractRedisConsumer<T extends PmsAbstractMessageListe
     }
   }
 
-  private boolean processMessage(Message message) {
+  private boolean processMessage(Message message, boolean sync) {
     AtomicBoolean success = new AtomicBoolean(true);
     if (messageListener.isProcessable(message) && !isAlreadyProcessed(message)) {
       log.debug("Read message with message id {} from redis", message.getId());
       insertMessageInCache(message);
-      if (!messageListener.handleMessage(message)) {
+      boolean handled = sync ? messageListener.handleMessageSync(message) : messageListener.handleMessage(message);
+      if (!handled) {
         success.set(false);
       }
     }
@@ -123,32 +144,21 @@ public abstract class PmsAbstractRedisConsumer<T extends PmsAbstractMessageListe
 
   private void insertMessageInCache(Message message) {
     try {
-      eventsCache.put(String.format(CACHE_KEY, this.getClass().getSimpleName(), message.getId()), 1);
+      dedupeStore.markProcessed(message);
     } catch (Exception ex) {
       log.error("Exception occurred while storing message id in cache", ex);
     }
   }
 
   private boolean isAlreadyProcessed(Message message) {
-    try {
-      String key = String.format(CACHE_KEY, this.getClass().getSimpleName(), message.getId());
-      boolean isProcessed = eventsCache.containsKey(key);
-      if (isProcessed) {
-        log.warn(String.format("Duplicate redis notification received to consumer [%s] with messageId [%s]",
-            this.getClass().getSimpleName(), message.getId()));
-        Integer count = eventsCache.get(key);
-        if (count != null) {
-          eventsCache.put(String.format(CACHE_KEY, this.getClass().getSimpleName(), message.getId()), count + 1);
-        }
-      }
-      return isProcessed;
-    } catch (Exception ex) {
-      log.error("Exception occurred while checking for duplicate notification", ex);
-      return false;
-    }
+    return dedupeStore.isAlreadyProcessed(message);
   }
 
   public void shutDown() {
     shouldStop.set(true);
+    dedupeStore.shutdown();
+    if (partitionedMessageProcessor != null) {
+      partitionedMessageProcessor.shutdown();
+    }
   }
 }
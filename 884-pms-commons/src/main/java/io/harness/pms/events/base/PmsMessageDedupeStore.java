@@ -0,0 +1,208 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.pms.events.base;
+
+import static io.harness.pms.events.PmsEventFrameworkConstants.MAX_PROCESSING_TIME_SECONDS;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.eventsframework.consumer.Message;
+import io.harness.metrics.ThreadAutoLogContext;
+import io.harness.metrics.service.api.MetricService;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.protobuf.util.Timestamps;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import javax.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Two tier store of the message ids already handled by a consumer. The local tier remembers the ids handled on this
+ * node, the remote cache is shared by all the nodes and is consulted only when the local tier cannot rule out a
+ * duplicate.
+ *
+ * A message can reach another consumer only after it has been pending for the claim time of the consumer group, so a
+ * message younger than that which the local tier has never seen cannot be a duplicate.
+ *
+ * Remote writes are queued for a single writer thread. When the queue is full they are dropped and counted, a dropped
+ * write only means another node may not detect that duplicate.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@Slf4j
+public class PmsMessageDedupeStore {
+  private static final int LOCAL_CACHE_SIZE = 10000;
+  private static final long LOCAL_CACHE_TTL_MINUTES = 10;
+  private static final int BLOOM_FILTER_CAPACITY = 100000;
+  private static final double BLOOM_FILTER_FPP = 0.01;
+  // Half of the claim time to leave room for clock skew between redis and this node
+  private static final long FRESH_MESSAGE_WINDOW_MILLIS = TimeUnit.SECONDS.toMillis(MAX_PROCESSING_TIME_SECONDS) / 2;
+  private static final int REMOTE_WRITE_QUEUE_CAPACITY = 1000;
+  private static final String REMOTE_WRITE_QUEUE_DEPTH_METRIC = "redis_consumer_dedupe_queue_depth";
+  private static final String REMOTE_WRITE_DROPPED_METRIC = "redis_consumer_dedupe_dropped_writes";
+  private static final String CONSUMER_NAME_LABEL = "consumerName";
+
+  private final String consumerName;
+  private final String keyPrefix;
+  private final Cache<String, Integer> remoteCache;
+  private final com.google.common.cache.Cache<String, Boolean> localCache;
+  private final AtomicInteger bloomFilterInsertions = new AtomicInteger();
+  private final ThreadPoolExecutor remoteWriteExecutor;
+  private volatile BloomFilter<CharSequence> currentBloomFilter;
+  private volatile BloomFilter<CharSequence> previousBloomFilter;
+  private volatile MetricService metricService;
+
+  public PmsMessageDedupeStore(String consumerName, Cache<String, Integer> remoteCache) {
+    this.consumerName = consumerName;
+    this.keyPrefix = consumerName + "_";
+    this.remoteCache = remoteCache;
+    this.localCache = CacheBuilder.newBuilder()
+                          .maximumSize(LOCAL_CACHE_SIZE)
+                          .expireAfterWrite(LOCAL_CACHE_TTL_MINUTES, TimeUnit.MINUTES)
+                          .build();
+    this.currentBloomFilter = newBloomFilter();
+    this.previousBloomFilter = newBloomFilter();
+    this.remoteWriteExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(REMOTE_WRITE_QUEUE_CAPACITY),
+        new ThreadFactoryBuilder().setNameFormat(consumerName + "-dedupe-writer").setDaemon(true).build(),
+        (runnable, executor) -> onRemoteWriteDropped(executor));
+  }
+
+  public void setMetricService(MetricService metricService) {
+    this.metricService = metricService;
+  }
+
+  public boolean isAlreadyProcessed(Message message) {
+    String key = keyPrefix + message.getId();
+    try {
+      if (localCache.getIfPresent(key) != null) {
+        logDuplicate(message);
+        incrementRemoteCountAsync(key);
+        return true;
+      }
+      if (!mightContain(key) && isFresh(message)) {
+        return false;
+      }
+      Integer count = remoteCache.get(key);
+      if (count == null) {
+        return false;
+      }
+      logDuplicate(message);
+      putRemoteAsync(key, count + 1);
+      return true;
+    } catch (Exception ex) {
+      log.error("Exception occurred while checking for duplicate notification", ex);
+      return false;
+    }
+  }
+
+  public void markProcessed(Message message) {
+    String key = keyPrefix + message.getId();
+    localCache.put(key, Boolean.TRUE);
+    putInBloomFilter(key);
+    putRemoteAsync(key, 1);
+  }
+
+  public void shutdown() {
+    remoteWriteExecutor.shutdown();
+  }
+
+  @VisibleForTesting
+  boolean isFresh(Message message) {
+    if (!message.hasTimestamp()) {
+      return false;
+    }
+    long age = System.currentTimeMillis() - Timestamps.toMillis(message.getTimestamp());
+    return age < FRESH_MESSAGE_WINDOW_MILLIS;
+  }
+
+  private boolean mightContain(String key) {
+    return currentBloomFilter.mightContain(key) || previousBloomFilter.mightContain(key);
+  }
+
+  private void putInBloomFilter(String key) {
+    currentBloomFilter.put(key);
+    // Rotate the filters once full so that the false positive rate does not keep growing
+    if (bloomFilterInsertions.incrementAndGet() >= BLOOM_FILTER_CAPACITY) {
+      synchronized (this) {
+        if (bloomFilterInsertions.get() >= BLOOM_FILTER_CAPACITY) {
+          previousBloomFilter = currentBloomFilter;
+          currentBloomFilter = newBloomFilter();
+          bloomFilterInsertions.set(0);
+        }
+      }
+    }
+  }
+
+  private void putRemoteAsync(String key, int count) {
+    executeRemoteWrite(() -> {
+      try {
+        remoteCache.put(key, count);
+      } catch (Exception ex) {
+        log.error("Exception occurred while storing message id in cache", ex);
+      }
+    });
+  }
+
+  private void incrementRemoteCountAsync(String key) {
+    executeRemoteWrite(() -> {
+      try {
+        Integer count = remoteCache.get(key);
+        if (count != null) {
+          remoteCache.put(key, count + 1);
+        }
+      } catch (Exception ex) {
+        log.error("Exception occurred while updating duplicate count in cache", ex);
+      }
+    });
+  }
+
+  private void executeRemoteWrite(Runnable write) {
+    remoteWriteExecutor.execute(write);
+    int queueDepth = remoteWriteExecutor.getQueue().size();
+    recordMetric(service -> service.recordMetric(REMOTE_WRITE_QUEUE_DEPTH_METRIC, queueDepth));
+  }
+
+  private void onRemoteWriteDropped(ThreadPoolExecutor executor) {
+    if (executor.isShutdown()) {
+      return;
+    }
+    recordMetric(service -> service.incCounter(REMOTE_WRITE_DROPPED_METRIC));
+  }
+
+  private void recordMetric(Consumer<MetricService> recorder) {
+    MetricService service = metricService;
+    if (service == null) {
+      return;
+    }
+    try (ThreadAutoLogContext ignore = new ThreadAutoLogContext(ImmutableMap.of(CONSUMER_NAME_LABEL, consumerName))) {
+      recorder.accept(service);
+    } catch (Exception ex) {
+      log.warn("Error while recording metrics for {}", consumerName, ex);
+    }
+  }
+
+  private void logDuplicate(Message message) {
+    log.warn("Duplicate redis notification received to consumer [{}] with messageId [{}]", consumerName,
+        message.getId());
+  }
+
+  private static BloomFilter<CharSequence> newBloomFilter() {
+    return BloomFilter.create(
+        Funnels.stringFunnel(StandardCharsets.UTF_8), BLOOM_FILTER_CAPACITY, BLOOM_FILTER_FPP);
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.pms.events.base;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.eventsframework.consumer.Message;
+import io.harness.metrics.ThreadAutoLogContext;
+import io.harness.metrics.service.api.MetricService;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Processes messages on a bounded set of worker lanes. Messages are partitioned on the value of a metadata key and
+ * every partition is pinned to one lane, so the messages of a partition are handled in order, across batches too,
+ * while different lanes run in parallel. Messages without the key are partitioned on their id.
+ *
+ * The messages of a partition are acknowledged as soon as the partition is done, nothing waits for the rest of the
+ * batch. Reading only blocks when the backlog of the lane a partition maps to is full.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@Slf4j
+public class PmsPartitionedMessageProcessor {
+  private static final String QUEUE_DEPTH_METRIC = "redis_consumer_queue_depth";
+  private static final String HANDLER_TIME_METRIC = "redis_consumer_handler_time";
+  private static final String CONSUMER_NAME_LABEL = "consumerName";
+  // Partitions waiting in a lane before the reader blocks on it
+  private static final int LANE_CAPACITY = 100;
+
+  private final String consumerName;
+  private final String partitionKey;
+  private final List<ExecutorService> lanes;
+  private final List<Semaphore> laneCapacities;
+  private final MetricService metricService;
+
+  public PmsPartitionedMessageProcessor(
+      String consumerName, String partitionKey, int workerCount, MetricService metricService) {
+    this.consumerName = consumerName;
+    this.partitionKey = partitionKey;
+    this.metricService = metricService;
+    this.lanes = new ArrayList<>(workerCount);
+    this.laneCapacities = new ArrayList<>(workerCount);
+    for (int i = 0; i < workerCount; i++) {
+      lanes.add(Executors.newSingleThreadExecutor(
+          new ThreadFactoryBuilder().setNameFormat(consumerName + "-worker-" + i).build()));
+      laneCapacities.add(new Semaphore(LANE_CAPACITY));
+    }
+  }
+
+  /**
+   * Hands the messages over to their lanes and returns without waiting for them to be handled.
+   *
+   * @param acknowledger called from the lane with the ids of the messages of a partition for which the handler returned
+   *     true, in the order they were handled
+   */
+  public void process(List<Message> messages, Predicate<Message> handler, Consumer<List<String>> acknowledger) {
+    Map<String, List<Message>> partitions = new LinkedHashMap<>();
+    for (Message message : messages) {
+      partitions.computeIfAbsent(getPartition(message), k -> new ArrayList<>()).add(message);
+    }
+
+    for (Map.Entry<String, List<Message>> partition : partitions.entrySet()) {
+      int lane = Math.floorMod(partition.getKey().hashCode(), lanes.size());
+      Semaphore capacity = laneCapacities.get(lane);
+      try {
+        capacity.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        log.error("Interrupted while waiting for {} worker {}", consumerName, lane, e);
+        return;
+      }
+      try {
+        lanes.get(lane).execute(() -> {
+          try {
+            processPartition(partition.getValue(), handler, acknowledger);
+          } finally {
+            capacity.release();
+          }
+        });
+      } catch (RejectedExecutionException e) {
+        capacity.release();
+        log.error("Worker {} of {} is shut down", lane, consumerName, e);
+      }
+    }
+    recordMetric(QUEUE_DEPTH_METRIC, queueDepth());
+  }
+
+  private void processPartition(
+      List<Message> partition, Predicate<Message> handler, Consumer<List<String>> acknowledger) {
+    List<String> processedMessageIds = new ArrayList<>();
+    for (Message message : partition) {
+      long startTs = System.currentTimeMillis();
+      if (handler.test(message)) {
+        processedMessageIds.add(message.getId());
+      }
+      recordMetric(HANDLER_TIME_METRIC, System.currentTimeMillis() - startTs);
+    }
+    if (processedMessageIds.isEmpty()) {
+      return;
+    }
+    try {
+      acknowledger.accept(processedMessageIds);
+    } catch (Exception e) {
+      log.error("Error occurred while acknowledging messages in {}", consumerName, e);
+    }
+  }
+
+  private int queueDepth() {
+    int depth = 0;
+    for (Semaphore capacity : laneCapacities) {
+      depth += LANE_CAPACITY - capacity.availablePermits();
+    }
+    return depth;
+  }
+
+  private String getPartition(Message message) {
+    if (message.hasMessage()) {
+      String partition = message.getMessage().getMetadataMap().get(partitionKey);
+      if (partition != null) {
+        return partition;
+      }
+    }
+    return message.getId();
+  }
+
+  private void recordMetric(String metricName, double value) {
+    if (metricService == null) {
+      return;
+    }
+    try (ThreadAutoLogContext ignore = new ThreadAutoLogContext(ImmutableMap.of(CONSUMER_NAME_LABEL, consumerName))) {
+      metricService.recordMetric(metricName, value);
+    } catch (Exception ex) {
+      log.warn("Error while recording metrics for {}", consumerName, ex);
+    }
+  }
+
+  public void shutdown() {
+    lanes.forEach(ExecutorService::shutdown);
+  }
+}
@@ -17,4 +17,9 @@ public class NoopPmsRedisConsumer extends PmsAbstractRedisConsumer<NoopPmsMessag
   public NoopPmsRedisConsumer(Consumer redisConsumer, NoopPmsMessageListener messageListener) {
     super(redisConsumer, messageListener, new NoOpCache<>(), new NoopQueueController());
   }
+
+  public NoopPmsRedisConsumer(Consumer redisConsumer, NoopPmsMessageListener messageListener,
+      PmsPartitionedMessageProcessor partitionedMessageProcessor) {
+    super(redisConsumer, messageListener, new NoOpCache<>(), new NoopQueueController(), partitionedMessageProcessor);
+  }
 }
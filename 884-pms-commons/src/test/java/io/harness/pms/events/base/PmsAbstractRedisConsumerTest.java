@@ -12,7 +12,9 @@ import static io.harness.rule.OwnerRule.GARVIT;
 import static org.jooq.tools.reflect.Reflect.on;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -22,11 +24,13 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.category.element.UnitTests;
 import io.harness.monitoring.EventMonitoringService;
+import io.harness.pms.events.PmsEventFrameworkConstants;
 import io.harness.pms.gitsync.PmsGitSyncBranchContextGuard;
 import io.harness.pms.gitsync.PmsGitSyncHelper;
 import io.harness.rule.Owner;
 
 import com.google.common.util.concurrent.MoreExecutors;
+import java.util.Collections;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -57,4 +61,21 @@ public class PmsAbstractRedisConsumerTest extends PmsCommonsTestBase {
     redisConsumer.pollAndProcessMessages();
     verify(messageListener, times(1)).handleMessage(any());
   }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void shouldTestHandleMessageWithPartitionedProcessor() {
+    NoopPmsMessageListener messageListener =
+        spy(new NoopPmsMessageListener("RANDOM_SERVICE", eventHandler, MoreExecutors.newDirectExecutorService()));
+    NoopRedisConsumer consumer = spy(new NoopRedisConsumer("t", "g"));
+    PmsPartitionedMessageProcessor processor =
+        new PmsPartitionedMessageProcessor("test", PmsEventFrameworkConstants.PLAN_EXECUTION_ID, 2, null);
+    NoopPmsRedisConsumer redisConsumer = new NoopPmsRedisConsumer(consumer, messageListener, processor);
+    redisConsumer.pollAndProcessMessages();
+    verify(consumer, timeout(5000)).acknowledgeBatch(Collections.singletonList(""));
+    verify(messageListener, times(1)).handleMessageSync(any());
+    verify(messageListener, never()).handleMessage(any());
+    redisConsumer.shutDown();
+  }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.pms.events.base;
+
+import static io.harness.rule.OwnerRule.GARVIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.consumer.Message;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.rule.Owner;
+
+import com.google.protobuf.util.Timestamps;
+import java.util.concurrent.CountDownLatch;
+import javax.cache.Cache;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class PmsMessageDedupeStoreTest extends CategoryTest {
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void shouldSkipRemoteLookupForFreshUnseenMessage() {
+    Cache<String, Integer> remoteCache = mock(Cache.class);
+    PmsMessageDedupeStore dedupeStore = new PmsMessageDedupeStore("consumer", remoteCache);
+    Message message = buildMessage("1-0", System.currentTimeMillis());
+
+    assertThat(dedupeStore.isAlreadyProcessed(message)).isFalse();
+    verify(remoteCache, never()).get("consumer_1-0");
+
+    dedupeStore.markProcessed(message);
+    assertThat(dedupeStore.isAlreadyProcessed(message)).isTrue();
+    dedupeStore.shutdown();
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void shouldConsultRemoteCacheForOldMessage() {
+    Cache<String, Integer> remoteCache = mock(Cache.class);
+    when(remoteCache.get("consumer_2-0")).thenReturn(1);
+    PmsMessageDedupeStore dedupeStore = new PmsMessageDedupeStore("consumer", remoteCache);
+
+    assertThat(dedupeStore.isAlreadyProcessed(buildMessage("2-0", 0))).isTrue();
+    assertThat(dedupeStore.isAlreadyProcessed(buildMessage("3-0", 0))).isFalse();
+    verify(remoteCache).get("consumer_3-0");
+    dedupeStore.shutdown();
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void shouldDropAndCountRemoteWritesWhenTheQueueIsFull() {
+    Cache<String, Integer> remoteCache = mock(Cache.class);
+    CountDownLatch writerBlocked = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      writerBlocked.await();
+      return null;
+    })
+        .when(remoteCache)
+        .put(anyString(), anyInt());
+    MetricService metricService = mock(MetricService.class);
+    PmsMessageDedupeStore dedupeStore = new PmsMessageDedupeStore("consumer", remoteCache);
+    dedupeStore.setMetricService(metricService);
+
+    // One write is running, 1000 fill the queue and the last one is dropped
+    for (int i = 0; i < 1002; i++) {
+      dedupeStore.markProcessed(buildMessage(i + "-0", System.currentTimeMillis()));
+    }
+
+    verify(metricService, times(1)).incCounter("redis_consumer_dedupe_dropped_writes");
+    verify(metricService, atLeastOnce()).recordMetric(eq("redis_consumer_dedupe_queue_depth"), eq(1000d));
+    writerBlocked.countDown();
+    dedupeStore.shutdown();
+  }
+
+  private Message buildMessage(String id, long timestamp) {
+    return Message.newBuilder()
+        .setId(id)
+        .setTimestamp(Timestamps.fromMillis(timestamp))
+        .setMessage(io.harness.eventsframework.producer.Message.newBuilder().build())
+        .build();
+  }
+}
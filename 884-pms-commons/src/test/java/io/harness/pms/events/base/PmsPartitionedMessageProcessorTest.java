@@ -0,0 +1,94 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.pms.events.base;
+
+import static io.harness.rule.OwnerRule.GARVIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.consumer.Message;
+import io.harness.pms.events.PmsEventFrameworkConstants;
+import io.harness.rule.Owner;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class PmsPartitionedMessageProcessorTest extends CategoryTest {
+  private final PmsPartitionedMessageProcessor processor =
+      new PmsPartitionedMessageProcessor("test", PmsEventFrameworkConstants.PLAN_EXECUTION_ID, 2, null);
+
+  @After
+  public void tearDown() {
+    processor.shutdown();
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void shouldAcknowledgePartitionsWithoutWaitingForTheSlowOne() throws InterruptedException {
+    // "a" and "b" map to different lanes
+    CountDownLatch slowPartition = new CountDownLatch(1);
+    BlockingQueue<List<String>> acknowledged = new LinkedBlockingQueue<>();
+
+    processor.process(Arrays.asList(message("1", "a"), message("2", "b"), message("3", "b")), message -> {
+      if (message.getId().equals("1")) {
+        try {
+          slowPartition.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      return true;
+    }, acknowledged::add);
+
+    assertThat(acknowledged.poll(5, TimeUnit.SECONDS)).containsExactly("2", "3");
+    assertThat(acknowledged).isEmpty();
+
+    slowPartition.countDown();
+    assertThat(acknowledged.poll(5, TimeUnit.SECONDS)).containsExactly("1");
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void shouldKeepPartitionOrderAcrossBatches() throws InterruptedException {
+    BlockingQueue<String> handled = new LinkedBlockingQueue<>();
+    BlockingQueue<List<String>> acknowledged = new LinkedBlockingQueue<>();
+
+    processor.process(Arrays.asList(message("1", "a"), message("2", "a")), message -> {
+      handled.add(message.getId());
+      return !message.getId().equals("2");
+    }, acknowledged::add);
+    processor.process(Arrays.asList(message("3", "a")), message -> handled.add(message.getId()), acknowledged::add);
+
+    assertThat(acknowledged.poll(5, TimeUnit.SECONDS)).containsExactly("1");
+    assertThat(acknowledged.poll(5, TimeUnit.SECONDS)).containsExactly("3");
+    assertThat(handled).containsExactly("1", "2", "3");
+  }
+
+  private Message message(String id, String planExecutionId) {
+    return Message.newBuilder()
+        .setId(id)
+        .setMessage(io.harness.eventsframework.producer.Message.newBuilder()
+                        .putMetadata(PmsEventFrameworkConstants.PLAN_EXECUTION_ID, planExecutionId)
+                        .build())
+        .build();
+  }
+}
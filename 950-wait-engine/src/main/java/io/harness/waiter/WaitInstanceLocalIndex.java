@@ -0,0 +1,61 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.waiter;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Singleton;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Node local index of the wait instances registered on this node by the correlation ids they wait on. It is only a
+ * hint: entries are bounded and expire, and mongo stays the source of truth for which instances wait on what.
+ */
+@Singleton
+@OwnedBy(HarnessTeam.PIPELINE)
+public class WaitInstanceLocalIndex {
+  private static final int MAX_ENTRIES = 100000;
+  private static final long EXPIRE_AFTER_HOURS = 6;
+
+  private final Cache<String, Set<String>> waitInstancesByCorrelationId =
+      CacheBuilder.newBuilder().maximumSize(MAX_ENTRIES).expireAfterWrite(EXPIRE_AFTER_HOURS, TimeUnit.HOURS).build();
+  private final Cache<String, Long> registeredAt =
+      CacheBuilder.newBuilder().maximumSize(MAX_ENTRIES).expireAfterWrite(EXPIRE_AFTER_HOURS, TimeUnit.HOURS).build();
+
+  public void register(String waitInstanceId, List<String> correlationIds) {
+    registeredAt.put(waitInstanceId, System.currentTimeMillis());
+    for (String correlationId : correlationIds) {
+      waitInstancesByCorrelationId.asMap()
+          .computeIfAbsent(correlationId, key -> ConcurrentHashMap.newKeySet())
+          .add(waitInstanceId);
+    }
+  }
+
+  /**
+   * Removes and returns the wait instances registered on this node for the correlation id.
+   */
+  public Set<String> remove(String correlationId) {
+    Set<String> waitInstanceIds = waitInstancesByCorrelationId.asMap().remove(correlationId);
+    return waitInstanceIds == null ? Collections.emptySet() : new HashSet<>(waitInstanceIds);
+  }
+
+  /**
+   * @return when the wait instance was registered on this node, null if it was not or it is already forgotten
+   */
+  public Long removeRegistration(String waitInstanceId) {
+    return registeredAt.asMap().remove(waitInstanceId);
+  }
+}
@@ -19,6 +19,7 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.logging.AutoLogRemoveContext;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.serializer.KryoSerializer;
 import io.harness.tasks.ErrorResponseData;
 import io.harness.tasks.ProgressData;
@@ -51,10 +52,14 @@ import lombok.extern.slf4j.Slf4j;
 @OwnedBy(HarnessTeam.DEL)
 public class WaitNotifyEngine {
   public static final int MIN_WAIT_INSTANCE_TIMEOUT = 3;
+  private static final String REGISTER_TO_NOTIFY_TIME = "wait_notify_register_to_notify_time";
 
   @Inject private PersistenceWrapper persistenceWrapper;
   @Inject private KryoSerializer kryoSerializer;
   @Inject private NotifyQueuePublisherRegister publisherRegister;
+  @Inject private WaiterConfiguration waiterConfiguration;
+  @Inject private WaitInstanceLocalIndex localIndex;
+  @Inject(optional = true) private MetricService metricService;
 
   public String waitForAllOn(String publisherName, NotifyCallback notifyCallback, String... correlationIds) {
     return waitForAllOn(publisherName, notifyCallback, null, correlationIds);
@@ -101,6 +106,9 @@ public class WaitNotifyEngine {
     waitInstanceBuilder.correlationIds(list).waitingOnCorrelationIds(list);
 
     final String waitInstanceId = persistenceWrapper.saveWithTimeout(waitInstanceBuilder.build(), timeout);
+    if (waiterConfiguration.isLocalCorrelationIndex()) {
+      localIndex.register(waitInstanceId, list);
+    }
 
     WaitInstance waitInstance;
     if ((waitInstance = persistenceWrapper.modifyAndFetchWaitInstanceForExistingResponse(waitInstanceId, list))
@@ -182,10 +190,27 @@ public class WaitNotifyEngine {
       }
 
       notifyQueuePublisher.send(aNotifyEvent().waitInstanceId(waitInstance.getUuid()).build());
+      recordRegisterToNotifyTime(waitInstance);
+    }
+  }
+
+  private void recordRegisterToNotifyTime(WaitInstance waitInstance) {
+    Long registeredAt = localIndex.removeRegistration(waitInstance.getUuid());
+    if (registeredAt == null || metricService == null) {
+      return;
+    }
+    try (WaitNotifyMetricContext ignore = new WaitNotifyMetricContext(waitInstance.getPublisher())) {
+      metricService.recordDuration(REGISTER_TO_NOTIFY_TIME, Duration.ofMillis(currentTimeMillis() - registeredAt));
+    } catch (Exception ex) {
+      log.warn("Error while recording wait notify metrics", ex);
     }
   }
 
   public void handleNotifyResponse(String uuid) {
+    if (waiterConfiguration.isLocalCorrelationIndex()) {
+      handleLocalWaitInstances(uuid);
+    }
+    // Instances registered on other nodes, or on this one before a restart, are not in the local index
     WaitInstance waitInstance;
     while ((waitInstance = persistenceWrapper.modifyAndFetchWaitInstance(uuid)) != null) {
       if (isEmpty(waitInstance.getWaitingOnCorrelationIds())) {
@@ -194,6 +219,19 @@ public class WaitNotifyEngine {
     }
   }
 
+  /**
+   * Updates the wait instances registered on this node for the correlation id by id, before the lookup by correlation
+   * id picks up the rest.
+   */
+  private void handleLocalWaitInstances(String correlationId) {
+    for (String waitInstanceId : localIndex.remove(correlationId)) {
+      WaitInstance waitInstance = persistenceWrapper.modifyAndFetchWaitInstance(waitInstanceId, correlationId);
+      if (waitInstance != null && isEmpty(waitInstance.getWaitingOnCorrelationIds())) {
+        sendNotification(waitInstance);
+      }
+    }
+  }
+
   public boolean doneWithWithoutCallback(@NonNull String correlationId) {
     try {
       WaitInstance waitInstance;
@@ -20,4 +20,6 @@ import lombok.Value;
 public class WaiterConfiguration {
   public enum PersistenceLayer { SPRING, MORPHIA }
   @Default PersistenceLayer persistenceLayer = PersistenceLayer.MORPHIA;
+  // Responses for wait instances registered on the same node update them by id before the lookup by correlation id
+  @Default boolean localCorrelationIndex = false;
 }
@@ -197,6 +197,18 @@ public class MorphiaPersistenceWrapper implements PersistenceWrapper {
     return hPersistence.findAndModify(query, operations, HPersistence.returnNewOptions);
   }
 
+  @Override
+  public WaitInstance modifyAndFetchWaitInstance(String waitInstanceId, String waitingOnCorrelationId) {
+    final Query<WaitInstance> query = hPersistence.createQuery(WaitInstance.class, excludeAuthority)
+                                          .filter(WaitInstanceKeys.uuid, waitInstanceId)
+                                          .filter(WaitInstanceKeys.waitingOnCorrelationIds, waitingOnCorrelationId);
+
+    final UpdateOperations<WaitInstance> operations =
+        hPersistence.createUpdateOperations(WaitInstance.class)
+            .removeAll(WaitInstanceKeys.waitingOnCorrelationIds, waitingOnCorrelationId);
+    return hPersistence.findAndModify(query, operations, HPersistence.returnNewOptions);
+  }
+
   @Override
   public String saveWithTimeout(WaitInstance waitInstance, Duration timeout) {
     if (!timeout.isZero()) {
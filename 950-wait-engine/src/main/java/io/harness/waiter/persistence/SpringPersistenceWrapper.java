@@ -135,6 +135,14 @@ public class SpringPersistenceWrapper implements PersistenceWrapper {
     return mongoTemplate.findAndModify(query, update, SpringDataMongoUtils.returnNewOptions, WaitInstance.class);
   }
 
+  @Override
+  public WaitInstance modifyAndFetchWaitInstance(String waitInstanceId, String waitingOnCorrelationId) {
+    Query query = query(where(WaitInstanceKeys.uuid).is(waitInstanceId))
+                      .addCriteria(where(WaitInstanceKeys.waitingOnCorrelationIds).in(waitingOnCorrelationId));
+    Update update = new Update().pull(WaitInstanceKeys.waitingOnCorrelationIds, waitingOnCorrelationId);
+    return mongoTemplate.findAndModify(query, update, SpringDataMongoUtils.returnNewOptions, WaitInstance.class);
+  }
+
   @Override
   public WaitInstance fetchForProcessingWaitInstance(String waitInstanceId, long now) {
     final Query query = query(where(WaitInstanceKeys.uuid).is(waitInstanceId))
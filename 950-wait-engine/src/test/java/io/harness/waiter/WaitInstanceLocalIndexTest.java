@@ -0,0 +1,43 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.waiter;
+
+import static io.harness.rule.OwnerRule.PRASHANT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class WaitInstanceLocalIndexTest extends CategoryTest {
+  @Test
+  @Owner(developers = PRASHANT)
+  @Category(UnitTests.class)
+  public void shouldIndexWaitInstancesByCorrelationId() {
+    WaitInstanceLocalIndex localIndex = new WaitInstanceLocalIndex();
+    localIndex.register("wait1", Arrays.asList("c1", "c2"));
+    localIndex.register("wait2", Collections.singletonList("c1"));
+
+    assertThat(localIndex.remove("c1")).containsExactlyInAnyOrder("wait1", "wait2");
+    assertThat(localIndex.remove("c1")).isEmpty();
+    assertThat(localIndex.remove("c2")).containsExactly("wait1");
+
+    assertThat(localIndex.removeRegistration("wait1")).isNotNull();
+    assertThat(localIndex.removeRegistration("wait1")).isNull();
+    assertThat(localIndex.removeRegistration("unknown")).isNull();
+  }
+}
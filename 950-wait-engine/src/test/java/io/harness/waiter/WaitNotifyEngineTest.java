@@ -19,6 +19,7 @@ import static java.time.Duration.ofMillis;
 import static java.time.Duration.ofSeconds;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.joor.Reflect.on;
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 import static org.springframework.data.mongodb.core.query.Query.query;
 
@@ -74,6 +75,7 @@ public class WaitNotifyEngineTest extends WaitEngineTestBase {
   @Inject private TestNotifyEventListener notifyEventListener;
   @Inject private QueueListenerController queueListenerController;
   @Inject private KryoSerializer kryoSerializer;
+  @Inject private WaitInstanceLocalIndex localIndex;
 
   /**
    * Setup response map.
@@ -368,6 +370,31 @@ public class WaitNotifyEngineTest extends WaitEngineTestBase {
     }
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldNotifyInstancesMissingInLocalIndex() {
+    String uuid = generateUuid();
+    WaiterConfiguration waiterConfiguration = on(waitNotifyEngine).get("waiterConfiguration");
+    on(waitNotifyEngine).set("waiterConfiguration", WaiterConfiguration.builder().localCorrelationIndex(true).build());
+
+    try (MaintenanceGuard guard = new MaintenanceGuard(false)) {
+      // Registered on another node
+      waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), uuid);
+      localIndex.remove(uuid);
+      waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), uuid);
+
+      ResponseData data = StringNotifyResponseData.builder().data("response-" + uuid).build();
+      waitNotifyEngine.doneWith(uuid, data);
+
+      Poller.pollFor(Duration.ofSeconds(10), ofMillis(100), () -> notifyConsumer.count(Filter.ALL) == 0);
+
+      assertThat(callCount.get()).isEqualTo(2);
+    } finally {
+      on(waitNotifyEngine).set("waiterConfiguration", waiterConfiguration);
+    }
+  }
+
   /**
    * Should wait for progress on correlation id.
    */
@@ -141,6 +141,29 @@ public class MorphiaPersistenceWrapperTest extends WaitEngineTestBase {
     assertThat(modifiedWaitInstance.getWaitingOnCorrelationIds()).isEmpty();
   }
 
+  @Test
+  @Owner(developers = PRASHANT)
+  @Category(UnitTests.class)
+  @RealMongo
+  public void testModifyAndFetchWaitInstanceById() {
+    String waitInstanceId = generateUuid();
+    String correlationId1 = generateUuid();
+    String correlationId2 = generateUuid();
+    final WaitInstance waitInstance = WaitInstance.builder()
+                                          .uuid(waitInstanceId)
+                                          .callback(new TestNotifyCallback())
+                                          .publisher(TEST_PUBLISHER)
+                                          .correlationIds(Arrays.asList(correlationId1, correlationId2))
+                                          .waitingOnCorrelationIds(Arrays.asList(correlationId1, correlationId2))
+                                          .build();
+    hPersistence.save(waitInstance);
+
+    WaitInstance modifiedWaitInstance = persistenceWrapper.modifyAndFetchWaitInstance(waitInstanceId, correlationId1);
+    assertThat(modifiedWaitInstance.getWaitingOnCorrelationIds()).containsExactly(correlationId2);
+    assertThat(persistenceWrapper.modifyAndFetchWaitInstance(waitInstanceId, correlationId1)).isNull();
+    assertThat(persistenceWrapper.modifyAndFetchWaitInstance(generateUuid(), correlationId2)).isNull();
+  }
+
   @Test
   @Owner(developers = PRASHANT)
   @Category(UnitTests.class)
@@ -15,6 +15,7 @@ import io.harness.debezium.DebeziumConfig;
 import io.harness.debezium.DebeziumControllerStarter;
 import io.harness.lock.PersistentLocker;
 import io.harness.maintenance.MaintenanceController;
+import io.harness.metrics.service.api.MetricService;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.inject.Guice;
@@ -61,6 +62,7 @@ public class DebeziumServiceApplication extends Application<DebeziumServiceConfi
             .build();
 
     Injector injector = Guice.createInjector(DebeziumServiceModule.getInstance(moduleConfig));
+    injector.getInstance(MetricService.class).initializeMetrics();
     PersistentLocker locker = injector.getInstance(PersistentLocker.class);
     DebeziumControllerStarter starter = injector.getInstance(DebeziumControllerStarter.class);
 
@@ -70,6 +72,8 @@ public class DebeziumServiceApplication extends Application<DebeziumServiceConfi
             ChangeConsumerConfig.builder()
                 .consumerType(ConsumerType.EVENTS_FRAMEWORK)
                 .eventsFrameworkConfiguration(appConfig.getEventsFrameworkConfiguration())
+                .valueEncoding(debeziumConfig.getChangeValueEncoding())
+                .fieldProjections(debeziumConfig.getChangeFieldProjections())
                 .build();
         starter.startDebeziumController(debeziumConfig, changeConsumerConfig, locker, appConfig.getRedisLockConfig());
       }
@@ -9,6 +9,8 @@ package io.harness.debezium;
 
 import io.harness.eventsframework.EventsFrameworkConfiguration;
 
+import java.util.List;
+import java.util.Map;
 import lombok.Builder;
 import lombok.Value;
 
@@ -20,4 +22,6 @@ public class ChangeConsumerConfig {
   // oneOf { EventsFrameworkConfiguration, HttpConfig }
   ConsumerType consumerType;
   EventsFrameworkConfiguration eventsFrameworkConfiguration;
+  ChangeValueEncoding valueEncoding;
+  Map<String, List<String>> fieldProjections;
 }
@@ -8,18 +8,21 @@
 package io.harness.debezium;
 
 import io.harness.exception.InvalidRequestException;
+import io.harness.metrics.service.api.MetricService;
 
 import com.google.inject.Inject;
 
 public class ChangeConsumerFactory {
   @Inject private DebeziumProducerFactory producerFactory;
+  @Inject private MetricService metricService;
 
   @SuppressWarnings("unchecked")
   public <T extends MongoDatabaseChangeConsumer> T get(String databaseName, ChangeConsumerConfig changeConsumerConfig) {
     ConsumerType consumerType = changeConsumerConfig.getConsumerType();
     switch (consumerType) {
       case EVENTS_FRAMEWORK:
-        return (T) new EventsFrameworkChangeConsumer(databaseName, producerFactory);
+        return (T) new EventsFrameworkChangeConsumer(databaseName, producerFactory, metricService,
+            changeConsumerConfig.getValueEncoding(), changeConsumerConfig.getFieldProjections());
       default:
         throw new InvalidRequestException("Change Consumer not Supported for " + consumerType.toString());
     }
@@ -15,4 +15,8 @@ public class DebeziumConstants {
   public static final int DEBEZIUM_TOPIC_SIZE = 10_000;
 
   public static final String DEBEZIUM_LOCK_PREFIX = "DEBEZIUM_LOCKER_";
+
+  public static final String DEBEZIUM_COMMITTED_RECORDS = "debezium_committed_records";
+  public static final String DEBEZIUM_PUBLISH_DURATION = "debezium_publish_duration";
+  public static final String DEBEZIUM_CHANGE_LAG = "debezium_change_lag";
 }
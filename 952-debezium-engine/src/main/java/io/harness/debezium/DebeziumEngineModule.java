@@ -10,6 +10,7 @@ package io.harness.debezium;
 import io.harness.eventsframework.EventsFrameworkConfiguration;
 import io.harness.eventsframework.impl.redis.RedisProducerFactory;
 import io.harness.lock.PersistentLocker;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.threading.ThreadPool;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
@@ -40,6 +41,7 @@ public class DebeziumEngineModule extends AbstractModule {
   public void configure() {
     requireBinding(PersistentLocker.class);
     requireBinding(RedisProducerFactory.class);
+    requireBinding(MetricService.class);
   }
 
   @Provides
@@ -7,28 +7,56 @@
 
 package io.harness.debezium;
 
+import static io.harness.debezium.DebeziumConstants.DEBEZIUM_CHANGE_LAG;
+import static io.harness.debezium.DebeziumConstants.DEBEZIUM_COMMITTED_RECORDS;
+import static io.harness.debezium.DebeziumConstants.DEBEZIUM_PUBLISH_DURATION;
+
 import io.harness.eventsframework.api.Producer;
 import io.harness.eventsframework.producer.Message;
+import io.harness.metrics.service.api.MetricService;
 
 import io.debezium.embedded.EmbeddedEngineChangeEvent;
 import io.debezium.engine.ChangeEvent;
 import io.debezium.engine.DebeziumEngine;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.connect.source.SourceRecord;
+import org.bson.BsonDocument;
 
+/**
+ * Publishes the records of a batch per collection through the pipelined {@link Producer#sendBatch(List)}. The records
+ * are committed once the whole batch is published, so a failed batch is published again after a restart.
+ */
 @Slf4j
 public class EventsFrameworkChangeConsumer implements MongoDatabaseChangeConsumer {
   private static final String OP_FIELD = "__op";
   private static final String DEFAULT_STRING = "default";
+  private static final String OFFSET_SECONDS_FIELD = "sec";
+  private static final int MAX_MESSAGES_PER_PUBLISH = 500;
 
   private final String databaseName;
   private final DebeziumProducerFactory producerFactory;
+  private final MetricService metricService;
+  private final ChangeValueEncoding valueEncoding;
+  private final Map<String, Set<String>> fieldProjections = new HashMap<>();
 
-  public EventsFrameworkChangeConsumer(String databaseName, DebeziumProducerFactory producerFactory) {
+  public EventsFrameworkChangeConsumer(String databaseName, DebeziumProducerFactory producerFactory,
+      MetricService metricService, ChangeValueEncoding valueEncoding, Map<String, List<String>> fieldProjections) {
     this.databaseName = databaseName;
     this.producerFactory = producerFactory;
+    this.metricService = metricService;
+    this.valueEncoding = valueEncoding == null ? ChangeValueEncoding.JSON : valueEncoding;
+    if (fieldProjections != null) {
+      fieldProjections.forEach(
+          (collection, fields) -> this.fieldProjections.put(collection, new LinkedHashSet<>(fields)));
+    }
   }
 
   @Override
@@ -36,18 +64,14 @@ public class EventsFrameworkChangeConsumer implements MongoDatabaseChangeConsume
       DebeziumEngine.RecordCommitter<ChangeEvent<String, String>> recordCommitter) throws InterruptedException {
     log.info("Handling a batch of {} records for database {}", records.size(), databaseName);
 
-    // Add the batch records to the stream(s)
+    // The records of a collection go to the same stream and keep their order
+    Map<String, List<ChangeEvent<String, String>>> recordsPerDestination = new LinkedHashMap<>();
     for (ChangeEvent<String, String> record : records) {
-      Optional<OpType> opType = getOperationType(((EmbeddedEngineChangeEvent<String, String>) record).sourceRecord());
-
-      DebeziumChangeEvent debeziumChangeEvent = DebeziumChangeEvent.newBuilder()
-                                                    .setKey(getKeyOrDefault(record))
-                                                    .setValue(getValueOrDefault(record))
-                                                    .setOptype(opType.get().toString())
-                                                    .build();
+      recordsPerDestination.computeIfAbsent(record.destination(), destination -> new ArrayList<>()).add(record);
+    }
+    recordsPerDestination.forEach(this::publish);
 
-      Producer producer = producerFactory.get(record.destination());
-      producer.send(Message.newBuilder().setData(debeziumChangeEvent.toByteString()).build());
+    for (ChangeEvent<String, String> record : records) {
       try {
         recordCommitter.markProcessed(record);
       } catch (InterruptedException e) {
@@ -55,6 +79,66 @@ public class EventsFrameworkChangeConsumer implements MongoDatabaseChangeConsume
       }
     }
     recordCommitter.markBatchFinished();
+
+    recordsPerDestination.forEach((destination, destinationRecords) -> {
+      try (DebeziumMetricContext ignored = new DebeziumMetricContext(getCollection(destination))) {
+        metricService.recordMetric(DEBEZIUM_COMMITTED_RECORDS, destinationRecords.size());
+      }
+    });
+  }
+
+  private void publish(String destination, List<ChangeEvent<String, String>> records) {
+    String collection = getCollection(destination);
+    Set<String> projection = fieldProjections.get(collection);
+    List<Message> messages = new ArrayList<>(records.size());
+    for (ChangeEvent<String, String> record : records) {
+      messages.add(Message.newBuilder().setData(toChangeEvent(record, projection).toByteString()).build());
+    }
+
+    Producer producer = producerFactory.get(destination);
+    long startTime = System.currentTimeMillis();
+    for (int from = 0; from < messages.size(); from += MAX_MESSAGES_PER_PUBLISH) {
+      producer.sendBatch(messages.subList(from, Math.min(from + MAX_MESSAGES_PER_PUBLISH, messages.size())));
+    }
+    long publishedAt = System.currentTimeMillis();
+
+    try (DebeziumMetricContext ignored = new DebeziumMetricContext(collection)) {
+      metricService.recordMetric(DEBEZIUM_PUBLISH_DURATION, publishedAt - startTime);
+      getChangeTimeMillis(records.get(records.size() - 1))
+          .ifPresent(changeTime
+              -> metricService.recordMetric(DEBEZIUM_CHANGE_LAG, Math.max(0, publishedAt - changeTime)));
+    }
+  }
+
+  private DebeziumChangeEvent toChangeEvent(ChangeEvent<String, String> record, Set<String> projection) {
+    Optional<OpType> opType = getOperationType(((EmbeddedEngineChangeEvent<String, String>) record).sourceRecord());
+    DebeziumChangeEvent.Builder builder =
+        DebeziumChangeEvent.newBuilder().setKey(getKeyOrDefault(record)).setOptype(opType.get().toString());
+    if (record.value() == null) {
+      return builder.setValue(DEFAULT_STRING).build();
+    }
+    if (valueEncoding == ChangeValueEncoding.JSON && projection == null) {
+      return builder.setValue(record.value()).build();
+    }
+
+    BsonDocument document = project(BsonDocument.parse(record.value()), projection);
+    if (valueEncoding == ChangeValueEncoding.BSON) {
+      return builder.setBsonValue(DebeziumChangeEventValues.toBson(document)).build();
+    }
+    return builder.setValue(DebeziumChangeEventValues.toJson(document)).build();
+  }
+
+  private BsonDocument project(BsonDocument document, Set<String> projection) {
+    if (projection == null) {
+      return document;
+    }
+    BsonDocument projected = new BsonDocument();
+    for (String field : projection) {
+      if (document.containsKey(field)) {
+        projected.put(field, document.get(field));
+      }
+    }
+    return projected;
   }
 
   private Optional<OpType> getOperationType(SourceRecord sourceRecord) {
@@ -62,12 +146,28 @@ public class EventsFrameworkChangeConsumer implements MongoDatabaseChangeConsume
         .flatMap(x -> OpType.fromString((String) x.value()));
   }
 
-  private String getKeyOrDefault(ChangeEvent<String, String> record) {
-    return (record.key() != null) ? (record.key()) : DEFAULT_STRING;
+  /**
+   * The mongodb connector keeps the oplog timestamp of the change in seconds in the offset of the record.
+   */
+  private Optional<Long> getChangeTimeMillis(ChangeEvent<String, String> record) {
+    SourceRecord sourceRecord = ((EmbeddedEngineChangeEvent<String, String>) record).sourceRecord();
+    return Optional.ofNullable(sourceRecord.sourceOffset())
+        .map(offset -> offset.get(OFFSET_SECONDS_FIELD))
+        .filter(Number.class::isInstance)
+        .map(seconds -> ((Number) seconds).longValue() * 1000);
   }
 
-  private String getValueOrDefault(ChangeEvent<String, String> record) {
-    return (record.value() != null) ? (record.value()) : DEFAULT_STRING;
+  /**
+   * @param destination topic of the record, of the form serverName.databaseName.collectionName
+   * @return the collection in the form databaseName.collectionName
+   */
+  private String getCollection(String destination) {
+    int serverNameEnd = destination.indexOf('.');
+    return serverNameEnd < 0 ? destination : destination.substring(serverNameEnd + 1);
+  }
+
+  private String getKeyOrDefault(ChangeEvent<String, String> record) {
+    return (record.key() != null) ? (record.key()) : DEFAULT_STRING;
   }
 
   @Override
@@ -28,7 +28,7 @@ public class DebeziumConfigurationTest {
   public void testGetDebeziumProperties() {
     DebeziumConfig debeziumConfig =
         new DebeziumConfig(false, "testConnector", "offset_file", "offsets", "false", "false", "6000", "1000", "10000",
-            "3", "MongoDbConnectorClass", "rs0/host1", "shop", "", "", "false", "products", "", "2000");
+            "3", "MongoDbConnectorClass", "rs0/host1", "shop", "", "", "false", "products", "", "2000", null, null);
     RedisConfig redisConfig = new RedisConfig();
     Properties expected_props = new Properties();
     Properties props = new DebeziumConfiguration().getDebeziumProperties(debeziumConfig, redisConfig);
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.debezium;
+
+import static io.harness.debezium.DebeziumConstants.DEBEZIUM_COMMITTED_RECORDS;
+import static io.harness.rule.OwnerRule.SHALINI;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyList;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.api.Producer;
+import io.harness.eventsframework.producer.Message;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.rule.Owner;
+
+import io.debezium.embedded.EmbeddedEngineChangeEvent;
+import io.debezium.engine.ChangeEvent;
+import io.debezium.engine.DebeziumEngine;
+import java.util.Collections;
+import java.util.List;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+
+public class EventsFrameworkChangeConsumerTest extends CategoryTest {
+  private static final String SUMMARY_TOPIC = "pmsMongo.pms-harness.planExecutionsSummary";
+  private static final String PLAN_TOPIC = "pmsMongo.pms-harness.plans";
+
+  private DebeziumProducerFactory producerFactory;
+  private Producer summaryProducer;
+  private Producer planProducer;
+  private MetricService metricService;
+  private DebeziumEngine.RecordCommitter<ChangeEvent<String, String>> recordCommitter;
+
+  @Before
+  public void setUp() {
+    producerFactory = mock(DebeziumProducerFactory.class);
+    summaryProducer = mock(Producer.class);
+    planProducer = mock(Producer.class);
+    metricService = mock(MetricService.class);
+    recordCommitter = mock(DebeziumEngine.RecordCommitter.class);
+    when(producerFactory.get(SUMMARY_TOPIC)).thenReturn(summaryProducer);
+    when(producerFactory.get(PLAN_TOPIC)).thenReturn(planProducer);
+  }
+
+  @Test
+  @Owner(developers = SHALINI)
+  @Category(UnitTests.class)
+  public void testBatchIsPublishedPerCollection() throws Exception {
+    EventsFrameworkChangeConsumer consumer =
+        new EventsFrameworkChangeConsumer("pms-harness", producerFactory, metricService, null, null);
+    List<ChangeEvent<String, String>> records = asList(record(SUMMARY_TOPIC, "{\"id\": \"1\"}", "{\"name\": \"a\"}"),
+        record(PLAN_TOPIC, "{\"id\": \"2\"}", "{\"name\": \"b\"}"),
+        record(SUMMARY_TOPIC, "{\"id\": \"3\"}", "{\"name\": \"c\"}"));
+
+    consumer.handleBatch(records, recordCommitter);
+
+    ArgumentCaptor<List> summaryMessages = ArgumentCaptor.forClass(List.class);
+    verify(summaryProducer, times(1)).sendBatch(summaryMessages.capture());
+    assertThat(summaryMessages.getValue()).hasSize(2);
+    assertThat(changeEvent(summaryMessages.getValue().get(1)).getValue()).isEqualTo("{\"name\": \"c\"}");
+    verify(planProducer, times(1)).sendBatch(anyList());
+    verify(recordCommitter, times(3)).markProcessed(any());
+    verify(recordCommitter, times(1)).markBatchFinished();
+    verify(metricService, times(1)).recordMetric(eq(DEBEZIUM_COMMITTED_RECORDS), eq(2.0));
+  }
+
+  @Test
+  @Owner(developers = SHALINI)
+  @Category(UnitTests.class)
+  public void testProjectedFieldsArePublishedAsBson() throws Exception {
+    EventsFrameworkChangeConsumer consumer = new EventsFrameworkChangeConsumer("pms-harness", producerFactory,
+        metricService, ChangeValueEncoding.BSON,
+        singletonMap("pms-harness.planExecutionsSummary", asList("name", "status")));
+
+    consumer.handleBatch(
+        singletonList(record(SUMMARY_TOPIC, "{\"id\": \"1\"}", "{\"name\": \"a\", \"yaml\": \"b\", \"status\": 3}")),
+        recordCommitter);
+
+    ArgumentCaptor<List> messages = ArgumentCaptor.forClass(List.class);
+    verify(summaryProducer, times(1)).sendBatch(messages.capture());
+    DebeziumChangeEvent changeEvent = changeEvent(messages.getValue().get(0));
+    assertThat(changeEvent.getValue()).isEmpty();
+    assertThat(changeEvent.getBsonValue().isEmpty()).isFalse();
+    assertThat(DebeziumChangeEventValues.getValue(changeEvent)).isEqualTo("{\"name\": \"a\", \"status\": 3}");
+    assertThat(changeEvent.getOptype()).isEqualTo(OpType.CREATE.toString());
+  }
+
+  private ChangeEvent<String, String> record(String topic, String key, String value) {
+    SourceRecord sourceRecord = new SourceRecord(
+        Collections.emptyMap(), singletonMap("sec", (int) (System.currentTimeMillis() / 1000)), topic, null, value);
+    sourceRecord.headers().addString("__op", "c");
+    return new EmbeddedEngineChangeEvent<>(key, value, sourceRecord);
+  }
+
+  private DebeziumChangeEvent changeEvent(Object message) throws Exception {
+    return DebeziumChangeEvent.parseFrom(((Message) message).getData());
+  }
+}
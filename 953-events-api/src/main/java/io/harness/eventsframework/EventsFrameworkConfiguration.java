@@ -10,11 +10,13 @@ package io.harness.eventsframework;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.eventsframework.impl.redis.RedisStreamEncoding;
 import io.harness.redis.RedisConfig;
 import io.harness.secret.ConfigSecret;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -26,4 +28,11 @@ import lombok.Data;
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class EventsFrameworkConfiguration {
   @JsonProperty("redis") @ConfigSecret RedisConfig redisConfig;
+  // Topics whose producers write BINARY entries, list a topic only once all its consumers read BINARY
+  @JsonProperty("binaryEncodedTopics") Set<String> binaryEncodedTopics;
+
+  public RedisStreamEncoding getProducerEncoding(String topicName) {
+    return binaryEncodedTopics != null && binaryEncodedTopics.contains(topicName) ? RedisStreamEncoding.BINARY
+                                                                                   : RedisStreamEncoding.BASE64;
+  }
 }
@@ -13,6 +13,7 @@ import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
 
 import io.harness.annotations.dev.OwnedBy;
 
+import java.util.List;
 import lombok.Getter;
 
 @OwnedBy(PL)
@@ -35,4 +36,12 @@ public abstract class AbstractConsumer implements Consumer {
     // Used when we want only one consumer per consumer group for sequential processing
     this.name = consumerName;
   }
+
+  // Consumers which cannot acknowledge in bulk fall back to acknowledging one by one
+  @Override
+  public void acknowledgeBatch(List<String> messageIds) {
+    for (String messageId : messageIds) {
+      acknowledge(messageId);
+    }
+  }
 }
@@ -19,5 +19,6 @@ import java.util.List;
 public interface Consumer {
   List<Message> read(Duration maxWaitTime);
   void acknowledge(String messageId);
+  void acknowledgeBatch(List<String> messageIds);
   void shutdown();
 }
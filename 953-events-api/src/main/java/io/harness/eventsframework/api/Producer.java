@@ -9,7 +9,17 @@ package io.harness.eventsframework.api;
 
 import io.harness.eventsframework.producer.Message;
 
+import java.util.List;
+
 public interface Producer {
   String send(Message message);
+
+  /**
+   * Publishes all the messages to the topic in a single round trip where the underlying implementation supports it.
+   *
+   * @return the message ids in the same order as the messages passed
+   */
+  List<String> sendBatch(List<Message> messages);
+
   void shutdown();
 }
@@ -13,6 +13,7 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.context.GlobalContextData;
+import io.harness.eventsframework.impl.redis.monitoring.publisher.RedisEventMetricPublisher;
 import io.harness.gitsync.interceptor.GitEntityInfo;
 import io.harness.gitsync.interceptor.GitSyncBranchContext;
 import io.harness.manage.GlobalContextManager;
@@ -39,6 +40,12 @@ public class GitAwareRedisProducer extends RedisProducer {
     super(topicName, redisConfig, maxTopicSize, producerName, envNamespace);
   }
 
+  public GitAwareRedisProducer(String topicName, @NotNull RedissonClient redissonClient, int maxTopicSize,
+      String producerName, String envNamespace, RedisEventMetricPublisher redisEventMetricPublisher,
+      RedisStreamEncoding encoding) {
+    super(topicName, redissonClient, maxTopicSize, producerName, envNamespace, redisEventMetricPublisher, encoding);
+  }
+
   @Override
   protected void populateOtherProducerSpecificData(Map<String, String> redisData) {
     // Populating the git details
@@ -67,4 +74,11 @@ public class GitAwareRedisProducer extends RedisProducer {
       String producerName, String envNamespace) {
     return new GitAwareRedisProducer(topicName, redissonClient, maxTopicSize, producerName, envNamespace);
   }
+
+  public static RedisProducer of(String topicName, @NotNull RedissonClient redissonClient, int maxTopicSize,
+      String producerName, String envNamespace, RedisEventMetricPublisher redisEventMetricPublisher,
+      RedisStreamEncoding encoding) {
+    return new GitAwareRedisProducer(
+        topicName, redissonClient, maxTopicSize, producerName, envNamespace, redisEventMetricPublisher, encoding);
+  }
 }
@@ -22,6 +22,7 @@ import io.github.resilience4j.core.IntervalFunction;
 import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryConfig;
 import io.vavr.control.Try;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
@@ -43,6 +44,9 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
   private static final String REDIS_CONSUMER_EVENT_METRIC = "redis_consumer_event_metric";
   protected RStream<String, String> stream;
   protected RStream<String, String> deadLetterQueue;
+  protected RStream<String, byte[]> binaryStream;
+  protected RStream<String, byte[]> binaryDeadLetterQueue;
+  protected RedisStreamEncoding encoding = RedisStreamEncoding.BASE64;
   protected RedissonClient redissonClient;
   protected Duration maxProcessingTime;
   protected int batchSize;
@@ -62,6 +66,13 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
     initConsumerGroup(topicName, redissonClient, maxProcessingTime, batchSize, envNamespace);
   }
 
+  public RedisAbstractConsumer(String topicName, String groupName, @NotNull RedissonClient redissonClient,
+      Duration maxProcessingTime, int batchSize, String envNamespace, RedisStreamEncoding encoding) {
+    super(topicName, groupName);
+    this.encoding = encoding;
+    initConsumerGroup(topicName, redissonClient, maxProcessingTime, batchSize, envNamespace);
+  }
+
   public RedisAbstractConsumer(String topicName, String groupName, String consumerName, RedisConfig redisConfig,
       Duration maxProcessingTime, int batchSize) {
     super(topicName, groupName, consumerName);
@@ -80,6 +91,8 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
     this.redissonClient = redissonClient;
     this.stream = RedisUtils.getStream(getTopicName(), redissonClient, envNamespace);
     this.deadLetterQueue = RedisUtils.getDeadLetterStream(getTopicName(), redissonClient, envNamespace);
+    this.binaryStream = RedisUtils.getBinaryStream(getTopicName(), redissonClient, envNamespace);
+    this.binaryDeadLetterQueue = RedisUtils.getBinaryDeadLetterStream(getTopicName(), redissonClient, envNamespace);
     this.maxProcessingTime = maxProcessingTime;
     this.batchSize = batchSize;
     RetryConfig retryConfig =
@@ -107,6 +120,15 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
     log.warn("Pushed {} to dead letter queue as max retries exceeded. Message data: {}", messageId, messageData);
   }
 
+  private void moveBinaryMessageToDeadLetterQueue(
+      StreamMessageId messageId, String groupName, Map<StreamMessageId, Map<String, byte[]>> messages) {
+    Map<String, byte[]> messageData = messages.getOrDefault(messageId, new HashMap<>());
+    messageData.put("prevMessageId", messageId.toString().getBytes(StandardCharsets.UTF_8));
+    binaryDeadLetterQueue.addAll(messageData, RedisUtils.MAX_DEAD_LETTER_QUEUE_SIZE, false);
+    stream.ack(groupName, messageId);
+    log.warn("Pushed {} to dead letter queue as max retries exceeded", messageId);
+  }
+
   private List<PendingEntry> getPendingEntries() {
     Supplier<List<PendingEntry>> getPendingEntriesSupplier = () -> getPendingEntriesInternal();
 
@@ -141,6 +163,14 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
     String groupName = getGroupName();
     if (pendingEntries.isEmpty()) {
       return Collections.emptyList();
+    } else if (encoding == RedisStreamEncoding.BINARY) {
+      Map<StreamMessageId, Map<String, byte[]>> messages = executeBinaryClaimCommand(pendingEntries);
+      for (PendingEntry entry : pendingEntries) {
+        if (entry.getLastTimeDelivered() >= RedisUtils.UNACKED_RETRY_COUNT) {
+          moveBinaryMessageToDeadLetterQueue(entry.getId(), groupName, messages);
+        }
+      }
+      return RedisUtils.getMessageObjectFromBinary(messages);
     } else {
       Map<StreamMessageId, Map<String, String>> messages = executeClaimCommand(pendingEntries);
       for (PendingEntry entry : pendingEntries) {
@@ -169,6 +199,20 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
     return messages;
   }
 
+  private Map<StreamMessageId, Map<String, byte[]>> executeBinaryClaimCommand(List<PendingEntry> pendingEntries) {
+    StreamMessageId[] messageIds = pendingEntries.stream().map(PendingEntry::getId).toArray(StreamMessageId[] ::new);
+    Map<StreamMessageId, Map<String, byte[]>> messages = Collections.emptyMap();
+    try {
+      messages = binaryStream.claim(
+          getGroupName(), getName(), maxProcessingTime.toMillis(), TimeUnit.MILLISECONDS, messageIds);
+    } catch (RedisException e) {
+      if (e.getMessage().matches("(.*)Unexpected exception while processing command(.*)")) {
+        log.warn("Claim called with messageIds which were not present - {}", messageIds);
+      }
+    }
+    return messages;
+  }
+
   private List<Message> getNewMessages(Duration maxWaitTime) {
     Supplier<List<Message>> getNewMessagesSupplier = () -> getNewMessagesInternal(maxWaitTime);
 
@@ -183,9 +227,16 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
   }
 
   private List<Message> getNewMessagesInternal(Duration maxWaitTime) {
-    Map<StreamMessageId, Map<String, String>> result =
-        stream.readGroup(getGroupName(), getName(), batchSize, maxWaitTime.toMillis(), TimeUnit.MILLISECONDS);
-    List<Message> messages = RedisUtils.getMessageObject(result);
+    List<Message> messages;
+    if (encoding == RedisStreamEncoding.BINARY) {
+      Map<StreamMessageId, Map<String, byte[]>> result =
+          binaryStream.readGroup(getGroupName(), getName(), batchSize, maxWaitTime.toMillis(), TimeUnit.MILLISECONDS);
+      messages = RedisUtils.getMessageObjectFromBinary(result);
+    } else {
+      Map<StreamMessageId, Map<String, String>> result =
+          stream.readGroup(getGroupName(), getName(), batchSize, maxWaitTime.toMillis(), TimeUnit.MILLISECONDS);
+      messages = RedisUtils.getMessageObject(result);
+    }
     for (Message message : messages) {
       addMonitoring(message);
     }
@@ -245,6 +296,31 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
     stream.ack(getGroupName(), RedisUtils.getStreamId(messageId));
   }
 
+  @Override
+  public void acknowledgeBatch(List<String> messageIds) {
+    if (messageIds.isEmpty()) {
+      return;
+    }
+    Supplier<Void> acknowledgeSupplier = () -> {
+      acknowledgeInternal(messageIds);
+      return null;
+    };
+
+    Supplier<Void> retryingAckMessages = Retry.decorateSupplier(retry, acknowledgeSupplier);
+    Try.ofSupplier(retryingAckMessages)
+        .recover(throwable -> {
+          createConsumerGroupIfNotPresent(throwable);
+          // Exhausted exponential backoff to try operating on redis
+          throw new EventsFrameworkDownException(throwable.getMessage());
+        })
+        .get();
+  }
+
+  private void acknowledgeInternal(List<String> messageIds) {
+    // Single XACK with all the ids
+    stream.ack(getGroupName(), messageIds.stream().map(RedisUtils::getStreamId).toArray(StreamMessageId[] ::new));
+  }
+
   private void createConsumerGroupIfNotPresent(Throwable e) {
     if (e.getMessage().matches("(.*)NOGROUP No such key(.*)or consumer group(.*)")) {
       log.info("Key or consumer group not present, attempting to create consumer group {} for {}", getGroupName(),
@@ -32,6 +32,11 @@ public class RedisConsumer extends RedisAbstractConsumer {
     super(topicName, groupName, redissonClient, maxProcessingTime, batchSize, envNamespace);
   }
 
+  public RedisConsumer(String topicName, String groupName, @NotNull RedissonClient redissonClient,
+      Duration maxProcessingTime, int batchSize, String envNamespace, RedisStreamEncoding encoding) {
+    super(topicName, groupName, redissonClient, maxProcessingTime, batchSize, envNamespace, encoding);
+  }
+
   @Override
   public List<Message> read(Duration maxWaitTime) {
     return getMessages(false, maxWaitTime);
@@ -46,4 +51,10 @@ public class RedisConsumer extends RedisAbstractConsumer {
       Duration maxProcessingTime, int batchSize, String envNamespace) {
     return new RedisConsumer(topicName, groupName, redissonClient, maxProcessingTime, batchSize, envNamespace);
   }
+
+  public static RedisConsumer of(String topicName, String groupName, @NotNull RedissonClient redissonClient,
+      Duration maxProcessingTime, int batchSize, String envNamespace, RedisStreamEncoding encoding) {
+    return new RedisConsumer(
+        topicName, groupName, redissonClient, maxProcessingTime, batchSize, envNamespace, encoding);
+  }
 }
@@ -8,11 +8,18 @@
 package io.harness.eventsframework.impl.redis;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.ACCOUNT_IDENTIFIER_METRICS_KEY;
 import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_INTERNAL_KEY;
 
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.eventsframework.api.AbstractProducer;
 import io.harness.eventsframework.api.EventsFrameworkDownException;
+import io.harness.eventsframework.impl.redis.monitoring.dto.RedisEventMetricDTO;
 import io.harness.eventsframework.impl.redis.monitoring.dto.RedisEventMetricDTOMapper;
 import io.harness.eventsframework.impl.redis.monitoring.publisher.RedisEventMetricPublisher;
 import io.harness.eventsframework.producer.Message;
@@ -24,23 +31,37 @@ import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryConfig;
 import io.vavr.control.Try;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import javax.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.BatchOptions.ExecutionMode;
+import org.redisson.api.BatchResult;
+import org.redisson.api.RBatch;
 import org.redisson.api.RStream;
+import org.redisson.api.RStreamAsync;
 import org.redisson.api.RedissonClient;
 import org.redisson.api.StreamMessageId;
+import org.redisson.client.codec.StringCodec;
 
 @OwnedBy(PL)
 @Slf4j
 public class RedisProducer extends AbstractProducer {
   private static final String PRODUCER = "producer";
   private static final String REDIS_PRODUCER_EVENT_METRIC = "redis_producer_event_metric";
+  private static final String REDIS_PRODUCER_BATCH_EVENT_METRIC = "redis_producer_batch_event_metric";
   private RStream<String, String> stream;
+  private RStream<String, byte[]> binaryStream;
+  private String streamName;
+  private RedisStreamEncoding encoding;
   private RedissonClient redissonClient;
+  // Passed in or, for producers bound as instances, injected by guice. Events are not monitored without one.
   @Inject private RedisEventMetricPublisher redisEventMetricPublisher;
   // This is used when the consumer for the event are no longer accepting due to some failure and
   // the messages are continuously being accumulated in Redis. To come up with this number, it is
@@ -54,34 +75,49 @@ public class RedisProducer extends AbstractProducer {
       RedisEventMetricPublisher redisEventMetricPublisher) {
     super(topicName, producerName);
     RedissonClient redissonClient = RedisUtils.getClient(redisConfig);
-    initProducer(topicName, redissonClient, maxTopicSize, redisConfig.getEnvNamespace());
+    initProducer(topicName, redissonClient, maxTopicSize, redisConfig.getEnvNamespace(), RedisStreamEncoding.BASE64);
     this.redisEventMetricPublisher = redisEventMetricPublisher;
   }
 
   public RedisProducer(String topicName, @NotNull RedisConfig redisConfig, int maxTopicSize, String producerName) {
     super(topicName, producerName);
     RedissonClient redissonClient = RedisUtils.getClient(redisConfig);
-    initProducer(topicName, redissonClient, maxTopicSize, redisConfig.getEnvNamespace());
+    initProducer(topicName, redissonClient, maxTopicSize, redisConfig.getEnvNamespace(), RedisStreamEncoding.BASE64);
   }
 
   public RedisProducer(String topicName, @NotNull RedissonClient redissonClient, int maxTopicSize, String producerName,
       String envNamespace, RedisEventMetricPublisher redisEventMetricPublisher) {
+    this(topicName, redissonClient, maxTopicSize, producerName, envNamespace, redisEventMetricPublisher,
+        RedisStreamEncoding.BASE64);
+  }
+
+  public RedisProducer(String topicName, @NotNull RedissonClient redissonClient, int maxTopicSize, String producerName,
+      String envNamespace, RedisEventMetricPublisher redisEventMetricPublisher, RedisStreamEncoding encoding) {
     super(topicName, producerName);
-    initProducer(topicName, redissonClient, maxTopicSize, envNamespace);
+    initProducer(topicName, redissonClient, maxTopicSize, envNamespace, encoding);
     this.redisEventMetricPublisher = redisEventMetricPublisher;
   }
 
   public RedisProducer(String topicName, @NotNull RedissonClient redissonClient, int maxTopicSize, String producerName,
       String envNamespace) {
     super(topicName, producerName);
-    initProducer(topicName, redissonClient, maxTopicSize, envNamespace);
+    initProducer(topicName, redissonClient, maxTopicSize, envNamespace, RedisStreamEncoding.BASE64);
+  }
+
+  public RedisProducer(String topicName, @NotNull RedissonClient redissonClient, int maxTopicSize, String producerName,
+      String envNamespace, RedisStreamEncoding encoding) {
+    super(topicName, producerName);
+    initProducer(topicName, redissonClient, maxTopicSize, envNamespace, encoding);
   }
 
-  private void initProducer(
-      String topicName, @NotNull RedissonClient redissonClient, int maxTopicSize, String envNamespace) {
+  private void initProducer(String topicName, @NotNull RedissonClient redissonClient, int maxTopicSize,
+      String envNamespace, RedisStreamEncoding encoding) {
     this.maxTopicSize = maxTopicSize;
     this.redissonClient = redissonClient;
+    this.encoding = encoding;
     this.stream = RedisUtils.getStream(topicName, redissonClient, envNamespace);
+    this.binaryStream = RedisUtils.getBinaryStream(topicName, redissonClient, envNamespace);
+    this.streamName = RedisUtils.getStreamName(envNamespace, topicName);
     RetryConfig retryConfig =
         RetryConfig.custom().intervalFunction(IntervalFunction.ofExponentialBackoff(1000, 1.5)).maxAttempts(6).build();
 
@@ -93,19 +129,68 @@ public class RedisProducer extends AbstractProducer {
     return handleMessage(message);
   }
 
+  @Override
+  public List<String> sendBatch(List<Message> messages) {
+    if (isEmpty(messages)) {
+      return Collections.emptyList();
+    }
+    return handleBatch(messages);
+  }
+
   private String sendInternal(Message message) {
-    Map<String, String> redisData = new HashMap<>(message.getMetadataMap());
-    redisData.put(REDIS_STREAM_INTERNAL_KEY, Base64.getEncoder().encodeToString(message.getData().toByteArray()));
-    populateOtherProducerSpecificData(redisData);
+    Map<String, String> redisData = prepareMetadata(message);
 
-    StreamMessageId messageId = stream.addAll(redisData, maxTopicSize, false);
+    StreamMessageId messageId = addToStream(redisData, message);
     addMonitoring(message);
-    redisData.remove(REDIS_STREAM_INTERNAL_KEY);
     log.info("Events framework message inserted - messageId: {}, metaData: {} in the topic: {}", messageId, redisData,
         this.getTopicName());
     return messageId.toString();
   }
 
+  private List<String> sendBatchInternal(List<Message> messages) {
+    // Atomic execution wraps the XADDs in MULTI/EXEC so that a retried batch never leaves a partial write behind
+    RBatch batch = redissonClient.createBatch(BatchOptions.defaults().executionMode(ExecutionMode.IN_MEMORY_ATOMIC));
+    if (encoding == RedisStreamEncoding.BINARY) {
+      RStreamAsync<String, byte[]> batchStream = batch.getStream(streamName, RedisUtils.getBinaryStreamCodec());
+      for (Message message : messages) {
+        batchStream.addAllAsync(
+            RedisUtils.getBinaryStreamEntry(prepareMetadata(message), message.getData().toByteArray()), maxTopicSize,
+            false);
+      }
+    } else {
+      RStreamAsync<String, String> batchStream = batch.getStream(streamName, new StringCodec("UTF-8"));
+      for (Message message : messages) {
+        Map<String, String> redisData = prepareMetadata(message);
+        redisData.put(REDIS_STREAM_INTERNAL_KEY, Base64.getEncoder().encodeToString(message.getData().toByteArray()));
+        batchStream.addAllAsync(redisData, maxTopicSize, false);
+      }
+    }
+
+    BatchResult<?> batchResult = batch.execute();
+    List<String> messageIds = batchResult.getResponses().stream().map(Object::toString).collect(toList());
+    addBatchMonitoring(messages);
+    log.info("Events framework batch inserted - count: {}, first messageId: {} in the topic: {}", messageIds.size(),
+        messageIds.isEmpty() ? null : messageIds.get(0), this.getTopicName());
+    return messageIds;
+  }
+
+  private Map<String, String> prepareMetadata(Message message) {
+    Map<String, String> redisData = new HashMap<>(message.getMetadataMap());
+    populateOtherProducerSpecificData(redisData);
+    return redisData;
+  }
+
+  private StreamMessageId addToStream(Map<String, String> redisData, Message message) {
+    if (encoding == RedisStreamEncoding.BINARY) {
+      return binaryStream.addAll(
+          RedisUtils.getBinaryStreamEntry(redisData, message.getData().toByteArray()), maxTopicSize, false);
+    }
+    redisData.put(REDIS_STREAM_INTERNAL_KEY, Base64.getEncoder().encodeToString(message.getData().toByteArray()));
+    StreamMessageId messageId = stream.addAll(redisData, maxTopicSize, false);
+    redisData.remove(REDIS_STREAM_INTERNAL_KEY);
+    return messageId;
+  }
+
   protected void populateOtherProducerSpecificData(Map<String, String> redisData) {
     redisData.put(PRODUCER, this.getProducerName());
   }
@@ -123,6 +208,19 @@ public class RedisProducer extends AbstractProducer {
         .get();
   }
 
+  private List<String> handleBatch(List<Message> messages) {
+    Supplier<List<String>> sendBatchSupplier = () -> sendBatchInternal(messages);
+
+    Supplier<List<String>> retryingSendBatch = Retry.decorateSupplier(retry, sendBatchSupplier);
+
+    return Try.ofSupplier(retryingSendBatch)
+        .recover(throwable -> {
+          // Exhausted exponential backoff to try operating on redis
+          throw new EventsFrameworkDownException(throwable.getMessage());
+        })
+        .get();
+  }
+
   @Override
   public void shutdown() {
     redissonClient.shutdown();
@@ -138,6 +236,18 @@ public class RedisProducer extends AbstractProducer {
     return new RedisProducer(topicName, redissonClient, maxTopicSize, producerName, envNamespace);
   }
 
+  public static RedisProducer of(String topicName, @NotNull RedissonClient redissonClient, int maxTopicSize,
+      String producerName, String envNamespace, RedisStreamEncoding encoding) {
+    return new RedisProducer(topicName, redissonClient, maxTopicSize, producerName, envNamespace, encoding);
+  }
+
+  public static RedisProducer of(String topicName, @NotNull RedissonClient redissonClient, int maxTopicSize,
+      String producerName, String envNamespace, RedisEventMetricPublisher redisEventMetricPublisher,
+      RedisStreamEncoding encoding) {
+    return new RedisProducer(
+        topicName, redissonClient, maxTopicSize, producerName, envNamespace, redisEventMetricPublisher, encoding);
+  }
+
   private void waitForRedisToComeUp() {
     try {
       TimeUnit.MILLISECONDS.sleep(500);
@@ -148,6 +258,9 @@ public class RedisProducer extends AbstractProducer {
   }
 
   private void addMonitoring(Message message) {
+    if (redisEventMetricPublisher == null) {
+      return;
+    }
     try {
       redisEventMetricPublisher.sendMetricWithEventContext(
           RedisEventMetricDTOMapper.prepareRedisEventMetricDTO(message, getTopicName()), REDIS_PRODUCER_EVENT_METRIC);
@@ -155,4 +268,22 @@ public class RedisProducer extends AbstractProducer {
       log.warn("Error while sending metrics for redis producer events :", ex);
     }
   }
+
+  private void addBatchMonitoring(List<Message> messages) {
+    if (redisEventMetricPublisher == null) {
+      return;
+    }
+    try {
+      // One emission per account present in the batch rather than one per message
+      Map<String, Long> countByAccount = messages.stream().collect(groupingBy(
+          message -> Objects.toString(message.getMetadataMap().get(ACCOUNT_IDENTIFIER_METRICS_KEY), ""), counting()));
+      countByAccount.forEach(
+          (accountId, count)
+              -> redisEventMetricPublisher.sendMetricWithEventContext(
+                  RedisEventMetricDTO.builder().accountId(accountId).streamName(getTopicName()).build(),
+                  REDIS_PRODUCER_BATCH_EVENT_METRIC, count));
+    } catch (Exception ex) {
+      log.warn("Error while sending metrics for redis producer batch events :", ex);
+    }
+  }
 }
@@ -23,4 +23,10 @@ public class RedisProducerFactory {
     return new RedisProducer(
         topicName, redissonClient, maxTopicSize, producerName, envNamespace, redisEventMetricPublisher);
   }
+
+  public RedisProducer createRedisProducer(String topicName, @NotNull RedissonClient redissonClient, int maxTopicSize,
+      String producerName, String envNamespace, RedisStreamEncoding encoding) {
+    return new RedisProducer(
+        topicName, redissonClient, maxTopicSize, producerName, envNamespace, redisEventMetricPublisher, encoding);
+  }
 }
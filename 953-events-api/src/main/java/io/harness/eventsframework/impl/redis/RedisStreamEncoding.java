@@ -0,0 +1,24 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+/**
+ * Wire format of the message payload stored in a redis stream entry.
+ *
+ * BINARY entries carry the raw protobuf bytes along with a version marker, so a consumer created with BINARY can read
+ * both kinds of entries. Consumers of a topic should be moved to BINARY before its producers are.
+ */
+@OwnedBy(PL)
+public enum RedisStreamEncoding {
+  BASE64,
+  BINARY
+}
@@ -23,9 +23,11 @@ import com.google.protobuf.ByteString;
 import com.google.protobuf.Timestamp;
 import java.io.File;
 import java.net.MalformedURLException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.experimental.UtilityClass;
@@ -37,7 +39,10 @@ import org.redisson.api.RedissonClient;
 import org.redisson.api.StreamMessageId;
 import org.redisson.client.RedisClient;
 import org.redisson.client.RedisClientConfig;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.Codec;
 import org.redisson.client.codec.StringCodec;
+import org.redisson.codec.CompositeCodec;
 import org.redisson.config.Config;
 import org.redisson.config.ReadMode;
 import org.redisson.config.SingleServerConfig;
@@ -48,6 +53,9 @@ import org.redisson.config.SingleServerConfig;
 public class RedisUtils {
   // Keeping this as small as possible to save on memory for redis instance
   public static final String REDIS_STREAM_INTERNAL_KEY = "o";
+  // Present only on entries whose payload is stored as raw bytes, value is the version of the binary format
+  public static final String REDIS_STREAM_ENCODING_KEY = "v";
+  public static final String BINARY_ENCODING_VERSION = "1";
   public static final int MAX_DEAD_LETTER_QUEUE_SIZE = 50000;
   public static final int UNACKED_RETRY_COUNT = 10;
   private static final int DEFAULT_MIN_CONNECTION_IDLE_SIZE = 5;
@@ -139,6 +147,28 @@ public class RedisUtils {
     return getStream(deadLetterStreamName, client, envNamespace);
   }
 
+  public Codec getBinaryStreamCodec() {
+    return new CompositeCodec(new StringCodec("UTF-8"), ByteArrayCodec.INSTANCE);
+  }
+
+  public RStream<String, byte[]> getBinaryStream(String topicName, RedissonClient client, String envNamespace) {
+    return client.getStream(getStreamName(envNamespace, topicName), getBinaryStreamCodec());
+  }
+
+  public RStream<String, byte[]> getBinaryDeadLetterStream(
+      String topicName, RedissonClient client, String envNamespace) {
+    String deadLetterStreamName = "deadletter_queue:" + topicName;
+    return getBinaryStream(deadLetterStreamName, client, envNamespace);
+  }
+
+  public Map<String, byte[]> getBinaryStreamEntry(Map<String, String> metadata, byte[] data) {
+    Map<String, byte[]> redisData = new HashMap<>();
+    metadata.forEach((key, value) -> redisData.put(key, value.getBytes(StandardCharsets.UTF_8)));
+    redisData.put(REDIS_STREAM_ENCODING_KEY, BINARY_ENCODING_VERSION.getBytes(StandardCharsets.UTF_8));
+    redisData.put(REDIS_STREAM_INTERNAL_KEY, data);
+    return redisData;
+  }
+
   public String getStreamName(String envNamespace, String topicName) {
     return (envNamespace.isEmpty() ? "" : envNamespace + ":") + "streams:" + topicName;
   }
@@ -169,6 +199,35 @@ public class RedisUtils {
     }
   }
 
+  public List<Message> getMessageObjectFromBinary(Map<StreamMessageId, Map<String, byte[]>> result) {
+    if (isEmpty(result)) {
+      return Collections.emptyList();
+    }
+    List<Message> messages = new ArrayList<>();
+    for (Map.Entry<StreamMessageId, Map<String, byte[]>> entry : result.entrySet()) {
+      messages.add(getConsumerMessageObjectFromBinary(entry.getKey(), entry.getValue()));
+    }
+    return messages;
+  }
+
+  public Message getConsumerMessageObjectFromBinary(StreamMessageId messageId, Map<String, byte[]> messageMap) {
+    byte[] messageData = messageMap.remove(REDIS_STREAM_INTERNAL_KEY);
+    byte[] encodingVersion = messageMap.remove(REDIS_STREAM_ENCODING_KEY);
+
+    Map<String, String> metadata = new HashMap<>();
+    messageMap.forEach((key, value) -> metadata.put(key, new String(value, StandardCharsets.UTF_8)));
+
+    // Entries written by producers still on the base64 format do not carry the version marker
+    ByteString data = encodingVersion == null ? ByteString.copyFrom(Base64.getDecoder().decode(messageData))
+                                              : ByteString.copyFrom(messageData);
+
+    return Message.newBuilder()
+        .setId(messageId.toString())
+        .setMessage(io.harness.eventsframework.producer.Message.newBuilder().setData(data).putAllMetadata(metadata))
+        .setTimestamp(RedisUtils.getMessageTimestamp(messageId.toString()))
+        .build();
+  }
+
   public io.harness.eventsframework.producer.Message getProducedMessage(
       String messageData, Map<String, String> messageMap) {
     return io.harness.eventsframework.producer.Message.newBuilder()
@@ -28,4 +28,10 @@ public class RedisEventMetricPublisher {
       metricService.incCounter(metricName);
     }
   }
+
+  public void sendMetricWithEventContext(RedisEventMetricDTO redisEventMetricDTO, String metricName, long count) {
+    try (RedisEventMetricContext context = new RedisEventMetricContext(redisEventMetricDTO)) {
+      metricService.recordMetric(metricName, count);
+    }
+  }
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.eventsframework.impl.redis.RedisUtils.MAX_DEAD_LETTER_QUEUE_SIZE;
+import static io.harness.eventsframework.impl.redis.RedisUtils.UNACKED_RETRY_COUNT;
+import static io.harness.rule.OwnerRule.KARAN;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyMap;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.isA;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.consumer.Message;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableMap;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.PendingEntry;
+import org.redisson.api.RStream;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.codec.CompositeCodec;
+
+@OwnedBy(PL)
+public class RedisConsumerTest extends CategoryTest {
+  private static final String TOPIC = "topic";
+  private static final String GROUP = "group";
+  private static final byte[] DATA = {0, 1, 2, (byte) 0xff};
+
+  private RStream<String, String> stream;
+  private RStream<String, byte[]> binaryStream;
+  private RStream<String, byte[]> binaryDeadLetterQueue;
+  private RedisConsumer consumer;
+
+  @Before
+  public void setUp() {
+    RedissonClient redissonClient = mock(RedissonClient.class);
+    stream = mock(RStream.class);
+    binaryStream = mock(RStream.class);
+    binaryDeadLetterQueue = mock(RStream.class);
+    doReturn(stream).when(redissonClient).getStream(eq("streams:" + TOPIC), isA(StringCodec.class));
+    doReturn(mock(RStream.class))
+        .when(redissonClient)
+        .getStream(eq("streams:deadletter_queue:" + TOPIC), isA(StringCodec.class));
+    doReturn(binaryStream).when(redissonClient).getStream(eq("streams:" + TOPIC), isA(CompositeCodec.class));
+    doReturn(binaryDeadLetterQueue)
+        .when(redissonClient)
+        .getStream(eq("streams:deadletter_queue:" + TOPIC), isA(CompositeCodec.class));
+    consumer =
+        RedisConsumer.of(TOPIC, GROUP, redissonClient, Duration.ofSeconds(10), 10, "", RedisStreamEncoding.BINARY);
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testClaimedBinaryMessagesAreDecoded() {
+    StreamMessageId messageId = new StreamMessageId(1000, 0);
+    mockPendingEntry(messageId, 1);
+
+    List<Message> messages = consumer.read(Duration.ofSeconds(1));
+
+    assertThat(messages).hasSize(1);
+    assertThat(messages.get(0).getId()).isEqualTo("1000-0");
+    assertThat(messages.get(0).getMessage().getData().toByteArray()).isEqualTo(DATA);
+    assertThat(messages.get(0).getMessage().getMetadataMap()).containsEntry("accountId", "acc1");
+    verify(binaryDeadLetterQueue, never()).addAll(anyMap(), anyInt(), anyBoolean());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testBinaryMessageMovedToDeadLetterQueueAfterMaxRetries() {
+    StreamMessageId messageId = new StreamMessageId(1000, 0);
+    mockPendingEntry(messageId, UNACKED_RETRY_COUNT);
+
+    consumer.read(Duration.ofSeconds(1));
+
+    ArgumentCaptor<Map> deadLetter = ArgumentCaptor.forClass(Map.class);
+    verify(binaryDeadLetterQueue).addAll(deadLetter.capture(), eq(MAX_DEAD_LETTER_QUEUE_SIZE), eq(false));
+    Map<String, byte[]> deadLetterEntry = deadLetter.getValue();
+    assertThat(deadLetterEntry.get(RedisUtils.REDIS_STREAM_INTERNAL_KEY)).isEqualTo(DATA);
+    assertThat(new String(deadLetterEntry.get(RedisUtils.REDIS_STREAM_ENCODING_KEY), StandardCharsets.UTF_8))
+        .isEqualTo(RedisUtils.BINARY_ENCODING_VERSION);
+    assertThat(new String(deadLetterEntry.get("prevMessageId"), StandardCharsets.UTF_8)).isEqualTo("1000-0");
+    verify(stream).ack(GROUP, messageId);
+  }
+
+  private void mockPendingEntry(StreamMessageId messageId, long lastTimeDelivered) {
+    when(stream.listPending(eq(GROUP), any(StreamMessageId.class), any(StreamMessageId.class), anyInt()))
+        .thenReturn(asList(new PendingEntry(messageId, "consumer", 20000, lastTimeDelivered)));
+    Map<StreamMessageId, Map<String, byte[]>> claimed = new HashMap<>();
+    claimed.put(
+        messageId, new HashMap<>(RedisUtils.getBinaryStreamEntry(ImmutableMap.of("accountId", "acc1"), DATA)));
+    when(binaryStream.claim(eq(GROUP), any(), anyLong(), eq(TimeUnit.MILLISECONDS), anyVararg())).thenReturn(claimed);
+  }
+}
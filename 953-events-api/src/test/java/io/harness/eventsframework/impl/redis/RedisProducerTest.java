@@ -0,0 +1,199 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.ACCOUNT_IDENTIFIER_METRICS_KEY;
+import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_ENCODING_KEY;
+import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_INTERNAL_KEY;
+import static io.harness.rule.OwnerRule.KARAN;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyMap;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.impl.redis.monitoring.dto.RedisEventMetricDTO;
+import io.harness.eventsframework.impl.redis.monitoring.publisher.RedisEventMetricPublisher;
+import io.harness.eventsframework.producer.Message;
+import io.harness.rule.Owner;
+
+import com.google.protobuf.ByteString;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.BatchOptions.ExecutionMode;
+import org.redisson.api.BatchResult;
+import org.redisson.api.RBatch;
+import org.redisson.api.RStream;
+import org.redisson.api.RStreamAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.Codec;
+
+@OwnedBy(PL)
+public class RedisProducerTest extends CategoryTest {
+  private static final String TOPIC = "topic";
+  private static final String STREAM_NAME = "streams:" + TOPIC;
+
+  private RedissonClient redissonClient;
+  private RStream<String, String> stream;
+  private RedisEventMetricPublisher redisEventMetricPublisher;
+  private RedisProducer producer;
+
+  @Before
+  public void setUp() {
+    redissonClient = mock(RedissonClient.class);
+    stream = mock(RStream.class);
+    doReturn(stream).when(redissonClient).getStream(anyString(), any(Codec.class));
+    redisEventMetricPublisher = mock(RedisEventMetricPublisher.class);
+    producer = new RedisProducer(
+        TOPIC, redissonClient, 1000, "producer", "", redisEventMetricPublisher, RedisStreamEncoding.BASE64);
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testSendEmptyBatch() {
+    assertThat(producer.sendBatch(Collections.emptyList())).isEmpty();
+    verify(redissonClient, never()).createBatch(any(BatchOptions.class));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testSendBatchReturnsMessageIdsInOrder() {
+    RStreamAsync<String, String> batchStream = mockBatch(
+        mock(RBatch.class), asList(new StreamMessageId(10, 0), new StreamMessageId(10, 1), new StreamMessageId(11, 0)));
+    List<Message> messages = asList(message("a", "acc1"), message("b", "acc1"), message("c", "acc2"));
+
+    List<String> messageIds = producer.sendBatch(messages);
+
+    assertThat(messageIds).containsExactly("10-0", "10-1", "11-0");
+    ArgumentCaptor<Map> entries = ArgumentCaptor.forClass(Map.class);
+    verify(batchStream, times(3)).addAllAsync(entries.capture(), eq(1000), eq(false));
+    assertThat(entries.getAllValues())
+        .extracting(entry -> entry.get(REDIS_STREAM_INTERNAL_KEY))
+        .containsExactly(encode("a"), encode("b"), encode("c"));
+    verify(stream, never()).addAll(anyMap(), anyInt(), anyBoolean());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testRetriedBatchIsWrittenAtomically() {
+    RBatch failedBatch = mock(RBatch.class);
+    RStreamAsync<String, String> failedStream = mock(RStreamAsync.class);
+    doReturn(failedStream).when(failedBatch).getStream(eq(STREAM_NAME), any(Codec.class));
+    when(failedBatch.execute()).thenThrow(new RedisException("connection reset"));
+    RBatch batch = mock(RBatch.class);
+    RStreamAsync<String, String> batchStream = mock(RStreamAsync.class);
+    doReturn(batchStream).when(batch).getStream(eq(STREAM_NAME), any(Codec.class));
+    doReturn(new BatchResult<>(asList(new StreamMessageId(1, 0), new StreamMessageId(1, 1)), 0))
+        .when(batch)
+        .execute();
+    when(redissonClient.createBatch(any(BatchOptions.class))).thenReturn(failedBatch, batch);
+
+    List<String> messageIds = producer.sendBatch(asList(message("a", "acc1"), message("b", "acc1")));
+
+    assertThat(messageIds).containsExactly("1-0", "1-1");
+    ArgumentCaptor<BatchOptions> options = ArgumentCaptor.forClass(BatchOptions.class);
+    verify(redissonClient, times(2)).createBatch(options.capture());
+    assertThat(options.getAllValues())
+        .extracting(BatchOptions::getExecutionMode)
+        .containsOnly(ExecutionMode.IN_MEMORY_ATOMIC);
+    // The whole batch is queued again on the new batch, nothing is written outside of MULTI/EXEC
+    verify(batchStream, times(2)).addAllAsync(anyMap(), anyInt(), anyBoolean());
+    verify(stream, never()).addAll(anyMap(), anyInt(), anyBoolean());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testSendBatchRecordsOneMetricPerAccount() {
+    mockBatch(mock(RBatch.class),
+        asList(new StreamMessageId(1, 0), new StreamMessageId(1, 1), new StreamMessageId(1, 2)));
+
+    producer.sendBatch(asList(message("a", "acc1"), message("b", "acc1"), message("c", "acc2")));
+
+    verify(redisEventMetricPublisher)
+        .sendMetricWithEventContext(RedisEventMetricDTO.builder().accountId("acc1").streamName(TOPIC).build(),
+            "redis_producer_batch_event_metric", 2L);
+    verify(redisEventMetricPublisher)
+        .sendMetricWithEventContext(RedisEventMetricDTO.builder().accountId("acc2").streamName(TOPIC).build(),
+            "redis_producer_batch_event_metric", 1L);
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testGitAwareProducerSendsBinaryBatchWithMetrics() {
+    producer = GitAwareRedisProducer.of(
+        TOPIC, redissonClient, 1000, "producer", "", redisEventMetricPublisher, RedisStreamEncoding.BINARY);
+    RStreamAsync<String, String> batchStream = mockBatch(mock(RBatch.class), asList(new StreamMessageId(1, 0)));
+
+    assertThat(producer.sendBatch(asList(message("a", "acc1")))).containsExactly("1-0");
+
+    ArgumentCaptor<Map> entries = ArgumentCaptor.forClass(Map.class);
+    verify(batchStream).addAllAsync(entries.capture(), eq(1000), eq(false));
+    assertThat((byte[]) entries.getValue().get(REDIS_STREAM_INTERNAL_KEY)).isEqualTo("a".getBytes());
+    assertThat(entries.getValue()).containsKey(REDIS_STREAM_ENCODING_KEY);
+    verify(redisEventMetricPublisher)
+        .sendMetricWithEventContext(RedisEventMetricDTO.builder().accountId("acc1").streamName(TOPIC).build(),
+            "redis_producer_batch_event_metric", 1L);
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testSendWithoutMetricPublisher() {
+    producer = new RedisProducer(TOPIC, redissonClient, 1000, "producer", "");
+    when(stream.addAll(anyMap(), anyInt(), anyBoolean())).thenReturn(new StreamMessageId(1, 0));
+
+    assertThat(producer.send(message("a", "acc1"))).isEqualTo("1-0");
+  }
+
+  private RStreamAsync<String, String> mockBatch(RBatch batch, List<StreamMessageId> messageIds) {
+    RStreamAsync<String, String> batchStream = mock(RStreamAsync.class);
+    doReturn(batchStream).when(batch).getStream(eq(STREAM_NAME), any(Codec.class));
+    doReturn(new BatchResult<>(messageIds, 0)).when(batch).execute();
+    when(redissonClient.createBatch(any(BatchOptions.class))).thenReturn(batch);
+    return batchStream;
+  }
+
+  private static Message message(String data, String accountId) {
+    return Message.newBuilder()
+        .setData(ByteString.copyFromUtf8(data))
+        .putMetadata(ACCOUNT_IDENTIFIER_METRICS_KEY, accountId)
+        .build();
+  }
+
+  private static String encode(String data) {
+    return Base64.getEncoder().encodeToString(data.getBytes());
+  }
+}
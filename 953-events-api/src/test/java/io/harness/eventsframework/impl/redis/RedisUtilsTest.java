@@ -0,0 +1,76 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.eventsframework.impl.redis.RedisUtils.BINARY_ENCODING_VERSION;
+import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_ENCODING_KEY;
+import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_INTERNAL_KEY;
+import static io.harness.rule.OwnerRule.KARAN;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.consumer.Message;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableMap;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.redisson.api.StreamMessageId;
+
+@OwnedBy(PL)
+public class RedisUtilsTest extends CategoryTest {
+  private static final byte[] DATA = {0, 1, 2, (byte) 0xff, 10};
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testBinaryStreamEntryCarriesVersionMarker() {
+    Map<String, byte[]> entry = RedisUtils.getBinaryStreamEntry(ImmutableMap.of("accountId", "acc1"), DATA);
+
+    assertThat(new String(entry.get(REDIS_STREAM_ENCODING_KEY), StandardCharsets.UTF_8))
+        .isEqualTo(BINARY_ENCODING_VERSION)
+        .isEqualTo("1");
+    assertThat(entry.get(REDIS_STREAM_INTERNAL_KEY)).isEqualTo(DATA);
+    assertThat(new String(entry.get("accountId"), StandardCharsets.UTF_8)).isEqualTo("acc1");
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testBinaryRoundTrip() {
+    Map<String, byte[]> entry = RedisUtils.getBinaryStreamEntry(ImmutableMap.of("accountId", "acc1"), DATA);
+
+    Message message = RedisUtils.getConsumerMessageObjectFromBinary(new StreamMessageId(1000, 1), entry);
+
+    assertThat(message.getId()).isEqualTo("1000-1");
+    assertThat(message.getMessage().getData().toByteArray()).isEqualTo(DATA);
+    assertThat(message.getMessage().getMetadataMap()).hasSize(1).containsEntry("accountId", "acc1");
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testBase64EntryReadFromBinaryStream() {
+    Map<String, byte[]> entry = new HashMap<>();
+    entry.put("accountId", "acc1".getBytes(StandardCharsets.UTF_8));
+    entry.put(REDIS_STREAM_INTERNAL_KEY, Base64.getEncoder().encode(DATA));
+
+    Message message = RedisUtils.getConsumerMessageObjectFromBinary(new StreamMessageId(1000, 2), entry);
+
+    assertThat(message.getMessage().getData().toByteArray()).isEqualTo(DATA);
+    assertThat(message.getMessage().getMetadataMap()).containsOnlyKeys("accountId");
+  }
+}
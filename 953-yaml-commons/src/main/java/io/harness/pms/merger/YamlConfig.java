@@ -14,10 +14,13 @@ import io.harness.exception.InvalidRequestException;
 import io.harness.pms.merger.fqn.FQN;
 import io.harness.pms.merger.helpers.FQNMapGenerator;
 import io.harness.pms.merger.helpers.YamlMapGenerator;
+import io.harness.pms.yaml.YamlContentCache;
 import io.harness.pms.yaml.YamlUtils;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ContainerNode;
 import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
@@ -26,19 +29,36 @@ import lombok.extern.slf4j.Slf4j;
 @Data
 @Slf4j
 public class YamlConfig {
+  private static final long MAX_CACHED_CONFIG_BYTES = 32 * 1024 * 1024;
+  // rough size of an FQN key and of its entry in the map
+  private static final int FQN_ENTRY_BYTES = 256;
+  private static final YamlContentCache<YamlConfig> configCache =
+      new YamlContentCache<>(MAX_CACHED_CONFIG_BYTES, YamlConfig::estimateSize, YamlConfig::copy);
+
   private String yaml;
   private JsonNode yamlMap;
   private Map<FQN, Object> fqnToValueMap;
 
   public YamlConfig(String yaml) {
-    this.yaml = yaml;
+    YamlConfig parsed;
     try {
-      yamlMap = YamlUtils.readTree(yaml).getNode().getCurrJsonNode();
+      parsed = configCache.get(yaml, YamlConfig::parse);
     } catch (IOException e) {
       log.error("Could not convert yaml to JsonNode. Yaml:\n" + yaml, e);
       throw new InvalidRequestException("Could not convert yaml to JsonNode: " + e.getMessage());
     }
-    fqnToValueMap = FQNMapGenerator.generateFQNMap(yamlMap);
+    this.yaml = yaml;
+    this.yamlMap = parsed.yamlMap;
+    this.fqnToValueMap = parsed.fqnToValueMap;
+  }
+
+  /**
+   * For a yaml the caller already parsed, the tree is used as is and must not be modified while this config is in use.
+   */
+  public YamlConfig(String yaml, JsonNode yamlMap) {
+    this.yaml = yaml;
+    this.yamlMap = yamlMap;
+    this.fqnToValueMap = FQNMapGenerator.generateFQNMap(yamlMap);
   }
 
   public YamlConfig(Map<FQN, Object> fqnToValueMap, JsonNode originalYaml) {
@@ -56,4 +76,40 @@ public class YamlConfig {
       yaml = YamlUtils.write(yamlMap).replace("---\n", "");
     }
   }
+
+  private YamlConfig(String yaml, JsonNode yamlMap, Map<FQN, Object> fqnToValueMap) {
+    this.yaml = yaml;
+    this.yamlMap = yamlMap;
+    this.fqnToValueMap = fqnToValueMap;
+  }
+
+  public static YamlContentCache<YamlConfig> configCache() {
+    return configCache;
+  }
+
+  private static YamlConfig parse(String yaml) throws IOException {
+    return new YamlConfig(yaml, YamlUtils.readTreeWithoutCache(yaml));
+  }
+
+  /**
+   * The values of the FQN map are nodes of the tree, only the keys and entries of the map are counted on top of it.
+   */
+  private static int estimateSize(YamlConfig config) {
+    long bytes = 2L * config.yaml.length() + YamlContentCache.estimateSize(config.yamlMap)
+        + (long) FQN_ENTRY_BYTES * config.fqnToValueMap.size();
+    return (int) Math.min(bytes, Integer.MAX_VALUE);
+  }
+
+  /**
+   * The values of the FQN map are not nodes of the copied tree, leaves are immutable and shared while lists and
+   * objects are copied.
+   */
+  private static YamlConfig copy(YamlConfig config) {
+    Map<FQN, Object> fqnToValueMap = new LinkedHashMap<>();
+    for (Map.Entry<FQN, Object> entry : config.fqnToValueMap.entrySet()) {
+      Object value = entry.getValue();
+      fqnToValueMap.put(entry.getKey(), value instanceof ContainerNode ? ((JsonNode) value).deepCopy() : value);
+    }
+    return new YamlConfig(config.yaml, config.yamlMap.deepCopy(), fqnToValueMap);
+  }
 }
@@ -43,9 +43,17 @@ public class MergeHelper {
   public String mergeRuntimeInputValuesIntoOriginalYaml(
       String originalYaml, String inputSetPipelineCompYaml, boolean appendInputSetValidator) {
     YamlConfig inputSetConfig = new YamlConfig(inputSetPipelineCompYaml);
-    Map<FQN, Object> inputSetFQNMap = inputSetConfig.getFqnToValueMap();
-
     YamlConfig originalYamlConfig = new YamlConfig(originalYaml);
+    return mergeRuntimeInputValuesIntoOriginalYaml(originalYamlConfig, inputSetConfig, appendInputSetValidator);
+  }
+
+  /**
+   * For callers merging several input sets into the same pipeline, the configs are only read so they can be parsed
+   * once and passed to every merge.
+   */
+  public String mergeRuntimeInputValuesIntoOriginalYaml(
+      YamlConfig originalYamlConfig, YamlConfig inputSetConfig, boolean appendInputSetValidator) {
+    Map<FQN, Object> inputSetFQNMap = inputSetConfig.getFqnToValueMap();
 
     Map<FQN, Object> mergedYamlFQNMap = new LinkedHashMap<>(originalYamlConfig.getFqnToValueMap());
     originalYamlConfig.getFqnToValueMap().keySet().forEach(key -> {
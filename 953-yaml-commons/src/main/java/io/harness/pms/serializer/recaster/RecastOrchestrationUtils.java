@@ -10,6 +10,7 @@ package io.harness.pms.serializer.recaster;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.core.Recast;
+import io.harness.core.RecastJsonWriter;
 import io.harness.core.Recaster;
 import io.harness.core.RecasterOptions;
 import io.harness.data.structure.EmptyPredicate;
@@ -26,10 +27,15 @@ import io.harness.serializer.recaster.proto.ProtoEnumRecastTransformer;
 import io.harness.serializer.recaster.proto.ProtoRecastTransformer;
 import io.harness.utils.RecastReflectionUtils;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
@@ -56,22 +62,59 @@ public class RecastOrchestrationUtils {
     recast.addTransformer(new ParameterFieldRecastTransformer());
   }
 
+  // JsonUtils decides whether null map values are written, the streamed json has to follow the same rule.
+  private static final boolean WRITE_NULL_VALUES =
+      JsonUtils.asJson(Collections.singletonMap("key", null)).contains("key");
+  private static final RecastJsonWriter jsonWriter = recast.jsonWriter(JsonUtils.streamingWriter(), WRITE_NULL_VALUES);
+
   public <T> Map<String, Object> toMap(T entity) {
     return recast.toMap(entity);
   }
 
   public <T> byte[] toBytes(T entity) {
-    return toJson(entity).getBytes(StandardCharsets.UTF_8);
+    if (entity == null) {
+      return null;
+    }
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    try (JsonGenerator generator = JsonUtils.createGenerator(outputStream)) {
+      jsonWriter.write(entity, generator);
+    } catch (IOException e) {
+      throw new RecasterException("Cannot serialize to json : " + entity, e);
+    }
+    return outputStream.toByteArray();
   }
 
   public <T> T fromBytes(byte[] bytes, Class<T> entityClass) {
-    String json = new String(bytes, StandardCharsets.UTF_8);
-    return fromJson(json, entityClass);
+    if (EmptyPredicate.isEmpty(bytes)) {
+      return null;
+    }
+
+    Map<String, Object> map;
+    try {
+      map = JsonUtils.asMap(bytes);
+    } catch (Exception e) {
+      throw new RecasterException("Cannot deserialize from json : " + new String(bytes, StandardCharsets.UTF_8), e);
+    }
+    return fromMap(map, entityClass);
   }
 
+  /**
+   * Streams the entity to json without building the intermediate map, the result is the same as
+   * {@code toJson(toMap(entity))}.
+   */
   public <T> String toJson(T entity) {
-    Map<String, Object> map = recast.toMap(entity);
-    return toJson(map);
+    if (entity == null) {
+      return null;
+    }
+
+    StringWriter writer = new StringWriter();
+    try (JsonGenerator generator = JsonUtils.createGenerator(writer)) {
+      jsonWriter.write(entity, generator);
+    } catch (IOException e) {
+      throw new RecasterException("Cannot serialize to json : " + entity, e);
+    }
+    return writer.toString();
   }
 
   public String toJson(Map<String, Object> map) {
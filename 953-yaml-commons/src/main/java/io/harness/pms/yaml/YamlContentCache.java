@@ -0,0 +1,133 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.pms.yaml;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Values parsed from yaml content, kept by the SHA-256 of the content so that the same pipeline is not parsed again by
+ * every helper and every request. The content is provided by the users, hence a cryptographic hash for the key.
+ * <p/>
+ * Jackson trees are mutable and most callers modify what they read, so the cached values are never handed out: every
+ * {@link #get} returns a copy made by the given copier.
+ * <p/>
+ * Content with injected uuids is written for a single plan creation and never read again, it is not cached.
+ */
+@OwnedBy(PIPELINE)
+public class YamlContentCache<V> {
+  /**
+   * Smaller content is parsed faster than it is hashed and copied.
+   */
+  static final int MIN_CACHED_LENGTH = 1024;
+  private static final long EXPIRE_AFTER_ACCESS_MINUTES = 10;
+  // rough sizes of a node, of an object field and of a string on a 64-bit JVM with compressed pointers
+  private static final long NODE_BYTES = 24;
+  private static final long FIELD_BYTES = 48;
+  private static final long STRING_BYTES = 40;
+
+  private final Cache<HashCode, V> cache;
+  private final UnaryOperator<V> copier;
+
+  /**
+   * @param maxCachedBytes estimated heap size of the values kept
+   * @param sizeEstimator estimates the heap size of a value in bytes
+   * @param copier copies a cached value, the copy must share no mutable state with it
+   */
+  public YamlContentCache(long maxCachedBytes, ToIntFunction<V> sizeEstimator, UnaryOperator<V> copier) {
+    this.copier = copier;
+    this.cache = CacheBuilder.newBuilder()
+                     .maximumWeight(maxCachedBytes)
+                     .weigher((HashCode key, V value) -> sizeEstimator.applyAsInt(value))
+                     .expireAfterAccess(EXPIRE_AFTER_ACCESS_MINUTES, TimeUnit.MINUTES)
+                     .recordStats()
+                     .build();
+  }
+
+  /**
+   * @return a copy of the value parsed from the content, null values are returned as is and not cached
+   */
+  public V get(String content, Parser<V> parser) throws IOException {
+    if (content == null || content.length() < MIN_CACHED_LENGTH || content.contains(YamlNode.UUID_FIELD_NAME)) {
+      return parser.parse(content);
+    }
+    HashCode key = Hashing.sha256().hashString(content, StandardCharsets.UTF_8);
+    V value = cache.getIfPresent(key);
+    if (value == null) {
+      value = parser.parse(content);
+      if (value == null) {
+        return null;
+      }
+      cache.put(key, value);
+    }
+    return copier.apply(value);
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /**
+   * Content which is not cached, shorter than {@link #MIN_CACHED_LENGTH} or with uuids, is not looked up and not
+   * counted.
+   */
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  public long size() {
+    return cache.size();
+  }
+
+  /**
+   * @return an estimate of the heap size of the tree in bytes, a tree takes several times the size of its content
+   */
+  public static int estimateSize(JsonNode tree) {
+    long bytes = 0;
+    Deque<JsonNode> nodes = new ArrayDeque<>();
+    nodes.push(tree);
+    while (!nodes.isEmpty()) {
+      JsonNode node = nodes.pop();
+      bytes += NODE_BYTES;
+      if (node.isObject()) {
+        for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext();) {
+          Map.Entry<String, JsonNode> field = fields.next();
+          bytes += FIELD_BYTES + STRING_BYTES + 2L * field.getKey().length();
+          nodes.push(field.getValue());
+        }
+      } else if (node.isArray()) {
+        node.forEach(nodes::push);
+      } else if (node.isTextual()) {
+        bytes += STRING_BYTES + 2L * node.textValue().length();
+      }
+    }
+    return (int) Math.min(bytes, Integer.MAX_VALUE);
+  }
+
+  @FunctionalInterface
+  public interface Parser<V> {
+    V parse(String content) throws IOException;
+  }
+}
@@ -44,7 +44,11 @@ import lombok.experimental.UtilityClass;
 public class YamlUtils {
   private static final List<String> ignorableStringForQualifiedName = Arrays.asList("step", "parallel");
 
+  private static final long MAX_CACHED_TREE_BYTES = 32 * 1024 * 1024;
+
   private final ObjectMapper mapper;
+  private final YamlContentCache<JsonNode> treeCache =
+      new YamlContentCache<>(MAX_CACHED_TREE_BYTES, YamlContentCache::estimateSize, JsonNode::deepCopy);
 
   static {
     mapper = new ObjectMapper(new YAMLFactory());
@@ -73,11 +77,29 @@ public class YamlUtils {
   }
 
   public YamlField readTree(String content) throws IOException {
-    JsonNode rootJsonNode = mapper.readTree(content);
+    JsonNode rootJsonNode = readJsonNode(content);
     YamlNode rootYamlNode = new YamlNode(rootJsonNode);
     return new YamlField(rootYamlNode);
   }
 
+  /**
+   * @return a tree the caller owns, parsed at most once for the same content
+   */
+  private JsonNode readJsonNode(String content) throws IOException {
+    return treeCache.get(content, mapper::readTree);
+  }
+
+  /**
+   * For callers caching what they parse from the content, so that the tree is not kept twice.
+   */
+  public JsonNode readTreeWithoutCache(String content) throws IOException {
+    return mapper.readTree(content);
+  }
+
+  public YamlContentCache<JsonNode> treeCache() {
+    return treeCache;
+  }
+
   public YamlField readTree(Object obj, String currentFieldName, YamlNode parentNode) {
     try {
       JsonNode currentJsonNode = mapper.valueToTree(obj);
@@ -89,7 +111,7 @@ public class YamlUtils {
   }
 
   public YamlField toByteString(String content) throws IOException {
-    JsonNode rootJsonNode = mapper.readTree(content);
+    JsonNode rootJsonNode = readJsonNode(content);
     YamlNode rootYamlNode = new YamlNode(rootJsonNode);
     return new YamlField(rootYamlNode);
   }
@@ -126,7 +148,13 @@ public class YamlUtils {
   }
 
   public YamlField injectUuidWithLeafUuid(String content) throws IOException {
-    JsonNode rootJsonNode = mapper.readTree(content);
+    return injectUuidWithLeafUuidInTree(readJsonNode(content));
+  }
+
+  /**
+   * Same as {@link #injectUuidWithLeafUuid(String)} for a tree the caller already parsed, the tree is modified.
+   */
+  public YamlField injectUuidWithLeafUuidInTree(JsonNode rootJsonNode) {
     if (rootJsonNode == null) {
       return null;
     }
@@ -216,7 +244,13 @@ public class YamlUtils {
   }
 
   public YamlField injectUuidInYamlField(String content) throws IOException {
-    JsonNode rootJsonNode = mapper.readTree(content);
+    return injectUuidInYamlField(readJsonNode(content));
+  }
+
+  /**
+   * Same as {@link #injectUuidInYamlField(String)} for a tree the caller already parsed, the tree is modified.
+   */
+  public YamlField injectUuidInYamlField(JsonNode rootJsonNode) {
     if (rootJsonNode == null) {
       return null;
     }
@@ -457,9 +491,7 @@ public class YamlUtils {
   }
 
   public String writeYamlString(YamlField yamlField) throws IOException {
-    String json = yamlField.getNode().toString();
-    JsonNode jsonNode = mapper.readTree(json);
-    return mapper.writeValueAsString(jsonNode);
+    return mapper.writeValueAsString(yamlField.getNode().getCurrJsonNode());
   }
 
   public String getStageIdentifierFromFqn(String fqn) {
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.pms.yaml;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+import static io.harness.rule.OwnerRule.ARCHIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.api.client.util.Charsets;
+import com.google.common.io.Resources;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(PIPELINE)
+public class YamlContentCacheTest extends CategoryTest {
+  private final AtomicInteger parsed = new AtomicInteger();
+  private final YamlContentCache<JsonNode> cache = new YamlContentCache<>(16 * 1024 * 1024, YamlContentCache::estimateSize, JsonNode::deepCopy);
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testContentIsParsedOnceAndCopiesAreIndependent() throws IOException {
+    String yamlContent = Resources.toString(
+        this.getClass().getClassLoader().getResource("pipeline.yaml"), Charsets.UTF_8);
+
+    JsonNode first = cache.get(yamlContent, this::parse);
+    ((ObjectNode) first.get("pipeline")).put("identifier", "changed");
+    JsonNode second = cache.get(yamlContent, this::parse);
+
+    assertThat(parsed.get()).isEqualTo(1);
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.get("pipeline").get("identifier").asText()).isNotEqualTo("changed");
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testSmallContentIsNotCached() throws IOException {
+    cache.get("pipeline:\n  identifier: p1\n", this::parse);
+    cache.get("pipeline:\n  identifier: p1\n", this::parse);
+
+    assertThat(parsed.get()).isEqualTo(2);
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testContentWithUuidsIsNotCached() throws IOException {
+    String yamlContent = YamlUtils.injectUuidInYamlField(Resources.toString(
+        this.getClass().getClassLoader().getResource("pipeline.yaml"), Charsets.UTF_8)).getNode().toString();
+
+    cache.get(yamlContent, this::parse);
+    cache.get(yamlContent, this::parse);
+
+    assertThat(parsed.get()).isEqualTo(2);
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testSizeOfTreeIsEstimatedAboveSizeOfContent() throws IOException {
+    String yamlContent = Resources.toString(
+        this.getClass().getClassLoader().getResource("pipeline.yaml"), Charsets.UTF_8);
+
+    assertThat(YamlContentCache.estimateSize(parse(yamlContent))).isGreaterThan(2 * yamlContent.length());
+  }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testReadTreeReturnsTreeOwnedByCaller() throws IOException {
+    String yamlContent = Resources.toString(
+        this.getClass().getClassLoader().getResource("pipeline.yaml"), Charsets.UTF_8);
+
+    YamlField injected = YamlUtils.injectUuidInYamlField(yamlContent);
+    YamlField read = YamlUtils.readTree(yamlContent);
+
+    assertThat(injected.getNode().getField("pipeline").getNode().getUuid()).isNotNull();
+    assertThat(read.getNode().getField("pipeline").getNode().getUuid()).isNull();
+  }
+
+  private JsonNode parse(String content) throws IOException {
+    parsed.incrementAndGet();
+    return YamlUtils.readTree(content).getNode().getCurrJsonNode();
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.outbox;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.outbox.OutboxSDKConstants.PARTITION_KEY_RANGE;
+
+import static com.google.common.base.Strings.nullToEmpty;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.ng.core.AccountScope;
+import io.harness.ng.core.OrgScope;
+import io.harness.ng.core.ProjectScope;
+import io.harness.ng.core.Resource;
+import io.harness.ng.core.ResourceScope;
+
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import lombok.Value;
+
+/**
+ * The resource an outbox event belongs to. Events of the same resource are handled in the order they were created.
+ */
+@OwnedBy(PL)
+@Value
+public class OutboxAggregateKey {
+  ResourceScope resourceScope;
+  String resourceType;
+  String resourceIdentifier;
+
+  public static OutboxAggregateKey of(ResourceScope resourceScope, Resource resource) {
+    return new OutboxAggregateKey(resourceScope, resource == null ? null : resource.getType(),
+        resource == null ? null : resource.getIdentifier());
+  }
+
+  public static OutboxAggregateKey of(OutboxEvent outboxEvent) {
+    return of(outboxEvent.getResourceScope(), outboxEvent.getResource());
+  }
+
+  /**
+   * Key of the range the events of this resource are stored in. It is persisted with the events, so it is a hash of
+   * the identifiers of the resource and does not change across pods or releases.
+   */
+  public int partitionKey() {
+    return Math.floorMod(
+        Hashing.murmur3_32_fixed().hashString(canonicalName(), StandardCharsets.UTF_8).asInt(), PARTITION_KEY_RANGE);
+  }
+
+  /**
+   * @return type/account/org/project/identifier of the resource, the parts it does not have are left empty
+   */
+  String canonicalName() {
+    String accountIdentifier = null;
+    String orgIdentifier = null;
+    String projectIdentifier = null;
+    if (resourceScope instanceof AccountScope) {
+      accountIdentifier = ((AccountScope) resourceScope).getAccountIdentifier();
+    } else if (resourceScope instanceof OrgScope) {
+      accountIdentifier = ((OrgScope) resourceScope).getAccountIdentifier();
+      orgIdentifier = ((OrgScope) resourceScope).getOrgIdentifier();
+    } else if (resourceScope instanceof ProjectScope) {
+      accountIdentifier = ((ProjectScope) resourceScope).getAccountIdentifier();
+      orgIdentifier = ((ProjectScope) resourceScope).getOrgIdentifier();
+      projectIdentifier = ((ProjectScope) resourceScope).getProjectIdentifier();
+    }
+    return String.join("/", nullToEmpty(resourceType), nullToEmpty(accountIdentifier), nullToEmpty(orgIdentifier),
+        nullToEmpty(projectIdentifier), nullToEmpty(resourceIdentifier));
+  }
+}
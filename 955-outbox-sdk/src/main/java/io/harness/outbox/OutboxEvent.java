@@ -59,6 +59,8 @@ public class OutboxEvent implements PersistentEntity {
   @CreatedDate Long createdAt;
   @Setter @Builder.Default Boolean blocked = Boolean.FALSE;
   @Setter Instant nextUnblockAttemptAt;
+  @Setter Integer attempts;
+  Integer partitionKey;
 
   GlobalContext globalContext;
 
@@ -75,6 +77,11 @@ public class OutboxEvent implements PersistentEntity {
                  .field(OutboxEventKeys.eventType)
                  .field(OutboxEventKeys.blocked)
                  .build())
+        .add(CompoundMongoIndex.builder()
+                 .name("partitionKey_createdAt_outbox_Idx")
+                 .field(OutboxEventKeys.partitionKey)
+                 .field(OutboxEventKeys.createdAt)
+                 .build())
         .build();
   }
 }
@@ -8,70 +8,158 @@
 package io.harness.outbox;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.outbox.OutboxSDKConstants.DEFAULT_FIRST_RETRY_INTERVAL_IN_MILLIS;
 import static io.harness.outbox.OutboxSDKConstants.DEFAULT_MAX_EVENTS_POLLED;
+import static io.harness.outbox.OutboxSDKConstants.DEFAULT_PARTITIONS;
+import static io.harness.outbox.OutboxSDKConstants.DEFAULT_RETRY_INTERVAL_MULTIPLIER;
 import static io.harness.outbox.OutboxSDKConstants.DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES;
 
+import static java.util.stream.Collectors.toSet;
+
 import io.harness.annotations.dev.OwnedBy;
-import io.harness.exception.UnexpectedException;
 import io.harness.lock.AcquiredLock;
 import io.harness.lock.PersistentLocker;
 import io.harness.outbox.api.OutboxEventHandler;
 import io.harness.outbox.api.OutboxService;
 import io.harness.outbox.filter.OutboxEventFilter;
+import io.harness.outbox.monitor.OutboxEventStatistics;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
-import io.github.resilience4j.core.IntervalFunction;
-import io.github.resilience4j.retry.Retry;
-import io.github.resilience4j.retry.RetryConfig;
 import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Handles the outbox events partition by partition. The events are split into partitions by their resource, every
+ * partition is leased with its own lock so the pods of a service handle disjoint partitions concurrently.
+ * <p/>
+ * Within a partition the events of a resource are handled in the order they were created. An event which could not be
+ * handled is delayed with a backoff together with the later events of its resource, the events of the other resources
+ * are not held up by it.
+ * <p/>
+ * Events saved before the partitions have no partition key. No partition is polled while such events are left, they
+ * are given the key of their resource first so that they are handled in order with the later events of the resource.
+ */
 @OwnedBy(PL)
 @Slf4j
 public class OutboxEventPollJob implements Runnable {
+  private static final String OUTBOX_POLL_JOB_LOCK = "OUTBOX_POLL_JOB_LOCK";
+  private static final Duration PARTITION_LEASE = Duration.ofMinutes(2);
+
   private final OutboxService outboxService;
   private final OutboxEventHandler outboxEventHandler;
   private final PersistentLocker persistentLocker;
-  private final OutboxPollConfiguration outboxPollConfiguration;
-  private final OutboxEventFilter outboxEventFilter;
-  private final Retry retry;
-  private static final String OUTBOX_POLL_JOB_LOCK = "OUTBOX_POLL_JOB_LOCK";
+  private final OutboxEventStatistics outboxEventStatistics;
   private final String outboxLockId;
+  private final int partitions;
+  private final int maximumRetryAttemptsForAnEvent;
+  private final boolean shareAcrossPods;
+  private final ExecutorService partitionExecutor;
 
   @Inject
   public OutboxEventPollJob(OutboxService outboxService, OutboxEventHandler outboxEventHandler,
-      PersistentLocker persistentLocker, OutboxPollConfiguration outboxPollConfiguration) {
+      PersistentLocker persistentLocker, OutboxPollConfiguration outboxPollConfiguration,
+      OutboxEventStatistics outboxEventStatistics) {
     this.outboxService = outboxService;
     this.outboxEventHandler = outboxEventHandler;
     this.persistentLocker = persistentLocker;
-    this.outboxPollConfiguration = outboxPollConfiguration;
-    this.outboxLockId = OUTBOX_POLL_JOB_LOCK + "_" + this.outboxPollConfiguration.getLockId();
-    this.outboxEventFilter = OutboxEventFilter.builder().maximumEventsPolled(DEFAULT_MAX_EVENTS_POLLED).build();
-    RetryConfig retryConfig = RetryConfig.custom()
-                                  .intervalFunction(IntervalFunction.ofExponentialBackoff(1000, 1.5))
-                                  .maxAttempts(this.outboxPollConfiguration.getMaximumRetryAttemptsForAnEvent())
-                                  .build();
-    this.retry = Retry.of("outboxEventHandleRetry", retryConfig);
+    this.outboxEventStatistics = outboxEventStatistics;
+    this.outboxLockId = OUTBOX_POLL_JOB_LOCK + "_" + outboxPollConfiguration.getLockId();
+    this.partitions =
+        outboxPollConfiguration.getPartitions() > 0 ? outboxPollConfiguration.getPartitions() : DEFAULT_PARTITIONS;
+    this.maximumRetryAttemptsForAnEvent = outboxPollConfiguration.getMaximumRetryAttemptsForAnEvent();
+    this.shareAcrossPods = outboxPollConfiguration.isShareAcrossPods();
+    this.partitionExecutor = Executors.newFixedThreadPool(partitions,
+        new ThreadFactoryBuilder()
+            .setNameFormat("outbox-partition-thread-" + outboxPollConfiguration.getLockId() + "-%d")
+            .setDaemon(true)
+            .build());
   }
 
   @Override
   public void run() {
     try {
       pollAndHandleOutboxEvents();
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
     } catch (Exception exception) {
       log.error("Unexpected error occurred during the execution of OutboxPollJob", exception);
     }
   }
 
-  private void pollAndHandleOutboxEvents() {
-    try (AcquiredLock<?> lock = persistentLocker.tryToAcquireLock(outboxLockId, Duration.ofMinutes(2))) {
+  public void stop() {
+    partitionExecutor.shutdownNow();
+  }
+
+  private void pollAndHandleOutboxEvents() throws InterruptedException {
+    if (shareAcrossPods) {
+      pollPartitions();
+      return;
+    }
+    // Pods of the release before the partitions hold this lock while they poll the whole outbox
+    try (AcquiredLock<?> lock = persistentLocker.tryToAcquireLock(outboxLockId, PARTITION_LEASE)) {
+      if (lock == null) {
+        log.debug("Outbox is polled by another instance");
+        return;
+      }
+      pollPartitions();
+    }
+  }
+
+  /**
+   * Every run starts leasing at a random partition so that pods polling at the same time take different partitions.
+   */
+  private void pollPartitions() throws InterruptedException {
+    if (!assignPartitionKeys()) {
+      return;
+    }
+    int offset = ThreadLocalRandom.current().nextInt(partitions);
+    List<Callable<Void>> partitionTasks = new ArrayList<>();
+    for (int i = 0; i < partitions; i++) {
+      int partition = (offset + i) % partitions;
+      partitionTasks.add(() -> {
+        handlePartition(partition);
+        return null;
+      });
+    }
+    partitionExecutor.invokeAll(partitionTasks);
+  }
+
+  /**
+   * @return true if no event is left without a partition key
+   */
+  private boolean assignPartitionKeys() {
+    try {
+      return outboxService.assignPartitionKeys(DEFAULT_MAX_EVENTS_POLLED) < DEFAULT_MAX_EVENTS_POLLED;
+    } catch (Exception exception) {
+      log.error("Error occurred while assigning partition keys to outbox events", exception);
+      return false;
+    }
+  }
+
+  @VisibleForTesting
+  void handlePartition(int partition) {
+    try (AcquiredLock<?> lock = persistentLocker.tryToAcquireLock(outboxLockId + "_" + partition, PARTITION_LEASE)) {
       if (lock == null) {
-        log.warn("Could not acquire lock for outbox poll job");
+        log.debug("Partition {} of the outbox is leased by another instance", partition);
         return;
       }
+      OutboxEventFilter outboxEventFilter = OutboxEventFilter.builder()
+                                                .maximumEventsPolled(DEFAULT_MAX_EVENTS_POLLED)
+                                                .partitions(partitions)
+                                                .partition(partition)
+                                                .build();
       List<OutboxEvent> outboxEvents;
       try {
         outboxEvents = outboxService.list(outboxEventFilter);
@@ -79,32 +167,49 @@ public class OutboxEventPollJob implements Runnable {
         log.error("InstantiationError occurred while fetching entries from the outbox", error);
         return;
       }
+      if (outboxEvents.isEmpty()) {
+        return;
+      }
 
-      for (int i = 0; i < outboxEvents.size() && !Thread.currentThread().isInterrupted(); i++) {
-        OutboxEvent outbox = outboxEvents.get(i);
-        long startTime = System.currentTimeMillis();
-        boolean success = handle(outbox);
-        log.info(String.format("Took %d milliseconds for outbox event handling for id %s and eventType %s.",
-            System.currentTimeMillis() - startTime, outbox.getId(), outbox.getEventType()));
-        try {
-          if (success) {
-            outboxService.delete(outbox.getId());
-          } else {
-            outbox.setBlocked(true);
-            outbox.setNextUnblockAttemptAt(
-                Instant.now().plus(DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES, ChronoUnit.MINUTES));
-            outboxService.update(outbox);
+      List<String> handledEventIds = new ArrayList<>();
+      for (List<OutboxEvent> aggregateEvents : groupByAggregate(outboxEvents, outboxEventFilter).values()) {
+        if (Thread.currentThread().isInterrupted()) {
+          break;
+        }
+        for (OutboxEvent outbox : aggregateEvents) {
+          if (!handle(outbox)) {
+            delay(outbox);
+            break;
           }
-        } catch (Exception exception) {
-          log.error(String.format("Error occurred in post handling of outbox event with id %s and type %s",
-                        outbox.getId(), outbox.getEventType()),
-              exception);
+          handledEventIds.add(outbox.getId());
         }
       }
+      deleteHandled(handledEventIds);
+    } catch (Exception exception) {
+      log.error(String.format("Unexpected error occurred while handling partition %d of the outbox", partition),
+          exception);
+    }
+  }
+
+  /**
+   * Events of resources with a delayed event are left in the outbox until the delayed event is handled.
+   */
+  private Map<OutboxAggregateKey, List<OutboxEvent>> groupByAggregate(
+      List<OutboxEvent> outboxEvents, OutboxEventFilter outboxEventFilter) {
+    Set<OutboxAggregateKey> delayedAggregates =
+        outboxService.listDelayed(outboxEventFilter).stream().map(OutboxAggregateKey::of).collect(toSet());
+    Map<OutboxAggregateKey, List<OutboxEvent>> eventsPerAggregate = new LinkedHashMap<>();
+    for (OutboxEvent outboxEvent : outboxEvents) {
+      OutboxAggregateKey aggregateKey = OutboxAggregateKey.of(outboxEvent);
+      if (!delayedAggregates.contains(aggregateKey)) {
+        eventsPerAggregate.computeIfAbsent(aggregateKey, key -> new ArrayList<>()).add(outboxEvent);
+      }
     }
+    return eventsPerAggregate;
   }
 
   private boolean handle(OutboxEvent outboxEvent) {
+    long startTime = System.currentTimeMillis();
     boolean success = false;
     try {
       success = outboxEventHandler.handle(outboxEvent);
@@ -113,27 +218,52 @@ public class OutboxEventPollJob implements Runnable {
                     outboxEvent.getEventType()),
           exception);
     }
-    if (!success && !Boolean.TRUE.equals(outboxEvent.getBlocked())) {
-      log.error("Retrying this outbox event with exponential backoff now...");
-      success = handleWithExponentialBackOff(outboxEvent);
+    log.info(String.format("Took %d milliseconds for outbox event handling for id %s and eventType %s.",
+        System.currentTimeMillis() - startTime, outboxEvent.getId(), outboxEvent.getEventType()));
+    if (success) {
+      outboxEventStatistics.recordHandled(outboxEvent.getEventType());
+    } else {
+      outboxEventStatistics.recordFailed(outboxEvent.getEventType());
     }
     return success;
   }
 
-  private boolean handleWithExponentialBackOff(OutboxEvent outboxEvent) {
+  private void delay(OutboxEvent outboxEvent) {
+    int attempts = (outboxEvent.getAttempts() == null ? 0 : outboxEvent.getAttempts()) + 1;
+    outboxEvent.setAttempts(attempts);
+    outboxEvent.setBlocked(true);
+    outboxEvent.setNextUnblockAttemptAt(Instant.now().plus(retryInterval(attempts)));
     try {
-      return retry.executeSupplier(() -> {
-        if (!outboxEventHandler.handle(outboxEvent)) {
-          throw new UnexpectedException(String.format(
-              "Outbox event handling failed in another retry attempt for event with id %s", outboxEvent.getId()));
-        }
-        return true;
-      });
+      outboxService.update(outboxEvent);
     } catch (Exception exception) {
-      log.error(String.format("Error occurred while handling outbox event with id %s and type %s", outboxEvent.getId(),
-                    outboxEvent.getEventType()),
+      log.error(String.format("Error occurred in post handling of outbox event with id %s and type %s",
+                    outboxEvent.getId(), outboxEvent.getEventType()),
+          exception);
+    }
+  }
+
+  /**
+   * Backs off exponentially for the configured number of attempts, afterwards the event is retried at the unblock
+   * retry interval.
+   */
+  @VisibleForTesting
+  Duration retryInterval(int attempts) {
+    if (attempts >= maximumRetryAttemptsForAnEvent) {
+      return Duration.ofMinutes(DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES);
+    }
+    return Duration.ofMillis(
+        (long) (DEFAULT_FIRST_RETRY_INTERVAL_IN_MILLIS * Math.pow(DEFAULT_RETRY_INTERVAL_MULTIPLIER, attempts - 1)));
+  }
+
+  private void deleteHandled(List<String> handledEventIds) {
+    if (handledEventIds.isEmpty()) {
+      return;
+    }
+    try {
+      outboxService.deleteAll(handledEventIds);
+    } catch (Exception exception) {
+      log.error(String.format("Error occurred while deleting %d handled outbox events", handledEventIds.size()),
           exception);
-      return false;
     }
   }
 }
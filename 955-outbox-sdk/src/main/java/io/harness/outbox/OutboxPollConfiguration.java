@@ -27,4 +27,15 @@ public class OutboxPollConfiguration {
   int pollingIntervalInSeconds;
   int maximumRetryAttemptsForAnEvent;
   String lockId;
+  /**
+   * Number of ranges the events are split into by their resource. The ranges are leased and handled independently so
+   * several pods handle the outbox concurrently, events of the same resource are always handled in order.
+   */
+  int partitions;
+  /**
+   * Off by default: every run also holds the outbox wide lock the poll job used before the partitions, so pods of an
+   * older release in a rolling deploy never handle events at the same time as this one. Turn on once no pod of an older
+   * release polls the outbox, the pods then lease the partitions concurrently.
+   */
+  boolean shareAcrossPods;
 }
@@ -31,11 +31,20 @@ public class OutboxSDKConstants {
 
   public static final int DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES = 10;
 
+  public static final long DEFAULT_FIRST_RETRY_INTERVAL_IN_MILLIS = 1000;
+
+  public static final double DEFAULT_RETRY_INTERVAL_MULTIPLIER = 1.5;
+
+  public static final int DEFAULT_PARTITIONS = 4;
+
+  public static final int PARTITION_KEY_RANGE = 1024;
+
   public static final OutboxPollConfiguration DEFAULT_OUTBOX_POLL_CONFIGURATION =
       OutboxPollConfiguration.builder()
           .maximumRetryAttemptsForAnEvent(DEFAULT_MAX_ATTEMPTS)
           .initialDelayInSeconds(5)
           .pollingIntervalInSeconds(5)
+          .partitions(DEFAULT_PARTITIONS)
           .build();
 
   public static final OutboxEventFilter DEFAULT_OUTBOX_EVENT_FILTER =
@@ -45,5 +54,11 @@ public class OutboxSDKConstants {
 
   public static final String OUTBOX_BLOCKED_QUEUE_SIZE_METRIC_NAME = "outbox_blocked_queue_size";
 
+  public static final String OUTBOX_EVENT_AGE_METRIC_NAME = "outbox_event_age";
+
+  public static final String OUTBOX_HANDLED_EVENTS_METRIC_NAME = "outbox_handled_events";
+
+  public static final String OUTBOX_FAILED_EVENTS_METRIC_NAME = "outbox_failed_events";
+
   public static final String ALL_EVENT_TYPES = "AllEventTypes";
 }
@@ -23,9 +23,25 @@ public interface OutboxDao {
 
   List<OutboxEvent> list(OutboxEventFilter outboxEventFilter);
 
+  List<OutboxEvent> listDelayed(OutboxEventFilter outboxEventFilter);
+
   long count(OutboxMetricsFilter outboxMetricsFilter);
 
   Map<String, Long> countPerEventType(OutboxMetricsFilter outboxMetricsFilter);
 
+  /**
+   * @return creation time of the oldest event of each event type
+   */
+  Map<String, Long> oldestCreatedAtPerEventType(OutboxMetricsFilter outboxMetricsFilter);
+
   boolean delete(String outboxEventId);
+
+  long deleteAll(List<String> outboxEventIds);
+
+  /**
+   * @return events saved before they had a partition key, oldest first
+   */
+  List<OutboxEvent> listWithoutPartitionKey(int limit);
+
+  boolean setPartitionKey(String outboxEventId, int partitionKey);
 }
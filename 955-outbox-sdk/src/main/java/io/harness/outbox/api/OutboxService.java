@@ -25,4 +25,18 @@ public interface OutboxService {
   List<OutboxEvent> list(OutboxEventFilter outboxEventFilter);
 
   boolean delete(String outboxEventId);
+
+  long deleteAll(List<String> outboxEventIds);
+
+  /**
+   * @return the blocked events of the filter which are not due for another attempt yet
+   */
+  List<OutboxEvent> listDelayed(OutboxEventFilter outboxEventFilter);
+
+  /**
+   * Gives the events saved before they had a partition key the key of their resource, oldest first.
+   *
+   * @return number of events found without a partition key, at most the limit
+   */
+  int assignPartitionKeys(int limit);
 }
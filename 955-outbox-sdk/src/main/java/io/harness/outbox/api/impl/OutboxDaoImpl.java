@@ -25,6 +25,8 @@ import io.harness.outbox.api.OutboxDao;
 import io.harness.outbox.filter.OutboxEventFilter;
 import io.harness.outbox.filter.OutboxEventsPerEventTypeCount;
 import io.harness.outbox.filter.OutboxEventsPerEventTypeCount.OutboxEventsPerEventTypeCountKeys;
+import io.harness.outbox.filter.OutboxEventsPerEventTypeOldest;
+import io.harness.outbox.filter.OutboxEventsPerEventTypeOldest.OutboxEventsPerEventTypeOldestKeys;
 import io.harness.outbox.filter.OutboxMetricsFilter;
 import io.harness.repositories.outbox.OutboxEventRepository;
 
@@ -33,6 +35,7 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.aggregation.GroupOperation;
@@ -40,6 +43,7 @@ import org.springframework.data.mongodb.core.aggregation.MatchOperation;
 import org.springframework.data.mongodb.core.aggregation.ProjectionOperation;
 import org.springframework.data.mongodb.core.aggregation.SortOperation;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.util.Assert;
 
 @OwnedBy(PL)
@@ -67,6 +71,16 @@ public class OutboxDaoImpl implements OutboxDao {
                            .build()));
   }
 
+  @Override
+  public List<OutboxEvent> listDelayed(OutboxEventFilter outboxEventFilter) {
+    Assert.notNull(outboxEventFilter, "OutboxEventFilter must not be null!");
+    Criteria criteria = Criteria.where(OutboxEventKeys.blocked)
+                            .is(Boolean.TRUE)
+                            .and(OutboxEventKeys.nextUnblockAttemptAt)
+                            .gte(Instant.now());
+    return outboxRepository.findAll(withPartition(criteria, outboxEventFilter), Pageable.unpaged());
+  }
+
   @Override
   public long count(OutboxMetricsFilter outboxMetricsFilter) {
     Criteria criteria = new Criteria();
@@ -98,6 +112,31 @@ public class OutboxDaoImpl implements OutboxDao {
     return result;
   }
 
+  @Override
+  public Map<String, Long> oldestCreatedAtPerEventType(OutboxMetricsFilter outboxMetricsFilter) {
+    Criteria criteria = new Criteria();
+    if (outboxMetricsFilter != null && outboxMetricsFilter.getBlocked() != null) {
+      criteria = criteria.and(OutboxEventKeys.blocked).is(outboxMetricsFilter.getBlocked());
+    }
+    MatchOperation matchStage = Aggregation.match(criteria);
+    GroupOperation groupByEventTypeStage = group(OutboxEventKeys.eventType)
+                                               .min(OutboxEventKeys.createdAt)
+                                               .as(OutboxEventsPerEventTypeOldestKeys.createdAt);
+    ProjectionOperation projectionStage = project()
+                                              .and(MONGODB_ID)
+                                              .as(OutboxEventKeys.eventType)
+                                              .andInclude(OutboxEventsPerEventTypeOldestKeys.createdAt);
+    Map<String, Long> result = new HashMap<>();
+    outboxRepository
+        .aggregate(newAggregation(matchStage, groupByEventTypeStage, projectionStage),
+            OutboxEventsPerEventTypeOldest.class)
+        .getMappedResults()
+        .stream()
+        .filter(oldest -> oldest.getCreatedAt() > 0)
+        .forEach(oldest -> result.put(oldest.getEventType(), oldest.getCreatedAt()));
+    return result;
+  }
+
   private Criteria getCriteria(OutboxEventFilter outboxEventFilter) {
     Criteria criteria = new Criteria();
     Criteria blockedNotTrueCriteria = Criteria.where(OutboxEventKeys.blocked).ne(Boolean.TRUE);
@@ -106,7 +145,19 @@ public class OutboxDaoImpl implements OutboxDao {
                                        .and(OutboxEventKeys.nextUnblockAttemptAt)
                                        .lt(Instant.now());
     criteria.orOperator(blockedNotTrueCriteria, blockedTrueCriteria);
-    return criteria;
+    return withPartition(criteria, outboxEventFilter);
+  }
+
+  /**
+   * Events saved before they had a partition key are in no partition until they are given one.
+   */
+  private Criteria withPartition(Criteria criteria, OutboxEventFilter outboxEventFilter) {
+    if (outboxEventFilter.getPartitions() == null) {
+      return criteria;
+    }
+    return new Criteria().andOperator(criteria,
+        Criteria.where(OutboxEventKeys.partitionKey)
+            .mod(outboxEventFilter.getPartitions(), outboxEventFilter.getPartition()));
   }
 
   @Override
@@ -114,4 +165,27 @@ public class OutboxDaoImpl implements OutboxDao {
     outboxRepository.deleteById(outboxEventId);
     return true;
   }
+
+  @Override
+  public long deleteAll(List<String> outboxEventIds) {
+    return outboxRepository.delete(Criteria.where(OutboxEventKeys.id).in(outboxEventIds));
+  }
+
+  @Override
+  public List<OutboxEvent> listWithoutPartitionKey(int limit) {
+    return outboxRepository.findAll(Criteria.where(OutboxEventKeys.partitionKey).is(null),
+        getPageRequest(PageRequest.builder()
+                           .pageIndex(0)
+                           .pageSize(limit)
+                           .sortOrders(DEFAULT_CREATED_AT_ASC_SORT_ORDER)
+                           .build()));
+  }
+
+  @Override
+  public boolean setPartitionKey(String outboxEventId, int partitionKey) {
+    return outboxRepository.updateFirst(
+               Criteria.where(OutboxEventKeys.id).is(outboxEventId).and(OutboxEventKeys.partitionKey).is(null),
+               new Update().set(OutboxEventKeys.partitionKey, partitionKey))
+        > 0;
+  }
 }
@@ -16,6 +16,7 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.event.Event;
 import io.harness.exception.UnexpectedException;
 import io.harness.manage.GlobalContextManager;
+import io.harness.outbox.OutboxAggregateKey;
 import io.harness.outbox.OutboxEvent;
 import io.harness.outbox.api.OutboxDao;
 import io.harness.outbox.api.OutboxService;
@@ -53,6 +54,8 @@ public class OutboxServiceImpl implements OutboxService {
                                   .eventData(eventData)
                                   .eventType(event.getEventType())
                                   .globalContext(GlobalContextManager.obtainGlobalContext())
+                                  .partitionKey(OutboxAggregateKey.of(event.getResourceScope(), event.getResource())
+                                                    .partitionKey())
                                   .build();
     return outboxDao.save(outboxEvent);
   }
@@ -75,4 +78,26 @@ public class OutboxServiceImpl implements OutboxService {
     outboxDao.delete(outboxEventId);
     return true;
   }
+
+  @Override
+  public long deleteAll(List<String> outboxEventIds) {
+    if (outboxEventIds.isEmpty()) {
+      return 0;
+    }
+    return outboxDao.deleteAll(outboxEventIds);
+  }
+
+  @Override
+  public List<OutboxEvent> listDelayed(OutboxEventFilter outboxEventFilter) {
+    return outboxDao.listDelayed(outboxEventFilter);
+  }
+
+  @Override
+  public int assignPartitionKeys(int limit) {
+    List<OutboxEvent> outboxEvents = outboxDao.listWithoutPartitionKey(limit);
+    for (OutboxEvent outboxEvent : outboxEvents) {
+      outboxDao.setPartitionKey(outboxEvent.getId(), OutboxAggregateKey.of(outboxEvent).partitionKey());
+    }
+    return outboxEvents.size();
+  }
 }
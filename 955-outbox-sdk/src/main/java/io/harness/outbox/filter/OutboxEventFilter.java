@@ -22,4 +22,9 @@ import lombok.experimental.FieldDefaults;
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class OutboxEventFilter {
   int maximumEventsPolled;
+  /**
+   * If set only the events of the given partition out of this many partitions are listed
+   */
+  Integer partitions;
+  int partition;
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.outbox.monitor;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.inject.Singleton;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Number of outbox events handled and failed per event type, drained by {@link OutboxMetricsPublisher}.
+ */
+@OwnedBy(PL)
+@Singleton
+public class OutboxEventStatistics {
+  private final Map<String, LongAdder> handledEvents = new ConcurrentHashMap<>();
+  private final Map<String, LongAdder> failedEvents = new ConcurrentHashMap<>();
+
+  public void recordHandled(String eventType) {
+    handledEvents.computeIfAbsent(eventType, key -> new LongAdder()).increment();
+  }
+
+  public void recordFailed(String eventType) {
+    failedEvents.computeIfAbsent(eventType, key -> new LongAdder()).increment();
+  }
+
+  /**
+   * @return handled events per event type since the previous call
+   */
+  public Map<String, Long> drainHandled() {
+    return drain(handledEvents);
+  }
+
+  /**
+   * @return failed events per event type since the previous call
+   */
+  public Map<String, Long> drainFailed() {
+    return drain(failedEvents);
+  }
+
+  private static Map<String, Long> drain(Map<String, LongAdder> events) {
+    Map<String, Long> result = new HashMap<>();
+    events.forEach((eventType, count) -> {
+      long sum = count.sumThenReset();
+      if (sum > 0) {
+        result.put(eventType, sum);
+      }
+    });
+    return result;
+  }
+}
@@ -10,6 +10,9 @@ package io.harness.outbox.monitor;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.outbox.OutboxSDKConstants.ALL_EVENT_TYPES;
 import static io.harness.outbox.OutboxSDKConstants.OUTBOX_BLOCKED_QUEUE_SIZE_METRIC_NAME;
+import static io.harness.outbox.OutboxSDKConstants.OUTBOX_EVENT_AGE_METRIC_NAME;
+import static io.harness.outbox.OutboxSDKConstants.OUTBOX_FAILED_EVENTS_METRIC_NAME;
+import static io.harness.outbox.OutboxSDKConstants.OUTBOX_HANDLED_EVENTS_METRIC_NAME;
 import static io.harness.outbox.OutboxSDKConstants.OUTBOX_QUEUE_SIZE_METRIC_NAME;
 import static io.harness.outbox.TransactionOutboxModule.SERVICE_ID_FOR_OUTBOX;
 
@@ -31,13 +34,15 @@ public class OutboxMetricsPublisher implements MetricsPublisher {
   private static final OutboxMetricsFilter QUEUE_SIZE_FILTER = OutboxMetricsFilter.builder().build();
   private final OutboxDao outboxDao;
   private final MetricService metricService;
+  private final OutboxEventStatistics outboxEventStatistics;
   private final String serviceId;
 
   @Inject
-  public OutboxMetricsPublisher(
-      OutboxDao outboxDao, MetricService metricService, @Named(SERVICE_ID_FOR_OUTBOX) String serviceId) {
+  public OutboxMetricsPublisher(OutboxDao outboxDao, MetricService metricService,
+      OutboxEventStatistics outboxEventStatistics, @Named(SERVICE_ID_FOR_OUTBOX) String serviceId) {
     this.outboxDao = outboxDao;
     this.metricService = metricService;
+    this.outboxEventStatistics = outboxEventStatistics;
     this.serviceId = serviceId;
   }
 
@@ -61,5 +66,25 @@ public class OutboxMetricsPublisher implements MetricsPublisher {
         metricService.recordMetric(OUTBOX_BLOCKED_QUEUE_SIZE_METRIC_NAME, count);
       }
     });
+
+    long now = System.currentTimeMillis();
+    Map<String, Long> oldestCreatedAtPerEventType = outboxDao.oldestCreatedAtPerEventType(QUEUE_SIZE_FILTER);
+    oldestCreatedAtPerEventType.forEach((eventType, createdAt) -> {
+      try (OutboxContext ignored = new OutboxContext(serviceId, eventType)) {
+        metricService.recordMetric(OUTBOX_EVENT_AGE_METRIC_NAME, Math.max(0, now - createdAt));
+      }
+    });
+
+    outboxEventStatistics.drainHandled().forEach((eventType, count) -> {
+      try (OutboxContext ignored = new OutboxContext(serviceId, eventType)) {
+        metricService.recordMetric(OUTBOX_HANDLED_EVENTS_METRIC_NAME, count);
+      }
+    });
+
+    outboxEventStatistics.drainFailed().forEach((eventType, count) -> {
+      try (OutboxContext ignored = new OutboxContext(serviceId, eventType)) {
+        metricService.recordMetric(OUTBOX_FAILED_EVENTS_METRIC_NAME, count);
+      }
+    });
   }
 }
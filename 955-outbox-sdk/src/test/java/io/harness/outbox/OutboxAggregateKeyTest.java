@@ -0,0 +1,59 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.outbox;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.KARAN;
+
+import static junit.framework.TestCase.assertEquals;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.ng.core.AccountScope;
+import io.harness.ng.core.ProjectScope;
+import io.harness.ng.core.Resource;
+import io.harness.rule.Owner;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(PL)
+public class OutboxAggregateKeyTest extends CategoryTest {
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testCanonicalName() {
+    assertEquals("type/account///resource1",
+        OutboxAggregateKey
+            .of(new AccountScope("account"), Resource.builder().type("type").identifier("resource1").build())
+            .canonicalName());
+    assertEquals("SECRET/acc/org/proj/sec",
+        OutboxAggregateKey
+            .of(new ProjectScope("acc", "org", "proj"), Resource.builder().type("SECRET").identifier("sec").build())
+            .canonicalName());
+    assertEquals("////", OutboxAggregateKey.of(null, null).canonicalName());
+  }
+
+  /**
+   * The partition keys are persisted with the events, they must not change across releases.
+   */
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testPartitionKeyIsStable() {
+    assertEquals(496,
+        OutboxAggregateKey
+            .of(new AccountScope("account"), Resource.builder().type("type").identifier("resource1").build())
+            .partitionKey());
+    assertEquals(740,
+        OutboxAggregateKey
+            .of(new ProjectScope("acc", "org", "proj"), Resource.builder().type("SECRET").identifier("sec").build())
+            .partitionKey());
+  }
+}
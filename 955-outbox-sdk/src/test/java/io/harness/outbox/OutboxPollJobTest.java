@@ -8,16 +8,22 @@
 package io.harness.outbox;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.outbox.OutboxSDKConstants.DEFAULT_MAX_EVENTS_POLLED;
 import static io.harness.rule.OwnerRule.KARAN;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertNotNull;
 import static junit.framework.TestCase.assertTrue;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyList;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -27,10 +33,14 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.category.element.UnitTests;
 import io.harness.lock.AcquiredLock;
 import io.harness.lock.PersistentLocker;
+import io.harness.ng.core.AccountScope;
+import io.harness.ng.core.Resource;
 import io.harness.outbox.api.OutboxEventHandler;
 import io.harness.outbox.api.OutboxService;
+import io.harness.outbox.monitor.OutboxEventStatistics;
 import io.harness.rule.Owner;
 
+import java.time.Duration;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -41,6 +51,7 @@ public class OutboxPollJobTest extends CategoryTest {
   private OutboxService outboxService;
   private OutboxEventHandler outboxEventHandler;
   private PersistentLocker persistentLocker;
+  private OutboxEventStatistics outboxEventStatistics;
   private OutboxEventPollJob outboxEventPollJob;
 
   private static final String OUTBOX_POLL_JOB_LOCK = "OUTBOX_POLL_JOB_LOCK";
@@ -50,49 +61,134 @@ public class OutboxPollJobTest extends CategoryTest {
     outboxService = mock(OutboxService.class);
     outboxEventHandler = mock(OutboxEventHandler.class);
     persistentLocker = mock(PersistentLocker.class);
+    outboxEventStatistics = new OutboxEventStatistics();
     outboxEventPollJob = new OutboxEventPollJob(outboxService, outboxEventHandler, persistentLocker,
-        OutboxPollConfiguration.builder().maximumRetryAttemptsForAnEvent(2).lockId("LOCK_ID").build());
+        OutboxPollConfiguration.builder().maximumRetryAttemptsForAnEvent(2).lockId("LOCK_ID").partitions(1).build(),
+        outboxEventStatistics);
+    when(persistentLocker.tryToAcquireLock(eq(OUTBOX_POLL_JOB_LOCK + "_"
+                                               + "LOCK_ID_0"),
+             any()))
+        .thenReturn(mock(AcquiredLock.class));
+    when(persistentLocker.tryToAcquireLock(eq(OUTBOX_POLL_JOB_LOCK + "_LOCK_ID"), any()))
+        .thenReturn(mock(AcquiredLock.class));
   }
 
   @Test
   @Owner(developers = KARAN)
   @Category(UnitTests.class)
   public void testSuccessfulHandling() {
-    when(persistentLocker.tryToAcquireLock(eq(OUTBOX_POLL_JOB_LOCK + "_"
-                                               + "LOCK_ID"),
-             any()))
-        .thenReturn(mock(AcquiredLock.class));
     String id = randomAlphabetic(10);
     OutboxEvent outboxEvent = OutboxEvent.builder().eventType("emptyEvent").blocked(false).id(id).build();
     when(outboxService.list(any())).thenReturn(singletonList(outboxEvent));
     when(outboxEventHandler.handle(outboxEvent)).thenReturn(true);
-    when(outboxService.delete(id)).thenReturn(true);
     outboxEventPollJob.run();
-    verify(outboxService, times(1)).delete(id);
+    verify(outboxService, times(1)).deleteAll(singletonList(id));
     verify(outboxEventHandler, times(1)).handle(any());
     verify(outboxService, times(0)).update(any());
+    assertEquals(1L, (long) outboxEventStatistics.drainHandled().get("emptyEvent"));
   }
 
   @Test
   @Owner(developers = KARAN)
   @Category(UnitTests.class)
   public void testUnSuccessfulHandling() {
-    when(persistentLocker.tryToAcquireLock(eq(OUTBOX_POLL_JOB_LOCK + "_"
-                                               + "LOCK_ID"),
-             any()))
-        .thenReturn(mock(AcquiredLock.class));
     String id = randomAlphabetic(10);
     OutboxEvent outboxEvent = OutboxEvent.builder().eventType("emptyEvent").blocked(false).id(id).build();
     when(outboxService.list(any())).thenReturn(singletonList(outboxEvent));
     when(outboxEventHandler.handle(outboxEvent)).thenReturn(false);
     final ArgumentCaptor<OutboxEvent> outboxEventArgumentCaptor = ArgumentCaptor.forClass(OutboxEvent.class);
     outboxEventPollJob.run();
-    verify(outboxService, times(0)).delete(any());
-    verify(outboxEventHandler, times(3)).handle(any());
+    verify(outboxService, never()).deleteAll(anyList());
+    verify(outboxEventHandler, times(1)).handle(any());
     verify(outboxService, times(1)).update(outboxEventArgumentCaptor.capture());
     OutboxEvent updateOutboxEvent = outboxEventArgumentCaptor.getValue();
     assertEquals(id, updateOutboxEvent.getId());
     assertTrue(updateOutboxEvent.getBlocked());
+    assertEquals(1, (int) updateOutboxEvent.getAttempts());
     assertNotNull(updateOutboxEvent.getNextUnblockAttemptAt());
+    assertEquals(1L, (long) outboxEventStatistics.drainFailed().get("emptyEvent"));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testFailedEventHoldsBackOnlyItsResource() {
+    OutboxEvent first = event("first", "resource1");
+    OutboxEvent second = event("second", "resource1");
+    OutboxEvent other = event("other", "resource2");
+    when(outboxService.list(any())).thenReturn(asList(first, second, other));
+    when(outboxEventHandler.handle(first)).thenReturn(false);
+    when(outboxEventHandler.handle(other)).thenReturn(true);
+    outboxEventPollJob.run();
+    verify(outboxEventHandler, never()).handle(second);
+    verify(outboxService, times(1)).update(first);
+    verify(outboxService, times(1)).deleteAll(singletonList("other"));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testEventsOfDelayedResourceAreSkipped() {
+    OutboxEvent later = event("later", "resource1");
+    OutboxEvent other = event("other", "resource2");
+    when(outboxService.list(any())).thenReturn(asList(later, other));
+    when(outboxService.listDelayed(any())).thenReturn(singletonList(event("delayed", "resource1")));
+    when(outboxEventHandler.handle(other)).thenReturn(true);
+    outboxEventPollJob.run();
+    verify(outboxEventHandler, never()).handle(later);
+    verify(outboxService, times(1)).deleteAll(singletonList("other"));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testNoPartitionIsPolledWhileThePreviousReleasePolls() {
+    when(persistentLocker.tryToAcquireLock(eq(OUTBOX_POLL_JOB_LOCK + "_LOCK_ID"), any())).thenReturn(null);
+    outboxEventPollJob.run();
+    verify(outboxService, never()).list(any());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testNoPartitionIsPolledWhileEventsWithoutPartitionKeyAreLeft() {
+    when(outboxService.assignPartitionKeys(anyInt())).thenReturn(DEFAULT_MAX_EVENTS_POLLED);
+    outboxEventPollJob.run();
+    verify(outboxService, never()).list(any());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testSharedAcrossPodsLeasesOnlyPartitions() {
+    outboxEventPollJob = new OutboxEventPollJob(outboxService, outboxEventHandler, persistentLocker,
+        OutboxPollConfiguration.builder()
+            .maximumRetryAttemptsForAnEvent(2)
+            .lockId("LOCK_ID")
+            .partitions(1)
+            .shareAcrossPods(true)
+            .build(),
+        outboxEventStatistics);
+    when(outboxService.list(any())).thenReturn(emptyList());
+    outboxEventPollJob.run();
+    verify(persistentLocker, never()).tryToAcquireLock(eq(OUTBOX_POLL_JOB_LOCK + "_LOCK_ID"), any());
+    verify(outboxService, times(1)).list(any());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testRetryInterval() {
+    assertEquals(Duration.ofSeconds(1), outboxEventPollJob.retryInterval(1));
+    assertEquals(Duration.ofMinutes(10), outboxEventPollJob.retryInterval(2));
+  }
+
+  private OutboxEvent event(String id, String resourceIdentifier) {
+    return OutboxEvent.builder()
+        .id(id)
+        .eventType("emptyEvent")
+        .resourceScope(new AccountScope("account"))
+        .resource(Resource.builder().type("type").identifier(resourceIdentifier).build())
+        .build();
   }
 }
@@ -82,4 +82,23 @@ public class OutboxDaoImplTest extends CategoryTest {
     Sort sort = Sort.by(OutboxEventKeys.createdAt);
     assertEquals(sort, pageable.getSort());
   }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testListPartition() {
+    OutboxEventFilter outboxEventFilter =
+        OutboxEventFilter.builder().maximumEventsPolled(50).partitions(4).partition(1).build();
+    final ArgumentCaptor<Criteria> criteriaArgumentCaptor = ArgumentCaptor.forClass(Criteria.class);
+    when(outboxEventRepository.findAll(any(Criteria.class), any(Pageable.class))).thenReturn(emptyList());
+    outboxDao.list(outboxEventFilter);
+    verify(outboxEventRepository, times(1)).findAll(criteriaArgumentCaptor.capture(), any(Pageable.class));
+    Document criteriaObject = criteriaArgumentCaptor.getValue().getCriteriaObject();
+    BasicDBList andList = (BasicDBList) criteriaObject.get("$and");
+    assertNotNull(andList);
+    assertEquals(2, andList.size());
+
+    Document partition = (Document) ((Document) andList.get(1)).get(OutboxEventKeys.partitionKey);
+    assertNotNull(partition.get("$mod"));
+  }
 }
@@ -0,0 +1,15 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.debezium;
+
+public enum ChangeValueEncoding {
+  /** The document is published as a json string in the value of the change event */
+  JSON,
+  /** The document is published as BSON in the bson value of the change event */
+  BSON
+}
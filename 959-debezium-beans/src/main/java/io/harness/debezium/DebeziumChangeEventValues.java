@@ -0,0 +1,44 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.debezium;
+
+import com.google.protobuf.ByteString;
+import lombok.experimental.UtilityClass;
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+
+/**
+ * Reads and writes the document of a {@link DebeziumChangeEvent} in either of the {@link ChangeValueEncoding}s.
+ */
+@UtilityClass
+public class DebeziumChangeEventValues {
+  private static final JsonWriterSettings JSON_WRITER_SETTINGS =
+      JsonWriterSettings.builder().outputMode(JsonMode.RELAXED).build();
+
+  /**
+   * @return the document of the change event as json, whichever encoding it was published in
+   */
+  public static String getValue(DebeziumChangeEvent event) {
+    if (event.getBsonValue().isEmpty()) {
+      return event.getValue();
+    }
+    return new RawBsonDocument(event.getBsonValue().toByteArray()).toJson(JSON_WRITER_SETTINGS);
+  }
+
+  public static String toJson(BsonDocument document) {
+    return document.toJson(JSON_WRITER_SETTINGS);
+  }
+
+  public static ByteString toBson(BsonDocument document) {
+    RawBsonDocument rawDocument = new RawBsonDocument(document, new BsonDocumentCodec());
+    return ByteString.copyFrom(rawDocument.getByteBuffer().asNIO());
+  }
+}
@@ -13,6 +13,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import lombok.Builder;
 import lombok.Data;
 
@@ -105,6 +106,15 @@ public class DebeziumConfig {
    the server chooses an appropriate fetch size.
    */
   @JsonProperty("snapshot.fetch.size") private String snapshotFetchSize;
+  /**
+   * Encoding of the documents published to the events framework, JSON or BSON. Defaults to JSON.
+   */
+  @JsonProperty("change.value.encoding") private ChangeValueEncoding changeValueEncoding;
+  /**
+   * Top level fields of the documents published per collection, each collection is of the form
+   * databaseName.collectionName. The documents of the collections without projection are published whole.
+   */
+  @JsonProperty("change.field.projections") private Map<String, List<String>> changeFieldProjections;
 
   public List<String> getMonitoredCollections() {
     if (EmptyPredicate.isEmpty(collectionIncludeList)) {
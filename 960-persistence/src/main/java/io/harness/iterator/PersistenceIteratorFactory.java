@@ -19,6 +19,8 @@ import io.harness.metrics.HarnessMetricRegistry;
 import io.harness.mongo.iterator.MongoPersistenceIterator;
 import io.harness.mongo.iterator.MongoPersistenceIterator.MongoPersistenceIteratorBuilder;
 import io.harness.mongo.iterator.filter.FilterExpander;
+import io.harness.redis.iterator.RedisPersistenceIterator;
+import io.harness.redis.iterator.RedisPersistenceIterator.RedisPersistenceIteratorBuilder;
 
 import com.codahale.metrics.InstrumentedExecutorService;
 import com.codahale.metrics.MetricRegistry;
@@ -40,6 +42,7 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public final class PersistenceIteratorFactory {
   private static final SecureRandom random = new SecureRandom();
+  private static final Duration REDIS_CATCH_UP_INTERVAL = Duration.ofMinutes(1);
 
   @Inject Injector injector;
 
@@ -113,4 +116,38 @@ public final class PersistenceIteratorFactory {
       PumpExecutorOptions options, Class<?> cls, MongoPersistenceIteratorBuilder<T, F> builder) {
     return createIteratorWithDedicatedThreadPool(PUMP, options, cls, builder);
   }
+
+  /**
+   * Redis counterpart of {@link #createPumpIteratorWithDedicatedThreadPool}, the schedule is also caught up with mongo
+   * periodically to pick up the entities created since.
+   */
+  public <T extends PersistentRegularIterable> PersistenceIterator<T> createRedisPumpIteratorWithDedicatedThreadPool(
+      PumpExecutorOptions options, Class<?> cls, RedisPersistenceIteratorBuilder<T> builder) {
+    if (!workersConfiguration.confirmWorkerIsActive(cls)) {
+      log.info("Worker {} is disabled in this setup", cls.getName());
+      return null;
+    }
+
+    String iteratorName = "Iterator-" + options.getName();
+    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(
+        options.getPoolSize(), new ThreadFactoryBuilder().setNameFormat(iteratorName).build());
+    log.info("Worker {} is enabled in this setup", cls.getName());
+
+    MetricRegistry metricRegistry = harnessMetricRegistry.getThreadPoolMetricRegistry();
+    InstrumentedExecutorService instrumentedExecutorService =
+        new InstrumentedExecutorService(executor, metricRegistry, iteratorName);
+
+    RedisPersistenceIterator<T> iterator = builder.mode(PUMP)
+                                               .executorService(instrumentedExecutorService)
+                                               .semaphore(new Semaphore(options.getPoolSize()))
+                                               .iteratorName(options.getName())
+                                               .build();
+    injector.injectMembers(iterator);
+    long millis = options.interval.toMillis();
+    executor.scheduleAtFixedRate(iterator::recoverAfterPause, random.nextInt((int) millis),
+        REDIS_CATCH_UP_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    executor.scheduleAtFixedRate(iterator::process, random.nextInt((int) millis), millis, TimeUnit.MILLISECONDS);
+
+    return iterator;
+  }
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.metrics.impl;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.metrics.beans.QueueMetricContext;
+import io.harness.metrics.service.api.MetricService;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+
+@Singleton
+@Slf4j
+@OwnedBy(HarnessTeam.PL)
+public class QueueMetricsServiceImpl {
+  public static final String QUEUE_CLAIM_TIME = "queue_claim_time";
+  public static final String QUEUE_BACKLOG = "queue_backlog";
+
+  @Inject private MetricService metricService;
+
+  public void recordQueueMetricsWithDuration(String queueName, Duration duration, String metricName) {
+    try (QueueMetricContext ignore = new QueueMetricContext(queueName)) {
+      metricService.recordDuration(metricName, duration);
+    }
+  }
+
+  public void recordQueueMetrics(String queueName, double value, String metricName) {
+    try (QueueMetricContext ignore = new QueueMetricContext(queueName)) {
+      metricService.recordMetric(metricName, value);
+    }
+  }
+}
@@ -451,6 +451,13 @@ public class MongoPersistence implements HPersistence {
     return HPersistence.retry(() -> datastore.update(updateQuery, updateOperations));
   }
 
+  @Override
+  public <T extends PersistentEntity> UpdateResults updateSystemData(
+      Query<T> updateQuery, UpdateOperations<T> updateOperations) {
+    AdvancedDatastore datastore = getDatastore(updateQuery.getEntityClass());
+    return HPersistence.retry(() -> datastore.update(updateQuery, updateOperations));
+  }
+
   @Override
   public <T extends PersistentEntity> T findAndModify(
       Query<T> query, UpdateOperations<T> updateOperations, FindAndModifyOptions findAndModifyOptions) {
@@ -83,6 +83,8 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
   private EntityProcessController<T> entityProcessController;
   @Getter private SchedulingType schedulingType;
   private String iteratorName;
+  // Entities claimed per round trip, up to one claims them one at a time
+  private int batchSize;
 
   private long movingAvg(long current, long sample) {
     return (15 * current + sample) / 16;
@@ -135,31 +137,21 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
         previous = base;
 
         T entity = null;
-        try {
-          entity = persistenceProvider.obtainNextInstance(
-              base, throttled, clazz, fieldName, schedulingType, targetInterval, filterExpander);
-        } finally {
-          semaphore.release();
+        if (batchSize > 1) {
+          if (processBatch(base, throttled)) {
+            continue;
+          }
+        } else {
+          try {
+            entity = persistenceProvider.obtainNextInstance(
+                base, throttled, clazz, fieldName, schedulingType, targetInterval, filterExpander);
+          } finally {
+            semaphore.release();
+          }
         }
 
         if (entity != null) {
-          // Make sure that if the object is updated we reset the scheduler for it
-          if (schedulingType != REGULAR) {
-            Long nextIteration = entity.obtainNextIteration(fieldName);
-
-            List<Long> nextIterations =
-                ((PersistentIrregularIterable) entity)
-                    .recalculateNextIterations(fieldName, schedulingType == IRREGULAR_SKIP_MISSED, throttled);
-            if (isNotEmpty(nextIterations)) {
-              persistenceProvider.updateEntityField(entity, nextIterations, clazz, fieldName);
-            }
-
-            if (nextIteration == null) {
-              continue;
-            }
-          }
-
-          if (entityProcessController != null && !entityProcessController.shouldProcessEntity(entity)) {
+          if (!prepareEntity(entity, throttled)) {
             continue;
           }
 
@@ -199,6 +191,68 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
     }
   }
 
+  /**
+   * Claims a batch of due entities in one go and hands them to the workers without waiting for each of them to start.
+   * Expects the caller to hold a permit of the semaphore. One permit is reserved for every entity claimed, so the
+   * batch is never larger than what the workers can start, and each permit is handed over to the task of its entity.
+   *
+   * @return true if the batch was full and more entities might be due
+   */
+  private boolean processBatch(long base, long throttled) {
+    // Claimed entities are not due again till the next interval, do not claim more than the workers can start
+    int permits = 1;
+    while (permits < batchSize && semaphore.tryAcquire()) {
+      permits++;
+    }
+
+    List<T> entities = null;
+    try {
+      entities = persistenceProvider.obtainNextInstances(
+          base, throttled, clazz, fieldName, schedulingType, targetInterval, filterExpander, permits);
+    } finally {
+      semaphore.release(permits - (entities == null ? 0 : entities.size()));
+    }
+
+    // Permits of the entities that did not make it to a worker
+    int unused = entities.size();
+    try {
+      for (T entity : entities) {
+        if (prepareEntity(entity, throttled)) {
+          executorService.submit(() -> processEntityWithPermit(entity));
+        } else {
+          semaphore.release();
+        }
+        unused--;
+      }
+    } finally {
+      semaphore.release(unused);
+    }
+    return entities.size() == permits;
+  }
+
+  /**
+   * @return true if the claimed entity should be handed to the workers
+   */
+  private boolean prepareEntity(T entity, long throttled) {
+    // Make sure that if the object is updated we reset the scheduler for it
+    if (schedulingType != REGULAR) {
+      Long nextIteration = entity.obtainNextIteration(fieldName);
+
+      List<Long> nextIterations =
+          ((PersistentIrregularIterable) entity)
+              .recalculateNextIterations(fieldName, schedulingType == IRREGULAR_SKIP_MISSED, throttled);
+      if (isNotEmpty(nextIterations)) {
+        persistenceProvider.updateEntityField(entity, nextIterations, clazz, fieldName);
+      }
+
+      if (nextIteration == null) {
+        return false;
+      }
+    }
+
+    return entityProcessController == null || entityProcessController.shouldProcessEntity(entity);
+  }
+
   public void recoverAfterPause() {
     persistenceProvider.recoverAfterPause(clazz, fieldName);
   }
@@ -236,6 +290,16 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
         Thread.currentThread().interrupt();
         return;
       }
+    }
+    processEntityWithPermit(entity);
+  }
+
+  /**
+   * Expects the caller to hold a permit of the semaphore, released once the entity is processed.
+   */
+  @SuppressWarnings({"squid:S2445", "PMD", "squid:S1181"})
+  private void processEntityWithPermit(T entity) {
+    try (EntityLogContext ignore = new EntityLogContext(entity, OVERRIDE_ERROR)) {
       long startTime = currentTimeMillis();
 
       try {
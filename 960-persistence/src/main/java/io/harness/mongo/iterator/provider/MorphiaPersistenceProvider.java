@@ -7,21 +7,31 @@
 
 package io.harness.mongo.iterator.provider;
 
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.govern.Switch.unhandled;
+import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType.REGULAR;
+import static io.harness.persistence.HQuery.excludeValidate;
 
 import static java.lang.System.currentTimeMillis;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
 import io.harness.iterator.PersistentIterable;
 import io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType;
 import io.harness.mongo.iterator.filter.MorphiaFilterExpander;
 import io.harness.persistence.HPersistence;
+import io.harness.persistence.UuidAccess;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.mongodb.BasicDBObject;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import org.mongodb.morphia.query.FilterOperator;
+import org.mongodb.morphia.query.FindOptions;
 import org.mongodb.morphia.query.Query;
 import org.mongodb.morphia.query.Sort;
 import org.mongodb.morphia.query.UpdateOperations;
@@ -29,6 +39,9 @@ import org.mongodb.morphia.query.UpdateOperations;
 @Singleton
 public class MorphiaPersistenceProvider<T extends PersistentIterable>
     implements PersistenceProvider<T, MorphiaFilterExpander<T>> {
+  private static final String CLAIM_ID_SUFFIX = "ClaimId";
+  private static final String ID_KEY = "_id";
+
   @Inject private HPersistence persistence;
 
   public Query<T> createQuery(Class<T> clazz, String fieldName, MorphiaFilterExpander<T> filterExpander) {
@@ -77,6 +90,55 @@ public class MorphiaPersistenceProvider<T extends PersistentIterable>
     return persistence.findAndModifySystemData(query, updateOperations, HPersistence.returnOldOptions);
   }
 
+  /**
+   * Claims a batch of regular entities in four round trips whatever the batch size: read the due candidates, move
+   * their next iteration with a single update that also stamps a unique claim id, read back which of them carry that
+   * claim id and unset it again. The claim id is kept in a field the entities do not map, next to the iteration field.
+   */
+  @Override
+  public List<T> obtainNextInstances(long base, long throttled, Class<T> clazz, String fieldName,
+      SchedulingType schedulingType, Duration targetInterval, MorphiaFilterExpander<T> filterExpander, int limit) {
+    if (schedulingType != REGULAR) {
+      // The irregular updates pop from a list, there is no value to tell the winners of the claim
+      return PersistenceProvider.super.obtainNextInstances(
+          base, throttled, clazz, fieldName, schedulingType, targetInterval, filterExpander, limit);
+    }
+
+    long now = currentTimeMillis();
+    List<T> candidates = createQuery(now, clazz, fieldName, filterExpander).asList(new FindOptions().limit(limit));
+    if (isEmpty(candidates)) {
+      return Collections.emptyList();
+    }
+
+    List<String> candidateIds = candidates.stream().map(UuidAccess::getUuid).collect(toList());
+    String claimIdField = fieldName + CLAIM_ID_SUFFIX;
+    String claimId = generateUuid();
+    Query<T> claimQuery = createQuery(now, clazz, fieldName, null).field(ID_KEY).in(candidateIds);
+    persistence.updateSystemData(claimQuery,
+        persistence.createUpdateOperations(clazz)
+            .set(fieldName, base + targetInterval.toMillis())
+            .disableValidation()
+            .set(claimIdField, claimId));
+
+    Set<String> claimedIds = persistence.createQuery(clazz, excludeValidate)
+                                 .field(ID_KEY)
+                                 .in(candidateIds)
+                                 .filter(claimIdField, claimId)
+                                 .project(ID_KEY, true)
+                                 .asList()
+                                 .stream()
+                                 .map(UuidAccess::getUuid)
+                                 .collect(toSet());
+    if (!claimedIds.isEmpty()) {
+      // Filtered on the claim id too, a stamp of a later claim by another node stays in place
+      persistence.updateSystemData(
+          persistence.createQuery(clazz, excludeValidate).field(ID_KEY).in(claimedIds).filter(claimIdField, claimId),
+          persistence.createUpdateOperations(clazz).disableValidation().unset(claimIdField));
+    }
+    // Candidates keep the previous next iteration, same as the entities returned by obtainNextInstance
+    return candidates.stream().filter(candidate -> claimedIds.contains(candidate.getUuid())).collect(toList());
+  }
+
   @Override
   public T findInstance(Class<T> clazz, String fieldName, MorphiaFilterExpander<T> filterExpander) {
     Query<T> resultQuery = createQuery(clazz, fieldName, filterExpander).project(fieldName, true);
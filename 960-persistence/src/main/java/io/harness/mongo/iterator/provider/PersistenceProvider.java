@@ -13,12 +13,30 @@ import io.harness.iterator.PersistentIterable;
 import io.harness.mongo.iterator.filter.FilterExpander;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 
 public interface PersistenceProvider<T extends PersistentIterable, F extends FilterExpander> {
   void updateEntityField(T entity, List<Long> nextIterations, Class<T> clazz, String fieldName);
   T obtainNextInstance(long base, long throttled, Class<T> clazz, String fieldName, SchedulingType schedulingType,
       Duration targetInterval, F filterExpander);
+
+  /**
+   * Claims up to limit due entities. The default claims them one at a time, providers that can claim in bulk should
+   * override it.
+   */
+  default List<T> obtainNextInstances(long base, long throttled, Class<T> clazz, String fieldName,
+      SchedulingType schedulingType, Duration targetInterval, F filterExpander, int limit) {
+    List<T> entities = new ArrayList<>();
+    while (entities.size() < limit) {
+      T entity = obtainNextInstance(base, throttled, clazz, fieldName, schedulingType, targetInterval, filterExpander);
+      if (entity == null) {
+        break;
+      }
+      entities.add(entity);
+    }
+    return entities;
+  }
   T findInstance(Class<T> clazz, String fieldName, F filterExpander);
   void recoverAfterPause(Class<T> clazz, String fieldName);
 }
@@ -7,14 +7,21 @@
 
 package io.harness.mongo.queue;
 
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.govern.Switch.unhandled;
 import static io.harness.persistence.HPersistence.returnOldOptions;
 import static io.harness.persistence.HQuery.excludeAuthority;
 
 import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
 
 import io.harness.exception.UnexpectedException;
+import io.harness.metrics.impl.QueueMetricsServiceImpl;
+import io.harness.mongo.changestreams.ChangeSubscriber;
+import io.harness.mongo.changestreams.ChangeTrackingInfo;
+import io.harness.mongo.changestreams.ChangeType;
 import io.harness.persistence.HPersistence;
 import io.harness.queue.Queuable;
 import io.harness.queue.Queuable.QueuableKeys;
@@ -22,15 +29,20 @@ import io.harness.queue.QueueConsumer;
 import io.harness.queue.TopicUtils;
 
 import com.google.inject.Inject;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.mongodb.morphia.AdvancedDatastore;
+import org.mongodb.morphia.query.FindOptions;
 import org.mongodb.morphia.query.Query;
 import org.mongodb.morphia.query.Sort;
 import org.mongodb.morphia.query.UpdateOperations;
@@ -42,7 +54,11 @@ public class MongoQueueConsumer<T extends Queuable> implements QueueConsumer<T>
   List<String> topics;
 
   private Semaphore semaphore = new Semaphore(1);
+  // Released on insert notifications so that waiting batch consumers do not have to sleep the full poll interval
+  private final Semaphore newMessageSignal = new Semaphore(0);
+  private final AtomicLong lastBacklogRecordedAt = new AtomicLong();
   @Inject private HPersistence persistence;
+  @Inject(optional = true) private QueueMetricsServiceImpl queueMetricsService;
 
   public MongoQueueConsumer(Class<T> klass, Duration heartbeat, List<List<String>> topicExpression) {
     Objects.requireNonNull(klass);
@@ -102,6 +118,117 @@ public class MongoQueueConsumer<T extends Queuable> implements QueueConsumer<T>
     }
   }
 
+  @Override
+  public List<T> get(Duration wait, Duration poll, int batchSize) {
+    long endTime = System.currentTimeMillis() + wait.toMillis();
+    boolean acquired = false;
+    try {
+      acquired = semaphore.tryAcquire(wait.toMillis(), TimeUnit.MILLISECONDS);
+      if (acquired) {
+        return getBatchUnderLock(endTime, poll, batchSize);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      if (acquired) {
+        semaphore.release();
+      }
+    }
+    return Collections.emptyList();
+  }
+
+  private List<T> getBatchUnderLock(long endTime, Duration poll, int batchSize) {
+    while (true) {
+      List<T> messages = claimBatch(batchSize);
+      if (isNotEmpty(messages)) {
+        return messages;
+      }
+
+      if (System.currentTimeMillis() >= endTime) {
+        return Collections.emptyList();
+      }
+
+      try {
+        // Drain so that a burst of inserts results in a single wake up
+        if (newMessageSignal.tryAcquire(Math.max(poll.toMillis(), 0), TimeUnit.MILLISECONDS)) {
+          newMessageSignal.drainPermits();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return Collections.emptyList();
+      }
+    }
+  }
+
+  /**
+   * Claims up to batchSize messages. Candidates are marked with a claim id in a single update, so when consumers race
+   * on the same candidates each message ends up with exactly one of them.
+   */
+  private List<T> claimBatch(int batchSize) {
+    final Date now = new Date();
+    Query<T> candidateQuery = createQuery()
+                                  .field(QueuableKeys.earliestGet)
+                                  .lessThanOrEq(now)
+                                  .order(Sort.ascending(QueuableKeys.earliestGet))
+                                  .project(QueuableKeys.id, true)
+                                  .project(QueuableKeys.earliestGet, true);
+    List<T> candidates = HPersistence.retry(() -> candidateQuery.asList(new FindOptions().limit(batchSize)));
+    if (isEmpty(candidates)) {
+      return Collections.emptyList();
+    }
+    // Read before the claim moves earliestGet to the heartbeat, candidates are sorted so this is the oldest one
+    Date oldestEarliestGet = candidates.get(0).getEarliestGet();
+    List<String> candidateIds = candidates.stream().map(Queuable::getId).collect(toList());
+
+    String claimId = generateUuid();
+    Query<T> claimQuery =
+        createQuery().field(QueuableKeys.id).in(candidateIds).field(QueuableKeys.earliestGet).lessThanOrEq(now);
+    UpdateOperations<T> updateOperations =
+        persistence.createUpdateOperations(klass)
+            .set(QueuableKeys.earliestGet, new Date(now.getTime() + heartbeat().toMillis()))
+            .set(QueuableKeys.claimId, claimId);
+    persistence.update(claimQuery, updateOperations);
+
+    List<T> messages = HPersistence.retry(
+        () -> createQuery().field(QueuableKeys.id).in(candidateIds).filter(QueuableKeys.claimId, claimId).asList());
+    recordClaimMetrics(messages, now, oldestEarliestGet, batchSize);
+    return messages;
+  }
+
+  private void recordClaimMetrics(List<T> messages, Date now, Date oldestEarliestGet, int batchSize) {
+    if (queueMetricsService == null || isEmpty(messages)) {
+      return;
+    }
+    try {
+      long claimTime = now.getTime() - oldestEarliestGet.getTime();
+      queueMetricsService.recordQueueMetricsWithDuration(
+          getName(), Duration.ofMillis(Math.max(claimTime, 0)), QueueMetricsServiceImpl.QUEUE_CLAIM_TIME);
+
+      long lastRecordedAt = lastBacklogRecordedAt.get();
+      if (messages.size() >= batchSize && now.getTime() - lastRecordedAt > TimeUnit.SECONDS.toMillis(30)
+          && lastBacklogRecordedAt.compareAndSet(lastRecordedAt, now.getTime())) {
+        queueMetricsService.recordQueueMetrics(
+            getName(), count(Filter.NOT_RUNNING), QueueMetricsServiceImpl.QUEUE_BACKLOG);
+      }
+    } catch (Exception ex) {
+      log.warn("Error while recording metrics for queue {}", getName(), ex);
+    }
+  }
+
+  /**
+   * Change tracking info to register with a {@link QueueInsertTracker} so that inserts wake up the batch consumers
+   * instead of waiting for the next poll. Without it the batch consumers poll at the given interval.
+   */
+  public ChangeTrackingInfo<T> getInsertTrackingInfo() {
+    ChangeSubscriber<T> insertSubscriber = changeEvent -> {
+      if (changeEvent.getChangeType() == ChangeType.INSERT) {
+        newMessageSignal.release();
+      }
+    };
+    return new ChangeTrackingInfo<>(klass, insertSubscriber, null,
+        Collections.singletonList(Aggregates.match(Filters.eq("operationType", "insert"))));
+  }
+
   @Override
   public void updateHeartbeat(T message) {
     Date earliestGet = new Date(System.currentTimeMillis() + heartbeat().toMillis());
@@ -144,6 +271,30 @@ public class MongoQueueConsumer<T extends Queuable> implements QueueConsumer<T>
     persistence.delete(klass, message.getId());
   }
 
+  @Override
+  public void ackBatch(final List<T> messages) {
+    if (isEmpty(messages)) {
+      return;
+    }
+    log.debug("Queue event consumer acking {} messages", messages.size());
+    persistence.delete(persistence.createQuery(klass, excludeAuthority)
+                           .field(QueuableKeys.id)
+                           .in(messages.stream().map(Queuable::getId).collect(toList())));
+  }
+
+  @Override
+  public void updateHeartbeats(List<T> messages) {
+    if (isEmpty(messages)) {
+      return;
+    }
+    Date earliestGet = new Date(System.currentTimeMillis() + heartbeat().toMillis());
+    persistence.update(persistence.createQuery(klass, excludeAuthority)
+                           .field(QueuableKeys.id)
+                           .in(messages.stream().map(Queuable::getId).collect(toList())),
+        persistence.createUpdateOperations(klass).set(QueuableKeys.earliestGet, earliestGet));
+    messages.forEach(message -> message.setEarliestGet(earliestGet));
+  }
+
   @Override
   public void requeue(final String id, int retries) {
     requeue(id, retries, new Date());
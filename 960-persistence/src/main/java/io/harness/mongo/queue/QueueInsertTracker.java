@@ -0,0 +1,57 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.mongo.queue;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.mongo.changestreams.ChangeTracker;
+import io.harness.mongo.changestreams.ChangeTrackingInfo;
+import io.harness.queue.QueueConsumer;
+
+import io.dropwizard.lifecycle.Managed;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Opens an insert only change stream on the collections of the registered queue consumers and wakes up their waiting
+ * batch consumers when a message is inserted.
+ */
+@OwnedBy(PL)
+@Slf4j
+public class QueueInsertTracker implements Managed {
+  private final ChangeTracker changeTracker;
+  private final Set<ChangeTrackingInfo<?>> changeTrackingInfos = new HashSet<>();
+
+  public QueueInsertTracker(ChangeTracker changeTracker) {
+    this.changeTracker = changeTracker;
+  }
+
+  public void register(QueueConsumer<?> queueConsumer) {
+    if (!(queueConsumer instanceof MongoQueueConsumer)) {
+      log.info("Queue {} is not a mongo queue, it will keep polling", queueConsumer.getName());
+      return;
+    }
+    changeTrackingInfos.add(((MongoQueueConsumer<?>) queueConsumer).getInsertTrackingInfo());
+  }
+
+  @Override
+  public void start() {
+    if (!changeTrackingInfos.isEmpty()) {
+      changeTracker.start(changeTrackingInfos);
+    }
+  }
+
+  @Override
+  public void stop() {
+    if (!changeTrackingInfos.isEmpty()) {
+      changeTracker.stop();
+    }
+  }
+}
@@ -328,6 +328,16 @@ public interface HPersistence extends HealthMonitor {
    */
   <T extends PersistentEntity> UpdateResults update(Query<T> updateQuery, UpdateOperations<T> updateOperations);
 
+  /**
+   * Update data that is system and it should not refresh any of the trackers.
+   *
+   * @param updateQuery      the update query
+   * @param updateOperations the update operations
+   * @return the update results
+   */
+  <T extends PersistentEntity> UpdateResults updateSystemData(
+      Query<T> updateQuery, UpdateOperations<T> updateOperations);
+
   FindAndModifyOptions returnNewOptions = new FindAndModifyOptions().upsert(false).returnNew(true);
   FindAndModifyOptions returnOldOptions = new FindAndModifyOptions().upsert(false).returnNew(false);
 
@@ -49,6 +49,8 @@ public abstract class Queuable implements PersistentEntity {
   @Getter @Setter private int retries;
   @Getter @Setter private String topic;
   @Getter @Setter private GlobalContext globalContext;
+  // Set by consumers claiming messages in batches to tell which of the candidates they won
+  @Getter @Setter private String claimId;
 
   protected Queuable() {}
 
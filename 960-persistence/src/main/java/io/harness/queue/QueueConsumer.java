@@ -8,7 +8,9 @@
 package io.harness.queue;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 
 /**
  * The Interface Queue.
@@ -17,10 +19,24 @@ public interface QueueConsumer<T extends Queuable> extends Queue {
   T get(Duration wait, Duration poll);
   void updateHeartbeat(T message);
 
+  default List<T> get(Duration wait, Duration poll, int batchSize) {
+    T message = get(wait, poll);
+    return message == null ? Collections.emptyList() : Collections.singletonList(message);
+  }
+
+  default void updateHeartbeats(List<T> messages) {
+    messages.forEach(this::updateHeartbeat);
+  }
+
   enum Filter { ALL, RUNNING, NOT_RUNNING }
   long count(Filter filter);
 
   void ack(T message);
+
+  default void ackBatch(List<T> messages) {
+    messages.forEach(this::ack);
+  }
+
   void requeue(String id, int retries);
   void requeue(String id, int retries, Date earliestGet);
   Duration heartbeat();
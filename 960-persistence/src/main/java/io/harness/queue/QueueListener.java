@@ -27,6 +27,10 @@ import io.harness.queue.QueueConsumer.Filter;
 
 import com.google.inject.Inject;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -37,6 +41,8 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public abstract class QueueListener<T extends Queuable> implements Runnable {
   @Setter private boolean runOnce;
+  // Number of messages claimed per round trip, one keeps the original claim and ack per message behaviour
+  @Setter private int batchSize = 1;
   private final boolean primaryOnly;
 
   private AtomicBoolean shouldStop = new AtomicBoolean(false);
@@ -70,6 +76,9 @@ public abstract class QueueListener<T extends Queuable> implements Runnable {
   }
 
   public boolean execute() {
+    if (batchSize > 1) {
+      return executeBatch();
+    }
     log.debug("Total event in running: [{}] and not running:[{}] - Class info [{}]",
         queueConsumer.count(Filter.RUNNING), queueConsumer.count(Filter.NOT_RUNNING), this);
     T message = null;
@@ -91,6 +100,26 @@ public abstract class QueueListener<T extends Queuable> implements Runnable {
     return true;
   }
 
+  private boolean executeBatch() {
+    List<T> messages = null;
+    try {
+      log.trace("Waiting for messages");
+      messages = queueConsumer.get(ofSeconds(3), ofSeconds(1), batchSize);
+    } catch (Exception exception) {
+      if (exception.getCause() instanceof InterruptedException) {
+        log.info("Thread interrupted, shutting down for queue {}", queueConsumer.getName());
+        return false;
+      }
+      log.error("Exception happened while fetching messages from queue {}", queueConsumer.getName(), exception);
+    }
+
+    if (messages != null && !messages.isEmpty()) {
+      log.debug("Consuming {} messages", messages.size());
+      processBatch(messages);
+    }
+    return true;
+  }
+
   public void pumpAll() {
     while (true) {
       T message = null;
@@ -149,6 +178,74 @@ public abstract class QueueListener<T extends Queuable> implements Runnable {
     }
   }
 
+  /**
+   * Handles the messages one after the other. A single timer keeps the heartbeat of the messages still pending and the
+   * ones handled successfully are acknowledged together once the batch is done.
+   */
+  @SuppressWarnings({"PMD", "squid:S1181"})
+  private void processBatch(List<T> messages) {
+    // Keyed on id as the heartbeat updates the messages while they are pending
+    Map<String, T> pending = new ConcurrentHashMap<>();
+    messages.forEach(message -> pending.put(message.getId(), message));
+    long timerInterval = queueConsumer.heartbeat().toMillis() - 500;
+    Runnable heartbeatUpdater = () -> queueConsumer.updateHeartbeats(new ArrayList<>(pending.values()));
+    ScheduledFuture<?> future =
+        timer.scheduleAtFixedRate(heartbeatUpdater, timerInterval, timerInterval, TimeUnit.MILLISECONDS);
+
+    List<T> processed = new ArrayList<>();
+    try {
+      for (T message : messages) {
+        if (processBatchMessage(message)) {
+          processed.add(message);
+        }
+        pending.remove(message.getId());
+      }
+    } finally {
+      future.cancel(true);
+    }
+
+    try {
+      queueConsumer.ackBatch(processed);
+    } catch (Exception exception) {
+      log.error("Exception while acknowledging {} messages from queue {}", processed.size(), queueConsumer.getName(),
+          exception);
+    }
+  }
+
+  /**
+   * @return true if the message needs to be acknowledged with the rest of the batch, false if it was already requeued
+   *     or acknowledged by the exception handling
+   */
+  @SuppressWarnings({"PMD", "squid:S1181"})
+  private boolean processBatchMessage(T message) {
+    long startTime = currentTimeMillis();
+
+    try (MessageLogContext ignore = new MessageLogContext(message, OVERRIDE_ERROR)) {
+      try (GlobalContextGuard guard = initGlobalContextGuard(message.getGlobalContext())) {
+        long delay = startTime - message.getEarliestGet().toInstant().toEpochMilli();
+        try (DelayLogContext ignore2 = new DelayLogContext(delay, OVERRIDE_ERROR)) {
+          log.info("Working on message");
+        }
+
+        onMessage(message);
+      }
+      return true;
+    } catch (InstantiationError exception) {
+      log.error("Critical exception happened in onMessage {}", queueConsumer.getName(), exception);
+      return true;
+    } catch (Throwable exception) {
+      onException(exception, message);
+      return false;
+    } finally {
+      long processTime = currentTimeMillis() - startTime;
+      try (ProcessTimeLogContext ignore2 = new ProcessTimeLogContext(processTime, OVERRIDE_ERROR)) {
+        log.info("Done with message");
+      } catch (Throwable exception) {
+        log.error("Exception while recording the processing of message", exception);
+      }
+    }
+  }
+
   public abstract void onMessage(T message);
 
   protected void requeue(T message) {
@@ -0,0 +1,368 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.redis.iterator;
+
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.govern.Switch.unhandled;
+import static io.harness.iterator.PersistenceIterator.ProcessMode.PUMP;
+import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
+import static io.harness.metrics.impl.IteratorMetricsServiceImpl.ITERATOR_DELAY;
+import static io.harness.metrics.impl.IteratorMetricsServiceImpl.ITERATOR_ERROR;
+import static io.harness.metrics.impl.IteratorMetricsServiceImpl.ITERATOR_PROCESSING_TIME;
+import static io.harness.metrics.impl.IteratorMetricsServiceImpl.ITERATOR_WORKING_ON_ENTITY;
+import static io.harness.threading.Morpheus.sleep;
+
+import static java.lang.System.currentTimeMillis;
+import static java.time.Duration.ofMinutes;
+import static java.time.Duration.ofSeconds;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.iterator.PersistenceIterator;
+import io.harness.iterator.PersistentRegularIterable;
+import io.harness.maintenance.MaintenanceController;
+import io.harness.metrics.impl.IteratorMetricsServiceImpl;
+import io.harness.mongo.DelayLogContext;
+import io.harness.mongo.EntityLogContext;
+import io.harness.mongo.EntityProcessController;
+import io.harness.mongo.ProcessTimeLogContext;
+import io.harness.mongo.iterator.MongoPersistenceIterator.Handler;
+import io.harness.mongo.iterator.filter.MorphiaFilterExpander;
+import io.harness.persistence.HIterator;
+import io.harness.persistence.HPersistence;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.inject.Inject;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.mongodb.morphia.query.Query;
+import org.redisson.api.RBatch;
+import org.redisson.api.RLock;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.ScoredEntry;
+
+/**
+ * Iterator over regular iterables that keeps the schedule in a redis sorted set of entity ids scored by their next
+ * iteration instead of the next iteration field in mongo. Due entries are claimed with a lua script that pops them
+ * and pushes them out by a lease in one step, so any number of nodes can run the same iterator without a primary.
+ *
+ * The next iteration is still written back to mongo when an entity is handed out, so {@link #recoverAfterPause()}
+ * can pick up from mongo the entities missing in the set - new ones and the ones lost with redis - and the mongo
+ * iterator can take over again. Entities deleted or no longer matching the filter are dropped from the set when they
+ * are claimed next.
+ */
+@OwnedBy(HarnessTeam.PL)
+@Builder
+@Slf4j
+public class RedisPersistenceIterator<T extends PersistentRegularIterable> implements PersistenceIterator<T> {
+  private static final int CATCH_UP_BATCH_SIZE = 1000;
+  private static final String ID_KEY = "_id";
+
+  // KEYS[1] schedule, ARGV[1] now, ARGV[2] lease expiry, ARGV[3] limit. Returns member, score pairs.
+  private static final String CLAIM_SCRIPT =
+      "local due = redis.call('zrangebyscore', KEYS[1], '-inf', ARGV[1], 'WITHSCORES', 'LIMIT', 0, ARGV[3]) "
+      + "for i = 1, #due, 2 do redis.call('zadd', KEYS[1], ARGV[2], due[i]) end "
+      + "return due";
+
+  @Inject private HPersistence persistence;
+  @Inject private IteratorMetricsServiceImpl iteratorMetricsService;
+
+  private final RedissonClient redissonClient;
+  private MorphiaFilterExpander<T> filterExpander;
+  private ProcessMode mode;
+  private Class<T> clazz;
+  private String fieldName;
+  private Duration targetInterval;
+  private Duration maximumDelayForCheck;
+  private Duration acceptableNoAlertDelay;
+  private Duration acceptableExecutionTime;
+  // How long a claimed entry stays out of reach of the other nodes before it is rescheduled
+  @Builder.Default private Duration leaseDuration = ofMinutes(1);
+  @Builder.Default private int batchSize = 100;
+  private Handler<T> handler;
+  private ExecutorService executorService;
+  private Semaphore semaphore;
+  private EntityProcessController<T> entityProcessController;
+  private String iteratorName;
+
+  private String scheduleKey() {
+    return "iterators:" + clazz.getSimpleName() + ":" + fieldName;
+  }
+
+  private String catchUpLockKey() {
+    return scheduleKey() + ":catchUpLock";
+  }
+
+  private RScoredSortedSet<String> schedule() {
+    return redissonClient.getScoredSortedSet(scheduleKey(), StringCodec.INSTANCE);
+  }
+
+  @Override
+  public synchronized void wakeup() {
+    switch (mode) {
+      case PUMP:
+        executorService.submit(this::process);
+        break;
+      case LOOP:
+        notifyAll();
+        break;
+      default:
+        unhandled(mode);
+    }
+  }
+
+  @Override
+  // The theory is that ERROR type exception are unrecoverable, that is not exactly true.
+  @SuppressWarnings({"PMD", "squid:S1181"})
+  public void process() {
+    while (true) {
+      if (MaintenanceController.getMaintenanceFlag()) {
+        if (mode == PUMP) {
+          return;
+        }
+        sleep(ofSeconds(1));
+        continue;
+      }
+      try {
+        // make sure we did not hit the limit
+        semaphore.acquire();
+
+        long now = currentTimeMillis();
+        // Do not claim more than the workers can start, the lease of the rest would run out in the executor queue.
+        // One permit is reserved for every entry claimed and handed over to the task of its entity.
+        int permits = 1;
+        while (permits < batchSize && semaphore.tryAcquire()) {
+          permits++;
+        }
+        Map<String, Long> claimed = null;
+        try {
+          claimed = claim(now, permits);
+        } finally {
+          semaphore.release(permits - (claimed == null ? 0 : claimed.size()));
+        }
+
+        if (!claimed.isEmpty()) {
+          dispatch(claimed, now);
+          if (claimed.size() == permits) {
+            continue;
+          }
+        }
+
+        if (mode == PUMP) {
+          break;
+        }
+
+        long sleepMillis = calculateSleepDuration().toMillis();
+        // Do not sleep with 0, it is actually infinite sleep
+        if (sleepMillis > 0) {
+          synchronized (this) {
+            wait(sleepMillis);
+          }
+        }
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        break;
+      } catch (Throwable exception) {
+        log.error("Exception occurred while processing iterator", exception);
+        iteratorMetricsService.recordIteratorMetrics(iteratorName, ITERATOR_ERROR);
+        sleep(ofSeconds(1));
+      }
+    }
+  }
+
+  /**
+   * @return scheduled iteration of the claimed entity ids, in the order they were due
+   */
+  @VisibleForTesting
+  Map<String, Long> claim(long now, int limit) {
+    List<Object> due = redissonClient.getScript(StringCodec.INSTANCE)
+                           .eval(RScript.Mode.READ_WRITE, CLAIM_SCRIPT, RScript.ReturnType.MULTI,
+                               Collections.singletonList(scheduleKey()), String.valueOf(now),
+                               String.valueOf(now + leaseDuration.toMillis()), String.valueOf(limit));
+    if (isEmpty(due)) {
+      return Collections.emptyMap();
+    }
+    Map<String, Long> claimed = new LinkedHashMap<>();
+    for (int i = 0; i + 1 < due.size(); i += 2) {
+      claimed.put((String) due.get(i), (long) Double.parseDouble((String) due.get(i + 1)));
+    }
+    return claimed;
+  }
+
+  /**
+   * Expects the caller to hold a permit of the semaphore for every claimed entry.
+   */
+  private void dispatch(Map<String, Long> claimed, long now) {
+    // Permits of the entries that did not make it to a worker
+    int unused = claimed.size();
+    try {
+      Query<T> query = persistence.createQuery(clazz);
+      if (filterExpander != null) {
+        filterExpander.filter(query);
+      }
+      Map<String, T> entities = new HashMap<>();
+      query.field(ID_KEY).in(claimed.keySet()).asList().forEach(entity -> entities.put(entity.getUuid(), entity));
+
+      // Move the entities to their next slot before handing them out, same as the mongo iterator does at claim time
+      Map<String, Double> rescheduled = new HashMap<>();
+      List<String> dropped = new ArrayList<>();
+      for (String id : claimed.keySet()) {
+        if (entities.containsKey(id)) {
+          rescheduled.put(id, (double) (now + targetInterval.toMillis()));
+        } else {
+          dropped.add(id);
+        }
+      }
+      RScoredSortedSet<String> schedule = schedule();
+      if (!rescheduled.isEmpty()) {
+        schedule.addAll(rescheduled);
+        persistence.update(persistence.createQuery(clazz).field(ID_KEY).in(rescheduled.keySet()),
+            persistence.createUpdateOperations(clazz).set(fieldName, now + targetInterval.toMillis()));
+      }
+      if (!dropped.isEmpty()) {
+        schedule.removeAll(dropped);
+      }
+
+      for (Map.Entry<String, Long> entry : claimed.entrySet()) {
+        T entity = entities.get(entry.getKey());
+        if (entity != null
+            && (entityProcessController == null || entityProcessController.shouldProcessEntity(entity))) {
+          long nextIteration = entry.getValue();
+          executorService.submit(() -> processEntity(entity, nextIteration));
+        } else {
+          semaphore.release();
+        }
+        unused--;
+      }
+    } finally {
+      semaphore.release(unused);
+    }
+  }
+
+  private Duration calculateSleepDuration() {
+    Collection<ScoredEntry<String>> first = schedule().entryRange(0, 0);
+    Duration maximum = maximumDelayForCheck == null ? targetInterval : maximumDelayForCheck;
+    if (isEmpty(first)) {
+      return maximum;
+    }
+
+    Duration nextEntity = Duration.ofMillis(first.iterator().next().getScore().longValue() - currentTimeMillis());
+    return nextEntity.compareTo(maximum) < 0 ? nextEntity : maximum;
+  }
+
+  /**
+   * Adds to the schedule the entities whose next iteration in mongo is missing or lags behind by more than a lease and
+   * an interval, which does not happen to the entities in the set. Entries already in the set keep their slot. Meant to
+   * run periodically, only the node holding the lock scans mongo.
+   */
+  @Override
+  public void recoverAfterPause() {
+    RLock lock = redissonClient.getLock(catchUpLockKey());
+    if (!lock.tryLock()) {
+      log.info("Schedule of iterator {} is being caught up by another node", iteratorName);
+      return;
+    }
+    try {
+      catchUp(currentTimeMillis());
+    } catch (Exception exception) {
+      log.error("Exception occurred while catching up the schedule of iterator {}", iteratorName, exception);
+      iteratorMetricsService.recordIteratorMetrics(iteratorName, ITERATOR_ERROR);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void catchUp(long now) {
+    Query<T> query = persistence.createQuery(clazz).project(fieldName, true);
+    query.or(query.criteria(fieldName).lessThan(now - leaseDuration.toMillis() - targetInterval.toMillis()),
+        query.criteria(fieldName).doesNotExist());
+    if (filterExpander != null) {
+      filterExpander.filter(query);
+    }
+
+    RBatch batch = redissonClient.createBatch();
+    int pending = 0;
+    try (HIterator<T> iterator = new HIterator<>(query.fetch())) {
+      for (T entity : iterator) {
+        batch.getScoredSortedSet(scheduleKey(), StringCodec.INSTANCE).tryAddAsync(now, entity.getUuid());
+        if (++pending == CATCH_UP_BATCH_SIZE) {
+          batch.execute();
+          batch = redissonClient.createBatch();
+          pending = 0;
+        }
+      }
+    }
+    if (pending > 0) {
+      batch.execute();
+    }
+  }
+
+  // The theory is that ERROR type exception are unrecoverable, that is not exactly true.
+  @SuppressWarnings({"PMD", "squid:S1181"})
+  @VisibleForTesting
+  // Expects the caller to hold a permit of the semaphore, released once the entity is processed
+  void processEntity(T entity, long nextIteration) {
+    try (EntityLogContext ignore = new EntityLogContext(entity, OVERRIDE_ERROR)) {
+      long startTime = currentTimeMillis();
+
+      try {
+        long delay = nextIteration == 0 ? 0 : startTime - nextIteration;
+        try (DelayLogContext ignore2 = new DelayLogContext(delay, OVERRIDE_ERROR)) {
+          log.info("Working on entity");
+          iteratorMetricsService.recordIteratorMetrics(iteratorName, ITERATOR_WORKING_ON_ENTITY);
+          iteratorMetricsService.recordIteratorMetricsWithDuration(
+              iteratorName, Duration.ofMillis(delay), ITERATOR_DELAY);
+
+          if (delay >= acceptableNoAlertDelay.toMillis()) {
+            log.error(
+                "Working on entity but the delay is more than the acceptable {}", acceptableNoAlertDelay.toMillis());
+          }
+        }
+
+        try {
+          handler.handle(entity);
+        } catch (RuntimeException exception) {
+          log.error("Catch and handle all exceptions in the entity handler", exception);
+          iteratorMetricsService.recordIteratorMetrics(iteratorName, ITERATOR_ERROR);
+        }
+      } catch (Throwable exception) {
+        log.error("Exception while processing entity", exception);
+        iteratorMetricsService.recordIteratorMetrics(iteratorName, ITERATOR_ERROR);
+      } finally {
+        semaphore.release();
+
+        long processTime = currentTimeMillis() - startTime;
+        log.info("Done with entity");
+        iteratorMetricsService.recordIteratorMetricsWithDuration(
+            iteratorName, Duration.ofMillis(processTime), ITERATOR_PROCESSING_TIME);
+
+        try (ProcessTimeLogContext ignore2 = new ProcessTimeLogContext(processTime, OVERRIDE_ERROR)) {
+          if (acceptableExecutionTime != null && processTime > acceptableExecutionTime.toMillis()) {
+            log.error("Done with entity but took too long acceptable {}", acceptableExecutionTime.toMillis());
+          }
+        } catch (Throwable exception) {
+          log.error("Exception while recording the processing of entity", exception);
+          iteratorMetricsService.recordIteratorMetrics(iteratorName, ITERATOR_ERROR);
+        }
+      }
+    }
+  }
+}
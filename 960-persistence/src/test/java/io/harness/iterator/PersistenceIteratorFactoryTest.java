@@ -8,35 +8,60 @@
 package io.harness.iterator;
 
 import static io.harness.mongo.iterator.MongoPersistenceIterator.MongoPersistenceIteratorBuilder;
+import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType.REGULAR;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.rule.OwnerRule.GEORGE;
 import static io.harness.rule.OwnerRule.YOGESH;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.PersistenceTestBase;
 import io.harness.category.element.UnitTests;
 import io.harness.config.WorkersConfiguration;
 import io.harness.iterator.PersistenceIteratorFactory.PumpExecutorOptions;
+import io.harness.iterator.TestRegularIterableEntity.RegularIterableEntityKeys;
 import io.harness.metrics.HarnessMetricRegistry;
 import io.harness.mongo.iterator.MongoPersistenceIterator;
 import io.harness.mongo.iterator.filter.MorphiaFilterExpander;
+import io.harness.mongo.iterator.provider.MorphiaPersistenceProvider;
+import io.harness.persistence.HPersistence;
+import io.harness.redis.iterator.RedisPersistenceIterator;
+import io.harness.redis.iterator.RedisPersistenceIterator.RedisPersistenceIteratorBuilder;
 import io.harness.rule.Owner;
 
 import com.codahale.metrics.MetricRegistry;
 import com.google.inject.Inject;
+import com.mongodb.BasicDBObject;
 import java.security.SecureRandom;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.redisson.api.RLock;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
 
 public class PersistenceIteratorFactoryTest extends PersistenceTestBase {
   @Mock WorkersConfiguration workersConfiguration;
   @Mock HarnessMetricRegistry harnessMetricRegistry;
   @InjectMocks @Inject PersistenceIteratorFactory persistenceIteratorFactory;
+  @Inject HPersistence persistence;
+  @Inject MorphiaPersistenceProvider<TestRegularIterableEntity> persistenceProvider;
 
   private MongoPersistenceIteratorBuilder iteratorBuilder;
   private PumpExecutorOptions pumpExecutorOptions;
@@ -82,6 +107,87 @@ public class PersistenceIteratorFactoryTest extends PersistenceTestBase {
         .isNotNull();
     // TODO: check if we can verify scheduleAtFixedRate is called
   }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testCreatePumpIteratorWithBatchClaims() throws InterruptedException {
+    when(harnessMetricRegistry.getThreadPoolMetricRegistry()).thenReturn(new MetricRegistry());
+    when(workersConfiguration.confirmWorkerIsActive(TestRegularIterableEntity.class)).thenReturn(true);
+    long now = System.currentTimeMillis();
+    for (int i = 0; i < 3; i++) {
+      persistence.save(TestRegularIterableEntity.builder().uuid(generateUuid()).nextIteration(now - 1000).build());
+    }
+
+    CountDownLatch handled = new CountDownLatch(3);
+    assertThat(persistenceIteratorFactory.createPumpIteratorWithDedicatedThreadPool(
+                   PumpExecutorOptions.builder().name("batchTest").interval(Duration.ofMillis(100)).poolSize(3).build(),
+                   TestRegularIterableEntity.class,
+                   MongoPersistenceIterator
+                       .<TestRegularIterableEntity, MorphiaFilterExpander<TestRegularIterableEntity>>builder()
+                       .clazz(TestRegularIterableEntity.class)
+                       .fieldName(RegularIterableEntityKeys.nextIteration)
+                       .targetInterval(Duration.ofMinutes(1))
+                       .acceptableNoAlertDelay(Duration.ofMinutes(1))
+                       .handler(entity -> handled.countDown())
+                       .schedulingType(REGULAR)
+                       .batchSize(3)
+                       .persistenceProvider(persistenceProvider)))
+        .isNotNull();
+
+    assertThat(handled.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(persistence.createQuery(TestRegularIterableEntity.class).asList())
+        .allMatch(entity -> entity.getNextIteration() > now);
+    assertThat(persistence.getCollection(TestRegularIterableEntity.class)
+                   .count(new BasicDBObject(RegularIterableEntityKeys.nextIteration + "ClaimId",
+                       new BasicDBObject("$exists", true))))
+        .isEqualTo(0);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testCreateRedisPumpIteratorWithDedicatedThreadPool() throws InterruptedException {
+    when(harnessMetricRegistry.getThreadPoolMetricRegistry()).thenReturn(new MetricRegistry());
+    TestRegularIterableEntity entity = TestRegularIterableEntity.builder().uuid(generateUuid()).build();
+    persistence.save(entity);
+
+    RedissonClient redissonClient = mock(RedissonClient.class);
+    RLock lock = mock(RLock.class);
+    RScript script = mock(RScript.class);
+    when(redissonClient.getLock(anyString())).thenReturn(lock);
+    when(redissonClient.getScript(any(Codec.class))).thenReturn(script);
+    when(redissonClient.getScoredSortedSet(anyString(), any(Codec.class))).thenReturn(mock(RScoredSortedSet.class));
+    when(script.eval(any(), anyString(), any(), anyList(), any(), any(), any()))
+        .thenReturn(Arrays.asList(entity.getUuid(), "0"))
+        .thenReturn(Collections.emptyList());
+
+    CountDownLatch handled = new CountDownLatch(1);
+    RedisPersistenceIteratorBuilder<TestRegularIterableEntity> redisIteratorBuilder =
+        RedisPersistenceIterator.<TestRegularIterableEntity>builder()
+            .redissonClient(redissonClient)
+            .clazz(TestRegularIterableEntity.class)
+            .fieldName(RegularIterableEntityKeys.nextIteration)
+            .targetInterval(Duration.ofMinutes(1))
+            .acceptableNoAlertDelay(Duration.ofMinutes(1))
+            .handler(claimed -> handled.countDown());
+    PumpExecutorOptions options =
+        PumpExecutorOptions.builder().name("redisTest").interval(Duration.ofMillis(100)).poolSize(2).build();
+
+    // disable setup
+    when(workersConfiguration.confirmWorkerIsActive(TestRegularIterableEntity.class)).thenReturn(false);
+    assertThat(persistenceIteratorFactory.createRedisPumpIteratorWithDedicatedThreadPool(
+                   options, TestRegularIterableEntity.class, redisIteratorBuilder))
+        .isNull();
+
+    // enable setup
+    when(workersConfiguration.confirmWorkerIsActive(TestRegularIterableEntity.class)).thenReturn(true);
+    assertThat(persistenceIteratorFactory.createRedisPumpIteratorWithDedicatedThreadPool(
+                   options, TestRegularIterableEntity.class, redisIteratorBuilder))
+        .isNotNull();
+    assertThat(handled.await(10, TimeUnit.SECONDS)).isTrue();
+    verify(lock, timeout(10000)).tryLock();
+  }
   private static class DummyClass implements PersistentIterable {
     private static final SecureRandom random = new SecureRandom();
 
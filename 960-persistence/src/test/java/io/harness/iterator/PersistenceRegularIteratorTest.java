@@ -38,6 +38,8 @@ import io.harness.threading.ThreadPool;
 
 import com.google.inject.Inject;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.Semaphore;
@@ -169,4 +171,31 @@ public class PersistenceRegularIteratorTest extends PersistenceTestBase {
       assertThat(updatedEntity.getNextIteration()).isGreaterThan(entity.getNextIteration());
     }
   }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testPumpWithBatch() {
+    MongoPersistenceIterator<TestRegularIterableEntity, MorphiaFilterExpander<TestRegularIterableEntity>> iterator =
+        iterator(PUMP);
+    on(iterator).set("batchSize", 2);
+
+    try (MaintenanceGuard guard = new MaintenanceGuard(false)) {
+      long now = currentTimeMillis();
+      List<TestRegularIterableEntity> entities = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        TestRegularIterableEntity entity =
+            TestRegularIterableEntity.builder().uuid(generateUuid()).nextIteration(now - 1000).build();
+        persistence.save(entity);
+        entities.add(entity);
+      }
+
+      iterator.process();
+
+      for (TestRegularIterableEntity entity : entities) {
+        TestRegularIterableEntity updatedEntity = persistence.get(TestRegularIterableEntity.class, entity.getUuid());
+        assertThat(updatedEntity.getNextIteration()).isGreaterThan(now);
+      }
+    }
+  }
 }
@@ -23,6 +23,8 @@ import static org.joor.Reflect.on;
 
 import io.harness.PersistenceTestBase;
 import io.harness.category.element.UnitTests;
+import io.harness.mongo.changestreams.ChangeEvent;
+import io.harness.mongo.changestreams.ChangeType;
 import io.harness.mongo.queue.MongoQueueConsumer;
 import io.harness.mongo.queue.MongoQueuePublisher;
 import io.harness.persistence.HPersistence;
@@ -34,6 +36,9 @@ import com.google.inject.Inject;
 import java.net.UnknownHostException;
 import java.time.Duration;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.Before;
 import org.junit.Test;
@@ -249,6 +254,46 @@ public class MongoQueueTest extends PersistenceTestBase {
     assertThat(persistence.createQuery(TestTopicQueuableObject.class).count()).isEqualTo(1);
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldClaimAndAckMessagesInBatch() {
+    topicProducer.send(new TestTopicQueuableObject(1));
+    topicProducer.send(new TestTopicQueuableObject(2));
+    topicProducer.send(new TestTopicQueuableObject(3));
+
+    List<TestTopicQueuableObject> batch = queue.get(DEFAULT_WAIT, DEFAULT_POLL, 2);
+    assertThat(batch).containsExactly(new TestTopicQueuableObject(1), new TestTopicQueuableObject(2));
+
+    // claimed messages are not handed out again till their heartbeat expires
+    assertThat(queue.get(ZERO, ZERO, 5)).containsExactly(new TestTopicQueuableObject(3));
+
+    queue.ackBatch(batch);
+    assertThat(persistence.createQuery(TestTopicQueuableObject.class).count()).isEqualTo(1);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldWakeUpBatchConsumerOnInsert() throws Exception {
+    CompletableFuture<List<TestTopicQueuableObject>> batch =
+        CompletableFuture.supplyAsync(() -> queue.get(ofSeconds(30), ofSeconds(30), 5));
+    sleep(ofMillis(500));
+
+    TestTopicQueuableObject message = new TestTopicQueuableObject(1);
+    topicProducer.send(message);
+    ChangeEvent<TestTopicQueuableObject> insertEvent = ChangeEvent.<TestTopicQueuableObject>builder()
+                                                           .token("token")
+                                                           .changeType(ChangeType.INSERT)
+                                                           .entityType(TestTopicQueuableObject.class)
+                                                           .uuid("message")
+                                                           .build();
+    queue.getInsertTrackingInfo().getChangeSubscriber().onChange(insertEvent);
+
+    // well before the 30 seconds poll interval
+    assertThat(batch.get(5, TimeUnit.SECONDS)).containsExactly(message);
+  }
+
   @Test
   @Owner(developers = GEORGE)
   @Category(UnitTests.class)
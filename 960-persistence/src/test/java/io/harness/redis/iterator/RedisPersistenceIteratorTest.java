@@ -0,0 +1,174 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.redis.iterator;
+
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.iterator.PersistenceIterator.ProcessMode.PUMP;
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static java.lang.System.currentTimeMillis;
+import static java.time.Duration.ofMinutes;
+import static java.time.Duration.ofSeconds;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.joor.Reflect.on;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.PersistenceTestBase;
+import io.harness.category.element.UnitTests;
+import io.harness.iterator.TestRegularIterableEntity;
+import io.harness.iterator.TestRegularIterableEntity.RegularIterableEntityKeys;
+import io.harness.maintenance.MaintenanceGuard;
+import io.harness.metrics.impl.IteratorMetricsServiceImpl;
+import io.harness.persistence.HPersistence;
+import io.harness.rule.Owner;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.inject.Inject;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RBatch;
+import org.redisson.api.RLock;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScoredSortedSetAsync;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+
+public class RedisPersistenceIteratorTest extends PersistenceTestBase {
+  @Inject private HPersistence persistence;
+  @Inject private IteratorMetricsServiceImpl iteratorMetricsService;
+
+  private RedissonClient redissonClient = mock(RedissonClient.class);
+  private RScript script = mock(RScript.class);
+  private RScoredSortedSet<Object> schedule = mock(RScoredSortedSet.class);
+  private List<TestRegularIterableEntity> handled = new ArrayList<>();
+
+  private RedisPersistenceIterator<TestRegularIterableEntity> iterator;
+
+  @Before
+  public void setUp() {
+    when(redissonClient.getScript(any(Codec.class))).thenReturn(script);
+    when(redissonClient.getScoredSortedSet(anyString(), any(Codec.class))).thenReturn(schedule);
+
+    iterator = RedisPersistenceIterator.<TestRegularIterableEntity>builder()
+                   .redissonClient(redissonClient)
+                   .mode(PUMP)
+                   .clazz(TestRegularIterableEntity.class)
+                   .fieldName(RegularIterableEntityKeys.nextIteration)
+                   .targetInterval(ofSeconds(10))
+                   .acceptableNoAlertDelay(ofSeconds(60))
+                   .batchSize(2)
+                   .executorService(MoreExecutors.newDirectExecutorService())
+                   .semaphore(new Semaphore(10))
+                   .handler(handled::add)
+                   .iteratorName("test")
+                   .build();
+    on(iterator).set("persistence", persistence);
+    on(iterator).set("iteratorMetricsService", iteratorMetricsService);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldHandleClaimedEntitiesAndReschedule() {
+    TestRegularIterableEntity entity =
+        TestRegularIterableEntity.builder().uuid(generateUuid()).nextIteration(currentTimeMillis() - 1000).build();
+    persistence.save(entity);
+    String deletedId = generateUuid();
+
+    when(script.eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.MULTI), anyList(), any(), any(),
+             any()))
+        .thenReturn(Arrays.asList(entity.getUuid(), "1000", deletedId, "2000"))
+        .thenReturn(Collections.emptyList());
+
+    long start = currentTimeMillis();
+    try (MaintenanceGuard guard = new MaintenanceGuard(false)) {
+      iterator.process();
+    }
+
+    assertThat(handled).extracting(TestRegularIterableEntity::getUuid).containsExactly(entity.getUuid());
+
+    ArgumentCaptor<Map> rescheduled = ArgumentCaptor.forClass(Map.class);
+    verify(schedule).addAll(rescheduled.capture());
+    assertThat(rescheduled.getValue()).containsOnlyKeys(entity.getUuid());
+    assertThat((Double) rescheduled.getValue().get(entity.getUuid())).isGreaterThanOrEqualTo(start + 10000);
+    verify(schedule).removeAll(Collections.singletonList(deletedId));
+    assertThat(persistence.get(TestRegularIterableEntity.class, entity.getUuid()).getNextIteration())
+        .isGreaterThanOrEqualTo(start + 10000);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldReturnEmptyClaimWhenNothingIsDue() {
+    when(script.eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.MULTI), anyList(), any(), any(),
+             any()))
+        .thenReturn(Collections.emptyList());
+
+    assertThat(iterator.claim(currentTimeMillis(), 10)).isEmpty();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldCatchUpEntitiesMissingInSchedule() {
+    long now = currentTimeMillis();
+    TestRegularIterableEntity created = TestRegularIterableEntity.builder().uuid(generateUuid()).build();
+    TestRegularIterableEntity lost =
+        TestRegularIterableEntity.builder().uuid(generateUuid()).nextIteration(now - ofMinutes(10).toMillis()).build();
+    TestRegularIterableEntity scheduled =
+        TestRegularIterableEntity.builder().uuid(generateUuid()).nextIteration(now + 5000).build();
+    persistence.save(Arrays.asList(created, lost, scheduled));
+
+    RLock lock = mock(RLock.class);
+    when(lock.tryLock()).thenReturn(true);
+    when(redissonClient.getLock(anyString())).thenReturn(lock);
+    RBatch batch = mock(RBatch.class);
+    RScoredSortedSetAsync<Object> batchSchedule = mock(RScoredSortedSetAsync.class);
+    when(redissonClient.createBatch()).thenReturn(batch);
+    when(batch.getScoredSortedSet(anyString(), any(Codec.class))).thenReturn(batchSchedule);
+
+    iterator.recoverAfterPause();
+
+    verify(batchSchedule).tryAddAsync(anyDouble(), eq(created.getUuid()));
+    verify(batchSchedule).tryAddAsync(anyDouble(), eq(lost.getUuid()));
+    verify(batchSchedule, never()).tryAddAsync(anyDouble(), eq(scheduled.getUuid()));
+    verify(batch).execute();
+    verify(lock).unlock();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldNotCatchUpWhileAnotherNodeIs() {
+    RLock lock = mock(RLock.class);
+    when(lock.tryLock()).thenReturn(false);
+    when(redissonClient.getLock(anyString())).thenReturn(lock);
+
+    iterator.recoverAfterPause();
+
+    verify(redissonClient, never()).createBatch();
+    verify(lock, never()).unlock();
+  }
+}
@@ -11,6 +11,7 @@ import static com.google.common.base.Verify.verify;
 import static java.util.Objects.requireNonNull;
 
 import io.harness.event.EventPublisherGrpc.EventPublisherBlockingStub;
+import io.harness.event.EventPublisherGrpc.EventPublisherStub;
 import io.harness.event.PublishMessage;
 import io.harness.event.PublishRequest;
 import io.harness.flow.BackoffScheduler;
@@ -21,6 +22,7 @@ import com.google.common.util.concurrent.MoreExecutors;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
+import io.grpc.Status;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
@@ -29,7 +31,8 @@ import net.openhft.chronicle.queue.impl.RollingChronicleQueue;
 import net.openhft.chronicle.wire.DocumentContext;
 
 /**
- * Tails the chronicle-queue and publishes the events over rpc.
+ * Tails the chronicle-queue and publishes the events over rpc. Batches are pipelined over a publish stream, falling
+ * back to unary publish calls for event servers without stream support.
  * <p/>
  * Intentionally not thread-safe as CQ tailers are also not thread-safe. The methods in this class, and {@link
  * FileDeletionManager} are supposed to be executed by the same single thread.
@@ -42,23 +45,33 @@ public class ChronicleEventTailer extends AbstractScheduledService {
   // Batching settings
   private static final int MAX_BATCH_COUNT = 5000;
   private static final int MAX_BATCH_BYTES = 1024 * 1024; // 1MiB
+  private static final int MAX_IN_FLIGHT_BATCHES = 4;
+  private static final long ACK_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(30);
 
   private final ExcerptTailer readTailer;
+  // only used to find the end of the queue
+  private final ExcerptTailer endTailer;
 
   private final FileDeletionManager fileDeletionManager;
   private final BackoffScheduler scheduler;
   private final Sampler sampler;
 
   private final EventPublisherBlockingStub blockingStub;
+  private final EventPublisherStub stub;
+  // cleared once the server turns out to not implement the publish stream
+  private boolean streamingSupported = true;
 
   private final RollingChronicleQueue queue;
 
   @Inject
-  ChronicleEventTailer(EventPublisherBlockingStub blockingStub, @Named("tailer") RollingChronicleQueue chronicleQueue,
-      FileDeletionManager fileDeletionManager, @Named("tailer") BackoffScheduler backoffScheduler) {
+  ChronicleEventTailer(EventPublisherBlockingStub blockingStub, EventPublisherStub stub,
+      @Named("tailer") RollingChronicleQueue chronicleQueue, FileDeletionManager fileDeletionManager,
+      @Named("tailer") BackoffScheduler backoffScheduler) {
     this.blockingStub = blockingStub;
+    this.stub = stub;
     this.queue = chronicleQueue;
     this.readTailer = chronicleQueue.createTailer(READ_TAILER);
+    this.endTailer = chronicleQueue.createTailer();
     this.fileDeletionManager = fileDeletionManager;
     this.scheduler = backoffScheduler;
     this.sampler = new Sampler(Duration.ofMinutes(1));
@@ -99,7 +112,7 @@ public class ChronicleEventTailer extends AbstractScheduledService {
     try {
       long readIndex = readTailer.index();
       long sentIndex = fileDeletionManager.getSentIndex();
-      long endIndex = queue.createTailer().toEnd().index();
+      long endIndex = endTailer.toEnd().index();
       long excerptCount = queue.countExcerpts(readIndex, endIndex);
       log.info("index.read-tailer={},  index.sent-tailer={}, index.end={}, excerptCount={}", readIndex, sentIndex,
           endIndex, excerptCount);
@@ -114,53 +127,10 @@ public class ChronicleEventTailer extends AbstractScheduledService {
     try {
       sampler.updateTime();
       sampler.sampled(() -> log.info("Checking for messages to publish"));
-      Batch batchToSend = new Batch(MAX_BATCH_BYTES, MAX_BATCH_COUNT);
-      while (!batchToSend.isFull()) {
-        long endIndex = queue.createTailer().toEnd().index();
-        try (DocumentContext dc = readTailer.readingDocument()) {
-          if (!dc.isPresent()) {
-            sampler.sampled(() -> log.info("Reached end of queue"));
-            long readIndex = readTailer.index();
-            if (readIndex < endIndex) {
-              readTailer.moveToIndex(endIndex);
-              fileDeletionManager.setSentIndex(endIndex);
-              log.warn(
-                  "Observed readTailer not at end with no document context. Moved from {} to {}", readIndex, endIndex);
-            }
-            break;
-          }
-          try {
-            verify(dc.wire() != null, "Null wire with document context present");
-            byte[] bytes = requireNonNull(dc.wire()).read().bytes();
-            if (bytes != null) {
-              PublishMessage message = PublishMessage.parseFrom(bytes);
-              batchToSend.add(message);
-            } else {
-              // could happen in case of an error during append with document context open.
-              log.warn("Read NULL message. Skipping");
-            }
-          } catch (Exception e) {
-            log.error("Exception while parsing message", e);
-          }
-        }
-      }
-      if (batchToSend.isFull()) {
-        log.info("Batch is full");
-      }
-      if (!batchToSend.isEmpty()) {
-        PublishRequest publishRequest = PublishRequest.newBuilder().addAllMessages(batchToSend.getMessages()).build();
-        try {
-          blockingStub.withDeadlineAfter(30, TimeUnit.SECONDS).publish(publishRequest);
-          log.info("Published {} messages successfully", batchToSend.size());
-          fileDeletionManager.setSentIndex(readTailer.index());
-          scheduler.recordSuccess();
-        } catch (Exception e) {
-          log.warn("Exception during message publish", e);
-          QueueUtils.moveToIndex(readTailer, fileDeletionManager.getSentIndex());
-          scheduler.recordFailure();
-        }
+      if (streamingSupported) {
+        publishOverStream();
       } else {
-        sampler.sampled(() -> log.info("Skipping message publish as batch is empty"));
+        publishUnary();
       }
     } catch (Exception e) {
       log.error("Encountered exception", e);
@@ -174,6 +144,136 @@ public class ChronicleEventTailer extends AbstractScheduledService {
     }
   }
 
+  /**
+   * Keeps up to {@link #MAX_IN_FLIGHT_BATCHES} batches in flight on a single stream until the end of the queue is
+   * reached. The sent index is advanced as the batches are acknowledged, on failure reading restarts from there.
+   */
+  private void publishOverStream() {
+    PublishStream stream = null;
+    try {
+      boolean endReached = false;
+      while (true) {
+        while (!endReached && (stream == null || stream.inFlightCount() < MAX_IN_FLIGHT_BATCHES)) {
+          Batch batch = readBatch();
+          endReached = !batch.isFull() || !isRunning();
+          if (batch.isEmpty()) {
+            break;
+          }
+          if (stream == null) {
+            stream = new PublishStream(stub, ACK_TIMEOUT_MILLIS);
+          }
+          stream.send(batch.getMessages(), readTailer.index());
+        }
+        if (stream == null) {
+          sampler.sampled(() -> log.info("Skipping message publish as batch is empty"));
+          skipToReadIndex();
+          return;
+        }
+        if (stream.inFlightCount() == 0) {
+          break;
+        }
+        PublishStream.InFlightBatch acked = stream.awaitOldestAck();
+        log.info("Published {} messages successfully", acked.getMessageCount());
+        fileDeletionManager.setSentIndex(acked.getEndIndex());
+        scheduler.recordSuccess();
+      }
+      stream.complete();
+      skipToReadIndex();
+    } catch (Exception e) {
+      if (e instanceof InterruptedException) {
+        Thread.currentThread().interrupt();
+      }
+      if (stream != null) {
+        stream.cancel();
+      }
+      QueueUtils.moveToIndex(readTailer, fileDeletionManager.getSentIndex());
+      if (Status.fromThrowable(e).getCode() == Status.Code.UNIMPLEMENTED) {
+        log.warn("Event server does not support publish streams, falling back to unary publish");
+        streamingSupported = false;
+      } else {
+        log.warn("Exception during message publish", e);
+        scheduler.recordFailure();
+      }
+    }
+  }
+
+  private void publishUnary() {
+    Batch batchToSend = readBatch();
+    if (!batchToSend.isEmpty()) {
+      PublishRequest publishRequest = PublishRequest.newBuilder().addAllMessages(batchToSend.getMessages()).build();
+      try {
+        blockingStub.withDeadlineAfter(ACK_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS).publish(publishRequest);
+        log.info("Published {} messages successfully", batchToSend.size());
+        fileDeletionManager.setSentIndex(readTailer.index());
+        scheduler.recordSuccess();
+      } catch (Exception e) {
+        log.warn("Exception during message publish", e);
+        QueueUtils.moveToIndex(readTailer, fileDeletionManager.getSentIndex());
+        scheduler.recordFailure();
+      }
+    } else {
+      sampler.sampled(() -> log.info("Skipping message publish as batch is empty"));
+      skipToReadIndex();
+    }
+  }
+
+  /**
+   * Moves the sent index past the messages skipped when the read tailer was found behind the end of the queue. Only
+   * called once everything read so far was published.
+   */
+  private void skipToReadIndex() {
+    long readIndex = readTailer.index();
+    if (readIndex > fileDeletionManager.getSentIndex()) {
+      fileDeletionManager.setSentIndex(readIndex);
+    }
+  }
+
+  /**
+   * Reads messages until the batch is full or the end of the queue is reached.
+   */
+  private Batch readBatch() {
+    Batch batch = new Batch(MAX_BATCH_BYTES, MAX_BATCH_COUNT);
+    // The end index is only looked up once a read finds no document, and then read again so that a message appended in
+    // between is not skipped.
+    long endIndex = -1;
+    while (!batch.isFull()) {
+      try (DocumentContext dc = readTailer.readingDocument()) {
+        if (!dc.isPresent()) {
+          if (endIndex < 0) {
+            endIndex = endTailer.toEnd().index();
+            continue;
+          }
+          sampler.sampled(() -> log.info("Reached end of queue"));
+          long readIndex = readTailer.index();
+          if (readIndex < endIndex) {
+            readTailer.moveToIndex(endIndex);
+            log.warn(
+                "Observed readTailer not at end with no document context. Moved from {} to {}", readIndex, endIndex);
+          }
+          break;
+        }
+        endIndex = -1;
+        try {
+          verify(dc.wire() != null, "Null wire with document context present");
+          byte[] bytes = requireNonNull(dc.wire()).read().bytes();
+          if (bytes != null) {
+            PublishMessage message = PublishMessage.parseFrom(bytes);
+            batch.add(message);
+          } else {
+            // could happen in case of an error during append with document context open.
+            log.warn("Read NULL message. Skipping");
+          }
+        } catch (Exception e) {
+          log.error("Exception while parsing message", e);
+        }
+      }
+    }
+    if (batch.isFull()) {
+      log.info("Batch is full");
+    }
+    return batch;
+  }
+
   @Override
   protected Scheduler scheduler() {
     return scheduler;
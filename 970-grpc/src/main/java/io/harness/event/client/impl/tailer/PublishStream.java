@@ -0,0 +1,119 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.event.client.impl.tailer;
+
+import io.harness.event.EventPublisherGrpc.EventPublisherStub;
+import io.harness.event.PublishMessage;
+import io.harness.event.PublishRequest;
+import io.harness.event.PublishResponse;
+
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.Value;
+
+/**
+ * A publish stream with the batches sent over it that are not acknowledged yet. The server acknowledges the batches in
+ * the order they were sent.
+ * <p/>
+ * Like {@link ChronicleEventTailer} it is used from a single thread, only the responses arrive on the rpc threads and
+ * are handed over through a queue.
+ */
+class PublishStream {
+  private static final long FAILED = -1;
+
+  private final StreamObserver<PublishRequest> requestObserver;
+  private final Deque<InFlightBatch> inFlight = new ArrayDeque<>();
+  private final BlockingQueue<Long> acks = new LinkedBlockingQueue<>();
+  private final long ackTimeoutMillis;
+  private volatile Throwable error;
+  private long lastBatchId;
+
+  PublishStream(EventPublisherStub stub, long ackTimeoutMillis) {
+    this.ackTimeoutMillis = ackTimeoutMillis;
+    this.requestObserver = stub.publishStream(new StreamObserver<PublishResponse>() {
+      @Override
+      public void onNext(PublishResponse response) {
+        acks.add(response.getBatchId());
+      }
+
+      @Override
+      public void onError(Throwable t) {
+        error = t;
+        acks.add(FAILED);
+      }
+
+      @Override
+      public void onCompleted() {
+        // the client completes the stream once all its batches are acknowledged
+      }
+    });
+  }
+
+  /**
+   * @param endIndex queue index right after the last message of the batch
+   */
+  void send(List<PublishMessage> messages, long endIndex) {
+    long batchId = ++lastBatchId;
+    inFlight.add(new InFlightBatch(batchId, endIndex, messages.size(), System.currentTimeMillis()));
+    requestObserver.onNext(PublishRequest.newBuilder().setBatchId(batchId).addAllMessages(messages).build());
+  }
+
+  int inFlightCount() {
+    return inFlight.size();
+  }
+
+  /**
+   * Waits for the oldest batch in flight to be acknowledged.
+   *
+   * @throws io.grpc.StatusRuntimeException if the stream failed or the batch was not acknowledged in time
+   */
+  InFlightBatch awaitOldestAck() throws InterruptedException {
+    InFlightBatch oldest = inFlight.peek();
+    if (oldest == null) {
+      throw new IllegalStateException("No batch in flight");
+    }
+    long waitMillis = Math.max(0, oldest.getSentAt() + ackTimeoutMillis - System.currentTimeMillis());
+    Long batchId = acks.poll(waitMillis, TimeUnit.MILLISECONDS);
+    if (batchId == null) {
+      throw Status.DEADLINE_EXCEEDED.withDescription("Batch " + oldest.getBatchId() + " not acknowledged in time")
+          .asRuntimeException();
+    }
+    if (batchId == FAILED) {
+      throw Status.fromThrowable(error).asRuntimeException();
+    }
+    if (batchId != oldest.getBatchId()) {
+      throw Status.INTERNAL.withDescription("Expected ack of batch " + oldest.getBatchId() + " but got " + batchId)
+          .asRuntimeException();
+    }
+    return inFlight.poll();
+  }
+
+  void complete() {
+    requestObserver.onCompleted();
+  }
+
+  void cancel() {
+    if (error == null) {
+      requestObserver.onError(Status.CANCELLED.withDescription("Publish stream abandoned").asException());
+    }
+  }
+
+  @Value
+  static class InFlightBatch {
+    long batchId;
+    long endIndex;
+    int messageCount;
+    long sentAt;
+  }
+}
@@ -9,6 +9,7 @@ package io.harness.event.client.impl.tailer;
 
 import io.harness.event.EventPublisherGrpc;
 import io.harness.event.EventPublisherGrpc.EventPublisherBlockingStub;
+import io.harness.event.EventPublisherGrpc.EventPublisherStub;
 import io.harness.event.client.impl.EventPublisherConstants;
 import io.harness.flow.BackoffScheduler;
 import io.harness.govern.ProviderModule;
@@ -81,6 +82,13 @@ public class TailerModule extends ProviderModule {
     return EventPublisherGrpc.newBlockingStub(channel).withCallCredentials(callCredentials);
   }
 
+  @Provides
+  @Singleton
+  EventPublisherStub eventPublisherStub(
+      @Named("event-server-channel") Channel channel, CallCredentials callCredentials) {
+    return EventPublisherGrpc.newStub(channel).withCallCredentials(callCredentials).withCompression("gzip");
+  }
+
   @Value
   @Builder
   public static class Config {
@@ -24,16 +24,22 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class FakeService extends EventPublisherGrpc.EventPublisherImplBase {
   private static final int FAIL_PERCENT = 10;
   private final AtomicInteger messageCounter = new AtomicInteger();
+  private final AtomicInteger streamedMessageCounter = new AtomicInteger();
   private final List<PublishMessage> receivedMessages = Collections.synchronizedList(new ArrayList<>());
   private final AtomicBoolean failNext = new AtomicBoolean(false);
 
   private volatile boolean errorProne;
   private volatile boolean recordMessages;
+  private volatile boolean streamingUnsupported;
 
   public int getMessageCount() {
     return messageCounter.get();
   }
 
+  public int getStreamedMessageCount() {
+    return streamedMessageCounter.get();
+  }
+
   public void setErrorProne(boolean errorProne) {
     this.errorProne = errorProne;
   }
@@ -46,6 +52,10 @@ public class FakeService extends EventPublisherGrpc.EventPublisherImplBase {
     this.recordMessages = recordMessages;
   }
 
+  public void setStreamingUnsupported(boolean streamingUnsupported) {
+    this.streamingUnsupported = streamingUnsupported;
+  }
+
   public List<PublishMessage> getReceivedMessages() {
     return Collections.unmodifiableList(receivedMessages);
   }
@@ -67,4 +77,42 @@ public class FakeService extends EventPublisherGrpc.EventPublisherImplBase {
       responseObserver.onCompleted();
     }
   }
+
+  @Override
+  public StreamObserver<PublishRequest> publishStream(StreamObserver<PublishResponse> responseObserver) {
+    if (streamingUnsupported) {
+      return super.publishStream(responseObserver);
+    }
+    return new StreamObserver<PublishRequest>() {
+      private boolean failed;
+
+      @Override
+      public void onNext(PublishRequest request) {
+        if (failed) {
+          return;
+        }
+        if (shouldFailCall()) {
+          failed = true;
+          responseObserver.onError(Status.UNKNOWN.withDescription("Random Error").asException());
+          return;
+        }
+        messageCounter.addAndGet(request.getMessagesCount());
+        streamedMessageCounter.addAndGet(request.getMessagesCount());
+        if (recordMessages) {
+          receivedMessages.addAll(request.getMessagesList());
+        }
+        responseObserver.onNext(PublishResponse.newBuilder().setBatchId(request.getBatchId()).build());
+      }
+
+      @Override
+      public void onError(Throwable t) {}
+
+      @Override
+      public void onCompleted() {
+        if (!failed) {
+          responseObserver.onCompleted();
+        }
+      }
+    };
+  }
 }
@@ -20,6 +20,7 @@ import io.harness.CategoryTest;
 import io.harness.category.element.UnitTests;
 import io.harness.event.EventPublisherGrpc;
 import io.harness.event.EventPublisherGrpc.EventPublisherBlockingStub;
+import io.harness.event.EventPublisherGrpc.EventPublisherStub;
 import io.harness.event.PublishMessage;
 import io.harness.event.client.EventPublisher;
 import io.harness.event.client.FakeService;
@@ -49,6 +50,8 @@ import java.io.File;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -83,6 +86,12 @@ public class ChronicleEventAppenderTest extends CategoryTest {
               return EventPublisherGrpc.newBlockingStub(channel);
             }
 
+            @Provides
+            @Singleton
+            EventPublisherStub eventPublisherStub(ManagedChannel channel) {
+              return EventPublisherGrpc.newStub(channel).withCompression("gzip");
+            }
+
             @Provides
             @Singleton
             @Named("tailer")
@@ -207,6 +216,45 @@ public class ChronicleEventAppenderTest extends CategoryTest {
                           .contains(Any.pack(message)));
   }
 
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void testMessageReceivedFromServerWithoutPublishStream() {
+    fakeService.setRecordMessages(true);
+    fakeService.setStreamingUnsupported(true);
+
+    Lifecycle message = ecsLifecycleEvent("instance-789", Instant.now(), EVENT_TYPE_START);
+    eventPublisher.publishMessage(message, HTimestamps.fromInstant(Instant.now()));
+
+    await()
+        .atMost(10, TimeUnit.SECONDS)
+        .pollInterval(100, TimeUnit.MILLISECONDS)
+        .until(()
+                   -> assertThat(fakeService.getReceivedMessages().stream().map(PublishMessage::getPayload))
+                          .contains(Any.pack(message)));
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void testMessagesPublishedInOrderOverPublishStream() {
+    fakeService.setRecordMessages(true);
+    List<Any> payloads = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      Lifecycle message = ecsLifecycleEvent("instance-" + i, Instant.now(), EVENT_TYPE_START);
+      eventPublisher.publishMessage(message, HTimestamps.fromInstant(Instant.now()));
+      payloads.add(Any.pack(message));
+    }
+
+    await()
+        .atMost(10, TimeUnit.SECONDS)
+        .pollInterval(100, TimeUnit.MILLISECONDS)
+        .until(()
+                   -> assertThat(fakeService.getReceivedMessages().stream().map(PublishMessage::getPayload))
+                          .containsExactlyElementsOf(payloads));
+    assertThat(fakeService.getStreamedMessageCount()).isEqualTo(payloads.size());
+  }
+
   private Lifecycle ecsLifecycleEvent(String instanceId, Instant eventTime, EventType eventType) {
     return Lifecycle.newBuilder()
         .setInstanceId(instanceId)
@@ -14,6 +14,9 @@ import io.harness.exceptions.RecasterException;
 import io.harness.utils.RecastReflectionUtils;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
@@ -29,12 +32,16 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 @Getter
 @Slf4j
 public class CastedField {
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
   private final Map<Class<? extends Annotation>, Annotation> foundAnnotations = new HashMap<>();
   private final List<CastedField> typeParameters = new ArrayList<>();
   private Class<?> persistedClass;
@@ -50,6 +57,9 @@ public class CastedField {
   private boolean isArray; // indicated if it is an Array
   private boolean isCollection; // indicated if the collection is a list)
   private Type genericType;
+  // bound once per field, null when the field can only be accessed reflectively
+  @Getter(AccessLevel.NONE) private MethodHandle getter;
+  @Getter(AccessLevel.NONE) private MethodHandle setter;
 
   CastedField(final Field f, final Class<?> clazz, final Recaster recaster) {
     f.setAccessible(true);
@@ -58,6 +68,7 @@ public class CastedField {
     realType = field.getType();
     genericType = field.getGenericType();
     discover(recaster);
+    bindAccessors();
   }
 
   CastedField(final Field field, final Type type, final Recaster recaster) {
@@ -344,7 +355,38 @@ public class CastedField {
     return !isSingleValue;
   }
 
+  /**
+   * Binds method handles for reading and writing the field so that recasting doesn't go through
+   * {@link Field#get(Object)}/{@link Field#set(Object, Object)} every time. Fields that can't be bound (e.g. final
+   * fields on newer jdks) keep using reflection.
+   */
+  private void bindAccessors() {
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    try {
+      getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+    } catch (IllegalAccessException | RuntimeException e) {
+      log.debug(format("Falling back to reflective read for %s", getFullName()), e);
+    }
+    try {
+      setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+    } catch (IllegalAccessException | RuntimeException e) {
+      log.debug(format("Falling back to reflective write for %s", getFullName()), e);
+    }
+  }
+
   public Object getFieldValue(final Object instance) {
+    if (getter != null && instance != null) {
+      try {
+        return (Object) getter.invokeExact(instance);
+      } catch (ClassCastException e) {
+        // Same contract as Field.get for an instance of the wrong class
+        throw new IllegalArgumentException(e);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable t) {
+        throw new RuntimeException(t);
+      }
+    }
     try {
       return field.get(instance);
     } catch (IllegalAccessException e) {
@@ -353,6 +395,19 @@ public class CastedField {
   }
 
   public void setFieldValue(final Object instance, final Object value) {
+    if (setter != null && instance != null) {
+      try {
+        setter.invokeExact(instance, value);
+        return;
+      } catch (ClassCastException | NullPointerException e) {
+        // Same contract as Field.set for a value of the wrong type or null for a primitive field
+        throw new IllegalArgumentException(e);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable t) {
+        throw new RuntimeException(t);
+      }
+    }
     try {
       field.set(instance, value);
     } catch (IllegalAccessException e) {
@@ -12,6 +12,7 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.transformers.RecastTransformer;
 
+import com.fasterxml.jackson.databind.ObjectWriter;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -78,6 +79,13 @@ public class Recast {
     return recaster.fromMap(map, entityClazz);
   }
 
+  /**
+   * @see RecastJsonWriter#RecastJsonWriter(Recaster, ObjectWriter, boolean)
+   */
+  public RecastJsonWriter jsonWriter(final ObjectWriter valueWriter, final boolean writeNullValues) {
+    return new RecastJsonWriter(recaster, valueWriter, writeNullValues);
+  }
+
   public Map<String, Object> toMap(final Object entity) {
     Map<String, Object> map = recaster.toMap(entity);
     return map == null ? null : new LinkedHashMap<>(map);
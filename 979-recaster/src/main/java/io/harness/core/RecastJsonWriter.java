@@ -0,0 +1,172 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.core;
+
+import static java.lang.String.format;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.CastedClass;
+import io.harness.beans.CastedField;
+import io.harness.beans.RecasterMap;
+import io.harness.exceptions.CastedFieldException;
+import io.harness.transformers.RecastTransformer;
+import io.harness.transformers.simplevalue.IterableRecastTransformer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes the document {@link Recaster#toMap(Object)} would build straight into a json generator. Plain objects and
+ * lists of them are walked field by field instead of being collected into nested maps first. Everything handled by a
+ * transformer is still encoded by it and written with the given object writer, so the output keeps the same
+ * __recast/__encodedValue format and stays readable by {@link Recaster#fromMap}.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+public class RecastJsonWriter {
+  private final Recaster recaster;
+  private final ObjectWriter valueWriter;
+  private final boolean writeNullValues;
+  private final Map<Class<?>, Boolean> streamableClasses = new ConcurrentHashMap<>();
+
+  /**
+   * @param valueWriter     writer for encoded values, it should be configured like the one the maps were serialized
+   *                        with
+   * @param writeNullValues whether that writer writes null map values, fields encoded to null are skipped if not
+   */
+  public RecastJsonWriter(Recaster recaster, ObjectWriter valueWriter, boolean writeNullValues) {
+    this.recaster = recaster;
+    this.valueWriter = valueWriter;
+    this.writeNullValues = writeNullValues;
+  }
+
+  public void write(Object entity, JsonGenerator generator) throws IOException {
+    if (entity == null) {
+      generator.writeNull();
+      return;
+    }
+
+    Transformer transformer = recaster.getTransformer();
+    if (transformer.hasCustomTransformer(entity.getClass()) || entity instanceof Map || entity instanceof Collection) {
+      valueWriter.writeValue(generator, recaster.toMap(entity));
+      return;
+    }
+
+    CastedClass castedClass = recaster.getCastedClass(entity);
+    if (!isStreamable(castedClass)) {
+      valueWriter.writeValue(generator, recaster.toMap(entity));
+      return;
+    }
+
+    String identifier = RecasterMap.identifierOf(entity.getClass());
+    generator.writeStartObject();
+    generator.writeStringField(Recaster.RECAST_CLASS_KEY, identifier);
+    for (CastedField cf : castedClass.getPersistenceFields()) {
+      try {
+        writeCastedField(entity, cf, generator);
+      } catch (IOException e) {
+        throw e;
+      } catch (Exception e) {
+        throw new CastedFieldException(format("Cannot map [%s] to [%s] class for field [%s]", identifier,
+                                           entity.getClass(), cf.getField().getName()),
+            e);
+      }
+    }
+    generator.writeEndObject();
+  }
+
+  /**
+   * Fields shadowing a field of a superclass collapse into one map entry, such classes go through the map instead of
+   * writing the same key twice.
+   */
+  private boolean isStreamable(CastedClass castedClass) {
+    return streamableClasses.computeIfAbsent(castedClass.getClazz(), clazz -> {
+      Set<String> names = new HashSet<>();
+      for (CastedField cf : castedClass.getPersistenceFields()) {
+        if (!names.add(cf.getNameToStore())) {
+          return false;
+        }
+      }
+      return true;
+    });
+  }
+
+  // Mirrors Recaster.writeCastedField and ComplexFieldRecaster.toMap
+  private void writeCastedField(Object entity, CastedField cf, JsonGenerator generator) throws IOException {
+    Transformer transformer = recaster.getTransformer();
+    if (transformer.hasSimpleValueTransformer(cf.getType())) {
+      writeSimpleValueField(entity, cf, generator);
+      return;
+    }
+
+    Object fieldValue = cf.getFieldValue(entity);
+    if (transformer.hasSimpleValueTransformer(fieldValue)) {
+      writeSimpleValueField(entity, cf, generator);
+      return;
+    }
+
+    if (transformer.hasCustomTransformer(cf.getType())) {
+      generator.writeFieldName(cf.getNameToStore());
+      generator.writeStartObject();
+      generator.writeStringField(Recaster.RECAST_CLASS_KEY, RecasterMap.identifierOf(cf.getType()));
+      writeField(Recaster.ENCODED_VALUE, transformer.encode(cf.getType(), fieldValue, cf), generator);
+      generator.writeEndObject();
+      return;
+    }
+
+    if (fieldValue != null) {
+      generator.writeFieldName(cf.getNameToStore());
+      write(fieldValue, generator);
+    }
+  }
+
+  // Mirrors Transformer.putToMap
+  private void writeSimpleValueField(Object entity, CastedField cf, JsonGenerator generator) throws IOException {
+    Object fieldValue = cf.getFieldValue(entity);
+    RecastTransformer enc = recaster.getTransformer().getFieldTransformer(entity, cf, fieldValue);
+    if (enc instanceof IterableRecastTransformer && fieldValue instanceof List) {
+      generator.writeFieldName(cf.getNameToStore());
+      writeList((List<?>) fieldValue, cf, generator);
+      return;
+    }
+    writeField(cf.getNameToStore(), enc.encode(fieldValue, cf), generator);
+  }
+
+  // Mirrors IterableRecastTransformer.encode, which leaves nested iterables out
+  private void writeList(List<?> values, CastedField cf, JsonGenerator generator) throws IOException {
+    Transformer transformer = recaster.getTransformer();
+    Class<?> subClass = cf.getSubClass();
+    boolean simpleSubClass = subClass != null && transformer.hasSimpleValueTransformer(subClass);
+    generator.writeStartArray();
+    for (Object o : values) {
+      if (simpleSubClass) {
+        valueWriter.writeValue(generator, transformer.encode(subClass, o));
+      } else if (subClass == null && o != null && transformer.hasSimpleValueTransformer(o.getClass())) {
+        valueWriter.writeValue(generator, transformer.encode(o));
+      } else if (!(o instanceof Iterable)) {
+        write(o, generator);
+      }
+    }
+    generator.writeEndArray();
+  }
+
+  private void writeField(String name, Object value, JsonGenerator generator) throws IOException {
+    if (value == null && !writeNullValues) {
+      return;
+    }
+    generator.writeFieldName(name);
+    valueWriter.writeValue(generator, value);
+  }
+}
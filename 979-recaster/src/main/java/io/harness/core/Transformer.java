@@ -95,6 +95,15 @@ public abstract class Transformer {
 
   public void putToMap(final Object containingObject, final CastedField cf, final RecasterMap recasterMap) {
     final Object fieldValue = cf.getFieldValue(containingObject);
+    final Object encoded = getFieldTransformer(containingObject, cf, fieldValue).encode(fieldValue, cf);
+    recasterMap.put(cf.getNameToStore(), encoded);
+  }
+
+  /**
+   * @return the transformer {@link #putToMap} encodes the value of the field with
+   */
+  public RecastTransformer getFieldTransformer(
+      final Object containingObject, final CastedField cf, final Object fieldValue) {
     RecastTransformer enc = getTransformer(fieldValue, cf);
     if (!(enc instanceof SimpleValueTransformer)) {
       enc = getTransformer(fieldValue != null ? fieldValue.getClass() : containingObject.getClass());
@@ -103,9 +112,7 @@ public abstract class Transformer {
     if (enc instanceof DefaultRecastTransformer && fieldValue != null) {
       log.warn("Default transformer is used for {} with value {}", cf.getField(), fieldValue);
     }
-
-    final Object encoded = enc.encode(fieldValue, cf);
-    recasterMap.put(cf.getNameToStore(), encoded);
+    return enc;
   }
 
   public Object encode(final Class<?> c, final Object o) {
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.beans;
+
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.RecasterTestBase;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.core.Recaster;
+import io.harness.rule.Owner;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class CastedFieldTest extends RecasterTestBase {
+  private final Recaster recaster = new Recaster();
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldReadAndWriteFieldsThroughAccessors() throws NoSuchFieldException {
+    CastedField name = new CastedField(Dummy.class.getDeclaredField("name"), Dummy.class, recaster);
+    CastedField count = new CastedField(Dummy.class.getDeclaredField("count"), Dummy.class, recaster);
+    Dummy dummy = new Dummy("before", 1);
+
+    assertThat(name.getFieldValue(dummy)).isEqualTo("before");
+    assertThat(count.getFieldValue(dummy)).isEqualTo(1);
+
+    name.setFieldValue(dummy, "after");
+    count.setFieldValue(dummy, 2);
+    assertThat(dummy.name).isEqualTo("after");
+    assertThat(dummy.count).isEqualTo(2);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldRejectValuesOfTheWrongType() throws NoSuchFieldException {
+    CastedField count = new CastedField(Dummy.class.getDeclaredField("count"), Dummy.class, recaster);
+    Dummy dummy = new Dummy("name", 1);
+
+    assertThatThrownBy(() -> count.setFieldValue(dummy, "two")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> count.setFieldValue(dummy, null)).isInstanceOf(IllegalArgumentException.class);
+    assertThat(dummy.count).isEqualTo(1);
+  }
+
+  private static class Dummy {
+    private final String name;
+    private int count;
+
+    Dummy(String name, int count) {
+      this.name = name;
+      this.count = count;
+    }
+  }
+}
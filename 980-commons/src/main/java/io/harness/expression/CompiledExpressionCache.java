@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.expression;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.jexl3.JexlBuilder;
+import org.apache.commons.jexl3.JexlEngine;
+import org.apache.commons.jexl3.JexlExpression;
+import org.apache.commons.jexl3.JexlScript;
+import org.apache.commons.logging.impl.NoOpLog;
+
+/**
+ * Process wide cache of parsed jexl expressions and scripts keyed by their text. Parsed expressions and scripts are
+ * immutable and can be evaluated concurrently against different contexts, so they are shared by all the evaluators.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@UtilityClass
+public class CompiledExpressionCache {
+  private static final int MAX_ENTRIES = 10000;
+
+  private static final JexlEngine engine = new JexlBuilder().logger(new NoOpLog()).create();
+  private static final Cache<String, JexlExpression> expressions =
+      CacheBuilder.newBuilder().maximumSize(MAX_ENTRIES).recordStats().build();
+  private static final Cache<String, JexlScript> scripts =
+      CacheBuilder.newBuilder().maximumSize(MAX_ENTRIES).recordStats().build();
+
+  /**
+   * Parse errors are not cached and are thrown as is, so callers see the same JexlException as from the engine.
+   */
+  public static JexlExpression getExpression(String expression) {
+    JexlExpression jexlExpression = expressions.getIfPresent(expression);
+    if (jexlExpression == null) {
+      jexlExpression = engine.createExpression(expression);
+      expressions.put(expression, jexlExpression);
+    }
+    return jexlExpression;
+  }
+
+  public static JexlScript getScript(String script) {
+    JexlScript jexlScript = scripts.getIfPresent(script);
+    if (jexlScript == null) {
+      jexlScript = engine.createScript(script);
+      scripts.put(script, jexlScript);
+    }
+    return jexlScript;
+  }
+
+  public static CacheStats expressionStats() {
+    return expressions.stats();
+  }
+
+  public static CacheStats scriptStats() {
+    return scripts.stats();
+  }
+
+  public static long expressionCount() {
+    return expressions.size();
+  }
+
+  public static long scriptCount() {
+    return scripts.size();
+  }
+}
@@ -11,7 +11,6 @@ import static java.lang.String.format;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
-import io.harness.data.algorithm.IdentifierName;
 import io.harness.data.structure.EmptyPredicate;
 import io.harness.exception.EngineExpressionEvaluationException;
 import io.harness.exception.EngineFunctorException;
@@ -40,12 +39,9 @@ import javax.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.jexl3.JexlBuilder;
-import org.apache.commons.jexl3.JexlEngine;
 import org.apache.commons.jexl3.JexlException;
 import org.apache.commons.jexl3.JexlExpression;
 import org.apache.commons.lang3.RandomStringUtils;
-import org.apache.commons.logging.impl.NoOpLog;
 import org.hibernate.validator.constraints.NotEmpty;
 
 @OwnedBy(HarnessTeam.PIPELINE)
@@ -56,23 +52,22 @@ public class EngineExpressionEvaluator {
   public static final String EXPR_START_ESC = "<\\+";
   public static final String EXPR_END_ESC = ">";
   public static final String HARNESS_INTERNAL_VARIABLE_PREFIX = "__HVAR_";
+  private static final String EVALUATED_VARIABLE_PREFIX = "__HEVAL_";
 
   private static final Pattern VALID_VARIABLE_FIELD_NAME_PATTERN = Pattern.compile("^[a-zA-Z_][a-zA-Z_0-9]*$");
   private static final Pattern ALIAS_NAME_PATTERN = Pattern.compile("^[a-zA-Z_][a-zA-Z_0-9]*$");
 
   private static final int MAX_DEPTH = 15;
 
-  private final JexlEngine engine;
   @Getter private final VariableResolverTracker variableResolverTracker;
   private final Map<String, Object> contextMap;
   @Getter private final Map<String, String> staticAliases;
   private boolean initialized;
 
   public EngineExpressionEvaluator(VariableResolverTracker variableResolverTracker) {
-    this.engine = new JexlBuilder().logger(new NoOpLog()).create();
     this.variableResolverTracker =
         variableResolverTracker == null ? new VariableResolverTracker() : variableResolverTracker;
-    this.contextMap = new LateBindingMap();
+    this.contextMap = new HashMap<>();
     this.staticAliases = new HashMap<>();
   }
 
@@ -471,12 +466,12 @@ public class EngineExpressionEvaluator {
   }
 
   protected Object evaluateByCreatingExpression(@NotNull String expression, @NotNull EngineJexlContext ctx) {
-    JexlExpression jexlExpression = engine.createExpression(expression);
+    JexlExpression jexlExpression = CompiledExpressionCache.getExpression(expression);
     return jexlExpression.evaluate(ctx);
   }
 
   protected Object evaluateByCreatingScript(@NotNull String expression, @NotNull EngineJexlContext ctx) {
-    return engine.createScript(expression).execute(ctx);
+    return CompiledExpressionCache.getScript(expression).execute(ctx);
   }
 
   private EngineJexlContext prepareContext(Map<String, Object> ctx) {
@@ -487,12 +482,12 @@ public class EngineExpressionEvaluator {
       }
     }
 
-    Map<String, Object> clonedContext = new LateBindingMap();
-    clonedContext.putAll(contextMap);
+    // contextMap is not modified after initialization, so evaluations share it and only write to their own layer.
+    Map<String, Object> layeredContext = new LayeredContextMap(contextMap);
     if (EmptyPredicate.isNotEmpty(ctx)) {
-      clonedContext.putAll(ctx);
+      layeredContext.putAll(ctx);
     }
-    return new EngineJexlContext(this, clonedContext);
+    return new EngineJexlContext(this, layeredContext);
   }
 
   private static void checkDepth(int depth, String expression) {
@@ -573,7 +568,6 @@ public class EngineExpressionEvaluator {
     private final EngineJexlContext ctx;
     private final int depth;
     private final String prefix;
-    private final String suffix;
     private int varIndex;
     @Getter private final Set<String> unresolvedExpressions = new HashSet<>();
 
@@ -581,8 +575,9 @@ public class EngineExpressionEvaluator {
       this.engineExpressionEvaluator = engineExpressionEvaluator;
       this.ctx = ctx;
       this.depth = depth;
-      this.prefix = IdentifierName.random();
-      this.suffix = IdentifierName.random();
+      // Nested resolvers always run with a smaller depth, so the names don't clash within a context. They are
+      // deterministic so that the final expression text stays the same across evaluations and hits the cache.
+      this.prefix = EVALUATED_VARIABLE_PREFIX + depth + "_";
     }
 
     @Override
@@ -596,7 +591,7 @@ public class EngineExpressionEvaluator {
           unresolvedExpressions.add(finalExpression);
         }
 
-        String name = prefix + ++varIndex + suffix;
+        String name = prefix + ++varIndex;
         ctx.set(name, value);
         return name;
       } catch (UnresolvedExpressionsException ex) {
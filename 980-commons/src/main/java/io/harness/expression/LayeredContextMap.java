@@ -0,0 +1,114 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.expression;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Copy on write view over a base map that is never modified. Writes and removals land in a local layer, reads fall
+ * back to the base map. Late binding values of the base map are bound on first read and the bound value is kept in
+ * the local layer, so the base map can be shared by many evaluations the same way {@link LateBindingMap} copies were.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+public class LayeredContextMap extends AbstractMap<String, Object> {
+  private final Map<String, Object> base;
+  private final Map<String, Object> local = new HashMap<>();
+  private final Set<String> removed = new HashSet<>();
+
+  public LayeredContextMap(Map<String, Object> base) {
+    this.base = base;
+  }
+
+  @Override
+  public synchronized Object get(Object key) {
+    if (local.containsKey(key)) {
+      return bindLocal(key, local.get(key));
+    }
+    if (removed.contains(key)) {
+      return null;
+    }
+
+    Object object = base.get(key);
+    if (object instanceof LateBindingValue) {
+      object = ((LateBindingValue) object).bind();
+      local.put((String) key, object);
+    }
+    return object;
+  }
+
+  private Object bindLocal(Object key, Object object) {
+    if (object instanceof LateBindingValue) {
+      // Remove the late binding value to avoid endless loop
+      local.remove(key);
+      object = ((LateBindingValue) object).bind();
+      local.put((String) key, object);
+    }
+    return object;
+  }
+
+  @Override
+  public synchronized boolean containsKey(Object key) {
+    return local.containsKey(key) || (!removed.contains(key) && base.containsKey(key));
+  }
+
+  @Override
+  public synchronized Object put(String key, Object value) {
+    Object previous = containsKey(key) ? peek(key) : null;
+    removed.remove(key);
+    local.put(key, value);
+    return previous;
+  }
+
+  @Override
+  public synchronized Object remove(Object key) {
+    Object previous = containsKey(key) ? peek(key) : null;
+    local.remove(key);
+    if (base.containsKey(key)) {
+      removed.add((String) key);
+    }
+    return previous;
+  }
+
+  @Override
+  public synchronized void clear() {
+    local.clear();
+    removed.addAll(base.keySet());
+  }
+
+  @Override
+  public synchronized int size() {
+    return merged().size();
+  }
+
+  /**
+   * @return a snapshot of the merged layers, late binding values are returned unbound
+   */
+  @Override
+  public synchronized Set<Entry<String, Object>> entrySet() {
+    return Collections.unmodifiableMap(merged()).entrySet();
+  }
+
+  private Object peek(Object key) {
+    return local.containsKey(key) ? local.get(key) : base.get(key);
+  }
+
+  private Map<String, Object> merged() {
+    Map<String, Object> merged = new HashMap<>(base);
+    merged.keySet().removeAll(removed);
+    merged.putAll(local);
+    return merged;
+  }
+}
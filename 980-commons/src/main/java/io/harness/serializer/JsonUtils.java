@@ -13,6 +13,7 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.data.structure.EmptyPredicate;
 
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.TreeNode;
@@ -21,6 +22,7 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
@@ -45,6 +47,8 @@ import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
 import com.jayway.jsonpath.spi.mapper.MappingProvider;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.net.URL;
 import java.util.Collection;
 import java.util.Collections;
@@ -195,6 +199,27 @@ public class JsonUtils {
     return asJson(obj, mapper);
   }
 
+  /**
+   * Writer configured the same way as the one used by {@link #asJson(Object)}, for writing values into a generator
+   * created by {@link #createGenerator(OutputStream)}. It doesn't flush after every value.
+   *
+   * @return the object writer
+   */
+  public static ObjectWriter streamingWriter() {
+    SimpleFilterProvider filterProvider = new SimpleFilterProvider();
+    // Do not fail if no filter is set
+    filterProvider.setFailOnUnknownId(false);
+    return mapper.writer(filterProvider).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+  }
+
+  public static JsonGenerator createGenerator(OutputStream outputStream) throws IOException {
+    return mapper.getFactory().createGenerator(outputStream);
+  }
+
+  public static JsonGenerator createGenerator(Writer writer) throws IOException {
+    return mapper.getFactory().createGenerator(writer);
+  }
+
   public static String asPrettyJson(Object obj) throws JsonProcessingException {
     return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(obj);
   }
@@ -311,6 +336,15 @@ public class JsonUtils {
     }
   }
 
+  @JsonDeserialize
+  public static Map<String, Object> asMap(byte[] json) {
+    try {
+      return mapper.readValue(json, new TypeReference<Map<String, Object>>() {});
+    } catch (Exception exception) {
+      throw new RuntimeException(exception);
+    }
+  }
+
   /**
    * validates a json string.
    *
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.serializer;
+
+import static java.lang.String.format;
+
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import lombok.Getter;
+import net.jpountz.lz4.LZ4FrameInputStream;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+
+/**
+ * Compression applied by {@link KryoSerializer#asDeflatedBytes(Object)}. Everything but DEFLATE is written with a two
+ * byte header carrying the codec id, DEFLATE stays headerless so the data can be read by older versions. The
+ * deflater and inflater are passed in so the caller can reuse them.
+ */
+public enum KryoCompression {
+  DEFLATE((byte) 1) {
+    @Override
+    OutputStream compressing(OutputStream outputStream, Deflater deflater) {
+      deflater.reset();
+      return new DeflaterOutputStream(outputStream, deflater, STREAM_BUFFER_SIZE);
+    }
+
+    @Override
+    InputStream decompressing(InputStream inputStream, Inflater inflater) {
+      inflater.reset();
+      return new InflaterInputStream(inputStream, inflater, STREAM_BUFFER_SIZE);
+    }
+  },
+  LZ4((byte) 2) {
+    @Override
+    OutputStream compressing(OutputStream outputStream, Deflater deflater) throws IOException {
+      return new LZ4FrameOutputStream(outputStream);
+    }
+
+    @Override
+    InputStream decompressing(InputStream inputStream, Inflater inflater) throws IOException {
+      return new LZ4FrameInputStream(inputStream);
+    }
+  },
+  ZSTD((byte) 3) {
+    @Override
+    OutputStream compressing(OutputStream outputStream, Deflater deflater) throws IOException {
+      return new ZstdOutputStream(outputStream);
+    }
+
+    @Override
+    InputStream decompressing(InputStream inputStream, Inflater inflater) throws IOException {
+      return new ZstdInputStream(inputStream);
+    }
+  };
+
+  private static final int STREAM_BUFFER_SIZE = 4096;
+
+  @Getter private final byte id;
+
+  KryoCompression(byte id) {
+    this.id = id;
+  }
+
+  abstract OutputStream compressing(OutputStream outputStream, Deflater deflater) throws IOException;
+
+  abstract InputStream decompressing(InputStream inputStream, Inflater inflater) throws IOException;
+
+  static KryoCompression fromId(byte id) {
+    for (KryoCompression compression : values()) {
+      if (compression.id == id) {
+        return compression;
+      }
+    }
+    throw new IllegalStateException(format("Unknown compression id %d", id));
+  }
+}
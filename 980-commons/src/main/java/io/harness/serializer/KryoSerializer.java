@@ -19,14 +19,18 @@ import com.esotericsoftware.kryo.util.IntMap;
 import com.google.api.client.util.Base64;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Collection;
 import java.util.Set;
-import java.util.zip.DeflaterOutputStream;
-import java.util.zip.InflaterInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 import lombok.extern.slf4j.Slf4j;
 
 @Singleton
@@ -50,13 +54,84 @@ public class KryoSerializer {
     }
   }
 
+  public static final String KRYO_COMPRESSION = "kryoCompression";
+
+  private static final byte COMPRESSION_HEADER = 'K';
+  private static final int BUFFER_SIZE = 4096;
+  // Buffers that grew past this are dropped after use, so that one large payload does not pin memory to the thread
+  private static final int MAX_POOLED_BUFFER_SIZE = 1024 * 1024;
+
   private final KryoPool pool;
+  private final ThreadLocal<Buffers> threadBuffers = ThreadLocal.withInitial(() -> new Buffers(true));
+  private KryoCompression compression = KryoCompression.DEFLATE;
+
+  /**
+   * Reusable per thread buffers. A serializer that calls back into this class while the thread buffers are in use gets
+   * a fresh set.
+   */
+  private static class Buffers {
+    private final boolean pooled;
+    private boolean busy;
+    private Output output = new Output(BUFFER_SIZE, -1);
+    private Input input = new Input(BUFFER_SIZE);
+    private ByteArrayOutputStream byteStream = new ByteArrayOutputStream(BUFFER_SIZE);
+    private Deflater deflater;
+    private Inflater inflater;
+
+    Buffers(boolean pooled) {
+      this.pooled = pooled;
+    }
+
+    Deflater deflater() {
+      if (deflater == null) {
+        deflater = new Deflater();
+      }
+      return deflater;
+    }
+
+    Inflater inflater() {
+      if (inflater == null) {
+        inflater = new Inflater();
+      }
+      return inflater;
+    }
+
+    void release() {
+      output.setOutputStream(null);
+      input.setInputStream(null);
+      if (!pooled) {
+        if (deflater != null) {
+          deflater.end();
+        }
+        if (inflater != null) {
+          inflater.end();
+        }
+        return;
+      }
+      if (output.getBuffer().length > MAX_POOLED_BUFFER_SIZE) {
+        output = new Output(BUFFER_SIZE, -1);
+      }
+      if (byteStream.size() > MAX_POOLED_BUFFER_SIZE) {
+        byteStream = new ByteArrayOutputStream(BUFFER_SIZE);
+      }
+      busy = false;
+    }
+  }
 
   @Inject
   public KryoSerializer(Set<Class<? extends KryoRegistrar>> registrars) {
     pool = new KryoPool.Builder(() -> kryo(registrars)).softReferences().build();
   }
 
+  /**
+   * Switching away from DEFLATE makes the data unreadable to versions that predate the compression header, so it is
+   * safe only once every reader is upgraded.
+   */
+  @Inject(optional = true)
+  public void setCompression(@Named(KRYO_COMPRESSION) KryoCompression compression) {
+    this.compression = compression;
+  }
+
   private HKryo kryo(Collection<Class<? extends KryoRegistrar>> registrars) {
     final ClassResolver classResolver = new ClassResolver();
     HKryo kryo = new HKryo(classResolver);
@@ -84,26 +159,42 @@ public class KryoSerializer {
   }
 
   public byte[] asBytes(Object obj) {
-    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-    writeToStream(obj, outputStream);
-    return outputStream.toByteArray();
+    Buffers buffers = acquireBuffers();
+    try {
+      writeToOutput(obj, buffers.output);
+      return buffers.output.toBytes();
+    } finally {
+      buffers.release();
+    }
   }
 
   public byte[] asDeflatedBytes(Object obj) {
+    return asCompressedBytes(obj, compression);
+  }
+
+  public byte[] asCompressedBytes(Object obj, KryoCompression compression) {
+    Buffers buffers = acquireBuffers();
     try {
-      final ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
-      final DeflaterOutputStream outputStream = new DeflaterOutputStream(byteStream);
-      writeToStream(obj, outputStream);
-      outputStream.finish();
+      final ByteArrayOutputStream byteStream = buffers.byteStream;
+      byteStream.reset();
+      if (compression != KryoCompression.DEFLATE) {
+        byteStream.write(COMPRESSION_HEADER);
+        byteStream.write(compression.getId());
+      }
+      final OutputStream outputStream = compression.compressing(byteStream, buffers.deflater());
+      buffers.output.setOutputStream(outputStream);
+      writeToOutput(obj, buffers.output);
+      outputStream.close();
       return byteStream.toByteArray();
     } catch (Exception exception) {
       throw new RuntimeException(exception);
+    } finally {
+      buffers.release();
     }
   }
 
-  private void writeToStream(Object obj, OutputStream outputStream) {
+  private void writeToOutput(Object obj, Output output) {
     try {
-      Output output = new Output(outputStream);
       pool.run(kryo -> {
         kryo.writeClassAndObject(output, obj);
         return null;
@@ -114,6 +205,15 @@ public class KryoSerializer {
     }
   }
 
+  private Buffers acquireBuffers() {
+    Buffers buffers = threadBuffers.get();
+    if (buffers.busy) {
+      return new Buffers(false);
+    }
+    buffers.busy = true;
+    return buffers;
+  }
+
   public <T> T clone(T object) {
     return pool.run(kryo -> kryo.copy(object));
   }
@@ -126,10 +226,24 @@ public class KryoSerializer {
   }
 
   public Object asInflatedObject(byte[] bytes) {
-    Input input = new Input(new InflaterInputStream(new Input(bytes)));
-    Object obj = pool.run(kryo -> kryo.readClassAndObject(input));
-    input.close();
-    return obj;
+    Buffers buffers = acquireBuffers();
+    try (InputStream inputStream = decompressing(bytes, buffers.inflater())) {
+      buffers.input.setInputStream(inputStream);
+      return pool.run(kryo -> kryo.readClassAndObject(buffers.input));
+    } catch (IOException exception) {
+      throw new RuntimeException(exception);
+    } finally {
+      buffers.release();
+    }
+  }
+
+  private InputStream decompressing(byte[] bytes, Inflater inflater) throws IOException {
+    // Zlib streams start with a byte whose low nibble is 8, so they can never be mistaken for the header
+    if (bytes.length > 1 && bytes[0] == COMPRESSION_HEADER) {
+      return KryoCompression.fromId(bytes[1]).decompressing(
+          new ByteArrayInputStream(bytes, 2, bytes.length - 2), inflater);
+    }
+    return KryoCompression.DEFLATE.decompressing(new ByteArrayInputStream(bytes), inflater);
   }
 
   public Object asObject(String base64) {
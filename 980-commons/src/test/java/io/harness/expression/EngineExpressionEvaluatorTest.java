@@ -400,6 +400,34 @@ public class EngineExpressionEvaluatorTest extends CategoryTest {
         .hasMessage("Unresolved expressions: b");
   }
 
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testCompiledExpressionsAreReused() {
+    EngineExpressionEvaluator evaluator = prepareEngineExpressionEvaluator(
+        new ImmutableMap.Builder<String, Object>().put("a", 5).put("b", 7).put("c", "<+a> * 2").build());
+    assertThat(evaluator.evaluateExpression("<+a> + <+b> == 12")).isEqualTo(true);
+
+    long hits = CompiledExpressionCache.expressionStats().hitCount();
+    long misses = CompiledExpressionCache.expressionStats().missCount();
+    assertThat(evaluator.evaluateExpression("<+a> + <+b> == 12")).isEqualTo(true);
+    assertThat(evaluator.evaluateExpression("<+a> + <+c>")).isEqualTo(15);
+    assertThat(evaluator.evaluateExpression("<+a> + <+b> == 12", ImmutableMap.of("a", 6))).isEqualTo(false);
+    assertThat(CompiledExpressionCache.expressionStats().hitCount()).isGreaterThan(hits);
+    assertThat(CompiledExpressionCache.expressionStats().missCount() - misses).isLessThanOrEqualTo(4);
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testContextIsNotSharedAcrossEvaluations() {
+    EngineExpressionEvaluator evaluator =
+        prepareEngineExpressionEvaluator(ImmutableMap.of("a", 5, "late", (LateBindingValue) () -> "bound"));
+    assertThat(evaluator.evaluateExpression("<+a> + 1", ImmutableMap.of("a", 1))).isEqualTo(2);
+    assertThat(evaluator.evaluateExpression("<+a> + 1")).isEqualTo(6);
+    assertThat(evaluator.renderExpression("<+late>")).isEqualTo("bound");
+  }
+
   @Value
   @Builder
   public static class DummyA {
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.serializer;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.esotericsoftware.kryo.io.Output;
+import java.io.ByteArrayOutputStream;
+import java.util.Collections;
+import java.util.zip.DeflaterOutputStream;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class KryoSerializerTest extends CategoryTest {
+  private final KryoSerializer kryoSerializer = new KryoSerializer(Collections.emptySet());
+  private final String payload = StringUtils.repeat("response data ", 1000);
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldRoundTripWithEveryCompression() {
+    for (KryoCompression compression : KryoCompression.values()) {
+      byte[] bytes = kryoSerializer.asCompressedBytes(payload, compression);
+      assertThat(bytes.length).isLessThan(payload.length());
+      assertThat(kryoSerializer.asInflatedObject(bytes)).isEqualTo(payload);
+    }
+    assertThat(kryoSerializer.asObject(kryoSerializer.asBytes(payload))).isEqualTo(payload);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldInflateDataWrittenWithoutHeader() throws Exception {
+    ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+    DeflaterOutputStream outputStream = new DeflaterOutputStream(byteStream);
+    Output output = new Output(outputStream);
+    new HKryo(new ClassResolver()).writeClassAndObject(output, payload);
+    output.flush();
+    outputStream.finish();
+
+    assertThat(kryoSerializer.asInflatedObject(byteStream.toByteArray())).isEqualTo(payload);
+    // the default stays readable to versions that do not know the header
+    assertThat(kryoSerializer.asDeflatedBytes(payload)[0]).isEqualTo(byteStream.toByteArray()[0]);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldDropBuffersThatGrewTooLarge() {
+    String largePayload = StringUtils.repeat("x", 2 * 1024 * 1024);
+    assertThat(kryoSerializer.asObject(kryoSerializer.asBytes(largePayload))).isEqualTo(largePayload);
+    assertThat(kryoSerializer.asInflatedObject(kryoSerializer.asDeflatedBytes(largePayload))).isEqualTo(largePayload);
+    assertThat(kryoSerializer.asObject(kryoSerializer.asBytes(payload))).isEqualTo(payload);
+  }
+}
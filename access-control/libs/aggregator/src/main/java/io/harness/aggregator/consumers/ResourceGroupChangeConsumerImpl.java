@@ -13,6 +13,7 @@ import static io.harness.aggregator.ACLUtils.buildACL;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 
+import io.harness.accesscontrol.acl.ACLDecisionCache;
 import io.harness.accesscontrol.acl.api.Principal;
 import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
@@ -52,14 +53,16 @@ public class ResourceGroupChangeConsumerImpl implements ChangeConsumer<ResourceG
   private final ResourceGroupRepository resourceGroupRepository;
   private final ExecutorService executorService;
   private final ChangeConsumerService changeConsumerService;
+  private final ACLDecisionCache aclDecisionCache;
 
   public ResourceGroupChangeConsumerImpl(ACLRepository aclRepository, RoleAssignmentRepository roleAssignmentRepository,
       ResourceGroupRepository resourceGroupRepository, String executorServiceSuffix,
-      ChangeConsumerService changeConsumerService) {
+      ChangeConsumerService changeConsumerService, ACLDecisionCache aclDecisionCache) {
     this.aclRepository = aclRepository;
     this.roleAssignmentRepository = roleAssignmentRepository;
     this.resourceGroupRepository = resourceGroupRepository;
     this.changeConsumerService = changeConsumerService;
+    this.aclDecisionCache = aclDecisionCache;
     String changeConsumerThreadFactory =
         String.format("%s-resource-group-change-consumer", executorServiceSuffix) + "-%d";
     // Number of threads = Number of Available Cores * (1 + (Wait time / Service time) )
@@ -94,12 +97,14 @@ public class ResourceGroupChangeConsumerImpl implements ChangeConsumer<ResourceG
 
     long numberOfACLsCreated = 0;
     long numberOfACLsDeleted = 0;
+    Set<String> affectedPrincipals = new HashSet<>();
 
     try {
       for (Future<Result> future : executorService.invokeAll(tasksToExecute)) {
         Result result = future.get();
         numberOfACLsCreated += result.getNumberOfACLsCreated();
         numberOfACLsDeleted += result.getNumberOfACLsDeleted();
+        affectedPrincipals.addAll(result.getAffectedPrincipals());
       }
     } catch (ExecutionException ex) {
       throw new GeneralException("", ex.getCause());
@@ -107,6 +112,7 @@ public class ResourceGroupChangeConsumerImpl implements ChangeConsumer<ResourceG
       Thread.currentThread().interrupt();
       throw new GeneralException("", ex);
     }
+    aclDecisionCache.invalidate(affectedPrincipals);
 
     log.info("Number of ACLs created: {}", numberOfACLsCreated);
     log.info("Number of ACLs deleted: {}", numberOfACLsDeleted);
@@ -139,6 +145,8 @@ public class ResourceGroupChangeConsumerImpl implements ChangeConsumer<ResourceG
 
     @Override
     public Result call() {
+      Set<String> existingPrincipals =
+          Sets.newHashSet(aclRepository.getDistinctPrincipalsInACLsForRoleAssignment(roleAssignmentDBO.getId()));
       Set<String> existingResourceSelectors =
           Sets.newHashSet(aclRepository.getDistinctResourceSelectorsInACLs(roleAssignmentDBO.getId()));
       Set<String> newResourceSelectors = new HashSet<>();
@@ -158,8 +166,6 @@ public class ResourceGroupChangeConsumerImpl implements ChangeConsumer<ResourceG
 
       Set<String> existingPermissions =
           Sets.newHashSet(aclRepository.getDistinctPermissionsInACLsForRoleAssignment(roleAssignmentDBO.getId()));
-      Set<String> existingPrincipals =
-          Sets.newHashSet(aclRepository.getDistinctPrincipalsInACLsForRoleAssignment(roleAssignmentDBO.getId()));
       PrincipalType principalType =
           USER_GROUP.equals(roleAssignmentDBO.getPrincipalType()) ? USER : roleAssignmentDBO.getPrincipalType();
 
@@ -177,7 +183,7 @@ public class ResourceGroupChangeConsumerImpl implements ChangeConsumer<ResourceG
       }
       numberOfACLsCreated += aclRepository.insertAllIgnoringDuplicates(aclsToCreate);
 
-      return new Result(numberOfACLsCreated, numberOfACLsDeleted);
+      return Result.of(numberOfACLsCreated, numberOfACLsDeleted, existingPrincipals, aclsToCreate);
     }
   }
 }
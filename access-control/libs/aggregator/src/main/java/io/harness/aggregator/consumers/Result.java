@@ -7,10 +7,32 @@
 
 package io.harness.aggregator.consumers;
 
+import io.harness.accesscontrol.acl.persistence.ACL;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import lombok.Value;
 
 @Value
 class Result {
   long numberOfACLsCreated;
   long numberOfACLsDeleted;
+  Set<String> affectedPrincipals;
+
+  /**
+   * @param principals principals of the role assignment whose ACLs were deleted or kept
+   * @param aclsToCreate ACLs inserted for the role assignment
+   */
+  static Result of(long numberOfACLsCreated, long numberOfACLsDeleted, Collection<String> principals,
+      List<ACL> aclsToCreate) {
+    if (numberOfACLsCreated + numberOfACLsDeleted == 0) {
+      return new Result(numberOfACLsCreated, numberOfACLsDeleted, Collections.emptySet());
+    }
+    Set<String> affectedPrincipals = new HashSet<>(principals);
+    aclsToCreate.forEach(acl -> affectedPrincipals.add(acl.getPrincipalIdentifier()));
+    return new Result(numberOfACLsCreated, numberOfACLsDeleted, affectedPrincipals);
+  }
 }
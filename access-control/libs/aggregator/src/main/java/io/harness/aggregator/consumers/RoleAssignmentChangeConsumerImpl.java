@@ -9,6 +9,7 @@ package io.harness.aggregator.consumers;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
+import io.harness.accesscontrol.acl.ACLDecisionCache;
 import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.roleassignments.persistence.RoleAssignmentDBO;
@@ -18,6 +19,7 @@ import io.harness.annotations.dev.OwnedBy;
 import com.google.inject.Singleton;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
@@ -29,14 +31,16 @@ public class RoleAssignmentChangeConsumerImpl implements ChangeConsumer<RoleAssi
   private final RoleAssignmentRepository roleAssignmentRepository;
   private final ChangeConsumerService changeConsumerService;
   private final RoleAssignmentCRUDEventHandler roleAssignmentCRUDEventHandler;
+  private final ACLDecisionCache aclDecisionCache;
 
   public RoleAssignmentChangeConsumerImpl(ACLRepository aclRepository,
       RoleAssignmentRepository roleAssignmentRepository, ChangeConsumerService changeConsumerService,
-      RoleAssignmentCRUDEventHandler roleAssignmentCRUDEventHandler) {
+      RoleAssignmentCRUDEventHandler roleAssignmentCRUDEventHandler, ACLDecisionCache aclDecisionCache) {
     this.aclRepository = aclRepository;
     this.roleAssignmentRepository = roleAssignmentRepository;
     this.changeConsumerService = changeConsumerService;
     this.roleAssignmentCRUDEventHandler = roleAssignmentCRUDEventHandler;
+    this.aclDecisionCache = aclDecisionCache;
   }
 
   @Override
@@ -61,12 +65,21 @@ public class RoleAssignmentChangeConsumerImpl implements ChangeConsumer<RoleAssi
   }
 
   private long deleteACLs(String id) {
-    return aclRepository.deleteByRoleAssignmentId(id);
+    List<String> principals = aclRepository.getDistinctPrincipalsInACLsForRoleAssignment(id);
+    long deletedCount = aclRepository.deleteByRoleAssignmentId(id);
+    if (deletedCount > 0) {
+      aclDecisionCache.invalidate(principals);
+    }
+    return deletedCount;
   }
 
   private long createACLs(RoleAssignmentDBO roleAssignment) {
     List<ACL> aclsToCreate = changeConsumerService.getAClsForRoleAssignment(roleAssignment);
-    return aclRepository.insertAllIgnoringDuplicates(aclsToCreate);
+    long createdCount = aclRepository.insertAllIgnoringDuplicates(aclsToCreate);
+    if (createdCount > 0) {
+      aclDecisionCache.invalidate(aclsToCreate.stream().map(ACL::getPrincipalIdentifier).collect(Collectors.toSet()));
+    }
+    return createdCount;
   }
 
   @Override
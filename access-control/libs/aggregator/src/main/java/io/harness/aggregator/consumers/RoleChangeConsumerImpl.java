@@ -12,6 +12,7 @@ import static io.harness.accesscontrol.principals.PrincipalType.USER_GROUP;
 import static io.harness.aggregator.ACLUtils.buildACL;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
+import io.harness.accesscontrol.acl.ACLDecisionCache;
 import io.harness.accesscontrol.acl.api.Principal;
 import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
@@ -29,6 +30,7 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Singleton;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -52,9 +54,11 @@ public class RoleChangeConsumerImpl implements ChangeConsumer<RoleDBO> {
   private final RoleRepository roleRepository;
   private final ExecutorService executorService;
   private final ChangeConsumerService changeConsumerService;
+  private final ACLDecisionCache aclDecisionCache;
 
   public RoleChangeConsumerImpl(ACLRepository aclRepository, RoleAssignmentRepository roleAssignmentRepository,
-      RoleRepository roleRepository, String executorServiceSuffix, ChangeConsumerService changeConsumerService) {
+      RoleRepository roleRepository, String executorServiceSuffix, ChangeConsumerService changeConsumerService,
+      ACLDecisionCache aclDecisionCache) {
     this.aclRepository = aclRepository;
     this.roleAssignmentRepository = roleAssignmentRepository;
     this.roleRepository = roleRepository;
@@ -63,6 +67,7 @@ public class RoleChangeConsumerImpl implements ChangeConsumer<RoleDBO> {
     this.executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2,
         new ThreadFactoryBuilder().setNameFormat(changeConsumerThreadFactory).build());
     this.changeConsumerService = changeConsumerService;
+    this.aclDecisionCache = aclDecisionCache;
   }
 
   @Override
@@ -91,12 +96,14 @@ public class RoleChangeConsumerImpl implements ChangeConsumer<RoleDBO> {
 
     long numberOfACLsCreated = 0;
     long numberOfACLsDeleted = 0;
+    Set<String> affectedPrincipals = new HashSet<>();
 
     try {
       for (Future<Result> future : executorService.invokeAll(tasksToExecute)) {
         Result result = future.get();
         numberOfACLsCreated += result.getNumberOfACLsCreated();
         numberOfACLsDeleted += result.getNumberOfACLsDeleted();
+        affectedPrincipals.addAll(result.getAffectedPrincipals());
       }
     } catch (ExecutionException ex) {
       throw new GeneralException("", ex.getCause());
@@ -104,6 +111,7 @@ public class RoleChangeConsumerImpl implements ChangeConsumer<RoleDBO> {
       Thread.currentThread().interrupt();
       throw new GeneralException("", ex);
     }
+    aclDecisionCache.invalidate(affectedPrincipals);
 
     log.info("Number of ACLs created: {}", numberOfACLsCreated);
     log.info("Number of ACLs deleted: {}", numberOfACLsDeleted);
@@ -135,6 +143,8 @@ public class RoleChangeConsumerImpl implements ChangeConsumer<RoleDBO> {
 
     @Override
     public Result call() {
+      Set<String> existingPrincipals =
+          Sets.newHashSet(aclRepository.getDistinctPrincipalsInACLsForRoleAssignment(roleAssignmentDBO.getId()));
       Set<String> existingPermissions =
           Sets.newHashSet(aclRepository.getDistinctPermissionsInACLsForRoleAssignment(roleAssignmentDBO.getId()));
       Set<String> permissionsAddedToRole =
@@ -148,8 +158,6 @@ public class RoleChangeConsumerImpl implements ChangeConsumer<RoleDBO> {
 
       Set<String> existingResourceSelectors =
           Sets.newHashSet(aclRepository.getDistinctResourceSelectorsInACLs(roleAssignmentDBO.getId()));
-      Set<String> existingPrincipals =
-          Sets.newHashSet(aclRepository.getDistinctPrincipalsInACLsForRoleAssignment(roleAssignmentDBO.getId()));
       PrincipalType principalType =
           USER_GROUP.equals(roleAssignmentDBO.getPrincipalType()) ? USER : roleAssignmentDBO.getPrincipalType();
 
@@ -167,7 +175,7 @@ public class RoleChangeConsumerImpl implements ChangeConsumer<RoleDBO> {
       }
       numberOfACLsCreated += aclRepository.insertAllIgnoringDuplicates(aclsToCreate);
 
-      return new Result(numberOfACLsCreated, numberOfACLsDeleted);
+      return Result.of(numberOfACLsCreated, numberOfACLsDeleted, existingPrincipals, aclsToCreate);
     }
   }
 }
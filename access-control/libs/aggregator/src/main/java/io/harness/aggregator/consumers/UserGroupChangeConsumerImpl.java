@@ -12,6 +12,7 @@ import static io.harness.accesscontrol.principals.PrincipalType.USER_GROUP;
 import static io.harness.aggregator.ACLUtils.buildACL;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
+import io.harness.accesscontrol.acl.ACLDecisionCache;
 import io.harness.accesscontrol.acl.api.Principal;
 import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
@@ -29,6 +30,7 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Singleton;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -54,11 +56,12 @@ public class UserGroupChangeConsumerImpl implements ChangeConsumer<UserGroupDBO>
   private final ChangeConsumerService changeConsumerService;
   private final ScopeService scopeService;
   private final UserGroupCRUDEventHandler userGroupCRUDEventHandler;
+  private final ACLDecisionCache aclDecisionCache;
 
   public UserGroupChangeConsumerImpl(ACLRepository aclRepository, RoleAssignmentRepository roleAssignmentRepository,
       UserGroupRepository userGroupRepository, String executorServiceSuffix,
       ChangeConsumerService changeConsumerService, ScopeService scopeService,
-      UserGroupCRUDEventHandler userGroupCRUDEventHandler) {
+      UserGroupCRUDEventHandler userGroupCRUDEventHandler, ACLDecisionCache aclDecisionCache) {
     this.aclRepository = aclRepository;
     this.roleAssignmentRepository = roleAssignmentRepository;
     this.userGroupRepository = userGroupRepository;
@@ -69,6 +72,7 @@ public class UserGroupChangeConsumerImpl implements ChangeConsumer<UserGroupDBO>
     this.executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2,
         new ThreadFactoryBuilder().setNameFormat(changeConsumerThreadFactory).build());
     this.changeConsumerService = changeConsumerService;
+    this.aclDecisionCache = aclDecisionCache;
   }
 
   @Override
@@ -104,12 +108,14 @@ public class UserGroupChangeConsumerImpl implements ChangeConsumer<UserGroupDBO>
 
     long numberOfACLsCreated = 0;
     long numberOfACLsDeleted = 0;
+    Set<String> affectedPrincipals = new HashSet<>();
 
     try {
       for (Future<Result> future : executorService.invokeAll(tasksToExecute)) {
         Result result = future.get();
         numberOfACLsCreated += result.getNumberOfACLsCreated();
         numberOfACLsDeleted += result.getNumberOfACLsDeleted();
+        affectedPrincipals.addAll(result.getAffectedPrincipals());
       }
     } catch (ExecutionException ex) {
       throw new GeneralException("", ex.getCause());
@@ -117,6 +123,7 @@ public class UserGroupChangeConsumerImpl implements ChangeConsumer<UserGroupDBO>
       Thread.currentThread().interrupt();
       throw new GeneralException("", ex);
     }
+    aclDecisionCache.invalidate(affectedPrincipals);
 
     userGroupCRUDEventHandler.handleUserGroupUpdate(userGroup.get());
 
@@ -180,7 +187,7 @@ public class UserGroupChangeConsumerImpl implements ChangeConsumer<UserGroupDBO>
       }
       numberOfACLsCreated += aclRepository.insertAllIgnoringDuplicates(aclsToCreate);
 
-      return new Result(numberOfACLsCreated, numberOfACLsDeleted);
+      return Result.of(numberOfACLsCreated, numberOfACLsDeleted, existingPrincipals, aclsToCreate);
     }
   }
 }
@@ -8,6 +8,7 @@
 package io.harness.aggregator.controllers;
 
 import io.harness.accesscontrol.AccessControlEntity;
+import io.harness.accesscontrol.acl.ACLDecisionCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupDBO;
 import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupRepository;
@@ -113,16 +114,18 @@ public abstract class AggregatorBaseSyncController implements Runnable {
       PersistentLocker persistentLocker, ChangeEventFailureHandler changeEventFailureHandler,
       AggregatorJobType aggregatorJobType, ChangeConsumerService changeConsumerService,
       RoleAssignmentCRUDEventHandler roleAssignmentCRUDEventHandler,
-      UserGroupCRUDEventHandler userGroupCRUDEventHandler, ScopeService scopeService) {
-    ChangeConsumer<RoleAssignmentDBO> roleAssignmentChangeConsumer = new RoleAssignmentChangeConsumerImpl(
-        aclRepository, roleAssignmentRepository, changeConsumerService, roleAssignmentCRUDEventHandler);
-    ChangeConsumer<RoleDBO> roleChangeConsumer = new RoleChangeConsumerImpl(
-        aclRepository, roleAssignmentRepository, roleRepository, aggregatorJobType.name(), changeConsumerService);
-    ChangeConsumer<ResourceGroupDBO> resourceGroupChangeConsumer = new ResourceGroupChangeConsumerImpl(aclRepository,
-        roleAssignmentRepository, resourceGroupRepository, aggregatorJobType.name(), changeConsumerService);
-    ChangeConsumer<UserGroupDBO> userGroupChangeConsumer =
-        new UserGroupChangeConsumerImpl(aclRepository, roleAssignmentRepository, userGroupRepository,
-            aggregatorJobType.name(), changeConsumerService, scopeService, userGroupCRUDEventHandler);
+      UserGroupCRUDEventHandler userGroupCRUDEventHandler, ScopeService scopeService,
+      ACLDecisionCache aclDecisionCache) {
+    ChangeConsumer<RoleAssignmentDBO> roleAssignmentChangeConsumer = new RoleAssignmentChangeConsumerImpl(aclRepository,
+        roleAssignmentRepository, changeConsumerService, roleAssignmentCRUDEventHandler, aclDecisionCache);
+    ChangeConsumer<RoleDBO> roleChangeConsumer = new RoleChangeConsumerImpl(aclRepository, roleAssignmentRepository,
+        roleRepository, aggregatorJobType.name(), changeConsumerService, aclDecisionCache);
+    ChangeConsumer<ResourceGroupDBO> resourceGroupChangeConsumer =
+        new ResourceGroupChangeConsumerImpl(aclRepository, roleAssignmentRepository, resourceGroupRepository,
+            aggregatorJobType.name(), changeConsumerService, aclDecisionCache);
+    ChangeConsumer<UserGroupDBO> userGroupChangeConsumer = new UserGroupChangeConsumerImpl(aclRepository,
+        roleAssignmentRepository, userGroupRepository, aggregatorJobType.name(), changeConsumerService, scopeService,
+        userGroupCRUDEventHandler, aclDecisionCache);
     collectionToConsumerMap = new HashMap<>();
     collectionToConsumerMap.put(ROLE_ASSIGNMENTS, roleAssignmentChangeConsumer);
     collectionToConsumerMap.put(ROLES, roleChangeConsumer);
@@ -12,6 +12,7 @@ import static io.harness.aggregator.AggregatorConfiguration.ACCESS_CONTROL_SERVI
 import static io.harness.aggregator.models.MongoReconciliationOffset.PRIMARY_COLLECTION;
 import static io.harness.aggregator.models.MongoReconciliationOffset.SECONDARY_COLLECTION;
 
+import io.harness.accesscontrol.acl.ACLDecisionCache;
 import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.aggregator.models.AggregatorSecondarySyncState;
@@ -47,6 +48,7 @@ public class AggregatorController implements Runnable {
   private final MongoReconciliationOffsetRepository mongoReconciliationOffsetRepository;
   private final PersistentLocker persistentLocker;
   private final QueueController queueController;
+  private final ACLDecisionCache aclDecisionCache;
 
   @Inject
   public AggregatorController(AggregatorSecondarySyncController secondarySyncController,
@@ -54,7 +56,7 @@ public class AggregatorController implements Runnable {
       AggregatorSecondarySyncStateRepository aggregatorSecondarySyncStateRepository,
       @Named(ACL.SECONDARY_COLLECTION) ACLRepository secondaryACLRepository,
       MongoReconciliationOffsetRepository mongoReconciliationOffsetRepository, PersistentLocker persistentLocker,
-      QueueController queueController) {
+      QueueController queueController, ACLDecisionCache aclDecisionCache) {
     this.secondarySyncController = secondarySyncController;
     this.primarySyncController = primarySyncJobController;
     this.aggregatorSecondarySyncStateRepository = aggregatorSecondarySyncStateRepository;
@@ -62,6 +64,7 @@ public class AggregatorController implements Runnable {
     this.mongoReconciliationOffsetRepository = mongoReconciliationOffsetRepository;
     this.persistentLocker = persistentLocker;
     this.queueController = queueController;
+    this.aclDecisionCache = aclDecisionCache;
   }
 
   @Override
@@ -133,6 +136,7 @@ public class AggregatorController implements Runnable {
         secondaryACLRepository.renameCollection(ACL.PRIMARY_COLLECTION);
         mongoReconciliationOffsetRepository.renameCollectionAToCollectionB(SECONDARY_COLLECTION, PRIMARY_COLLECTION);
         aggregatorSecondarySyncStateRepository.removeByIdentifier(ACCESS_CONTROL_SERVICE);
+        aclDecisionCache.invalidateAll();
       } else {
         log.info("Did not get both child controller locks. Will try switch to primary again after some time");
       }
@@ -16,6 +16,7 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 import static org.mockito.Mockito.mock;
 
 import io.harness.accesscontrol.AccessControlCoreModule;
+import io.harness.accesscontrol.acl.ACLStorageMode;
 import io.harness.accesscontrol.principals.PrincipalType;
 import io.harness.accesscontrol.principals.PrincipalValidator;
 import io.harness.accesscontrol.scopes.core.ScopeLevel;
@@ -104,6 +105,7 @@ public class AccessControlAggregatorRule implements MethodRule, InjectorRuleMixi
         validatorByPrincipalType.addBinding(SERVICE_ACCOUNT).toInstance(principalValidator);
 
         bind(ChangeConsumerService.class).to(ChangeConsumerServiceImpl.class);
+        bind(ACLStorageMode.class).toInstance(ACLStorageMode.EXPANDED);
       }
     });
 
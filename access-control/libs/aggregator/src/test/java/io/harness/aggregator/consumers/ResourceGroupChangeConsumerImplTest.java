@@ -18,6 +18,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.harness.accesscontrol.acl.ACLDecisionCache;
 import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.common.filter.ManagedFilter;
@@ -78,7 +79,7 @@ public class ResourceGroupChangeConsumerImplTest extends AggregatorTestBase {
     ChangeConsumerService changeConsumerService =
         new ChangeConsumerServiceImpl(roleService, userGroupService, resourceGroupService, scopeService);
     resourceGroupChangeConsumer = new ResourceGroupChangeConsumerImpl(aclRepository, roleAssignmentRepository,
-        resourceGroupRepository, AggregatorJobType.PRIMARY.name(), changeConsumerService);
+        resourceGroupRepository, AggregatorJobType.PRIMARY.name(), changeConsumerService, new ACLDecisionCache());
     aclRepository.cleanCollection();
     randomCount = ThreadLocalRandom.current().nextInt(1, 10);
     id = randomAlphabetic(10);
@@ -19,6 +19,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.harness.accesscontrol.acl.ACLDecisionCache;
 import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.common.filter.ManagedFilter;
@@ -62,6 +63,7 @@ public class RoleAssignmentChangeConsumerImplTest extends AggregatorTestBase {
   @Inject @Named(ACL.PRIMARY_COLLECTION) private ACLRepository aclRepository;
   private RoleAssignmentChangeConsumerImpl roleAssignmentChangeConsumer;
   private RoleAssignmentCRUDEventHandler roleAssignmentCRUDEventHandler;
+  private ACLDecisionCache aclDecisionCache;
 
   private String scopeIdentifier;
   private Role role;
@@ -72,6 +74,7 @@ public class RoleAssignmentChangeConsumerImplTest extends AggregatorTestBase {
   @Before
   public void setup() {
     roleAssignmentCRUDEventHandler = mock(RoleAssignmentCRUDEventHandler.class);
+    aclDecisionCache = mock(ACLDecisionCache.class);
     roleService = mock(RoleService.class);
     resourceGroupService = mock(ResourceGroupService.class);
     userGroupService = mock(UserGroupService.class);
@@ -79,8 +82,8 @@ public class RoleAssignmentChangeConsumerImplTest extends AggregatorTestBase {
     roleAssignmentRepository = mock(RoleAssignmentRepository.class);
     ChangeConsumerService changeConsumerService =
         new ChangeConsumerServiceImpl(roleService, userGroupService, resourceGroupService, scopeService);
-    roleAssignmentChangeConsumer = new RoleAssignmentChangeConsumerImpl(
-        aclRepository, roleAssignmentRepository, changeConsumerService, roleAssignmentCRUDEventHandler);
+    roleAssignmentChangeConsumer = new RoleAssignmentChangeConsumerImpl(aclRepository, roleAssignmentRepository,
+        changeConsumerService, roleAssignmentCRUDEventHandler, aclDecisionCache);
     scopeIdentifier =
         Scope.builder().level(TestScopeLevels.TEST_SCOPE).instanceId(getRandomString(10)).build().toString();
     role = RoleTestUtils.buildRole(scopeIdentifier);
@@ -174,6 +177,8 @@ public class RoleAssignmentChangeConsumerImplTest extends AggregatorTestBase {
     roleAssignmentChangeConsumer.consumeDeleteEvent(roleAssignmentDBO.getId());
     verifyNoACLs(roleAssignmentDBO);
     verify(roleAssignmentCRUDEventHandler, times(1)).handleRoleAssignmentDelete(roleAssignmentDBO.getId());
+    verify(aclDecisionCache, times(1)).invalidate(Collections.singleton(user));
+    verify(aclDecisionCache, times(1)).invalidate(Collections.singletonList(user));
   }
 
   private void verifyACLs(RoleAssignmentDBO assignment) {
@@ -18,6 +18,7 @@ import static junit.framework.TestCase.assertEquals;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import io.harness.accesscontrol.acl.ACLDecisionCache;
 import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.common.filter.ManagedFilter;
@@ -79,13 +80,13 @@ public class RoleChangeConsumerImplTest extends AggregatorTestBase {
     ChangeConsumerService changeConsumerService =
         new ChangeConsumerServiceImpl(roleService, userGroupService, resourceGroupService, scopeService);
     roleChangeConsumer = new RoleChangeConsumerImpl(aclRepository, roleAssignmentRepository, roleRepository,
-        AggregatorJobType.PRIMARY.name(), changeConsumerService);
+        AggregatorJobType.PRIMARY.name(), changeConsumerService, new ACLDecisionCache());
     aclRepository.cleanCollection();
     scopeIdentifier = getRandomString(20);
     role = buildRoleRBO(scopeIdentifier, ThreadLocalRandom.current().nextInt(1, 4));
     resourceGroup = buildResourceGroup(scopeIdentifier);
-    roleAssignmentChangeConsumer = new RoleAssignmentChangeConsumerImpl(
-        aclRepository, roleAssignmentRepository, changeConsumerService, roleAssignmentCRUDEventHandler);
+    roleAssignmentChangeConsumer = new RoleAssignmentChangeConsumerImpl(aclRepository, roleAssignmentRepository,
+        changeConsumerService, roleAssignmentCRUDEventHandler, new ACLDecisionCache());
 
     mockRoleServices(role);
     when(resourceGroupService.get(
@@ -20,6 +20,7 @@ import static junit.framework.TestCase.assertEquals;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import io.harness.accesscontrol.acl.ACLDecisionCache;
 import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.common.filter.ManagedFilter;
@@ -87,9 +88,10 @@ public class UserGroupChangeConsumerImplTest extends AggregatorTestBase {
         new ChangeConsumerServiceImpl(roleService, userGroupService, resourceGroupService, scopeService);
     userGroupChangeConsumer =
         new UserGroupChangeConsumerImpl(aclRepository, roleAssignmentRepository, userGroupRepository,
-            AggregatorJobType.PRIMARY.name(), changeConsumerService, scopeService, userGroupCRUDEventHandler);
-    roleAssignmentChangeConsumer = new RoleAssignmentChangeConsumerImpl(
-        aclRepository, roleAssignmentRepository, changeConsumerService, roleAssignmentCRUDEventHandler);
+            AggregatorJobType.PRIMARY.name(), changeConsumerService, scopeService, userGroupCRUDEventHandler,
+            new ACLDecisionCache());
+    roleAssignmentChangeConsumer = new RoleAssignmentChangeConsumerImpl(aclRepository, roleAssignmentRepository,
+        changeConsumerService, roleAssignmentCRUDEventHandler, new ACLDecisionCache());
     aclRepository.cleanCollection();
     testScopeIdentifier = getRandomString(20);
     scopeIdentifier = "/ACCOUNT/" + testScopeIdentifier;
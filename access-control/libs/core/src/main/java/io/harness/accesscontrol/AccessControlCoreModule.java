@@ -10,6 +10,7 @@ package io.harness.accesscontrol;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
 import io.harness.accesscontrol.acl.ACLModule;
+import io.harness.accesscontrol.acl.ACLStorageMode;
 import io.harness.accesscontrol.permissions.PermissionsModule;
 import io.harness.accesscontrol.principals.PrincipalModule;
 import io.harness.accesscontrol.resources.ResourceModule;
@@ -54,6 +55,7 @@ public class AccessControlCoreModule extends AbstractModule {
   private void registerRequiredBindings() {
     requireBinding(TransactionTemplate.class);
     requireBinding(MongoTemplate.class);
+    requireBinding(ACLStorageMode.class);
     requireBinding(Key.get(new TypeLiteral<Map<String, ScopeLevel>>() {}));
   }
 }
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.accesscontrol.acl.api.Principal;
+import io.harness.accesscontrol.principals.PrincipalType;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Access decisions of the principals, kept per principal identifier so that the aggregator can drop the decisions of
+ * the principals whose ACLs it changed.
+ * <p/>
+ * The aggregator runs on a single instance, its invalidations reach the other instances through an
+ * {@link ACLDecisionInvalidationChannel}. Without one the cache is only safe in a single instance, the service disables
+ * it instead. A decision whose invalidation failed to be published is served for at most
+ * {@link #DECISION_TTL_SECONDS}.
+ */
+@OwnedBy(PL)
+@Slf4j
+public class ACLDecisionCache {
+  private static final int MAX_PRINCIPALS = 10000;
+  private static final int MAX_DECISIONS_PER_PRINCIPAL = 1000;
+  static final long DECISION_TTL_SECONDS = 30;
+
+  private final Cache<String, PrincipalDecisions> principalDecisions =
+      CacheBuilder.newBuilder()
+          .maximumSize(MAX_PRINCIPALS)
+          .expireAfterAccess(DECISION_TTL_SECONDS, TimeUnit.SECONDS)
+          .build();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder servedAgeMillis = new LongAdder();
+  private final AtomicLong maxServedAgeMillis = new AtomicLong();
+
+  private final boolean enabled;
+  private final ACLDecisionInvalidationChannel invalidationChannel;
+
+  /**
+   * Creates a cache whose invalidations only reach this instance, for a service running on a single instance.
+   */
+  public ACLDecisionCache() {
+    this(true, null);
+  }
+
+  private ACLDecisionCache(boolean enabled, ACLDecisionInvalidationChannel invalidationChannel) {
+    this.enabled = enabled;
+    this.invalidationChannel = invalidationChannel;
+    if (invalidationChannel != null) {
+      invalidationChannel.subscribe(new ACLDecisionInvalidationChannel.Listener() {
+        @Override
+        public void invalidate(Collection<String> principalIdentifiers) {
+          principalDecisions.invalidateAll(principalIdentifiers);
+        }
+
+        @Override
+        public void invalidateAll() {
+          log.info("Invalidating all the cached access decisions");
+          principalDecisions.invalidateAll();
+        }
+      });
+    }
+  }
+
+  public static ACLDecisionCache disabled() {
+    return new ACLDecisionCache(false, null);
+  }
+
+  public static ACLDecisionCache broadcasting(ACLDecisionInvalidationChannel invalidationChannel) {
+    return new ACLDecisionCache(true, invalidationChannel);
+  }
+
+  /**
+   * @return false if the decisions are not cached and have to be checked every time
+   */
+  boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * The decisions are read and written through the returned instance, so decisions computed while the principal was
+   * invalidated are not kept.
+   */
+  PrincipalDecisions decisionsOf(Principal principal) {
+    return principalDecisions.asMap().computeIfAbsent(
+        principal.getPrincipalIdentifier(), principalIdentifier -> new PrincipalDecisions());
+  }
+
+  /**
+   * @param principalIdentifiers identifiers of the users and service accounts whose ACLs were added or removed
+   */
+  public void invalidate(Collection<String> principalIdentifiers) {
+    if (!enabled || principalIdentifiers.isEmpty()) {
+      return;
+    }
+    principalDecisions.invalidateAll(principalIdentifiers);
+    if (invalidationChannel != null) {
+      try {
+        invalidationChannel.publish(principalIdentifiers);
+      } catch (Exception ex) {
+        log.error("Unable to publish the invalidation of the access decisions of {} principals, other instances "
+                + "may serve them for up to {} seconds",
+            principalIdentifiers.size(), DECISION_TTL_SECONDS, ex);
+      }
+    }
+  }
+
+  public void invalidateAll() {
+    if (!enabled) {
+      return;
+    }
+    log.info("Invalidating all the cached access decisions");
+    principalDecisions.invalidateAll();
+    if (invalidationChannel != null) {
+      try {
+        invalidationChannel.publishInvalidateAll();
+      } catch (Exception ex) {
+        log.error("Unable to publish the invalidation of all the access decisions, other instances may serve them "
+                + "for up to {} seconds",
+            DECISION_TTL_SECONDS, ex);
+      }
+    }
+  }
+
+  /**
+   * @return statistics since the previous call
+   */
+  public Statistics drainStatistics() {
+    long hitCount = hits.sumThenReset();
+    long missCount = misses.sumThenReset();
+    long ageSum = servedAgeMillis.sumThenReset();
+    return new Statistics(hitCount, missCount, hitCount == 0 ? 0 : ageSum / hitCount,
+        maxServedAgeMillis.getAndSet(0), principalDecisions.size());
+  }
+
+  @Value
+  public static class Statistics {
+    long hits;
+    long misses;
+    long averageServedAgeMillis;
+    long maxServedAgeMillis;
+    long cachedPrincipals;
+
+    public double getHitRate() {
+      return hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+    }
+  }
+
+  @Value
+  private static class DecisionKey {
+    PrincipalType principalType;
+    String scope;
+    String resourceType;
+    String resourceIdentifier;
+    String permission;
+
+    static DecisionKey of(PrincipalType principalType, PermissionCheck permissionCheck) {
+      return new DecisionKey(principalType,
+          permissionCheck.getResourceScope() == null ? null : permissionCheck.getResourceScope().toString(),
+          permissionCheck.getResourceType(), permissionCheck.getResourceIdentifier(), permissionCheck.getPermission());
+    }
+  }
+
+  @Value
+  private static class Decision {
+    boolean permitted;
+    long decidedAt;
+  }
+
+  class PrincipalDecisions {
+    private final Cache<DecisionKey, Decision> decisions = CacheBuilder.newBuilder()
+                                                               .maximumSize(MAX_DECISIONS_PER_PRINCIPAL)
+                                                               .expireAfterWrite(DECISION_TTL_SECONDS, TimeUnit.SECONDS)
+                                                               .build();
+
+    /**
+     * @return null if the decision is not cached
+     */
+    Boolean get(PrincipalType principalType, PermissionCheck permissionCheck) {
+      Decision decision = decisions.getIfPresent(DecisionKey.of(principalType, permissionCheck));
+      if (decision == null) {
+        misses.increment();
+        return null;
+      }
+      long age = System.currentTimeMillis() - decision.getDecidedAt();
+      hits.increment();
+      servedAgeMillis.add(age);
+      maxServedAgeMillis.accumulateAndGet(age, Math::max);
+      return decision.isPermitted();
+    }
+
+    void put(PrincipalType principalType, PermissionCheck permissionCheck, boolean permitted) {
+      decisions.put(
+          DecisionKey.of(principalType, permissionCheck), new Decision(permitted, System.currentTimeMillis()));
+    }
+  }
+}
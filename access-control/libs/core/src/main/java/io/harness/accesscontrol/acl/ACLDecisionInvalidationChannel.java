@@ -0,0 +1,37 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.Collection;
+
+/**
+ * Delivers the invalidations of the cached access decisions to every instance of the service, the publishing one
+ * included.
+ */
+@OwnedBy(PL)
+public interface ACLDecisionInvalidationChannel {
+  void publish(Collection<String> principalIdentifiers);
+
+  void publishInvalidateAll();
+
+  /**
+   * The listener is also told to invalidate all the decisions whenever invalidations may have been missed, for
+   * example after the instance reconnected to the channel.
+   */
+  void subscribe(Listener listener);
+
+  interface Listener {
+    void invalidate(Collection<String> principalIdentifiers);
+
+    void invalidateAll();
+  }
+}
@@ -11,16 +11,24 @@ import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.ACLDAO;
 import io.harness.accesscontrol.acl.persistence.ACLDAOImpl;
 import io.harness.accesscontrol.acl.persistence.ACLMorphiaRegistrar;
+import io.harness.accesscontrol.acl.persistence.CompactACL;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
+import io.harness.accesscontrol.acl.persistence.repositories.CompactACLRepository;
+import io.harness.accesscontrol.acl.persistence.repositories.DualWriteACLRepository;
 import io.harness.accesscontrol.acl.persistence.repositories.PrimaryACLRepositoryImpl;
+import io.harness.accesscontrol.acl.persistence.repositories.PrimaryCompactACLRepositoryImpl;
 import io.harness.accesscontrol.acl.persistence.repositories.SecondaryACLRepositoryImpl;
+import io.harness.accesscontrol.acl.persistence.repositories.SecondaryCompactACLRepositoryImpl;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.morphia.MorphiaRegistrar;
 
 import com.google.inject.AbstractModule;
+import com.google.inject.Provides;
+import com.google.inject.Singleton;
 import com.google.inject.TypeLiteral;
 import com.google.inject.multibindings.Multibinder;
+import com.google.inject.name.Named;
 import com.google.inject.name.Names;
 
 @OwnedBy(HarnessTeam.PL)
@@ -42,7 +50,39 @@ public class ACLModule extends AbstractModule {
 
     bind(ACLService.class).to(ACLServiceImpl.class);
     bind(ACLDAO.class).to(ACLDAOImpl.class);
-    bind(ACLRepository.class).annotatedWith(Names.named(ACL.PRIMARY_COLLECTION)).to(PrimaryACLRepositoryImpl.class);
-    bind(ACLRepository.class).annotatedWith(Names.named(ACL.SECONDARY_COLLECTION)).to(SecondaryACLRepositoryImpl.class);
+    bind(CompactACLRepository.class)
+        .annotatedWith(Names.named(CompactACL.PRIMARY_COLLECTION))
+        .to(PrimaryCompactACLRepositoryImpl.class);
+    bind(CompactACLRepository.class)
+        .annotatedWith(Names.named(CompactACL.SECONDARY_COLLECTION))
+        .to(SecondaryCompactACLRepositoryImpl.class);
+  }
+
+  @Provides
+  @Singleton
+  @Named(ACL.PRIMARY_COLLECTION)
+  ACLRepository primaryACLRepository(ACLStorageMode aclStorageMode, PrimaryACLRepositoryImpl aclRepository,
+      PrimaryCompactACLRepositoryImpl compactACLRepository) {
+    return getACLRepository(aclStorageMode, aclRepository, compactACLRepository);
+  }
+
+  @Provides
+  @Singleton
+  @Named(ACL.SECONDARY_COLLECTION)
+  ACLRepository secondaryACLRepository(ACLStorageMode aclStorageMode, SecondaryACLRepositoryImpl aclRepository,
+      SecondaryCompactACLRepositoryImpl compactACLRepository) {
+    return getACLRepository(aclStorageMode, aclRepository, compactACLRepository);
+  }
+
+  private static ACLRepository getACLRepository(
+      ACLStorageMode aclStorageMode, ACLRepository aclRepository, CompactACLRepository compactACLRepository) {
+    switch (aclStorageMode) {
+      case DUAL:
+        return new DualWriteACLRepository(aclRepository, compactACLRepository);
+      case COMPACT:
+        return compactACLRepository;
+      default:
+        return aclRepository;
+    }
   }
 }
@@ -12,6 +12,7 @@ import static io.harness.accesscontrol.permissions.PermissionStatus.INACTIVE;
 import static io.harness.accesscontrol.permissions.PermissionStatus.STAGING;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
+import io.harness.accesscontrol.acl.ACLDecisionCache.PrincipalDecisions;
 import io.harness.accesscontrol.acl.api.Principal;
 import io.harness.accesscontrol.acl.persistence.ACLDAO;
 import io.harness.accesscontrol.permissions.Permission;
@@ -36,14 +37,16 @@ import lombok.extern.slf4j.Slf4j;
 public class ACLServiceImpl implements ACLService {
   private final ACLDAO aclDAO;
   private final PermissionService permissionService;
+  private final ACLDecisionCache aclDecisionCache;
   private static final PermissionFilter permissionFilter =
       PermissionFilter.builder().statusFilter(Sets.newHashSet(INACTIVE, EXPERIMENTAL, STAGING)).build();
   private volatile Set<String> disabledPermissions;
 
   @Inject
-  public ACLServiceImpl(ACLDAO aclDAO, PermissionService permissionService) {
+  public ACLServiceImpl(ACLDAO aclDAO, PermissionService permissionService, ACLDecisionCache aclDecisionCache) {
     this.aclDAO = aclDAO;
     this.permissionService = permissionService;
+    this.aclDecisionCache = aclDecisionCache;
   }
 
   private PermissionCheckResult getPermissionCheckResult(PermissionCheck permissionCheck, boolean permitted) {
@@ -58,7 +61,7 @@ public class ACLServiceImpl implements ACLService {
 
   @Override
   public List<PermissionCheckResult> checkAccess(Principal principal, List<PermissionCheck> permissionChecks) {
-    List<Boolean> allowedAccessList = aclDAO.checkForAccess(principal, permissionChecks);
+    List<Boolean> allowedAccessList = checkForAccess(principal, permissionChecks);
     List<PermissionCheckResult> permissionCheckResults = new ArrayList<>();
     ensureDisabledPermissions();
 
@@ -74,6 +77,34 @@ public class ACLServiceImpl implements ACLService {
     return permissionCheckResults;
   }
 
+  private List<Boolean> checkForAccess(Principal principal, List<PermissionCheck> permissionChecks) {
+    if (principal.getPrincipalIdentifier() == null || !aclDecisionCache.isEnabled()) {
+      return aclDAO.checkForAccess(principal, permissionChecks);
+    }
+    PrincipalDecisions decisions = aclDecisionCache.decisionsOf(principal);
+    List<Boolean> allowedAccessList = new ArrayList<>(permissionChecks.size());
+    List<Integer> uncachedIndexes = new ArrayList<>();
+    List<PermissionCheck> uncachedChecks = new ArrayList<>();
+    for (int i = 0; i < permissionChecks.size(); i++) {
+      Boolean permitted = decisions.get(principal.getPrincipalType(), permissionChecks.get(i));
+      allowedAccessList.add(permitted);
+      if (permitted == null) {
+        uncachedIndexes.add(i);
+        uncachedChecks.add(permissionChecks.get(i));
+      }
+    }
+    if (uncachedChecks.isEmpty()) {
+      return allowedAccessList;
+    }
+
+    List<Boolean> uncachedAccessList = aclDAO.checkForAccess(principal, uncachedChecks);
+    for (int i = 0; i < uncachedChecks.size(); i++) {
+      allowedAccessList.set(uncachedIndexes.get(i), uncachedAccessList.get(i));
+      decisions.put(principal.getPrincipalType(), uncachedChecks.get(i), uncachedAccessList.get(i));
+    }
+    return allowedAccessList;
+  }
+
   private void ensureDisabledPermissions() {
     if (disabledPermissions == null) {
       updateDisabledPermissions();
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+/**
+ * How the aggregator stores the ACLs and how access checks read them. To move to the compact ACLs, switch to DUAL,
+ * rebuild the ACLs with a secondary sync and switch it to primary, which fills the compact collections, and switch to
+ * COMPACT once the access checks no longer report compact decisions differing from the expanded ones.
+ */
+@OwnedBy(HarnessTeam.PL)
+public enum ACLStorageMode {
+  /**
+   * An ACL per permission, principal and resource selector.
+   */
+  EXPANDED,
+  /**
+   * Both the expanded and the compact ACLs are written, access checks are served from the expanded ACLs and the
+   * decisions of the compact ACLs are compared with them.
+   */
+  DUAL,
+  /**
+   * A compact ACL per principal and resource selector holding the permissions as a bitset.
+   */
+  COMPACT
+}
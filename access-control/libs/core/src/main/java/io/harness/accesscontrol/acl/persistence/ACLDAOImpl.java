@@ -10,9 +10,11 @@ package io.harness.accesscontrol.acl.persistence;
 import static io.harness.accesscontrol.acl.persistence.ACL.getAclQueryString;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
+import io.harness.accesscontrol.acl.ACLStorageMode;
 import io.harness.accesscontrol.acl.PermissionCheck;
 import io.harness.accesscontrol.acl.api.Principal;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
+import io.harness.accesscontrol.acl.persistence.repositories.CompactACLRepository;
 import io.harness.accesscontrol.scopes.core.Scope;
 import io.harness.accesscontrol.scopes.core.ScopeLevel;
 import io.harness.annotations.dev.OwnedBy;
@@ -21,11 +23,13 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BinaryOperator;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -38,11 +42,20 @@ public class ACLDAOImpl implements ACLDAO {
   private static final String ALL_RESOURCES_IDENTIFIER = "*";
   private static final String INCLUDE_CHILD_SCOPES_IDENTIFIER = "**";
   private final ACLRepository aclRepository;
+  private final CompactACLRepository compactACLRepository;
+  private final PermissionDictionaryDAO permissionDictionaryDAO;
+  private final ACLStorageMode aclStorageMode;
   private final Set<String> scopeResourceTypes;
 
   @Inject
-  public ACLDAOImpl(@Named(ACL.PRIMARY_COLLECTION) ACLRepository aclRepository, Map<String, ScopeLevel> scopeLevels) {
+  public ACLDAOImpl(@Named(ACL.PRIMARY_COLLECTION) ACLRepository aclRepository,
+      @Named(CompactACL.PRIMARY_COLLECTION) CompactACLRepository compactACLRepository,
+      PermissionDictionaryDAO permissionDictionaryDAO, ACLStorageMode aclStorageMode,
+      Map<String, ScopeLevel> scopeLevels) {
     this.aclRepository = aclRepository;
+    this.compactACLRepository = compactACLRepository;
+    this.permissionDictionaryDAO = permissionDictionaryDAO;
+    this.aclStorageMode = aclStorageMode;
     this.scopeResourceTypes =
         scopeLevels.values().stream().map(ScopeLevel::getResourceType).collect(Collectors.toSet());
   }
@@ -75,39 +88,47 @@ public class ACLDAOImpl implements ACLDAO {
     return false;
   }
 
-  private Set<String> getQueryStrings(PermissionCheck permissionCheck, Principal principal) {
+  private Set<String> getQueryStrings(PermissionCheck permissionCheck, Principal principal, boolean compact) {
     String scope =
         Optional.ofNullable(permissionCheck.getResourceScope()).flatMap(rs -> Optional.of(rs.toString())).orElse("");
+    String principalType = principal.getPrincipalType().name();
+    String principalIdentifier = principal.getPrincipalIdentifier();
+    String permission = permissionCheck.getPermission();
+    BinaryOperator<String> queryString;
+    if (compact) {
+      queryString = (aclScope, resourceSelector)
+          -> CompactACL.getAclQueryString(aclScope, resourceSelector, principalType, principalIdentifier);
+    } else {
+      queryString = (aclScope, resourceSelector)
+          -> getAclQueryString(aclScope, resourceSelector, principalType, principalIdentifier, permission);
+    }
     Set<String> queryStrings = new HashSet<>();
     String resourceType = permissionCheck.getResourceType();
     String resourceIdentifier = permissionCheck.getResourceIdentifier();
 
     // query for resource=/RESOURCE_TYPE/{resourceIdentifier} in given scope
     if (!StringUtils.isEmpty(resourceIdentifier)) {
-      queryStrings.add(getAclQueryString(scope, getResourceSelector(resourceType, resourceIdentifier),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      queryStrings.add(queryString.apply(scope, getResourceSelector(resourceType, resourceIdentifier)));
     }
 
     if (isValidPermissionCheckForSameScopeLevel(permissionCheck)) {
       // query for resource=/RESOURCE_TYPE/* in given scope
-      queryStrings.add(getAclQueryString(scope, getResourceSelector(resourceType, ALL_RESOURCES_IDENTIFIER),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      queryStrings.add(queryString.apply(scope, getResourceSelector(resourceType, ALL_RESOURCES_IDENTIFIER)));
 
       // query for resource=/*/* in given scope
-      queryStrings.add(getAclQueryString(scope, getResourceSelector(ALL_RESOURCES_IDENTIFIER, ALL_RESOURCES_IDENTIFIER),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      queryStrings.add(
+          queryString.apply(scope, getResourceSelector(ALL_RESOURCES_IDENTIFIER, ALL_RESOURCES_IDENTIFIER)));
     }
 
     Scope currentScope = permissionCheck.getResourceScope();
     while (currentScope != null) {
       // query for resource=/**/RESOURCE_TYPE/* in given scope
-      queryStrings.add(getAclQueryString(currentScope.toString(), getIncludeChildScopesResourceSelector(resourceType),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      queryStrings.add(
+          queryString.apply(currentScope.toString(), getIncludeChildScopesResourceSelector(resourceType)));
 
       // query for resource=/**/*/* in given scope
-      queryStrings.add(getAclQueryString(currentScope.toString(),
-          getIncludeChildScopesResourceSelector(ALL_RESOURCES_IDENTIFIER), principal.getPrincipalType().name(),
-          principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      queryStrings.add(queryString.apply(
+          currentScope.toString(), getIncludeChildScopesResourceSelector(ALL_RESOURCES_IDENTIFIER)));
 
       currentScope = currentScope.getParentScope();
     }
@@ -118,35 +139,44 @@ public class ACLDAOImpl implements ACLDAO {
 
       // and resource = /RESOURCE_TYPE/{resourceIdentifier}
       if (!StringUtils.isEmpty(resourceIdentifier)) {
-        queryStrings.add(getAclQueryString(scope, getResourceSelector(resourceType, resourceIdentifier),
-            principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+        queryStrings.add(queryString.apply(scope, getResourceSelector(resourceType, resourceIdentifier)));
       }
 
       // and resource = /RESOURCE_TYPE/*
-      queryStrings.add(getAclQueryString(scope, getResourceSelector(resourceType, ALL_RESOURCES_IDENTIFIER),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      queryStrings.add(queryString.apply(scope, getResourceSelector(resourceType, ALL_RESOURCES_IDENTIFIER)));
 
       // and resource = /*/*
-      queryStrings.add(getAclQueryString(scope, getResourceSelector(ALL_RESOURCES_IDENTIFIER, ALL_RESOURCES_IDENTIFIER),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      queryStrings.add(
+          queryString.apply(scope, getResourceSelector(ALL_RESOURCES_IDENTIFIER, ALL_RESOURCES_IDENTIFIER)));
 
       // query for resource=/**/RESOURCE_TYPE/* in given scope
-      queryStrings.add(getAclQueryString(scope, getIncludeChildScopesResourceSelector(resourceType),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      queryStrings.add(queryString.apply(scope, getIncludeChildScopesResourceSelector(resourceType)));
 
       // query for resource=/**/*/* in given scope
-      queryStrings.add(getAclQueryString(scope, getIncludeChildScopesResourceSelector(ALL_RESOURCES_IDENTIFIER),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      queryStrings.add(queryString.apply(scope, getIncludeChildScopesResourceSelector(ALL_RESOURCES_IDENTIFIER)));
     }
     return queryStrings;
   }
 
   @Override
   public List<Boolean> checkForAccess(Principal principal, List<PermissionCheck> permissionChecks) {
+    switch (aclStorageMode) {
+      case COMPACT:
+        return checkForAccessInCompactACLs(principal, permissionChecks);
+      case DUAL:
+        List<Boolean> accessCheckResults = checkForAccessInACLs(principal, permissionChecks);
+        verifyCompactACLs(principal, permissionChecks, accessCheckResults);
+        return accessCheckResults;
+      default:
+        return checkForAccessInACLs(principal, permissionChecks);
+    }
+  }
+
+  private List<Boolean> checkForAccessInACLs(Principal principal, List<PermissionCheck> permissionChecks) {
     List<Set<String>> aclQueryStringsPerPermission = new ArrayList<>();
     List<String> aclQueryStrings = new ArrayList<>();
     permissionChecks.forEach(permissionCheck -> {
-      Set<String> queryStrings = getQueryStrings(permissionCheck, principal);
+      Set<String> queryStrings = getQueryStrings(permissionCheck, principal, false);
       aclQueryStringsPerPermission.add(queryStrings);
       aclQueryStrings.addAll(queryStrings);
     });
@@ -156,4 +186,41 @@ public class ACLDAOImpl implements ACLDAO {
         .map(queryStringsForPermission -> queryStringsForPermission.stream().anyMatch(aclsPresentInDB::contains))
         .collect(Collectors.toList());
   }
+
+  private List<Boolean> checkForAccessInCompactACLs(Principal principal, List<PermissionCheck> permissionChecks) {
+    List<Set<String>> aclQueryStringsPerPermission = new ArrayList<>();
+    Set<String> aclQueryStrings = new HashSet<>();
+    permissionChecks.forEach(permissionCheck -> {
+      Set<String> queryStrings = getQueryStrings(permissionCheck, principal, true);
+      aclQueryStringsPerPermission.add(queryStrings);
+      aclQueryStrings.addAll(queryStrings);
+    });
+
+    Map<String, BitSet> permissionsPresentInDB =
+        compactACLRepository.getPermissionsByAclQueryStringInAndEnabled(aclQueryStrings, true);
+    int bitCount = permissionsPresentInDB.values().stream().mapToInt(BitSet::length).max().orElse(0);
+    List<Boolean> accessCheckResults = new ArrayList<>(permissionChecks.size());
+    for (int i = 0; i < permissionChecks.size(); i++) {
+      int bit = permissionDictionaryDAO.getBit(permissionChecks.get(i).getPermission(), bitCount);
+      accessCheckResults.add(bit >= 0
+          && aclQueryStringsPerPermission.get(i).stream().map(permissionsPresentInDB::get).anyMatch(
+              permissions -> permissions != null && permissions.get(bit)));
+    }
+    return accessCheckResults;
+  }
+
+  private void verifyCompactACLs(
+      Principal principal, List<PermissionCheck> permissionChecks, List<Boolean> accessCheckResults) {
+    try {
+      List<Boolean> compactAccessCheckResults = checkForAccessInCompactACLs(principal, permissionChecks);
+      for (int i = 0; i < permissionChecks.size(); i++) {
+        if (!accessCheckResults.get(i).equals(compactAccessCheckResults.get(i))) {
+          log.warn("Compact ACLs decided {} instead of {} for principal {} and permission check {}",
+              compactAccessCheckResults.get(i), accessCheckResults.get(i), principal, permissionChecks.get(i));
+        }
+      }
+    } catch (Exception ex) {
+      log.error("Unable to verify the access checks against the compact ACLs", ex);
+    }
+  }
 }
@@ -19,6 +19,8 @@ public class ACLMorphiaRegistrar implements MorphiaRegistrar {
   @Override
   public void registerClasses(Set<Class> set) {
     set.add(ACL.class);
+    set.add(CompactACL.class);
+    set.add(PermissionDictionary.class);
   }
 
   @Override
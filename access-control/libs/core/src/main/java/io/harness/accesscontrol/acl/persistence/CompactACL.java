@@ -0,0 +1,144 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.ng.DbAliases.ACCESS_CONTROL;
+
+import io.harness.annotation.StoreIn;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.mongo.index.CompoundMongoIndex;
+import io.harness.mongo.index.MongoIndex;
+import io.harness.persistence.PersistentEntity;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.FieldNameConstants;
+import org.mongodb.morphia.annotations.Entity;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.TypeAlias;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * The ACLs of a role assignment for one principal and resource selector, holding the permissions as a bitset over the
+ * {@link PermissionDictionary} instead of an {@link ACL} per permission.
+ */
+@OwnedBy(PL)
+@Data
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@FieldNameConstants(innerTypeName = "CompactACLKeys")
+@Document(CompactACL.PRIMARY_COLLECTION)
+@Entity(value = CompactACL.PRIMARY_COLLECTION, noClassnameStored = true)
+@TypeAlias("compactAcl")
+@StoreIn(ACCESS_CONTROL)
+public class CompactACL implements PersistentEntity {
+  private static final String DELIMITER = "$";
+  public static final String PRIMARY_COLLECTION = "acl_compact";
+  public static final String SECONDARY_COLLECTION = "acl_compact_secondary";
+
+  @Id @org.mongodb.morphia.annotations.Id private String id;
+  @CreatedDate Long createdAt;
+  @LastModifiedDate Long lastModifiedAt;
+
+  String roleAssignmentId;
+  String scopeIdentifier;
+  SourceMetadata sourceMetadata;
+  String resourceSelector;
+  String principalType;
+  String principalIdentifier;
+  String aclQueryString;
+  byte[] permissions;
+  @Getter(value = AccessLevel.NONE) private Boolean enabled;
+
+  public boolean isEnabled() {
+    return Boolean.TRUE.equals(enabled);
+  }
+
+  public static String getAclQueryString(
+      String scopeIdentifier, String resourceSelector, String principalType, String principalIdentifier) {
+    return scopeIdentifier + DELIMITER + resourceSelector + DELIMITER + principalType + DELIMITER + principalIdentifier;
+  }
+
+  /**
+   * @return the query string of the compact ACL holding the permission of the given ACL
+   */
+  public static String getAclQueryString(ACL acl) {
+    // the scope of the query string is not always the scope of the ACL, it is what precedes the permission
+    String queryStringAfterScope = ACL.getAclQueryString("", acl.getResourceSelector(), acl.getPrincipalType(),
+        acl.getPrincipalIdentifier(), acl.getPermissionIdentifier());
+    String queryScope =
+        acl.getAclQueryString().substring(0, acl.getAclQueryString().length() - queryStringAfterScope.length());
+    return getAclQueryString(
+        queryScope, acl.getResourceSelector(), acl.getPrincipalType(), acl.getPrincipalIdentifier());
+  }
+
+  /**
+   * @param aclQueryString the query string of an {@link ACL}, the permission follows the scope which holds no delimiter
+   * @return the query string of the compact ACL holding the permission, or null if it is not an ACL query string
+   */
+  public static String getAclQueryString(String aclQueryString) {
+    String permissionIdentifier = getPermissionIdentifier(aclQueryString);
+    if (permissionIdentifier == null) {
+      return null;
+    }
+    int permissionStart = aclQueryString.indexOf(DELIMITER) + 1;
+    return aclQueryString.substring(0, permissionStart)
+        + aclQueryString.substring(permissionStart + permissionIdentifier.length() + DELIMITER.length());
+  }
+
+  /**
+   * @param aclQueryString the query string of an {@link ACL}
+   * @return the permission of the query string, or null if it is not an ACL query string
+   */
+  public static String getPermissionIdentifier(String aclQueryString) {
+    int permissionStart = aclQueryString.indexOf(DELIMITER) + 1;
+    int permissionEnd = permissionStart == 0 ? -1 : aclQueryString.indexOf(DELIMITER, permissionStart);
+    return permissionEnd < 0 ? null : aclQueryString.substring(permissionStart, permissionEnd);
+  }
+
+  /**
+   * @return the compact counterpart of an {@link ACL} collection
+   */
+  public static String getCollectionName(String aclCollectionName) {
+    return ACL.SECONDARY_COLLECTION.equals(aclCollectionName) ? SECONDARY_COLLECTION : PRIMARY_COLLECTION;
+  }
+
+  public static List<MongoIndex> mongoIndexes() {
+    return ImmutableList.<MongoIndex>builder()
+        .add(CompoundMongoIndex.builder()
+                 .name("uniqueIdx")
+                 .field(CompactACLKeys.roleAssignmentId)
+                 .field(CompactACLKeys.aclQueryString)
+                 .unique(true)
+                 .build())
+        .add(CompoundMongoIndex.builder()
+                 .name("roleAssignmentIdResourceSelectorIdx")
+                 .field(CompactACLKeys.roleAssignmentId)
+                 .field(CompactACLKeys.resourceSelector)
+                 .build())
+        .add(CompoundMongoIndex.builder()
+                 .name("roleAssignmentIdPrincipalIdx")
+                 .field(CompactACLKeys.roleAssignmentId)
+                 .field(CompactACLKeys.principalIdentifier)
+                 .build())
+        .add(CompoundMongoIndex.builder()
+                 .name("aclQueryStringEnabledIdx")
+                 .field(CompactACLKeys.aclQueryString)
+                 .field(CompactACLKeys.enabled)
+                 .build())
+        .build();
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.ng.DbAliases.ACCESS_CONTROL;
+
+import io.harness.annotation.StoreIn;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.persistence.PersistentEntity;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.FieldNameConstants;
+import org.mongodb.morphia.annotations.Entity;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.TypeAlias;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@OwnedBy(PL)
+@Data
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@FieldNameConstants(innerTypeName = "PermissionDictionaryKeys")
+@Document(PermissionDictionary.COLLECTION)
+@Entity(value = PermissionDictionary.COLLECTION, noClassnameStored = true)
+@TypeAlias("aclPermissionDictionary")
+@StoreIn(ACCESS_CONTROL)
+public class PermissionDictionary implements PersistentEntity {
+  public static final String COLLECTION = "aclPermissionDictionary";
+  public static final String IDENTIFIER = "ACL_PERMISSIONS";
+
+  @Id @org.mongodb.morphia.annotations.Id private String id;
+  List<String> permissions;
+}
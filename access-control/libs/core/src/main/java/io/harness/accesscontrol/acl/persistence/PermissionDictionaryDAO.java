@@ -0,0 +1,134 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.accesscontrol.acl.persistence.PermissionDictionary.PermissionDictionaryKeys;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * Bit of every permission in the compact ACLs. Permissions are only ever appended to the dictionary, so the bit of a
+ * permission never changes and the primary and the secondary compact ACLs share the dictionary. A dictionary loaded
+ * earlier is reloaded as soon as compact ACLs using bits it does not know are read.
+ */
+@OwnedBy(PL)
+@Singleton
+@Slf4j
+public class PermissionDictionaryDAO {
+  private final MongoTemplate mongoTemplate;
+  private volatile Bits bits = new Bits(Collections.emptyList());
+
+  @Inject
+  public PermissionDictionaryDAO(MongoTemplate mongoTemplate) {
+    this.mongoTemplate = mongoTemplate;
+  }
+
+  /**
+   * @return the bit of the permission, the permission is added to the dictionary if it has no bit yet
+   */
+  public int getOrAddBit(String permission) {
+    Integer bit = bits.getBit(permission);
+    if (bit == null) {
+      bit = reload().getBit(permission);
+    }
+    if (bit == null) {
+      add(permission);
+      bit = reload().getBit(permission);
+    }
+    if (bit == null) {
+      throw new IllegalStateException(String.format("Unable to add permission %s to the ACL dictionary", permission));
+    }
+    return bit;
+  }
+
+  /**
+   * @param bitCount the number of bits used by the compact ACLs the bit is looked up for
+   * @return the bit of the permission, -1 if the permission is not one of these bits
+   */
+  public int getBit(String permission, int bitCount) {
+    Integer bit = getBits(bitCount).getBit(permission);
+    return bit == null ? -1 : bit;
+  }
+
+  public List<String> getPermissions(BitSet permissionBits) {
+    Bits current = getBits(permissionBits.length());
+    List<String> permissions = new ArrayList<>(permissionBits.cardinality());
+    for (int bit = permissionBits.nextSetBit(0); bit >= 0 && bit < current.size();
+         bit = permissionBits.nextSetBit(bit + 1)) {
+      permissions.add(current.getPermission(bit));
+    }
+    return permissions;
+  }
+
+  private Bits getBits(int bitCount) {
+    Bits current = bits;
+    return bitCount > current.size() ? reload() : current;
+  }
+
+  private void add(String permission) {
+    log.info("Adding permission {} to the ACL dictionary", permission);
+    try {
+      mongoTemplate.upsert(new Query(Criteria.where(PermissionDictionaryKeys.id)
+                                         .is(PermissionDictionary.IDENTIFIER)
+                                         .and(PermissionDictionaryKeys.permissions)
+                                         .ne(permission)),
+          new Update().push(PermissionDictionaryKeys.permissions, permission), PermissionDictionary.class);
+    } catch (DuplicateKeyException ex) {
+      // the permission has been added concurrently, the dictionary exists and did not match the query
+      log.debug("Permission {} is already in the ACL dictionary", permission, ex);
+    }
+  }
+
+  private synchronized Bits reload() {
+    PermissionDictionary dictionary =
+        mongoTemplate.findById(PermissionDictionary.IDENTIFIER, PermissionDictionary.class);
+    bits = new Bits(dictionary == null || dictionary.getPermissions() == null ? Collections.emptyList()
+                                                                             : dictionary.getPermissions());
+    return bits;
+  }
+
+  private static class Bits {
+    private final List<String> permissions;
+    private final Map<String, Integer> bitsByPermission = new HashMap<>();
+
+    private Bits(List<String> permissions) {
+      this.permissions = permissions;
+      for (int bit = 0; bit < permissions.size(); bit++) {
+        bitsByPermission.put(permissions.get(bit), bit);
+      }
+    }
+
+    private Integer getBit(String permission) {
+      return bitsByPermission.get(permission);
+    }
+
+    private String getPermission(int bit) {
+      return permissions.get(bit);
+    }
+
+    private int size() {
+      return permissions.size();
+    }
+  }
+}
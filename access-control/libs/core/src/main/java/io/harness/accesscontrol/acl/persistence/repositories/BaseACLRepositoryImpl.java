@@ -156,7 +156,8 @@ public abstract class BaseACLRepositoryImpl implements ACLRepository {
   public void cleanCollection() {
     mongoTemplate.dropCollection(getCollectionName());
     mongoTemplate.createCollection(getCollectionName());
-    List<IndexModel> indexModels = ACL.mongoIndexes().stream().map(this::buildIndexModel).collect(Collectors.toList());
+    List<IndexModel> indexModels =
+        ACL.mongoIndexes().stream().map(BaseACLRepositoryImpl::buildIndexModel).collect(Collectors.toList());
     mongoTemplate.getCollection(getCollectionName()).createIndexes(indexModels);
   }
 
@@ -167,7 +168,7 @@ public abstract class BaseACLRepositoryImpl implements ACLRepository {
         .renameCollection(mongoNamespace, new RenameCollectionOptions().dropTarget(true));
   }
 
-  private IndexModel buildIndexModel(MongoIndex mongoIndex) {
+  static IndexModel buildIndexModel(MongoIndex mongoIndex) {
     List<String> fields = mongoIndex.getFields();
     String name = mongoIndex.getName();
     boolean isUnique = mongoIndex.isUnique();
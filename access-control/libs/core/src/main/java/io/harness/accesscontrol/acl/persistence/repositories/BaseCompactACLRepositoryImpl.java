@@ -0,0 +1,310 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence.repositories;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import static org.springframework.data.mongodb.util.MongoDbErrorCodes.isDuplicateKeyCode;
+
+import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.CompactACL;
+import io.harness.accesscontrol.acl.persistence.CompactACL.CompactACLKeys;
+import io.harness.accesscontrol.acl.persistence.PermissionDictionaryDAO;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.mongodb.MongoNamespace;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.IndexModel;
+import com.mongodb.client.model.RenameCollectionOptions;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.validation.executable.ValidateOnExecution;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.validator.constraints.NotEmpty;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * The aggregator writes the ACLs of a role assignment from a single thread, so the permissions of an existing compact
+ * ACL are changed by reading it and writing back the new permission bits.
+ */
+@OwnedBy(PL)
+@AllArgsConstructor(access = AccessLevel.PROTECTED, onConstructor = @__({ @Inject }))
+@Singleton
+@Slf4j
+@ValidateOnExecution
+public abstract class BaseCompactACLRepositoryImpl implements CompactACLRepository {
+  protected final MongoTemplate mongoTemplate;
+  protected final PermissionDictionaryDAO permissionDictionaryDAO;
+
+  protected abstract String getCollectionName();
+
+  @Override
+  public long insertAllIgnoringDuplicates(List<ACL> acls) {
+    if (isEmpty(acls)) {
+      return 0;
+    }
+    Map<String, Map<String, List<ACL>>> aclsByRoleAssignment = acls.stream().collect(Collectors.groupingBy(
+        ACL::getRoleAssignmentId, Collectors.groupingBy(CompactACL::getAclQueryString)));
+    Set<String> aclQueryStrings = new HashSet<>();
+    aclsByRoleAssignment.values().forEach(aclsByQueryString -> aclQueryStrings.addAll(aclsByQueryString.keySet()));
+
+    Query query = new Query(Criteria.where(CompactACLKeys.roleAssignmentId)
+                                .in(aclsByRoleAssignment.keySet())
+                                .and(CompactACLKeys.aclQueryString)
+                                .in(aclQueryStrings));
+    query.fields()
+        .include(CompactACLKeys.roleAssignmentId)
+        .include(CompactACLKeys.aclQueryString)
+        .include(CompactACLKeys.permissions);
+    Map<String, Map<String, CompactACL>> existingACLs = new HashMap<>();
+    for (CompactACL compactACL : mongoTemplate.find(query, CompactACL.class, getCollectionName())) {
+      existingACLs.computeIfAbsent(compactACL.getRoleAssignmentId(), roleAssignmentId -> new HashMap<>())
+          .put(compactACL.getAclQueryString(), compactACL);
+    }
+
+    BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkMode.UNORDERED, CompactACL.class, getCollectionName());
+    long writes = 0;
+    for (Map.Entry<String, Map<String, List<ACL>>> roleAssignmentACLs : aclsByRoleAssignment.entrySet()) {
+      Map<String, CompactACL> existingRoleAssignmentACLs =
+          existingACLs.getOrDefault(roleAssignmentACLs.getKey(), Collections.emptyMap());
+      for (Map.Entry<String, List<ACL>> queryStringACLs : roleAssignmentACLs.getValue().entrySet()) {
+        BitSet permissions = new BitSet();
+        queryStringACLs.getValue().forEach(
+            acl -> permissions.set(permissionDictionaryDAO.getOrAddBit(acl.getPermissionIdentifier())));
+        CompactACL existingACL = existingRoleAssignmentACLs.get(queryStringACLs.getKey());
+        if (existingACL == null) {
+          bulkOperations.insert(toCompactACL(queryStringACLs.getValue().get(0), permissions));
+          writes++;
+        } else {
+          BitSet existingPermissions = getPermissions(existingACL);
+          permissions.or(existingPermissions);
+          if (!permissions.equals(existingPermissions)) {
+            bulkOperations.updateOne(byId(existingACL), updatePermissions(permissions));
+            writes++;
+          }
+        }
+      }
+    }
+    if (writes == 0) {
+      return 0;
+    }
+    try {
+      BulkWriteResult result = bulkOperations.execute();
+      return (long) result.getInsertedCount() + result.getModifiedCount();
+    } catch (BulkOperationException ex) {
+      if (ex.getErrors().stream().allMatch(bulkWriteError -> isDuplicateKeyCode(bulkWriteError.getCode()))) {
+        return (long) ex.getResult().getInsertedCount() + ex.getResult().getModifiedCount();
+      }
+      throw ex;
+    }
+  }
+
+  @Override
+  public long deleteByRoleAssignmentId(String id) {
+    return mongoTemplate
+        .remove(new Query(Criteria.where(CompactACLKeys.roleAssignmentId).is(id)), CompactACL.class,
+            getCollectionName())
+        .getDeletedCount();
+  }
+
+  @Override
+  public List<String> getDistinctResourceSelectorsInACLs(String roleAssignmentId) {
+    return mongoTemplate.findDistinct(new Query(Criteria.where(CompactACLKeys.roleAssignmentId).is(roleAssignmentId)),
+        CompactACLKeys.resourceSelector, getCollectionName(), CompactACL.class, String.class);
+  }
+
+  @Override
+  public long deleteByRoleAssignmentIdAndResourceSelectors(
+      String roleAssignmentId, Set<String> resourceSelectorsToDelete) {
+    return mongoTemplate
+        .remove(new Query(Criteria.where(CompactACLKeys.roleAssignmentId)
+                              .is(roleAssignmentId)
+                              .and(CompactACLKeys.resourceSelector)
+                              .in(resourceSelectorsToDelete)),
+            CompactACL.class, getCollectionName())
+        .getDeletedCount();
+  }
+
+  @Override
+  public long deleteByRoleAssignmentIdAndPermissions(String roleAssignmentId, Set<String> permissions) {
+    List<CompactACL> compactACLs = findPermissionsOfRoleAssignment(roleAssignmentId);
+    int bitCount = compactACLs.stream().mapToInt(compactACL -> getPermissions(compactACL).length()).max().orElse(0);
+    BitSet permissionsToDelete = new BitSet();
+    for (String permission : permissions) {
+      int bit = permissionDictionaryDAO.getBit(permission, bitCount);
+      if (bit >= 0) {
+        permissionsToDelete.set(bit);
+      }
+    }
+
+    BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkMode.UNORDERED, CompactACL.class, getCollectionName());
+    long writes = 0;
+    for (CompactACL compactACL : compactACLs) {
+      BitSet remainingPermissions = getPermissions(compactACL);
+      if (!remainingPermissions.intersects(permissionsToDelete)) {
+        continue;
+      }
+      remainingPermissions.andNot(permissionsToDelete);
+      if (remainingPermissions.isEmpty()) {
+        bulkOperations.remove(byId(compactACL));
+      } else {
+        bulkOperations.updateOne(byId(compactACL), updatePermissions(remainingPermissions));
+      }
+      writes++;
+    }
+    if (writes == 0) {
+      return 0;
+    }
+    BulkWriteResult result = bulkOperations.execute();
+    return (long) result.getDeletedCount() + result.getModifiedCount();
+  }
+
+  @Override
+  public long deleteByRoleAssignmentIdAndPrincipals(String roleAssignmentId, Set<String> principals) {
+    return mongoTemplate
+        .remove(new Query(Criteria.where(CompactACLKeys.roleAssignmentId)
+                              .is(roleAssignmentId)
+                              .and(CompactACLKeys.principalIdentifier)
+                              .in(principals)),
+            CompactACL.class, getCollectionName())
+        .getDeletedCount();
+  }
+
+  @Override
+  public List<String> getDistinctPermissionsInACLsForRoleAssignment(String roleAssignmentId) {
+    BitSet permissions = new BitSet();
+    findPermissionsOfRoleAssignment(roleAssignmentId).forEach(compactACL -> permissions.or(getPermissions(compactACL)));
+    return permissionDictionaryDAO.getPermissions(permissions);
+  }
+
+  @Override
+  public List<String> getDistinctPrincipalsInACLsForRoleAssignment(String roleAssignmentId) {
+    return mongoTemplate.findDistinct(new Query(Criteria.where(CompactACLKeys.roleAssignmentId).is(roleAssignmentId)),
+        CompactACLKeys.principalIdentifier, getCollectionName(), CompactACL.class, String.class);
+  }
+
+  /**
+   * Looks up the compact ACLs of the given {@link ACL} query strings and expands their permission bits, so that the
+   * result is the one of the expanded ACLs.
+   */
+  @Override
+  public Set<String> getByAclQueryStringInAndEnabled(List<String> aclQueryStrings, boolean enabled) {
+    Map<String, String> compactQueryStrings = new HashMap<>();
+    for (String aclQueryString : aclQueryStrings) {
+      String compactQueryString = CompactACL.getAclQueryString(aclQueryString);
+      if (compactQueryString != null) {
+        compactQueryStrings.put(aclQueryString, compactQueryString);
+      }
+    }
+    if (compactQueryStrings.isEmpty()) {
+      return new HashSet<>();
+    }
+    Map<String, BitSet> permissionsByQueryString =
+        getPermissionsByAclQueryStringInAndEnabled(new HashSet<>(compactQueryStrings.values()), enabled);
+    int bitCount = permissionsByQueryString.values().stream().mapToInt(BitSet::length).max().orElse(0);
+    Set<String> aclsPresentInDB = new HashSet<>();
+    for (Map.Entry<String, String> compactQueryString : compactQueryStrings.entrySet()) {
+      BitSet permissions = permissionsByQueryString.get(compactQueryString.getValue());
+      if (permissions == null) {
+        continue;
+      }
+      int bit =
+          permissionDictionaryDAO.getBit(CompactACL.getPermissionIdentifier(compactQueryString.getKey()), bitCount);
+      if (bit >= 0 && permissions.get(bit)) {
+        aclsPresentInDB.add(compactQueryString.getKey());
+      }
+    }
+    return aclsPresentInDB;
+  }
+
+  @Override
+  public Map<String, BitSet> getPermissionsByAclQueryStringInAndEnabled(
+      Collection<String> aclQueryStrings, boolean enabled) {
+    Query query = new Query(
+        Criteria.where(CompactACLKeys.aclQueryString).in(aclQueryStrings).and(CompactACLKeys.enabled).is(enabled));
+    query.fields().include(CompactACLKeys.aclQueryString).include(CompactACLKeys.permissions);
+    Map<String, BitSet> permissionsByQueryString = new HashMap<>();
+    for (CompactACL compactACL : mongoTemplate.find(query, CompactACL.class, getCollectionName())) {
+      permissionsByQueryString.computeIfAbsent(compactACL.getAclQueryString(), queryString -> new BitSet())
+          .or(getPermissions(compactACL));
+    }
+    return permissionsByQueryString;
+  }
+
+  @Override
+  public void cleanCollection() {
+    mongoTemplate.dropCollection(getCollectionName());
+    mongoTemplate.createCollection(getCollectionName());
+    List<IndexModel> indexModels =
+        CompactACL.mongoIndexes().stream().map(BaseACLRepositoryImpl::buildIndexModel).collect(Collectors.toList());
+    mongoTemplate.getCollection(getCollectionName()).createIndexes(indexModels);
+  }
+
+  /**
+   * @param newCollectionName the name of the {@link ACL} collection, the compact ACLs are moved to its counterpart
+   */
+  @Override
+  public void renameCollection(@NotEmpty String newCollectionName) {
+    MongoNamespace mongoNamespace =
+        new MongoNamespace(mongoTemplate.getDb().getName(), CompactACL.getCollectionName(newCollectionName));
+    mongoTemplate.getCollection(getCollectionName())
+        .renameCollection(mongoNamespace, new RenameCollectionOptions().dropTarget(true));
+  }
+
+  private List<CompactACL> findPermissionsOfRoleAssignment(String roleAssignmentId) {
+    Query query = new Query(Criteria.where(CompactACLKeys.roleAssignmentId).is(roleAssignmentId));
+    query.fields().include(CompactACLKeys.permissions);
+    return mongoTemplate.find(query, CompactACL.class, getCollectionName());
+  }
+
+  private static BitSet getPermissions(CompactACL compactACL) {
+    return compactACL.getPermissions() == null ? new BitSet() : BitSet.valueOf(compactACL.getPermissions());
+  }
+
+  private static Query byId(CompactACL compactACL) {
+    return new Query(Criteria.where(CompactACLKeys.id).is(compactACL.getId()));
+  }
+
+  private static Update updatePermissions(BitSet permissions) {
+    return new Update()
+        .set(CompactACLKeys.permissions, permissions.toByteArray())
+        .set(CompactACLKeys.lastModifiedAt, System.currentTimeMillis());
+  }
+
+  private static CompactACL toCompactACL(ACL acl, BitSet permissions) {
+    return CompactACL.builder()
+        .roleAssignmentId(acl.getRoleAssignmentId())
+        .scopeIdentifier(acl.getScopeIdentifier())
+        .sourceMetadata(acl.getSourceMetadata())
+        .resourceSelector(acl.getResourceSelector())
+        .principalType(acl.getPrincipalType())
+        .principalIdentifier(acl.getPrincipalIdentifier())
+        .aclQueryString(CompactACL.getAclQueryString(acl))
+        .permissions(permissions.toByteArray())
+        .enabled(acl.isEnabled())
+        .build();
+  }
+}
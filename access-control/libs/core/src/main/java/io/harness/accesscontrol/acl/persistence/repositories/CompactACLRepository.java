@@ -0,0 +1,29 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence.repositories;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Stores the {@link io.harness.accesscontrol.acl.persistence.ACL}s written through {@link ACLRepository} as compact
+ * ACLs. The counts returned by the writes are of compact ACLs, not of the permissions in them, and the
+ * {@link ACLRepository#getByAclQueryStringInAndEnabled} lookups are answered by expanding the permission bits.
+ */
+@OwnedBy(HarnessTeam.PL)
+public interface CompactACLRepository extends ACLRepository {
+  /**
+   * @param aclQueryStrings compact ACL query strings
+   * @return the permission bits granted per query string
+   */
+  Map<String, BitSet> getPermissionsByAclQueryStringInAndEnabled(Collection<String> aclQueryStrings, boolean enabled);
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence.repositories;
+
+import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.List;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+
+/**
+ * Writes the ACLs to both the expanded and the compact collections, everything read back comes from the expanded ACLs.
+ */
+@OwnedBy(HarnessTeam.PL)
+@AllArgsConstructor
+public class DualWriteACLRepository implements ACLRepository {
+  private final ACLRepository aclRepository;
+  private final CompactACLRepository compactACLRepository;
+
+  @Override
+  public long insertAllIgnoringDuplicates(List<ACL> acls) {
+    long insertedCount = aclRepository.insertAllIgnoringDuplicates(acls);
+    compactACLRepository.insertAllIgnoringDuplicates(acls);
+    return insertedCount;
+  }
+
+  @Override
+  public long deleteByRoleAssignmentId(String id) {
+    long deletedCount = aclRepository.deleteByRoleAssignmentId(id);
+    compactACLRepository.deleteByRoleAssignmentId(id);
+    return deletedCount;
+  }
+
+  @Override
+  public List<String> getDistinctResourceSelectorsInACLs(String roleAssignmentId) {
+    return aclRepository.getDistinctResourceSelectorsInACLs(roleAssignmentId);
+  }
+
+  @Override
+  public long deleteByRoleAssignmentIdAndResourceSelectors(
+      String roleAssignmentId, Set<String> resourceSelectorsToDelete) {
+    long deletedCount =
+        aclRepository.deleteByRoleAssignmentIdAndResourceSelectors(roleAssignmentId, resourceSelectorsToDelete);
+    compactACLRepository.deleteByRoleAssignmentIdAndResourceSelectors(roleAssignmentId, resourceSelectorsToDelete);
+    return deletedCount;
+  }
+
+  @Override
+  public long deleteByRoleAssignmentIdAndPermissions(String roleAssignmentId, Set<String> permissions) {
+    long deletedCount = aclRepository.deleteByRoleAssignmentIdAndPermissions(roleAssignmentId, permissions);
+    compactACLRepository.deleteByRoleAssignmentIdAndPermissions(roleAssignmentId, permissions);
+    return deletedCount;
+  }
+
+  @Override
+  public long deleteByRoleAssignmentIdAndPrincipals(String roleAssignmentId, Set<String> principals) {
+    long deletedCount = aclRepository.deleteByRoleAssignmentIdAndPrincipals(roleAssignmentId, principals);
+    compactACLRepository.deleteByRoleAssignmentIdAndPrincipals(roleAssignmentId, principals);
+    return deletedCount;
+  }
+
+  @Override
+  public List<String> getDistinctPermissionsInACLsForRoleAssignment(String roleAssignmentId) {
+    return aclRepository.getDistinctPermissionsInACLsForRoleAssignment(roleAssignmentId);
+  }
+
+  @Override
+  public List<String> getDistinctPrincipalsInACLsForRoleAssignment(String id) {
+    return aclRepository.getDistinctPrincipalsInACLsForRoleAssignment(id);
+  }
+
+  @Override
+  public Set<String> getByAclQueryStringInAndEnabled(List<String> aclQueryStrings, boolean enabled) {
+    return aclRepository.getByAclQueryStringInAndEnabled(aclQueryStrings, enabled);
+  }
+
+  @Override
+  public void cleanCollection() {
+    aclRepository.cleanCollection();
+    compactACLRepository.cleanCollection();
+  }
+
+  @Override
+  public void renameCollection(String newCollectionName) {
+    aclRepository.renameCollection(newCollectionName);
+    compactACLRepository.renameCollection(newCollectionName);
+  }
+}
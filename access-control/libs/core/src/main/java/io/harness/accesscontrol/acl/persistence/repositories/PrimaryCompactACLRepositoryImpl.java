@@ -0,0 +1,31 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence.repositories;
+
+import io.harness.accesscontrol.acl.persistence.CompactACL;
+import io.harness.accesscontrol.acl.persistence.PermissionDictionaryDAO;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+@OwnedBy(HarnessTeam.PL)
+@Singleton
+public class PrimaryCompactACLRepositoryImpl extends BaseCompactACLRepositoryImpl implements CompactACLRepository {
+  @Inject
+  public PrimaryCompactACLRepositoryImpl(MongoTemplate mongoTemplate, PermissionDictionaryDAO permissionDictionaryDAO) {
+    super(mongoTemplate, permissionDictionaryDAO);
+  }
+
+  @Override
+  protected String getCollectionName() {
+    return CompactACL.PRIMARY_COLLECTION;
+  }
+}
@@ -14,9 +14,12 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.rule.OwnerRule.KARAN;
 
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
 import static junit.framework.TestCase.assertTrue;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.accesscontrol.AccessControlCoreTestBase;
@@ -30,8 +33,11 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.category.element.UnitTests;
 import io.harness.rule.Owner;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
@@ -41,13 +47,15 @@ import org.junit.experimental.categories.Category;
 public class ACLServiceImplTest extends AccessControlCoreTestBase {
   private ACLDAO aclDAO;
   private PermissionService permissionService;
+  private ACLDecisionCache aclDecisionCache;
   private ACLServiceImpl aclService;
 
   @Before
   public void setup() {
     aclDAO = mock(ACLDAO.class);
     permissionService = mock(PermissionService.class);
-    aclService = new ACLServiceImpl(aclDAO, permissionService);
+    aclDecisionCache = new ACLDecisionCache();
+    aclService = new ACLServiceImpl(aclDAO, permissionService, aclDecisionCache);
   }
 
   @Test
@@ -77,4 +85,84 @@ public class ACLServiceImplTest extends AccessControlCoreTestBase {
     assertEquals(10, response.size());
     response.forEach(check -> assertTrue(check.isPermitted()));
   }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testCheckAccessServesCachedDecisionsUntilInvalidated() {
+    Principal principal = Principal.of(PrincipalType.USER, randomAlphabetic(10));
+    PermissionCheck cachedCheck = PermissionCheck.builder().resourceType("PROJECT").permission("view").build();
+    PermissionCheck newCheck = PermissionCheck.builder().resourceType("PROJECT").permission("edit").build();
+    when(aclDAO.checkForAccess(principal, Lists.newArrayList(cachedCheck))).thenReturn(Lists.newArrayList(true));
+    when(aclDAO.checkForAccess(principal, Lists.newArrayList(newCheck))).thenReturn(Lists.newArrayList(false));
+
+    aclService.checkAccess(principal, Lists.newArrayList(cachedCheck));
+    List<PermissionCheckResult> response = aclService.checkAccess(principal, Lists.newArrayList(cachedCheck, newCheck));
+
+    assertTrue(response.get(0).isPermitted());
+    assertFalse(response.get(1).isPermitted());
+    verify(aclDAO, times(1)).checkForAccess(principal, Lists.newArrayList(cachedCheck));
+    ACLDecisionCache.Statistics statistics = aclDecisionCache.drainStatistics();
+    assertEquals(1, statistics.getHits());
+    assertEquals(2, statistics.getMisses());
+
+    aclDecisionCache.invalidate(Collections.singleton(principal.getPrincipalIdentifier()));
+    aclService.checkAccess(principal, Lists.newArrayList(cachedCheck));
+    verify(aclDAO, times(2)).checkForAccess(principal, Lists.newArrayList(cachedCheck));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testCheckAccessDropsDecisionsInvalidatedOnAnotherInstance() {
+    List<ACLDecisionInvalidationChannel.Listener> listeners = new ArrayList<>();
+    ACLDecisionInvalidationChannel channel = new ACLDecisionInvalidationChannel() {
+      @Override
+      public void publish(Collection<String> principalIdentifiers) {
+        listeners.forEach(listener -> listener.invalidate(principalIdentifiers));
+      }
+
+      @Override
+      public void publishInvalidateAll() {
+        listeners.forEach(ACLDecisionInvalidationChannel.Listener::invalidateAll);
+      }
+
+      @Override
+      public void subscribe(ACLDecisionInvalidationChannel.Listener listener) {
+        listeners.add(listener);
+      }
+    };
+    aclService = new ACLServiceImpl(aclDAO, permissionService, ACLDecisionCache.broadcasting(channel));
+    ACLDecisionCache aggregatorDecisionCache = ACLDecisionCache.broadcasting(channel);
+    Principal principal = Principal.of(PrincipalType.USER, randomAlphabetic(10));
+    PermissionCheck check = PermissionCheck.builder().resourceType("PROJECT").permission("view").build();
+    when(aclDAO.checkForAccess(principal, Lists.newArrayList(check))).thenReturn(Lists.newArrayList(true));
+
+    aclService.checkAccess(principal, Lists.newArrayList(check));
+    aclService.checkAccess(principal, Lists.newArrayList(check));
+    verify(aclDAO, times(1)).checkForAccess(principal, Lists.newArrayList(check));
+
+    aggregatorDecisionCache.invalidate(Collections.singleton(principal.getPrincipalIdentifier()));
+    aclService.checkAccess(principal, Lists.newArrayList(check));
+    verify(aclDAO, times(2)).checkForAccess(principal, Lists.newArrayList(check));
+
+    aggregatorDecisionCache.invalidateAll();
+    aclService.checkAccess(principal, Lists.newArrayList(check));
+    verify(aclDAO, times(3)).checkForAccess(principal, Lists.newArrayList(check));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testCheckAccessWithDisabledCache() {
+    aclService = new ACLServiceImpl(aclDAO, permissionService, ACLDecisionCache.disabled());
+    Principal principal = Principal.of(PrincipalType.USER, randomAlphabetic(10));
+    PermissionCheck check = PermissionCheck.builder().resourceType("PROJECT").permission("view").build();
+    when(aclDAO.checkForAccess(principal, Lists.newArrayList(check))).thenReturn(Lists.newArrayList(true));
+
+    aclService.checkAccess(principal, Lists.newArrayList(check));
+    aclService.checkAccess(principal, Lists.newArrayList(check));
+
+    verify(aclDAO, times(2)).checkForAccess(principal, Lists.newArrayList(check));
+  }
 }
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.accesscontrol.principals.PrincipalType.USER;
+import static io.harness.accesscontrol.scopes.TestScopeLevels.TEST_SCOPE;
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.KARAN;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertNull;
+import static org.mockito.Matchers.anyCollection;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyList;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.accesscontrol.AccessControlCoreTestBase;
+import io.harness.accesscontrol.acl.ACLStorageMode;
+import io.harness.accesscontrol.acl.PermissionCheck;
+import io.harness.accesscontrol.acl.api.Principal;
+import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
+import io.harness.accesscontrol.acl.persistence.repositories.CompactACLRepository;
+import io.harness.accesscontrol.scopes.core.Scope;
+import io.harness.accesscontrol.scopes.core.ScopeLevel;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(PL)
+public class ACLDAOImplTest extends AccessControlCoreTestBase {
+  private static final Scope SCOPE = Scope.builder().level(TEST_SCOPE).instanceId("scope").build();
+  private static final Principal PRINCIPAL = Principal.of(USER, "user");
+  private static final List<String> DICTIONARY =
+      Lists.newArrayList("core_secret_view", "core_pipeline_view", "core_pipeline_edit");
+
+  private final Map<String, ScopeLevel> scopeLevels = ImmutableMap.of(TEST_SCOPE.toString(), TEST_SCOPE);
+  private ACLRepository aclRepository;
+  private CompactACLRepository compactACLRepository;
+  private PermissionDictionaryDAO permissionDictionaryDAO;
+  private List<ACL> acls;
+
+  @Before
+  public void setup() {
+    acls = Lists.newArrayList(buildACL("core_pipeline_view", "/PIPELINE/*"),
+        buildACL("core_pipeline_edit", "/PIPELINE/*"), buildACL("core_secret_view", "/SECRET/secret"));
+    aclRepository = mock(ACLRepository.class);
+    when(aclRepository.getByAclQueryStringInAndEnabled(anyList(), eq(true))).thenAnswer(invocation -> {
+      List<String> aclQueryStrings = invocation.getArgument(0);
+      return acls.stream()
+          .map(ACL::getAclQueryString)
+          .filter(aclQueryStrings::contains)
+          .collect(Collectors.toSet());
+    });
+    compactACLRepository = mock(CompactACLRepository.class);
+    when(compactACLRepository.getPermissionsByAclQueryStringInAndEnabled(anyCollection(), eq(true)))
+        .thenAnswer(invocation -> {
+          Collection<String> aclQueryStrings = invocation.getArgument(0);
+          Map<String, BitSet> permissions = new HashMap<>();
+          acls.stream()
+              .filter(acl -> aclQueryStrings.contains(CompactACL.getAclQueryString(acl)))
+              .forEach(acl
+                  -> permissions.computeIfAbsent(CompactACL.getAclQueryString(acl), queryString -> new BitSet())
+                         .set(DICTIONARY.indexOf(acl.getPermissionIdentifier())));
+          return permissions;
+        });
+    permissionDictionaryDAO = mock(PermissionDictionaryDAO.class);
+    when(permissionDictionaryDAO.getBit(anyString(), anyInt()))
+        .thenAnswer(invocation -> DICTIONARY.indexOf(invocation.<String>getArgument(0)));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testCompactACLsDecideAsExpandedACLs() {
+    List<PermissionCheck> permissionChecks = Lists.newArrayList(check("PIPELINE", "pipeline", "core_pipeline_view"),
+        check("PIPELINE", "pipeline", "core_pipeline_edit"), check("PIPELINE", "pipeline", "core_pipeline_delete"),
+        check("SECRET", "secret", "core_secret_view"), check("SECRET", "otherSecret", "core_secret_view"),
+        check("SECRET", "secret", "core_pipeline_view"));
+    List<Boolean> expected = Lists.newArrayList(true, true, false, true, false, false);
+
+    assertEquals(expected, aclDAO(ACLStorageMode.EXPANDED).checkForAccess(PRINCIPAL, permissionChecks));
+    assertEquals(expected, aclDAO(ACLStorageMode.COMPACT).checkForAccess(PRINCIPAL, permissionChecks));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testDualModeServesExpandedACLs() {
+    List<PermissionCheck> permissionChecks = Lists.newArrayList(check("PIPELINE", "pipeline", "core_pipeline_view"));
+    when(compactACLRepository.getPermissionsByAclQueryStringInAndEnabled(anyCollection(), eq(true)))
+        .thenReturn(new HashMap<>());
+
+    assertEquals(Lists.newArrayList(true), aclDAO(ACLStorageMode.DUAL).checkForAccess(PRINCIPAL, permissionChecks));
+    verify(compactACLRepository).getPermissionsByAclQueryStringInAndEnabled(anyCollection(), eq(true));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testCompactACLQueryStringKeepsTheQueryScope() {
+    ACL acl = buildACL("core_pipeline_view", "/PIPELINE/*");
+    acl.setAclQueryString(
+        ACL.getAclQueryString("/TEST_SCOPE/other", "/PIPELINE/*", USER.name(), "user", "core_pipeline_view"));
+
+    assertEquals(CompactACL.getAclQueryString("/TEST_SCOPE/other", "/PIPELINE/*", USER.name(), "user"),
+        CompactACL.getAclQueryString(acl));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testACLQueryStringIsSplitIntoCompactQueryStringAndPermission() {
+    ACL acl = buildACL("core_pipeline_view", "/PIPELINE/*");
+
+    assertEquals(CompactACL.getAclQueryString(acl), CompactACL.getAclQueryString(acl.getAclQueryString()));
+    assertEquals("core_pipeline_view", CompactACL.getPermissionIdentifier(acl.getAclQueryString()));
+    assertNull(CompactACL.getAclQueryString("/TEST_SCOPE/scope"));
+  }
+
+  private ACLDAOImpl aclDAO(ACLStorageMode aclStorageMode) {
+    return new ACLDAOImpl(aclRepository, compactACLRepository, permissionDictionaryDAO, aclStorageMode, scopeLevels);
+  }
+
+  private static PermissionCheck check(String resourceType, String resourceIdentifier, String permission) {
+    return PermissionCheck.builder()
+        .resourceScope(SCOPE)
+        .resourceType(resourceType)
+        .resourceIdentifier(resourceIdentifier)
+        .permission(permission)
+        .build();
+  }
+
+  private static ACL buildACL(String permission, String resourceSelector) {
+    return ACL.builder()
+        .roleAssignmentId("roleAssignment")
+        .scopeIdentifier(SCOPE.toString())
+        .permissionIdentifier(permission)
+        .resourceSelector(resourceSelector)
+        .principalType(USER.name())
+        .principalIdentifier(PRINCIPAL.getPrincipalIdentifier())
+        .aclQueryString(ACL.getAclQueryString(
+            SCOPE.toString(), resourceSelector, USER.name(), PRINCIPAL.getPrincipalIdentifier(), permission))
+        .enabled(true)
+        .build();
+  }
+}
@@ -24,6 +24,9 @@ import static io.harness.eventsframework.EventsFrameworkConstants.USERMEMBERSHIP
 import static io.harness.lock.DistributedLockImplementation.MONGO;
 
 import io.harness.AccessControlClientModule;
+import io.harness.accesscontrol.acl.ACLDecisionCache;
+import io.harness.accesscontrol.acl.ACLStorageMode;
+import io.harness.accesscontrol.acl.RedisACLDecisionInvalidationChannel;
 import io.harness.accesscontrol.acl.api.ACLResource;
 import io.harness.accesscontrol.acl.api.ACLResourceImpl;
 import io.harness.accesscontrol.aggregator.AggregatorStackDriverMetricsPublisherImpl;
@@ -159,6 +162,12 @@ public class AccessControlModule extends AbstractModule {
     return config.getDistributedLockImplementation() == null ? MONGO : config.getDistributedLockImplementation();
   }
 
+  @Provides
+  @Singleton
+  ACLStorageMode aclStorageMode() {
+    return config.getAclStorageMode() == null ? ACLStorageMode.EXPANDED : config.getAclStorageMode();
+  }
+
   @Provides
   @Singleton
   NotificationConfig notificationConfig() {
@@ -183,6 +192,21 @@ public class AccessControlModule extends AbstractModule {
     return null;
   }
 
+  /**
+   * Decisions are cached only when the invalidations of the aggregator can reach every instance.
+   */
+  @Provides
+  @Singleton
+  public ACLDecisionCache getACLDecisionCache(
+      @Nullable @Named("eventsFrameworkRedissonClient") RedissonClient redissonClient) {
+    if (redissonClient == null) {
+      log.info("Events framework is disabled, access decisions will not be cached");
+      return ACLDecisionCache.disabled();
+    }
+    return ACLDecisionCache.broadcasting(new RedisACLDecisionInvalidationChannel(
+        redissonClient, config.getEventsConfig().getRedisConfig().getEnvNamespace()));
+  }
+
   @Provides
   @Named(ENTITY_CRUD)
   @Singleton
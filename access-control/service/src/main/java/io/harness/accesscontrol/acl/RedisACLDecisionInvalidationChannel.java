@@ -0,0 +1,69 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.Arrays;
+import java.util.Collection;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.BaseStatusListener;
+import org.redisson.client.codec.StringCodec;
+
+/**
+ * Publishes the invalidations on a redis pub/sub topic which every instance of the service subscribes to. Messages
+ * published while an instance is disconnected are lost, so the instance drops all its decisions when it subscribes
+ * again.
+ */
+@OwnedBy(PL)
+@Slf4j
+public class RedisACLDecisionInvalidationChannel implements ACLDecisionInvalidationChannel {
+  private static final String TOPIC_NAME = "aclDecisionInvalidations";
+  private static final String INVALIDATE_ALL = "*";
+  private static final String SEPARATOR = "\n";
+
+  private final RTopic topic;
+
+  public RedisACLDecisionInvalidationChannel(RedissonClient redissonClient, String envNamespace) {
+    String topicName = isEmpty(envNamespace) ? TOPIC_NAME : envNamespace + ":" + TOPIC_NAME;
+    this.topic = redissonClient.getTopic(topicName, StringCodec.INSTANCE);
+  }
+
+  @Override
+  public void publish(Collection<String> principalIdentifiers) {
+    topic.publish(String.join(SEPARATOR, principalIdentifiers));
+  }
+
+  @Override
+  public void publishInvalidateAll() {
+    topic.publish(INVALIDATE_ALL);
+  }
+
+  @Override
+  public void subscribe(Listener listener) {
+    topic.addListener(String.class, (channel, message) -> {
+      if (INVALIDATE_ALL.equals(message)) {
+        listener.invalidateAll();
+      } else {
+        listener.invalidate(Arrays.asList(message.split(SEPARATOR)));
+      }
+    });
+    topic.addListener(new BaseStatusListener() {
+      @Override
+      public void onSubscribe(String channel) {
+        log.info("Subscribed to {}, invalidations published before are not received", channel);
+        listener.invalidateAll();
+      }
+    });
+  }
+}
@@ -7,6 +7,7 @@
 
 package io.harness.accesscontrol.aggregator;
 
+import io.harness.accesscontrol.acl.ACLDecisionCache;
 import io.harness.aggregator.AggregatorMetricsService;
 import io.harness.aggregator.SnapshotMetrics;
 import io.harness.aggregator.StreamingMetrics;
@@ -25,6 +26,7 @@ import lombok.extern.slf4j.Slf4j;
 public class AggregatorStackDriverMetricsPublisherImpl implements MetricsPublisher {
   private final AggregatorMetricsService aggregatorMetricsService;
   private final MetricService metricService;
+  private final ACLDecisionCache aclDecisionCache;
   private final String namespace = System.getenv("NAMESPACE");
   private final String containerName = System.getenv("CONTAINER_NAME");
 
@@ -75,5 +77,17 @@ public class AggregatorStackDriverMetricsPublisherImpl implements MetricsPublish
             "aggregator_snapshot_snapshotDurationInSeconds", snapshotMetrics.getSnapshotDurationInSeconds());
       }
     }
+
+    ACLDecisionCache.Statistics aclDecisionCacheStatistics = aclDecisionCache.drainStatistics();
+    try (AggregatorMetricsContext ignored = new AggregatorMetricsContext(namespace, containerName)) {
+      metricService.recordMetric("acl_decision_cache_hit_rate", aclDecisionCacheStatistics.getHitRate());
+      metricService.recordMetric("acl_decision_cache_hits", aclDecisionCacheStatistics.getHits());
+      metricService.recordMetric("acl_decision_cache_misses", aclDecisionCacheStatistics.getMisses());
+      metricService.recordMetric(
+          "acl_decision_cache_averageServedAgeMillis", aclDecisionCacheStatistics.getAverageServedAgeMillis());
+      metricService.recordMetric(
+          "acl_decision_cache_maxServedAgeMillis", aclDecisionCacheStatistics.getMaxServedAgeMillis());
+      metricService.recordMetric("acl_decision_cache_principals", aclDecisionCacheStatistics.getCachedPrincipals());
+    }
   }
 }
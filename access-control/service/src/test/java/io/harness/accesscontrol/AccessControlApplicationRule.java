@@ -15,6 +15,7 @@ import static io.harness.accesscontrol.scopes.harness.HarnessScopeLevel.ORGANIZA
 import static io.harness.accesscontrol.scopes.harness.HarnessScopeLevel.PROJECT;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
+import io.harness.accesscontrol.acl.ACLStorageMode;
 import io.harness.accesscontrol.principals.PrincipalType;
 import io.harness.accesscontrol.principals.PrincipalValidator;
 import io.harness.accesscontrol.principals.serviceaccounts.ServiceAccountValidator;
@@ -103,6 +104,8 @@ public class AccessControlApplicationRule implements MethodRule, InjectorRuleMix
         validatorByPrincipalType.addBinding(USER).to(UserValidator.class);
         validatorByPrincipalType.addBinding(USER_GROUP).to(UserGroupValidator.class);
         validatorByPrincipalType.addBinding(SERVICE_ACCOUNT).to(ServiceAccountValidator.class);
+
+        bind(ACLStorageMode.class).toInstance(ACLStorageMode.EXPANDED);
       }
     });
 
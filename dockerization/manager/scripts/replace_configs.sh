@@ -510,6 +510,14 @@ if [[ "" != "$ENABLE_CRONS" ]]; then
   yq write -i $CONFIG_FILE serviceScheduler.enabled "$ENABLE_CRONS"
 fi
 
+if [[ "" != "$REDIS_ITERATORS_ENABLED" ]]; then
+  yq write -i $CONFIG_FILE redisIteratorsEnabled "$REDIS_ITERATORS_ENABLED"
+fi
+
+if [[ "" != "$QUEUE_INSERT_TRACKING_ENABLED" ]]; then
+  yq write -i $CONFIG_FILE queueInsertTrackingEnabled "$QUEUE_INSERT_TRACKING_ENABLED"
+fi
+
 if [[ "" != "$ALLOW_TRIAL_REGISTRATION" ]]; then
   yq write -i $CONFIG_FILE trialRegistrationAllowed "$ALLOW_TRIAL_REGISTRATION"
 fi
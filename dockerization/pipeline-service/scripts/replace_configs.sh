@@ -233,6 +233,15 @@ if [[ "" != "$EVENTS_FRAMEWORK_REDIS_SENTINELS" ]]; then
   done
 fi
 
+if [[ "" != "$EVENTS_FRAMEWORK_BINARY_ENCODED_TOPICS" ]]; then
+  IFS=',' read -ra BINARY_ENCODED_TOPICS <<< "$EVENTS_FRAMEWORK_BINARY_ENCODED_TOPICS"
+  INDEX=0
+  for BINARY_ENCODED_TOPIC in "${BINARY_ENCODED_TOPICS[@]}"; do
+    yq write -i $CONFIG_FILE eventsFramework.binaryEncodedTopics.[$INDEX] "${BINARY_ENCODED_TOPIC}"
+    INDEX=$(expr $INDEX + 1)
+  done
+fi
+
 if [[ "" != "$NOTIFICATION_BASE_URL" ]]; then
   yq write -i $CONFIG_FILE notificationClient.httpClient.baseUrl "$NOTIFICATION_BASE_URL"
 fi